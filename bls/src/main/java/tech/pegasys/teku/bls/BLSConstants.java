@@ -20,6 +20,7 @@ import org.apache.tuweni.bytes.Bytes32;
 public class BLSConstants {
 
   public static final int BLS_PUBKEY_SIZE = 48;
+  public static final int BLS_PUBKEY_UNCOMPRESSED_SIZE = 96;
   public static final int BLS_SIGNATURE_SIZE = 96;
 
   static final Bytes32 CURVE_ORDER_BYTES =
@@ -78,6 +78,44 @@ public final class BLSPublicKey {
     return new BLSPublicKey(bytes);
   }
 
+  /**
+   * Create a PublicKey from its uncompressed serialization, avoiding the point decompression
+   * required when created from the compressed form.
+   *
+   * @param bytesUncompressed 96 bytes of the uncompressed point
+   * @return a public key
+   * @throws IllegalArgumentException If the supplied bytes are not a point on the curve
+   */
+  public static BLSPublicKey fromBytesUncompressed(final Bytes bytesUncompressed)
+      throws IllegalArgumentException {
+    checkUncompressedSize(bytesUncompressed);
+    return new BLSPublicKey(BLS.getBlsImpl().publicKeyFromUncompressed(bytesUncompressed));
+  }
+
+  /**
+   * Create a PublicKey from its uncompressed serialization when the compressed form is already
+   * known, avoiding both the point decompression and compression.
+   *
+   * @param bytesCompressed the 48 byte compressed form of the same public key
+   * @param bytesUncompressed 96 bytes of the uncompressed point
+   * @return a public key. The point is lazily deserialized and the caller is responsible for
+   *     ensuring both serializations represent the same public key
+   */
+  public static BLSPublicKey fromBytesUncompressed(
+      final Bytes48 bytesCompressed, final Bytes bytesUncompressed) {
+    checkUncompressedSize(bytesUncompressed);
+    return new BLSPublicKey(
+        Suppliers.memoize(() -> BLS.getBlsImpl().publicKeyFromUncompressed(bytesUncompressed)),
+        () -> bytesCompressed);
+  }
+
+  private static void checkUncompressedSize(final Bytes bytesUncompressed) {
+    checkArgument(
+        bytesUncompressed.size() == BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE,
+        "Expected " + BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE + " bytes but received %s.",
+        bytesUncompressed.size());
+  }
+
   public static BLSPublicKey fromBytesCompressedValidate(Bytes48 bytes)
       throws IllegalArgumentException {
     BLSPublicKey ret = new BLSPublicKey(bytes);
@@ -134,6 +172,16 @@ public final class BLSPublicKey {
     return bytesCompressed.get();
   }
 
+  /**
+   * Returns the uncompressed serialization of the public key point. Note that this requires the
+   * point to be decompressed if it hasn't been already.
+   *
+   * @return the 96 byte uncompressed form of the public key
+   */
+  public Bytes toBytesUncompressed() {
+    return getPublicKey().toBytesUncompressed();
+  }
+
   PublicKey getPublicKey() {
     return publicKey.get();
   }
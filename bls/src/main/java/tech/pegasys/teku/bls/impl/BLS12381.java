@@ -69,6 +69,18 @@ public interface BLS12381 {
    */
   PublicKey publicKeyFromCompressed(Bytes48 compressedPublicKeyBytes) throws DeserializeException;
 
+  /**
+   * Create a PublicKey from its uncompressed serialization. This avoids the point decompression
+   * but doesn't check the point is in the G1 group, use {@link PublicKey#forceValidation()} for
+   * that
+   *
+   * @param uncompressedPublicKeyBytes 96 bytes to read the public key from
+   * @return a public key
+   * @throws DeserializeException If the supplied bytes are not a point on the curve
+   */
+  PublicKey publicKeyFromUncompressed(Bytes uncompressedPublicKeyBytes)
+      throws DeserializeException;
+
   /**
    * Decode a signature from its <em>compressed</em> form serialized representation.
    *
@@ -26,6 +26,14 @@ public interface PublicKey {
    */
   Bytes48 toBytesCompressed();
 
+  /**
+   * Public key serialization of the uncompressed point which can be deserialized without the
+   * expensive point decompression
+   *
+   * @return byte array of length 96 representation of the public key
+   */
+  Bytes toBytesUncompressed();
+
   /**
    * Verifies the given BLS signature against the message bytes using this public key.
    *
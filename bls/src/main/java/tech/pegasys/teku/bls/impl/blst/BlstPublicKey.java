@@ -14,12 +14,14 @@
 package tech.pegasys.teku.bls.impl.blst;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.bls.BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes48;
 import supranational.blst.P1;
 import supranational.blst.P1_Affine;
@@ -45,6 +47,20 @@ class BlstPublicKey implements PublicKey {
     }
   }
 
+  public static BlstPublicKey fromBytesUncompressed(Bytes uncompressed) {
+    checkArgument(
+        uncompressed.size() == BLS_PUBKEY_UNCOMPRESSED_SIZE,
+        "Expected %s bytes but received %s",
+        BLS_PUBKEY_UNCOMPRESSED_SIZE,
+        uncompressed.size());
+    try {
+      P1_Affine ecPoint = new P1_Affine(uncompressed.toArrayUnsafe());
+      return new BlstPublicKey(ecPoint);
+    } catch (Exception err) {
+      throw new DeserializeException("Invalid uncompressed PublicKey bytes: " + uncompressed);
+    }
+  }
+
   static BlstPublicKey fromPublicKey(PublicKey publicKey) {
     if (publicKey instanceof BlstPublicKey) {
       return (BlstPublicKey) publicKey;
@@ -110,6 +126,11 @@ class BlstPublicKey implements PublicKey {
     return Bytes48.wrap(ecPoint.compress());
   }
 
+  @Override
+  public Bytes toBytesUncompressed() {
+    return Bytes.wrap(ecPoint.serialize());
+  }
+
   @Override
   public int hashCode() {
     return toBytesCompressed().hashCode();
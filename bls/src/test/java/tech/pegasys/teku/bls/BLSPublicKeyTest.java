@@ -162,6 +162,17 @@ abstract class BLSPublicKeyTest {
     assertEquals(publicKey1, publicKey2);
   }
 
+  @Test
+  void succeedsWhenRoundtripUncompressedReturnsTheSamePublicKey() {
+    BLSPublicKey publicKey1 = BLSTestUtil.randomPublicKey(42);
+    BLSPublicKey publicKey2 =
+        BLSPublicKey.fromBytesUncompressed(
+            publicKey1.toBytesCompressed(), publicKey1.toBytesUncompressed());
+    assertEquals(publicKey1, publicKey2);
+    assertEquals(publicKey1.toBytesUncompressed(), publicKey2.toBytesUncompressed());
+    assertEquals(publicKey1, BLSPublicKey.fromBytesUncompressed(publicKey1.toBytesUncompressed()));
+  }
+
   @Test
   void succeedsWhenRoundtripSSZReturnsTheInfinityPublicKey() {
     BLSPublicKey publicKey1 = infinityPublicKey;
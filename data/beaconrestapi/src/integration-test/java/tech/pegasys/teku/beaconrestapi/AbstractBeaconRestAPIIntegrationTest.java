@@ -34,6 +34,8 @@ import org.junit.jupiter.api.BeforeEach;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.infrastructure.async.SyncAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -105,7 +107,13 @@ public abstract class AbstractBeaconRestAPIIntegrationTest {
             voluntaryExitPool);
 
     beaconRestApi =
-        new BeaconRestApi(dataProvider, restApiConfig, eventChannels, SyncAsyncRunner.SYNC_RUNNER);
+        new BeaconRestApi(
+            dataProvider,
+            restApiConfig,
+            eventChannels,
+            SyncAsyncRunner.SYNC_RUNNER,
+            new StubMetricsSystem(),
+            StubTimeProvider.withTimeInMillis(0));
     beaconRestApi.start();
     client = new OkHttpClient();
   }
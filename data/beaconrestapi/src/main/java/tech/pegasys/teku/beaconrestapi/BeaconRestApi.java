@@ -34,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.jetty.server.Server;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.beaconrestapi.handlers.tekuv1.admin.Liveness;
@@ -92,6 +93,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
@@ -109,7 +111,9 @@ public class BeaconRestApi {
       final DataProvider dataProvider,
       final BeaconRestApiConfig configuration,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
     if (app.config != null) {
       // the beaconRestApi test mocks the app object, and will skip this
       app.config.server(
@@ -124,7 +128,8 @@ public class BeaconRestApi {
     addHostAllowlistHandler(configuration);
 
     addExceptionHandlers();
-    addStandardApiHandlers(dataProvider, eventChannels, asyncRunner, configuration);
+    addStandardApiHandlers(
+        dataProvider, eventChannels, asyncRunner, metricsSystem, timeProvider, configuration);
     addTekuSpecificHandlers(dataProvider);
   }
 
@@ -132,9 +137,12 @@ public class BeaconRestApi {
       final DataProvider dataProvider,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final BeaconRestApiConfig configuration) {
     addBeaconHandlers(dataProvider);
-    addEventHandler(dataProvider, eventChannels, asyncRunner, configuration);
+    addEventHandler(
+        dataProvider, eventChannels, asyncRunner, metricsSystem, timeProvider, configuration);
     addNodeHandlers(dataProvider);
     addValidatorHandlers(dataProvider);
     addConfigHandlers(dataProvider, configuration.getEth1DepositContractAddress());
@@ -206,7 +214,9 @@ public class BeaconRestApi {
       final DataProvider dataProvider,
       final BeaconRestApiConfig configuration,
       final EventChannels eventChannels,
-      final AsyncRunner asyncRunner) {
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider) {
     this.app =
         Javalin.create(
             config -> {
@@ -225,7 +235,8 @@ public class BeaconRestApi {
                 }
               }
             });
-    initialize(dataProvider, configuration, eventChannels, asyncRunner);
+    initialize(
+        dataProvider, configuration, eventChannels, asyncRunner, metricsSystem, timeProvider);
   }
 
   BeaconRestApi(
@@ -233,9 +244,12 @@ public class BeaconRestApi {
       final BeaconRestApiConfig configuration,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final Javalin app) {
     this.app = app;
-    initialize(dataProvider, configuration, eventChannels, asyncRunner);
+    initialize(
+        dataProvider, configuration, eventChannels, asyncRunner, metricsSystem, timeProvider);
   }
 
   public void start() {
@@ -378,6 +392,8 @@ public class BeaconRestApi {
       final DataProvider dataProvider,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final BeaconRestApiConfig configuration) {
     app.get(
         GetEvents.ROUTE,
@@ -386,6 +402,8 @@ public class BeaconRestApi {
             jsonProvider,
             eventChannels,
             asyncRunner,
+            metricsSystem,
+            timeProvider,
             configuration.getMaxPendingEvents()));
   }
 
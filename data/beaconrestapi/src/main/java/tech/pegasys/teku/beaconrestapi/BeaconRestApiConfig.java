@@ -28,6 +28,7 @@ public class BeaconRestApiConfig {
   private final List<String> restApiCorsAllowedOrigins;
   private final Eth1Address eth1DepositContractAddress;
   private final int maxPendingEvents;
+  private final int recentStateViewEpochs;
 
   private BeaconRestApiConfig(
       final int restApiPort,
@@ -37,7 +38,8 @@ public class BeaconRestApiConfig {
       final List<String> restApiHostAllowlist,
       final List<String> restApiCorsAllowedOrigins,
       final Eth1Address eth1DepositContractAddress,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final int recentStateViewEpochs) {
     this.restApiPort = restApiPort;
     this.restApiDocsEnabled = restApiDocsEnabled;
     this.restApiEnabled = restApiEnabled;
@@ -46,6 +48,7 @@ public class BeaconRestApiConfig {
     this.restApiCorsAllowedOrigins = restApiCorsAllowedOrigins;
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.maxPendingEvents = maxPendingEvents;
+    this.recentStateViewEpochs = recentStateViewEpochs;
   }
 
   public int getRestApiPort() {
@@ -80,6 +83,10 @@ public class BeaconRestApiConfig {
     return maxPendingEvents;
   }
 
+  public int getRecentStateViewEpochs() {
+    return recentStateViewEpochs;
+  }
+
   public static BeaconRestApiConfigBuilder builder() {
     return new BeaconRestApiConfigBuilder();
   }
@@ -94,6 +101,7 @@ public class BeaconRestApiConfig {
     private List<String> restApiCorsAllowedOrigins;
     private Eth1Address eth1DepositContractAddress;
     private int maxPendingEvents;
+    private int recentStateViewEpochs;
 
     private BeaconRestApiConfigBuilder() {}
 
@@ -141,6 +149,11 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder recentStateViewEpochs(final int recentStateViewEpochs) {
+      this.recentStateViewEpochs = recentStateViewEpochs;
+      return this;
+    }
+
     public BeaconRestApiConfig build() {
       return new BeaconRestApiConfig(
           restApiPort,
@@ -150,7 +163,8 @@ public class BeaconRestApiConfig {
           restApiHostAllowlist,
           restApiCorsAllowedOrigins,
           eth1DepositContractAddress,
-          maxPendingEvents);
+          maxPendingEvents,
+          recentStateViewEpochs);
     }
   }
 }
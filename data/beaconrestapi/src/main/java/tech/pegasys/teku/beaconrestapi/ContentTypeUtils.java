@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
+
+import java.util.Locale;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+
+public class ContentTypeUtils {
+  private static final String QUALITY_PARAMETER = "q=";
+
+  /**
+   * Determines whether an SSZ response has been requested in preference to JSON.
+   *
+   * <p>SSZ is only used when {@code application/octet-stream} is explicitly listed in the Accept
+   * header with a quality at least as high as {@code application/json}. Wildcards select the
+   * default JSON response.
+   *
+   * @param acceptHeader the value of the Accept header, if present
+   * @return true if the response should be SSZ encoded
+   */
+  public static boolean isSszPreferred(final Optional<String> acceptHeader) {
+    if (acceptHeader.isEmpty()) {
+      return false;
+    }
+    double octetQuality = 0;
+    double jsonQuality = 0;
+    for (String mediaRange : acceptHeader.get().split(",")) {
+      final String[] parts = mediaRange.split(";");
+      final String mediaType = parts[0].trim().toLowerCase(Locale.ROOT);
+      if (mediaType.equals(HEADER_ACCEPT_OCTET)) {
+        octetQuality = Math.max(octetQuality, getQuality(parts));
+      } else if (mediaType.equals(HEADER_ACCEPT_JSON)) {
+        jsonQuality = Math.max(jsonQuality, getQuality(parts));
+      }
+    }
+    return octetQuality > 0 && octetQuality >= jsonQuality;
+  }
+
+  /**
+   * Determines whether a request body is SSZ encoded.
+   *
+   * @param contentType the value of the Content-Type header, if present
+   * @return true if the request body is {@code application/octet-stream}
+   */
+  public static boolean isSszContent(final Optional<String> contentType) {
+    return contentType
+        .map(value -> StringUtils.startsWithIgnoreCase(value.trim(), HEADER_ACCEPT_OCTET))
+        .orElse(false);
+  }
+
+  private static double getQuality(final String[] mediaRangeParts) {
+    for (int i = 1; i < mediaRangeParts.length; i++) {
+      final String parameter = mediaRangeParts[i].trim();
+      if (parameter.startsWith(QUALITY_PARAMETER)) {
+        try {
+          return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+        } catch (final NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+}
@@ -101,6 +101,7 @@ public class RestApiConstants {
   public static final String HEADER_ACCEPT = "Accept";
   public static final String HEADER_ACCEPT_JSON = "application/json";
   public static final String HEADER_ACCEPT_OCTET = "application/octet-stream";
+  public static final String HEADER_CONTENT_TYPE = "Content-Type";
 
   public static final String CACHE_NONE = "max-age=0";
   // Finalized max-age equates to 1 year
@@ -13,15 +13,33 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers;
 
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_CONTENT_TYPE;
+
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.eclipse.jetty.server.Request;
+import tech.pegasys.teku.api.StreamingJsonResponse;
+import tech.pegasys.teku.beaconrestapi.ContentTypeUtils;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public abstract class AbstractHandler implements Handler {
+  private static final Logger LOG = LogManager.getLogger();
+
   protected final JsonProvider jsonProvider;
 
   protected AbstractHandler(final JsonProvider jsonProvider) {
@@ -117,6 +135,127 @@ public abstract class AbstractHandler implements Handler {
             }));
   }
 
+  protected void handleOptionalSszResult(
+      final Context ctx, SafeFuture<Optional<Bytes>> future, final int missingStatus) {
+    handleOptionalBytesResult(ctx, future, HEADER_ACCEPT_OCTET, missingStatus);
+  }
+
+  /**
+   * Writes the JSON directly to the response output stream rather than buffering it as a result,
+   * so large responses don't need to be held in memory.
+   *
+   * <p>The response is written from a REST server thread so a slow client can't hold up the thread
+   * that completed the future. If writing fails after the response has been committed the
+   * connection is aborted rather than leaving a truncated body that looks like a complete 200.
+   */
+  protected void handleOptionalSerializedJsonResult(
+      final Context ctx,
+      SafeFuture<Optional<StreamingJsonResponse>> future,
+      final int missingStatus) {
+    ctx.result(
+        future.thenApplyAsync(
+            result -> {
+              if (result.isPresent()) {
+                ctx.contentType(HEADER_ACCEPT_JSON);
+                writeStreamingResponse(ctx, result.get());
+              } else {
+                ctx.status(missingStatus);
+                ctx.result(BadRequest.serialize(jsonProvider, missingStatus, "Not found"));
+              }
+              return null;
+            },
+            getResponseExecutor(ctx)));
+  }
+
+  private void writeStreamingResponse(final Context ctx, final StreamingJsonResponse response) {
+    try {
+      response.writeTo(ctx.res.getOutputStream());
+    } catch (final IOException | RuntimeException e) {
+      if (!ctx.res.isCommitted()) {
+        // Nothing has been sent yet so the usual error response can still be returned
+        throw new CompletionException(e);
+      }
+      LOG.debug("Aborting connection after failing to write response", e);
+      final Request baseRequest = Request.getBaseRequest(ctx.req);
+      if (baseRequest != null) {
+        baseRequest.getHttpChannel().abort(e);
+      }
+    }
+  }
+
+  private static Executor getResponseExecutor(final Context ctx) {
+    final Request baseRequest = Request.getBaseRequest(ctx.req);
+    if (baseRequest == null) {
+      return Runnable::run;
+    }
+    return baseRequest.getHttpChannel().getConnector().getExecutor();
+  }
+
+  private void handleOptionalBytesResult(
+      final Context ctx,
+      SafeFuture<Optional<Bytes>> future,
+      final String contentType,
+      final int missingStatus) {
+    ctx.result(
+        future.thenApplyAsync(
+            result -> {
+              if (result.isPresent()) {
+                ctx.contentType(contentType);
+                return new BytesInputStream(result.get());
+              } else {
+                ctx.status(missingStatus);
+                ctx.result(BadRequest.serialize(jsonProvider, missingStatus, "Not found"));
+                return null;
+              }
+            },
+            getResponseExecutor(ctx)));
+  }
+
+  protected boolean isSszRequested(final Context ctx) {
+    return ContentTypeUtils.isSszPreferred(Optional.ofNullable(ctx.header(HEADER_ACCEPT)));
+  }
+
+  protected boolean isSszRequestBody(final Context ctx) {
+    return ContentTypeUtils.isSszContent(Optional.ofNullable(ctx.header(HEADER_CONTENT_TYPE)));
+  }
+
+  /** Reads straight from the bytes to avoid copying them when they slice a larger array. */
+  private static class BytesInputStream extends InputStream {
+    private final Bytes bytes;
+    private int position;
+
+    private BytesInputStream(final Bytes bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int read() {
+      if (position >= bytes.size()) {
+        return -1;
+      }
+      return bytes.get(position++) & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (position >= bytes.size()) {
+        return -1;
+      }
+      final int length = Math.min(len, bytes.size() - position);
+      bytes.slice(position, length).copyTo(MutableBytes.wrap(b, off, length));
+      position += length;
+      return length;
+    }
+
+    @Override
+    public int available() {
+      return bytes.size() - position;
+    }
+  }
+
   @FunctionalInterface
   public interface ResultProcessor<T> {
     // Process result, returning an optional serialized response
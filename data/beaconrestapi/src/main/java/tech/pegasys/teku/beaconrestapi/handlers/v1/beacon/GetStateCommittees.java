@@ -28,7 +28,6 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.SLOT_QUERY_DESCRI
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -42,7 +41,7 @@ import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
-import tech.pegasys.teku.api.response.v1.beacon.EpochCommitteeResponse;
+import tech.pegasys.teku.api.StreamingJsonResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateCommitteesResponse;
 import tech.pegasys.teku.beaconrestapi.SingleQueryParameterUtils;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
@@ -96,15 +95,10 @@ public class GetStateCommittees extends AbstractHandler implements Handler {
     final Optional<UInt64> slot =
         SingleQueryParameterUtils.getParameterValueAsUInt64IfPresent(queryParameters, SLOT);
 
-    SafeFuture<Optional<List<EpochCommitteeResponse>>> future =
-        chainDataProvider.getStateCommittees(
+    final SafeFuture<Optional<StreamingJsonResponse>> future =
+        chainDataProvider.getStateCommitteesJson(
             pathParams.get(PARAM_STATE_ID), epoch, committeeIndex, slot);
 
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
-  }
-
-  private Optional<String> handleResult(Context ctx, final List<EpochCommitteeResponse> response)
-      throws JsonProcessingException {
-    return Optional.of(jsonProvider.objectToJSON(new GetStateCommitteesResponse(response)));
+    handleOptionalSerializedJsonResult(ctx, future, SC_NOT_FOUND);
   }
 }
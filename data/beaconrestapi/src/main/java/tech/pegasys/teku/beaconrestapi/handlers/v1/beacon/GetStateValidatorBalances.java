@@ -24,7 +24,6 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_OK;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_BEACON;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -39,8 +38,8 @@ import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.api.StreamingJsonResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorBalancesResponse;
-import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
 import tech.pegasys.teku.beaconrestapi.ListQueryParameterUtils;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -92,13 +91,9 @@ public class GetStateValidatorBalances extends AbstractHandler implements Handle
         queryParameters.containsKey(PARAM_ID)
             ? ListQueryParameterUtils.getParameterAsStringList(ctx.queryParamMap(), PARAM_ID)
             : Collections.emptyList();
-    final SafeFuture<Optional<List<ValidatorBalanceResponse>>> future =
-        chainDataProvider.getStateValidatorBalances(pathParamMap.get(PARAM_STATE_ID), validators);
-    handleOptionalResult(ctx, future, this::handleResult, SC_NOT_FOUND);
-  }
-
-  private Optional<String> handleResult(Context ctx, final List<ValidatorBalanceResponse> response)
-      throws JsonProcessingException {
-    return Optional.of(jsonProvider.objectToJSON(new GetStateValidatorBalancesResponse(response)));
+    final SafeFuture<Optional<StreamingJsonResponse>> future =
+        chainDataProvider.getStateValidatorBalancesJson(
+            pathParamMap.get(PARAM_STATE_ID), validators);
+    handleOptionalSerializedJsonResult(ctx, future, SC_NOT_FOUND);
   }
 }
@@ -15,6 +15,8 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_OK;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.INVALID_BODY_SUPPLIED;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
@@ -31,6 +33,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import java.util.Arrays;
 import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.schema.Attestation;
@@ -58,9 +61,13 @@ public class PostAttestation extends AbstractHandler {
       tags = {TAG_BEACON, TAG_VALIDATOR_REQUIRED},
       requestBody =
           @OpenApiRequestBody(
-              content = {@OpenApiContent(from = Attestation.class, isArray = true)}),
+              content = {
+                @OpenApiContent(type = HEADER_ACCEPT_JSON, from = Attestation.class, isArray = true),
+                @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+              }),
       description =
           "Submit signed attestations to the beacon node to be validated and submitted if valid.\n\n"
+              + "Use Content-Type header `application/octet-stream` to submit an SSZ encoded list of attestations.\n\n"
               + "This endpoint does not protected against slashing.",
       responses = {
         @OpenApiResponse(
@@ -72,6 +79,11 @@ public class PostAttestation extends AbstractHandler {
   @Override
   public void handle(final Context ctx) throws Exception {
     try {
+      if (isSszRequestBody(ctx)) {
+        provider.submitAttestationsSsz(Bytes.wrap(ctx.bodyAsBytes()));
+        ctx.status(SC_OK);
+        return;
+      }
       final String body = ctx.body();
       final List<Attestation> attestations =
           Arrays.asList(jsonProvider.jsonToObject(body, Attestation[].class));
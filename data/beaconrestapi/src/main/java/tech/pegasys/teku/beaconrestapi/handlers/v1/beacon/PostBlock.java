@@ -18,6 +18,9 @@ import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 import static javax.servlet.http.HttpServletResponse.SC_OK;
 import static javax.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_CONTENT_TYPE;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_ACCEPTED;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
@@ -34,15 +37,19 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiRequestBody;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.SyncDataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.ValidatorBlockResult;
 import tech.pegasys.teku.api.schema.interfaces.SignedBlock;
+import tech.pegasys.teku.beaconrestapi.ContentTypeUtils;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public class PostBlock implements Handler {
@@ -73,10 +80,16 @@ public class PostBlock implements Handler {
       method = HttpMethod.POST,
       summary = "Publish a signed block",
       tags = {TAG_BEACON, TAG_VALIDATOR_REQUIRED},
-      requestBody = @OpenApiRequestBody(content = {@OpenApiContent(from = SignedBlock.class)}),
+      requestBody =
+          @OpenApiRequestBody(
+              content = {
+                @OpenApiContent(type = HEADER_ACCEPT_JSON, from = SignedBlock.class),
+                @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+              }),
       description =
           "Submit a signed beacon block to the beacon node to be imported."
-              + " The beacon node performs the required validation.",
+              + " The beacon node performs the required validation.\n\n"
+              + "Use Content-Type header `application/octet-stream` to submit an SSZ encoded block.",
       responses = {
         @OpenApiResponse(
             status = RES_OK,
@@ -102,16 +115,20 @@ public class PostBlock implements Handler {
         return;
       }
 
-      final SignedBeaconBlock signedBeaconBlock =
-          validatorDataProvider.parseBlock(jsonProvider, ctx.body());
+      final SafeFuture<ValidatorBlockResult> result;
+      if (ContentTypeUtils.isSszContent(Optional.ofNullable(ctx.header(HEADER_CONTENT_TYPE)))) {
+        result = validatorDataProvider.submitSignedBlockSsz(Bytes.wrap(ctx.bodyAsBytes()));
+      } else {
+        final SignedBeaconBlock signedBeaconBlock =
+            validatorDataProvider.parseBlock(jsonProvider, ctx.body());
+        result = validatorDataProvider.submitSignedBlock(signedBeaconBlock);
+      }
 
       ctx.result(
-          validatorDataProvider
-              .submitSignedBlock(signedBeaconBlock)
-              .thenApplyChecked(
-                  validatorBlockResult -> handleResponseContext(ctx, validatorBlockResult)));
+          result.thenApplyChecked(
+              validatorBlockResult -> handleResponseContext(ctx, validatorBlockResult)));
 
-    } catch (final JsonProcessingException ex) {
+    } catch (final JsonProcessingException | IllegalArgumentException ex) {
       ctx.status(SC_BAD_REQUEST);
       ctx.result(BadRequest.badRequest(jsonProvider, ex.getMessage()));
     } catch (final Exception ex) {
@@ -25,10 +25,8 @@ import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_OK;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_SERVICE_UNAVAILABLE;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.SERVICE_UNAVAILABLE;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.TAG_DEBUG;
-import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
 import io.javalin.plugin.openapi.annotations.HttpMethod;
@@ -42,14 +40,12 @@ import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.api.StreamingJsonResponse;
 import tech.pegasys.teku.api.response.SszResponse;
 import tech.pegasys.teku.api.response.v1.debug.GetStateResponse;
-import tech.pegasys.teku.api.schema.BeaconState;
 import tech.pegasys.teku.beaconrestapi.handlers.AbstractHandler;
-import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.provider.JsonProvider;
-import tech.pegasys.teku.spec.SpecMilestone;
 
 public class GetState extends AbstractHandler implements Handler {
   public static final String ROUTE = "/eth/v1/debug/beacon/states/:state_id";
@@ -98,9 +94,9 @@ public class GetState extends AbstractHandler implements Handler {
     } else {
       // accept header is not octet, could be anything else, or even not set - our default return is
       // json.
-      final SafeFuture<Optional<BeaconState>> future =
-          chainDataProvider.getBeaconState(pathParamMap.get(PARAM_STATE_ID));
-      handleOptionalResult(ctx, future, this::handleJsonResult, SC_NOT_FOUND);
+      final SafeFuture<Optional<StreamingJsonResponse>> future =
+          chainDataProvider.getBeaconStatePhase0Json(pathParamMap.get(PARAM_STATE_ID));
+      handleOptionalSerializedJsonResult(ctx, future, SC_NOT_FOUND);
     }
   }
 
@@ -112,19 +108,4 @@ public class GetState extends AbstractHandler implements Handler {
       final Context context, final SszResponse response) {
     return Optional.of(response.byteStream);
   }
-
-  private Optional<String> handleJsonResult(Context ctx, final BeaconState response)
-      throws JsonProcessingException {
-    final SpecMilestone milestone = chainDataProvider.getMilestoneAtSlot(response.slot);
-    if (!milestone.equals(SpecMilestone.PHASE0)) {
-      ctx.status(SC_BAD_REQUEST);
-      return Optional.of(
-          BadRequest.badRequest(
-              jsonProvider,
-              String.format(
-                  "Slot %s is not a phase0 slot, please fetch via /eth/v2/debug/states",
-                  response.slot)));
-    }
-    return Optional.of(jsonProvider.objectToJSON(new GetStateResponse(milestone, response)));
-  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A fixed size buffer of serialized events shared by all event subscribers.
+ *
+ * <p>Each published event is assigned a sequence number and subscribers track their own position
+ * in the buffer. Once a subscriber falls more than the buffer capacity behind, the events it has
+ * not yet read are overwritten and are no longer available.
+ */
+class EventRingBuffer {
+  private final AtomicReferenceArray<Entry> entries;
+  private volatile long nextSequence = 0;
+
+  EventRingBuffer(final int capacity) {
+    this.entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  /** Publishes an event and returns its sequence number. Must not be called concurrently. */
+  long publish(final QueuedEvent event, final UInt64 publishedTimeMillis) {
+    final long sequence = nextSequence;
+    entries.set(indexOf(sequence), new Entry(sequence, event, publishedTimeMillis));
+    nextSequence = sequence + 1;
+    return sequence;
+  }
+
+  /** Returns the sequence number the next published event will be assigned. */
+  long getNextSequence() {
+    return nextSequence;
+  }
+
+  /** Returns the event with the given sequence number unless it has been overwritten. */
+  Optional<Entry> get(final long sequence) {
+    final Entry entry = entries.get(indexOf(sequence));
+    return entry != null && entry.sequence == sequence ? Optional.of(entry) : Optional.empty();
+  }
+
+  int getCapacity() {
+    return entries.length();
+  }
+
+  private int indexOf(final long sequence) {
+    return (int) (sequence % entries.length());
+  }
+
+  static class Entry {
+    private final long sequence;
+    private final QueuedEvent event;
+    private final UInt64 publishedTimeMillis;
+
+    private Entry(final long sequence, final QueuedEvent event, final UInt64 publishedTimeMillis) {
+      this.sequence = sequence;
+      this.event = event;
+      this.publishedTimeMillis = publishedTimeMillis;
+    }
+
+    QueuedEvent getEvent() {
+      return event;
+    }
+
+    UInt64 getPublishedTimeMillis() {
+      return publishedTimeMillis;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class EventStreamMetrics {
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram fanOutLatency;
+  private final Counter laggingSubscribersDisconnected;
+
+  EventStreamMetrics(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final IntSupplier subscriberCount) {
+    this.timeProvider = timeProvider;
+    this.fanOutLatency =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "event_stream_fan_out_latency",
+            "Milliseconds between an event being published and it being sent to a subscriber",
+            3);
+    this.laggingSubscribersDisconnected =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "event_stream_lagging_subscribers_disconnected_total",
+            "Number of event stream subscribers disconnected for falling too far behind");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.BEACON,
+        "event_stream_subscribers",
+        "Number of clients subscribed to the event stream",
+        subscriberCount);
+  }
+
+  UInt64 getCurrentTimeMillis() {
+    return timeProvider.getTimeInMillis();
+  }
+
+  void onEventDelivered(final UInt64 publishedTimeMillis) {
+    fanOutLatency.recordValue(
+        timeProvider.getTimeInMillis().minusMinZero(publishedTimeMillis).longValue());
+  }
+
+  void onLaggingSubscriberDisconnected() {
+    laggingSubscribersDisconnected.inc();
+  }
+}
@@ -13,67 +13,95 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.api.response.v1.EventType;
-import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
+import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventRingBuffer.Entry;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 
+/**
+ * Delivers events from the shared {@link EventRingBuffer} to a single SSE client.
+ *
+ * <p>The subscriber only tracks its position in the buffer. Events it is not subscribed to are
+ * skipped without waking the client's delivery loop and the client is disconnected if it has too
+ * many undelivered events or falls so far behind that unread events are overwritten.
+ */
 public class EventSubscriber {
   private static final Logger LOG = LogManager.getLogger();
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final List<EventType> eventTypes;
   private final SseClient sseClient;
-  private final Queue<QueuedEvent> queuedEvents;
+  private final EventRingBuffer events;
+  private final EventStreamMetrics metrics;
+  private final AtomicLong cursor;
+  private final AtomicInteger pendingEvents = new AtomicInteger();
   private final Runnable closeCallback;
   private final int maxPendingEvents;
   private final AtomicBoolean processingQueue;
   final AsyncRunner asyncRunner;
 
-  public EventSubscriber(
+  EventSubscriber(
       final List<String> eventTypes,
       final SseClient sseClient,
       final Runnable closeCallback,
+      final EventRingBuffer events,
+      final EventStreamMetrics metrics,
       final AsyncRunner asyncRunner,
       final int maxPendingEvents) {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
     this.closeCallback = closeCallback;
+    this.events = events;
+    this.metrics = metrics;
+    this.cursor = new AtomicLong(events.getNextSequence());
     this.maxPendingEvents = maxPendingEvents;
-    this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
     this.sseClient.onClose(closeCallback);
   }
 
-  public void onEvent(final EventType eventType, final EventSource message)
-      throws JsonProcessingException {
-    if (!eventTypes.contains(eventType)) {
+  /**
+   * Notifies the subscriber that an event has been added to the buffer. Must be called in sequence
+   * order from the thread publishing events.
+   */
+  void onEventPublished(final EventType eventType, final long sequence) {
+    if (!isSubscribedTo(eventType)) {
+      // Skip over the event if we're otherwise up to date so idle subscribers don't lag
+      cursor.compareAndSet(sequence, sequence + 1);
       return;
     }
-    if (queuedEvents.size() < maxPendingEvents) {
-      queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+    if (pendingEvents.incrementAndGet() <= maxPendingEvents) {
       processEventQueue();
     } else {
       LOG.debug("Closing event connection due to exceeding the pending message limit");
-      stopped.set(true);
-      sseClient.ctx.req.getAsyncContext().complete();
-      closeCallback.run();
+      disconnect();
     }
   }
 
+  boolean isSubscribedTo(final EventType eventType) {
+    return eventTypes.contains(eventType);
+  }
+
   public SseClient getSseClient() {
     return sseClient;
   }
 
+  private void disconnect() {
+    if (stopped.compareAndSet(false, true)) {
+      metrics.onLaggingSubscriberDisconnected();
+      sseClient.ctx.req.getAsyncContext().complete();
+      closeCallback.run();
+    }
+  }
+
   private void processEventQueue() {
-    if (!stopped.get() && !processingQueue.compareAndSet(false, true)) {
+    if (stopped.get() || !processingQueue.compareAndSet(false, true)) {
       // any queue processing in progress will clear the queue, no need to run another instance
       return;
     }
@@ -81,19 +109,31 @@ public class EventSubscriber {
         .runAsync(
             () -> {
               LOG.trace(
-                  "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
+                  "Processing {} pending events for event client {}",
+                  pendingEvents.get(),
                   sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
-              while (event != null && !stopped.get()) {
-                sseClient.sendEvent(event.getEventType().name(), event.getMessageData());
-                event = queuedEvents.poll();
+              long sequence = cursor.get();
+              while (!stopped.get() && sequence < events.getNextSequence()) {
+                final Optional<Entry> entry = events.get(sequence);
+                if (entry.isEmpty()) {
+                  LOG.debug("Closing event connection as the client fell too far behind");
+                  disconnect();
+                  return;
+                }
+                final QueuedEvent event = entry.get().getEvent();
+                if (isSubscribedTo(event.getEventType())) {
+                  sseClient.sendEvent(event.getEventType().name(), event.getMessageData());
+                  pendingEvents.decrementAndGet();
+                  metrics.onEventDelivered(entry.get().getPublishedTimeMillis());
+                }
+                cursor.compareAndSet(sequence, sequence + 1);
+                sequence = cursor.get();
               }
             })
         .alwaysRun(
             () -> {
               processingQueue.set(false);
-              if (queuedEvents.size() > 0) {
+              if (pendingEvents.get() > 0) {
                 processEventQueue();
               }
             })
@@ -24,6 +24,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
@@ -39,6 +40,7 @@ import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.beaconrestapi.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -51,12 +53,15 @@ import tech.pegasys.teku.sync.events.SyncState;
 
 public class EventSubscriptionManager implements ChainHeadChannel, FinalizedCheckpointChannel {
   private static final Logger LOG = LogManager.getLogger();
+  static final int MIN_EVENT_BUFFER_SIZE = 4096;
 
   private final ConfigProvider configProvider;
   private final JsonProvider jsonProvider;
   private final ChainDataProvider provider;
   private final AsyncRunner asyncRunner;
   private final int maxPendingEvents;
+  private final EventRingBuffer events;
+  private final EventStreamMetrics metrics;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
 
@@ -68,12 +73,16 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
       final ConfigProvider configProvider,
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final int maxPendingEvents) {
     this.provider = chainDataProvider;
     this.jsonProvider = jsonProvider;
     this.asyncRunner = asyncRunner;
     this.maxPendingEvents = maxPendingEvents;
+    this.events = new EventRingBuffer(Math.max(MIN_EVENT_BUFFER_SIZE, maxPendingEvents));
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
+    this.metrics = new EventStreamMetrics(metricsSystem, timeProvider, eventSubscribers::size);
     this.configProvider = configProvider;
     eventChannels.subscribe(ChainHeadChannel.class, this);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
@@ -83,7 +92,7 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
     nodeDataProvider.subscribeToNewVoluntaryExits(this::onNewVoluntaryExit);
   }
 
-  public void registerClient(final SseClient sseClient) {
+  public synchronized void registerClient(final SseClient sseClient) {
     LOG.trace("connected " + sseClient.hashCode());
     final List<String> allTopicsInContext =
         ListQueryParameterUtils.getParameterAsStringList(sseClient.ctx.queryParamMap(), TOPICS);
@@ -95,6 +104,8 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
               eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
               LOG.trace("disconnected " + sseClient.hashCode());
             },
+            events,
+            metrics,
             asyncRunner,
             maxPendingEvents);
     eventSubscribers.add(subscriber);
@@ -167,31 +178,24 @@ public class EventSubscriptionManager implements ChainHeadChannel, FinalizedChec
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Object event) {
-    final EventSource eventSource = new EventSource(jsonProvider, event);
+    if (eventSubscribers.stream().noneMatch(subscriber -> subscriber.isSubscribedTo(eventType))) {
+      return;
+    }
+    final String messageData;
     try {
-      for (EventSubscriber subscriber : eventSubscribers) {
-        subscriber.onEvent(eventType, eventSource);
-      }
+      messageData = jsonProvider.objectToJSON(event);
     } catch (final JsonProcessingException e) {
       LOG.error("Failed to serialize event", e);
+      return;
     }
+    publish(QueuedEvent.of(eventType, messageData));
   }
 
-  public static class EventSource {
-    private final JsonProvider jsonProvider;
-    private final Object event;
-    private String value;
-
-    public EventSource(final JsonProvider jsonProvider, final Object event) {
-      this.jsonProvider = jsonProvider;
-      this.event = event;
-    }
-
-    public String get() throws JsonProcessingException {
-      if (value == null) {
-        value = jsonProvider.objectToJSON(event);
-      }
-      return value;
+  // Events are serialized once and shared by all subscribers through the ring buffer
+  private synchronized void publish(final QueuedEvent event) {
+    final long sequence = events.publish(event, metrics.getCurrentTimeMillis());
+    for (EventSubscriber subscriber : eventSubscribers) {
+      subscriber.onEventPublished(event.getEventType(), sequence);
     }
   }
 }
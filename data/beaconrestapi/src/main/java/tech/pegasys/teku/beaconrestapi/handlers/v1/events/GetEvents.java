@@ -33,6 +33,7 @@ import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
@@ -42,6 +43,7 @@ import tech.pegasys.teku.api.SyncDataProvider;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public class GetEvents implements Handler {
@@ -55,6 +57,8 @@ public class GetEvents implements Handler {
       final JsonProvider jsonProvider,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final int maxPendingEvents) {
     this(
         dataProvider.getNodeDataProvider(),
@@ -64,6 +68,8 @@ public class GetEvents implements Handler {
         dataProvider.getConfigProvider(),
         eventChannels,
         asyncRunner,
+        metricsSystem,
+        timeProvider,
         maxPendingEvents);
   }
 
@@ -75,6 +81,8 @@ public class GetEvents implements Handler {
       final ConfigProvider configProvider,
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final int maxPendingEvents) {
     this.jsonProvider = jsonProvider;
     eventSubscriptionManager =
@@ -86,6 +94,8 @@ public class GetEvents implements Handler {
             configProvider,
             asyncRunner,
             eventChannels,
+            metricsSystem,
+            timeProvider,
             maxPendingEvents);
   }
 
@@ -15,6 +15,8 @@ package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.COMMITTEE_INDEX;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_OK;
@@ -79,11 +81,15 @@ public class GetAttestationData extends AbstractHandler {
       },
       description =
           "Returns attestation data for the block at the specified non-finalized slot.\n\n"
-              + "This endpoint is not protected against slashing. Signing the returned attestation data can result in a slashable offence.",
+              + "This endpoint is not protected against slashing. Signing the returned attestation data can result in a slashable offence.\n\n"
+              + "Use Accept header to select `application/octet-stream` if SSZ response type is required.",
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetAttestationDataResponse.class)),
+            content = {
+              @OpenApiContent(type = HEADER_ACCEPT_JSON, from = GetAttestationDataResponse.class),
+              @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied"),
         @OpenApiResponse(status = RES_INTERNAL_ERROR),
         @OpenApiResponse(status = RES_SERVICE_UNAVAILABLE, description = SERVICE_UNAVAILABLE)
@@ -103,6 +109,11 @@ public class GetAttestationData extends AbstractHandler {
             String.format("'%s' needs to be greater than or equal to 0.", COMMITTEE_INDEX));
       }
 
+      if (isSszRequested(ctx)) {
+        handleOptionalSszResult(
+            ctx, provider.createAttestationDataSszAtSlot(slot, committeeIndex), SC_BAD_REQUEST);
+        return;
+      }
       final SafeFuture<Optional<AttestationData>> future =
           provider.createAttestationDataAtSlot(slot, committeeIndex);
       handleOptionalResult(ctx, future, this::processResult, SC_BAD_REQUEST);
@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.v1.validator;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.GRAFFITI;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RANDAO_REVEAL;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
@@ -36,6 +39,7 @@ import io.javalin.plugin.openapi.annotations.OpenApi;
 import io.javalin.plugin.openapi.annotations.OpenApiContent;
 import io.javalin.plugin.openapi.annotations.OpenApiParam;
 import io.javalin.plugin.openapi.annotations.OpenApiResponse;
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -72,7 +76,8 @@ public class GetNewBlock extends AbstractHandler implements Handler {
       summary = "Produce unsigned block",
       tags = {TAG_VALIDATOR, TAG_VALIDATOR_REQUIRED},
       description =
-          "Requests a beacon node to produce a valid block, which can then be signed by a validator.",
+          "Requests a beacon node to produce a valid block, which can then be signed by a validator.\n\n"
+              + "Use Accept header to select `application/octet-stream` if SSZ response type is required.",
       pathParams = {
         @OpenApiParam(
             name = SLOT,
@@ -88,7 +93,10 @@ public class GetNewBlock extends AbstractHandler implements Handler {
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetNewBlockResponse.class)),
+            content = {
+              @OpenApiContent(type = HEADER_ACCEPT_JSON, from = GetNewBlockResponse.class),
+              @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied"),
         @OpenApiResponse(status = RES_INTERNAL_ERROR),
         @OpenApiResponse(status = RES_SERVICE_UNAVAILABLE, description = SERVICE_UNAVAILABLE)
@@ -103,6 +111,21 @@ public class GetNewBlock extends AbstractHandler implements Handler {
       final BLSSignature randao = getParameterValueAsBLSSignature(queryParamMap, RANDAO_REVEAL);
       final Optional<Bytes32> graffiti =
           getOptionalParameterValueAsBytes32(queryParamMap, GRAFFITI);
+      if (isSszRequested(ctx)) {
+        ctx.result(
+            provider
+                .getUnsignedBeaconBlockSszAtSlot(slot, randao, graffiti)
+                .thenApplyChecked(
+                    maybeBlock -> {
+                      if (maybeBlock.isEmpty()) {
+                        throw new ChainDataUnavailableException();
+                      }
+                      ctx.contentType(HEADER_ACCEPT_OCTET);
+                      return new ByteArrayInputStream(maybeBlock.get().toArrayUnsafe());
+                    })
+                .exceptionallyCompose(error -> handleSszError(ctx, error)));
+        return;
+      }
       ctx.result(
           provider
               .getUnsignedBeaconBlockAtSlot(slot, randao, graffiti)
@@ -133,6 +156,12 @@ public class GetNewBlock extends AbstractHandler implements Handler {
     }
   }
 
+  private SafeFuture<ByteArrayInputStream> handleSszError(
+      final Context ctx, final Throwable error) {
+    return handleError(ctx, error)
+        .thenApply(response -> new ByteArrayInputStream(response.getBytes(UTF_8)));
+  }
+
   private SafeFuture<String> handleError(final Context ctx, final Throwable error) {
     final Throwable rootCause = Throwables.getRootCause(error);
     if (rootCause instanceof IllegalArgumentException) {
@@ -14,6 +14,8 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v2.validator;
 
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.GRAFFITI;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_JSON;
+import static tech.pegasys.teku.beaconrestapi.RestApiConstants.HEADER_ACCEPT_OCTET;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RANDAO_REVEAL;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_BAD_REQUEST;
 import static tech.pegasys.teku.beaconrestapi.RestApiConstants.RES_INTERNAL_ERROR;
@@ -55,7 +57,8 @@ public class GetNewBlock extends tech.pegasys.teku.beaconrestapi.handlers.v1.val
       summary = "Produce unsigned block",
       tags = {TAG_EXPERIMENTAL},
       description =
-          "Requests a beacon node to produce a valid block, which can then be signed by a validator.",
+          "Requests a beacon node to produce a valid block, which can then be signed by a validator.\n\n"
+              + "Use Accept header to select `application/octet-stream` if SSZ response type is required.",
       pathParams = {
         @OpenApiParam(
             name = SLOT,
@@ -71,7 +74,10 @@ public class GetNewBlock extends tech.pegasys.teku.beaconrestapi.handlers.v1.val
       responses = {
         @OpenApiResponse(
             status = RES_OK,
-            content = @OpenApiContent(from = GetNewBlockResponseV2.class)),
+            content = {
+              @OpenApiContent(type = HEADER_ACCEPT_JSON, from = GetNewBlockResponseV2.class),
+              @OpenApiContent(type = HEADER_ACCEPT_OCTET)
+            }),
         @OpenApiResponse(status = RES_BAD_REQUEST, description = "Invalid parameter supplied"),
         @OpenApiResponse(status = RES_INTERNAL_ERROR),
         @OpenApiResponse(status = RES_SERVICE_UNAVAILABLE, description = SERVICE_UNAVAILABLE)
@@ -14,16 +14,29 @@
 package tech.pegasys.teku.beaconrestapi;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.RETURNS_DEFAULTS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.core.util.Header;
 import io.javalin.http.Context;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NetworkDataProvider;
+import tech.pegasys.teku.api.StreamingJsonResponse;
 import tech.pegasys.teku.api.SyncDataProvider;
 import tech.pegasys.teku.api.ValidatorDataProvider;
 import tech.pegasys.teku.beaconrestapi.schema.BadRequest;
@@ -41,7 +54,15 @@ public abstract class AbstractBeaconHandlerTest {
   protected final Eth2P2PNetwork eth2P2PNetwork = mock(Eth2P2PNetwork.class);
   protected final Spec spec = TestSpecFactory.createMinimalPhase0();
 
-  protected final Context context = mock(Context.class);
+  private final HttpServletResponse response = mock(HttpServletResponse.class);
+  private final ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+  // Constructed so the response is available to handlers which write to it directly
+  protected final Context context =
+      mock(
+          Context.class,
+          withSettings()
+              .useConstructor(mock(HttpServletRequest.class), response, Map.of())
+              .defaultAnswer(RETURNS_DEFAULTS));
   protected final JsonProvider jsonProvider = new JsonProvider();
   protected final NetworkDataProvider network = new NetworkDataProvider(eth2P2PNetwork);
   protected final ConfigProvider configProvider = new ConfigProvider(spec);
@@ -56,6 +77,26 @@ public abstract class AbstractBeaconHandlerTest {
   protected final ChainDataProvider chainDataProvider = mock(ChainDataProvider.class);
   protected final ValidatorDataProvider validatorDataProvider = mock(ValidatorDataProvider.class);
 
+  @BeforeEach
+  void setUpResponseBody() throws IOException {
+    when(response.getOutputStream())
+        .thenReturn(
+            new ServletOutputStream() {
+              @Override
+              public boolean isReady() {
+                return true;
+              }
+
+              @Override
+              public void setWriteListener(final WriteListener writeListener) {}
+
+              @Override
+              public void write(final int b) {
+                responseBody.write(b);
+              }
+            });
+  }
+
   protected void verifyCacheStatus(final String cacheControlString) {
     verify(context).header(Header.CACHE_CONTROL, cacheControlString);
   }
@@ -78,6 +119,26 @@ public abstract class AbstractBeaconHandlerTest {
     return jsonProvider.jsonToObject(data, clazz);
   }
 
+  @SuppressWarnings("unchecked")
+  protected <T> T getResponseFromStreamFuture(Class<T> clazz) throws IOException {
+    final ArgumentCaptor<SafeFuture<InputStream>> streamArgs =
+        ArgumentCaptor.forClass(SafeFuture.class);
+    verify(context).result(streamArgs.capture());
+    SafeFuture<InputStream> future = streamArgs.getValue();
+    assertThat(future).isCompleted();
+    return jsonProvider.getObjectMapper().readValue(future.join(), clazz);
+  }
+
+  protected StreamingJsonResponse streamingJson(final Object response) {
+    return out -> out.write(jsonProvider.getObjectMapper().writeValueAsBytes(response));
+  }
+
+  protected <T> T getResponseFromStreamedJson(Class<T> clazz) throws IOException {
+    verify(context).result(args.capture());
+    assertThat(args.getValue()).isCompleted();
+    return jsonProvider.getObjectMapper().readValue(responseBody.toByteArray(), clazz);
+  }
+
   protected BadRequest getBadRequestFromFuture() throws JsonProcessingException {
     verify(context).result(args.capture());
     SafeFuture<String> future = args.getValue();
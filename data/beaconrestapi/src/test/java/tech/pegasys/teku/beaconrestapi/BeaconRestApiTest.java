@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
 import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
@@ -87,6 +89,8 @@ class BeaconRestApiTest {
         beaconRestApiConfig,
         eventChannels,
         new StubAsyncRunner(),
+        new StubMetricsSystem(),
+        StubTimeProvider.withTimeInMillis(0),
         app);
   }
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class ContentTypeUtilsTest {
+  @Test
+  public void isSszPreferred_shouldBeFalseWhenNoAcceptHeader() {
+    assertThat(ContentTypeUtils.isSszPreferred(Optional.empty())).isFalse();
+  }
+
+  @Test
+  public void isSszPreferred_shouldBeFalseForWildcard() {
+    assertThat(ContentTypeUtils.isSszPreferred(Optional.of("*/*"))).isFalse();
+  }
+
+  @Test
+  public void isSszPreferred_shouldBeTrueWhenOnlyOctetStreamAccepted() {
+    assertThat(ContentTypeUtils.isSszPreferred(Optional.of("application/octet-stream"))).isTrue();
+  }
+
+  @Test
+  public void isSszPreferred_shouldUseQualityValues() {
+    assertThat(
+            ContentTypeUtils.isSszPreferred(
+                Optional.of("application/octet-stream;q=1.0,application/json;q=0.9")))
+        .isTrue();
+    assertThat(
+            ContentTypeUtils.isSszPreferred(
+                Optional.of("application/octet-stream;q=0.5,application/json")))
+        .isFalse();
+  }
+
+  @Test
+  public void isSszPreferred_shouldBeFalseWhenOctetStreamHasZeroQuality() {
+    assertThat(ContentTypeUtils.isSszPreferred(Optional.of("application/octet-stream;q=0")))
+        .isFalse();
+  }
+
+  @Test
+  public void isSszContent_shouldMatchOctetStreamContentType() {
+    assertThat(ContentTypeUtils.isSszContent(Optional.of("application/octet-stream"))).isTrue();
+    assertThat(ContentTypeUtils.isSszContent(Optional.of("application/json"))).isFalse();
+    assertThat(ContentTypeUtils.isSszContent(Optional.empty())).isFalse();
+  }
+}
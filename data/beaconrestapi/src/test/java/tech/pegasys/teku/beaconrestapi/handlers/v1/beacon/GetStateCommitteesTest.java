@@ -53,11 +53,16 @@ public class GetStateCommitteesTest extends AbstractBeaconHandlerTest {
                 "index", List.of("1"),
                 "slot", List.of(slot.toString()),
                 "epoch", List.of(epoch.toString())));
-    when(chainDataProvider.getStateCommittees(
+    when(chainDataProvider.getStateCommitteesJson(
             "head", Optional.of(epoch), Optional.of(UInt64.ONE), Optional.of(slot)))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(List.of(epochCommitteeResponse))));
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    streamingJson(
+                        new GetStateCommitteesResponse(List.of(epochCommitteeResponse))))));
     handler.handle(context);
-    GetStateCommitteesResponse response = getResponseFromFuture(GetStateCommitteesResponse.class);
+    GetStateCommitteesResponse response =
+        getResponseFromStreamedJson(GetStateCommitteesResponse.class);
     assertThat(response.data).isEqualTo(List.of(epochCommitteeResponse));
   }
 
@@ -14,13 +14,17 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.api.StreamingJsonResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorBalancesResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
 import tech.pegasys.teku.beaconrestapi.AbstractBeaconHandlerTest;
@@ -37,11 +41,33 @@ public class GetStateValidatorBalancesTest extends AbstractBeaconHandlerTest {
   public void shouldGetValidatorBalancesFromState() throws Exception {
     when(context.pathParamMap()).thenReturn(Map.of("state_id", "head"));
     when(context.queryParamMap()).thenReturn(Map.of("id", List.of("1", "2", "3,4")));
-    when(chainDataProvider.getStateValidatorBalances("head", List.of("1", "2", "3", "4")))
-        .thenReturn(SafeFuture.completedFuture(Optional.of(List.of(validatorBalanceResponse))));
+    when(chainDataProvider.getStateValidatorBalancesJson("head", List.of("1", "2", "3", "4")))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(
+                    streamingJson(
+                        new GetStateValidatorBalancesResponse(
+                            List.of(validatorBalanceResponse))))));
     handler.handle(context);
     GetStateValidatorBalancesResponse response =
-        getResponseFromFuture(GetStateValidatorBalancesResponse.class);
+        getResponseFromStreamedJson(GetStateValidatorBalancesResponse.class);
     assertThat(response.data).containsExactly(validatorBalanceResponse);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldFailResultWhenWritingFailsBeforeResponseIsCommitted() throws Exception {
+    final StreamingJsonResponse failingResponse =
+        out -> {
+          throw new IOException("Failed");
+        };
+    when(context.pathParamMap()).thenReturn(Map.of("state_id", "head"));
+    when(chainDataProvider.getStateValidatorBalancesJson("head", List.of()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(failingResponse)));
+    handler.handle(context);
+
+    final ArgumentCaptor<SafeFuture<?>> result = ArgumentCaptor.forClass(SafeFuture.class);
+    verify(context).result(result.capture());
+    assertThat(result.getValue()).isCompletedExceptionally();
+  }
 }
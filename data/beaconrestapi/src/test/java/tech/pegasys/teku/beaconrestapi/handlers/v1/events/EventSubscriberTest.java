@@ -38,9 +38,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.v1.EventType;
-import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
-import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
   private static final int MAX_PENDING_EVENTS = 10;
@@ -50,13 +51,17 @@ public class EventSubscriberTest {
   private final Runnable onCloseCallback = mock(Runnable.class);
   private final ServletResponse servletResponse = mock(ServletResponse.class);
   private final ServletOutputStream outputStream = mock(ServletOutputStream.class);
-  private final JsonProvider jsonProvider = new JsonProvider();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final EventStreamMetrics metrics =
+      new EventStreamMetrics(metricsSystem, timeProvider, () -> 1);
 
   private final Context context = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
   private final List<EventType> allEventTypes =
       Arrays.stream(EventType.values()).collect(Collectors.toList());
 
+  private EventRingBuffer events = new EventRingBuffer(100);
   private SseClient sseClient;
 
   @BeforeEach
@@ -69,34 +74,29 @@ public class EventSubscriberTest {
 
   @Test
   void shouldGetSseClient() {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            List.of("head"), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
     assertThat(eventSubscriber.getSseClient()).isEqualTo(sseClient);
   }
 
   @Test
-  void shouldDisconnectAfterTooManyRequestsAreLogged() throws Exception {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            List.of("head"), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+  void shouldDisconnectAfterTooManyRequestsAreLogged() {
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      publish(eventSubscriber, EventType.head);
     }
     verify(onCloseCallback).run();
+    assertThat(laggingSubscribersDisconnected()).isEqualTo(1);
   }
 
   @Test
   void shouldStopSendingEventsWhenQueueOverflows() throws Exception {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            List.of("head"), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
 
     for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
       verify(onCloseCallback, never()).run();
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      publish(eventSubscriber, EventType.head);
     }
     verify(onCloseCallback).run();
     verify(asyncContext).complete();
@@ -107,14 +107,9 @@ public class EventSubscriberTest {
   @Test
   void shouldSubscribeToMultipleEventsSuccessfully() throws IOException {
     EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            allEventTypes.stream().map(EventType::name).collect(Collectors.toList()),
-            sseClient,
-            onCloseCallback,
-            asyncRunner,
-            MAX_PENDING_EVENTS);
+        createSubscriber(allEventTypes.stream().map(EventType::name).collect(Collectors.toList()));
     for (EventType eventType : allEventTypes) {
-      eventSubscriber.onEvent(eventType, event("test"));
+      publish(eventSubscriber, eventType);
     }
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
     asyncRunner.executeQueuedActions();
@@ -123,32 +118,74 @@ public class EventSubscriberTest {
 
   @Test
   void shouldNotDisconnectIfQueueProcessingCatchesUp() throws IOException {
-    EventSubscriber eventSubscriber =
-        new EventSubscriber(
-            List.of("head"), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      publish(eventSubscriber, EventType.head);
     }
     asyncRunner.executeQueuedActions();
     verify(outputStream, times(10)).print(anyString());
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
-      eventSubscriber.onEvent(EventType.head, event("test"));
+      publish(eventSubscriber, EventType.head);
+    }
+
+    verify(onCloseCallback, never()).run();
+  }
+
+  @Test
+  void shouldDisconnectWhenUnreadEventsAreOverwritten() throws IOException {
+    events = new EventRingBuffer(4);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
+
+    for (int i = 0; i < 5; i++) {
+      publish(eventSubscriber, EventType.head);
+    }
+    verify(onCloseCallback, never()).run();
+
+    asyncRunner.executeQueuedActions();
+    verify(onCloseCallback).run();
+    verify(outputStream, never()).print(anyString());
+    assertThat(laggingSubscribersDisconnected()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotFallBehindWhenOnlyUnsubscribedEventsArePublished() throws IOException {
+    events = new EventRingBuffer(4);
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
+
+    for (int i = 0; i < 20; i++) {
+      publish(eventSubscriber, EventType.attestation);
     }
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
 
+    publish(eventSubscriber, EventType.head);
+    asyncRunner.executeQueuedActions();
+
+    verify(outputStream).print(anyString());
     verify(onCloseCallback, never()).run();
   }
 
+  @Test
+  void shouldSkipUnsubscribedEventsPublishedWhileProcessingIsPending() throws IOException {
+    EventSubscriber eventSubscriber = createSubscriber(List.of("head"));
+
+    publish(eventSubscriber, EventType.head);
+    publish(eventSubscriber, EventType.attestation);
+    publish(eventSubscriber, EventType.head);
+    asyncRunner.executeQueuedActions();
+
+    verify(outputStream, times(2)).print(anyString());
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+
   @ParameterizedTest
   @EnumSource(EventType.class)
-  void shouldNotSendEventsIfNotSubscribed(final EventType eventType) throws Exception {
-    EventSubscriber subscriber =
-        new EventSubscriber(
-            List.of(eventType.name()), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+  void shouldNotSendEventsIfNotSubscribed(final EventType eventType) {
+    EventSubscriber subscriber = createSubscriber(List.of(eventType.name()));
     for (EventType val : allEventTypes) {
       if (val.compareTo(eventType) != 0) {
-        subscriber.onEvent(val, event("test"));
+        publish(subscriber, val);
       }
     }
     assertThat(asyncRunner.hasDelayedActions()).isFalse();
@@ -157,18 +194,30 @@ public class EventSubscriberTest {
   @ParameterizedTest
   @EnumSource(EventType.class)
   void shouldSendEventsIfSubscribed(final EventType eventType) throws IOException {
-    EventSubscriber subscriber =
-        new EventSubscriber(
-            List.of(eventType.name()), sseClient, onCloseCallback, asyncRunner, MAX_PENDING_EVENTS);
+    EventSubscriber subscriber = createSubscriber(List.of(eventType.name()));
 
-    subscriber.onEvent(eventType, event("test"));
+    publish(subscriber, eventType);
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
     asyncRunner.executeQueuedActions();
     verify(outputStream).print(anyString());
   }
 
-  private EventSource event(final String message) {
-    return new EventSource(jsonProvider, message);
+  private EventSubscriber createSubscriber(final List<String> eventTypes) {
+    return new EventSubscriber(
+        eventTypes, sseClient, onCloseCallback, events, metrics, asyncRunner, MAX_PENDING_EVENTS);
+  }
+
+  private void publish(final EventSubscriber subscriber, final EventType eventType) {
+    final long sequence =
+        events.publish(QueuedEvent.of(eventType, "\"test\""), timeProvider.getTimeInMillis());
+    subscriber.onEventPublished(eventType, sequence);
+  }
+
+  private long laggingSubscribersDisconnected() {
+    return metricsSystem
+        .getCounter(
+            TekuMetricCategory.BEACON, "event_stream_lagging_subscribers_disconnected_total")
+        .getValue();
   }
 }
@@ -49,6 +49,10 @@ import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
+import tech.pegasys.teku.infrastructure.metrics.StubGauge;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
@@ -112,6 +116,7 @@ public class EventSubscriptionManagerTest {
   private final ServletOutputStream outputStream = mock(ServletOutputStream.class);
   private final Context ctx = new Context(req, res, Collections.emptyMap());
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private SseClient client1;
 
   private EventSubscriptionManager manager;
@@ -130,6 +135,8 @@ public class EventSubscriptionManagerTest {
             configProvider,
             asyncRunner,
             channels,
+            metricsSystem,
+            StubTimeProvider.withTimeInMillis(0),
             10);
     client1 = new SseClient(ctx);
   }
@@ -271,6 +278,26 @@ public class EventSubscriptionManagerTest {
     assertThat(event).isEqualTo(sampleVoluntaryExit);
   }
 
+  @Test
+  void shouldShareSerializedEventWithAllSubscribers() throws IOException {
+    when(req.getQueryString()).thenReturn("&topics=head");
+    final int subscriberCount = 1000;
+    for (int i = 0; i < subscriberCount; i++) {
+      manager.registerClient(new SseClient(ctx));
+    }
+    final StubGauge subscribersGauge =
+        metricsSystem.getGauge(TekuMetricCategory.BEACON, "event_stream_subscribers");
+    assertThat(subscribersGauge.getValue()).isEqualTo(subscriberCount);
+
+    triggerHeadEvent();
+    verify(outputStream, times(subscriberCount)).print(stringArgs.capture());
+    assertThat(stringArgs.getAllValues()).containsOnly(stringArgs.getValue());
+    final String eventString = stringArgs.getValue();
+    final HeadEvent event =
+        jsonProvider.jsonToObject(eventString.substring(eventString.indexOf("{")), HeadEvent.class);
+    assertThat(event).isEqualTo(headEvent);
+  }
+
   @Test
   void shouldNotGetFinalizedCheckpointIfNotSubscribed() throws IOException {
     when(req.getQueryString()).thenReturn("&topics=head");
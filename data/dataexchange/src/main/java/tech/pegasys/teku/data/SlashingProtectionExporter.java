@@ -15,23 +15,23 @@ package tech.pegasys.teku.data;
 
 import static tech.pegasys.teku.data.slashinginterchange.Metadata.INTERCHANGE_VERSION;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.schema.BLSPubKey;
 import tech.pegasys.teku.api.schema.PublicKeyException;
 import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.data.slashinginterchange.Metadata;
 import tech.pegasys.teku.data.slashinginterchange.SigningHistory;
-import tech.pegasys.teku.data.slashinginterchange.SlashingProtectionInterchangeFormat;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
 import tech.pegasys.teku.provider.JsonProvider;
@@ -86,20 +86,38 @@ public class SlashingProtectionExporter {
     }
   }
 
+  /**
+   * Writes the interchange file one validator at a time so the complete JSON document is never
+   * held in memory, then flushes it to disk.
+   */
   public void saveToFile(final String toFileName) throws IOException {
-    syncDataAccessor.syncedWrite(Path.of(toFileName), getJsonByteData());
+    final Path outputPath = Path.of(toFileName).toAbsolutePath();
+    if (outputPath.getParent() != null) {
+      Files.createDirectories(outputPath.getParent());
+    }
+    try (FileOutputStream outputStream = new FileOutputStream(outputPath.toFile());
+        JsonGenerator generator =
+            jsonProvider
+                .getObjectMapper()
+                .getFactory()
+                .createGenerator(outputStream, JsonEncoding.UTF8)) {
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartObject();
+      generator.writeObjectField(
+          "metadata", new Metadata(INTERCHANGE_VERSION, genesisValidatorsRoot));
+      generator.writeArrayFieldStart("data");
+      for (SigningHistory signingHistory : signingHistoryList) {
+        generator.writeObject(signingHistory);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+      generator.flush();
+      outputStream.getFD().sync();
+    }
     log.display(
         "Wrote "
             + signingHistoryList.size()
             + " validator slashing protection records to "
             + toFileName);
   }
-
-  private Bytes getJsonByteData() throws JsonProcessingException {
-    final String prettyJson =
-        jsonProvider.objectToPrettyJSON(
-            new SlashingProtectionInterchangeFormat(
-                new Metadata(INTERCHANGE_VERSION, genesisValidatorsRoot), signingHistoryList));
-    return Bytes.of(prettyJson.getBytes(StandardCharsets.UTF_8));
-  }
 }
@@ -16,17 +16,20 @@ package tech.pegasys.teku.data;
 import static tech.pegasys.teku.data.slashinginterchange.Metadata.INTERCHANGE_VERSION;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
 import tech.pegasys.teku.data.slashinginterchange.Metadata;
 import tech.pegasys.teku.data.slashinginterchange.SignedAttestation;
@@ -38,9 +41,12 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
 
 public class SlashingProtectionImporter {
+  // Number of validator records written before flushing them to disk together
+  private static final int WRITE_BATCH_SIZE = 256;
+
   private final JsonProvider jsonProvider = new JsonProvider();
   private Path slashingProtectionPath;
-  private List<SigningHistory> data = new ArrayList<>();
+  private final List<SigningHistory> data = new ArrayList<>();
   private Metadata metadata;
   private final SubCommandLogger log;
   private final SyncDataAccessor syncDataAccessor = new SyncDataAccessor();
@@ -49,37 +55,37 @@ public class SlashingProtectionImporter {
     this.log = log;
   }
 
+  /**
+   * Reads the interchange file one validator at a time, keeping only the summarised signing record
+   * for each validator rather than the full signing history.
+   */
   public void initialise(final File inputFile) throws IOException {
     final ObjectMapper jsonMapper = jsonProvider.getObjectMapper();
-    try {
-      final JsonNode jsonNode = jsonMapper.readTree(inputFile);
+    try (JsonParser parser = jsonMapper.getFactory().createParser(inputFile)) {
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String fieldName = parser.getCurrentName();
+          parser.nextToken();
+          if (fieldName.equals("metadata")) {
+            metadata = jsonMapper.treeToValue(jsonMapper.readTree(parser), Metadata.class);
+            if (metadata != null && !isSupportedVersion(inputFile)) {
+              return; // Testing mocks log.exit
+            }
+          } else if (fieldName.equals("data") && parser.currentToken() == JsonToken.START_ARRAY) {
+            readSigningHistories(jsonMapper, parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      }
 
-      metadata = jsonMapper.treeToValue(jsonNode.get("metadata"), Metadata.class);
       if (metadata == null) {
         log.exit(
             1,
             "Import file "
                 + inputFile.toString()
                 + " does not appear to have metadata information, and cannot be loaded.");
-        return; // Testing mocks log.exit
       }
-      if (!INTERCHANGE_VERSION.equals(UInt64.valueOf(4))
-          && !INTERCHANGE_VERSION.equals(metadata.interchangeFormatVersion)) {
-        log.exit(
-            1,
-            "Import file "
-                + inputFile.toString()
-                + " has unsupported format version "
-                + metadata.interchangeFormatVersion
-                + ". Required version is "
-                + INTERCHANGE_VERSION);
-        return; // Testing mocks log.exit
-      }
-
-      data =
-          summariseCompleteInterchangeFormat(
-              Arrays.asList(jsonMapper.treeToValue(jsonNode.get("data"), SigningHistory[].class)));
-
     } catch (JsonMappingException e) {
       String cause = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
       log.exit(1, "Failed to load data from " + inputFile.getName() + ". " + cause);
@@ -89,16 +95,45 @@ public class SlashingProtectionImporter {
     }
   }
 
-  private List<SigningHistory> summariseCompleteInterchangeFormat(
-      final List<SigningHistory> completeSigningData) {
-    return completeSigningData.stream()
-        .map(this::signingHistoryConverter)
-        .collect(Collectors.toList());
+  private boolean isSupportedVersion(final File inputFile) {
+    if (!INTERCHANGE_VERSION.equals(UInt64.valueOf(4))
+        && !INTERCHANGE_VERSION.equals(metadata.interchangeFormatVersion)) {
+      log.exit(
+          1,
+          "Import file "
+              + inputFile.toString()
+              + " has unsupported format version "
+              + metadata.interchangeFormatVersion
+              + ". Required version is "
+              + INTERCHANGE_VERSION);
+      return false;
+    }
+    return true;
+  }
+
+  private void readSigningHistories(final ObjectMapper jsonMapper, final JsonParser parser)
+      throws IOException {
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      // Read each entry as a tree first so syntax errors are reported before mapping errors
+      final SigningHistory signingHistory =
+          jsonMapper.treeToValue(jsonMapper.readTree(parser), SigningHistory.class);
+      if (signingHistory != null) {
+        data.add(summariseSigningHistory(signingHistory));
+      }
+    }
   }
 
-  private SigningHistory signingHistoryConverter(final SigningHistory signingHistory) {
-    final Optional<UInt64> lastSlot =
-        signingHistory.signedBlocks.stream().map(SignedBlock::getSlot).max(UInt64::compareTo);
+  /**
+   * Reduces a signing history to the latest block slot and attestation epochs. The genesis
+   * validators root is applied when the records are written, as the metadata may follow the data.
+   */
+  private SigningHistory summariseSigningHistory(final SigningHistory signingHistory) {
+    final List<SignedBlock> lastBlock =
+        signingHistory.signedBlocks.stream()
+            .map(SignedBlock::getSlot)
+            .max(UInt64::compareTo)
+            .map(slot -> List.of(new SignedBlock(slot, null)))
+            .orElse(List.of());
     final Optional<UInt64> sourceEpoch =
         signingHistory.signedAttestations.stream()
             .map(SignedAttestation::getSourceEpoch)
@@ -107,28 +142,44 @@ public class SlashingProtectionImporter {
         signingHistory.signedAttestations.stream()
             .map(SignedAttestation::getTargetEpoch)
             .max(UInt64::compareTo);
-    final ValidatorSigningRecord record =
-        new ValidatorSigningRecord(
-            metadata.genesisValidatorsRoot,
-            lastSlot.orElse(UInt64.ZERO),
-            sourceEpoch.orElse(ValidatorSigningRecord.NEVER_SIGNED),
-            targetEpoch.orElse(ValidatorSigningRecord.NEVER_SIGNED));
-    return new SigningHistory(signingHistory.pubkey, record);
+    final List<SignedAttestation> lastAttestation =
+        signingHistory.signedAttestations.isEmpty()
+            ? List.of()
+            : List.of(
+                new SignedAttestation(sourceEpoch.orElseThrow(), targetEpoch.orElseThrow(), null));
+    return new SigningHistory(signingHistory.pubkey, lastBlock, lastAttestation);
   }
 
   public void updateLocalRecords(final Path slashingProtectionPath) {
     this.slashingProtectionPath = slashingProtectionPath;
-    data.forEach(this::updateLocalRecord);
+    Lists.partition(data, WRITE_BATCH_SIZE).forEach(this::updateLocalRecordBatch);
     log.display("Updated " + data.size() + " validator slashing protection records");
   }
 
-  private void updateLocalRecord(final SigningHistory signingHistory) {
+  private void updateLocalRecordBatch(final List<SigningHistory> batch) {
+    final Map<Path, ValidatorSigningRecord> updatedRecords = new LinkedHashMap<>();
+    batch.forEach(signingHistory -> updateLocalRecord(signingHistory, updatedRecords));
+
+    final Map<Path, Bytes> updatedData = new LinkedHashMap<>();
+    updatedRecords.forEach((path, record) -> updatedData.put(path, record.toBytes()));
+    try {
+      syncDataAccessor.syncedWrite(updatedData);
+    } catch (IOException e) {
+      log.exit(1, "Failed to write slashing protection records: " + e.getMessage());
+    }
+  }
+
+  private void updateLocalRecord(
+      final SigningHistory signingHistory,
+      final Map<Path, ValidatorSigningRecord> updatedRecords) {
     String validatorString = signingHistory.pubkey.toBytes().toUnprefixedHexString().toLowerCase();
 
     log.display("Importing " + validatorString);
     Path outputFile = slashingProtectionPath.resolve(validatorString + ".yml");
-    Optional<ValidatorSigningRecord> existingRecord = Optional.empty();
-    if (outputFile.toFile().exists()) {
+    // The file may also have been updated earlier in this batch but not yet written
+    Optional<ValidatorSigningRecord> existingRecord =
+        Optional.ofNullable(updatedRecords.get(outputFile));
+    if (existingRecord.isEmpty() && outputFile.toFile().exists()) {
       try {
         existingRecord = syncDataAccessor.read(outputFile).map(ValidatorSigningRecord::fromBytes);
       } catch (IOException e) {
@@ -145,14 +196,8 @@ public class SlashingProtectionImporter {
               + " has a different validators signing root to the data being imported");
     }
 
-    try {
-      syncDataAccessor.syncedWrite(
-          outputFile,
-          signingHistory
-              .toValidatorSigningRecord(existingRecord, metadata.genesisValidatorsRoot)
-              .toBytes());
-    } catch (IOException e) {
-      log.exit(1, "Validator " + signingHistory.pubkey.toHexString() + " was not updated.");
-    }
+    updatedRecords.put(
+        outputFile,
+        signingHistory.toValidatorSigningRecord(existingRecord, metadata.genesisValidatorsRoot));
   }
 }
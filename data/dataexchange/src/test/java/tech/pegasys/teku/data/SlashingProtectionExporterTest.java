@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class SlashingProtectionExporterTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SyncDataAccessor syncDataAccessor = new SyncDataAccessor();
+  private final SubCommandLogger log = mock(SubCommandLogger.class);
+  private final Bytes32 genesisValidatorsRoot = dataStructureUtil.randomBytes32();
+
+  @Test
+  public void shouldImportExportedRecords(@TempDir final Path tempDir) throws IOException {
+    final Path exportDir = tempDir.resolve("export");
+    final Path importDir = tempDir.resolve("import");
+    final Path exportFile = tempDir.resolve("interchange.json");
+    final Map<String, ValidatorSigningRecord> records = new LinkedHashMap<>();
+    for (int i = 0; i < 300; i++) {
+      final String validator =
+          dataStructureUtil.randomPublicKey().toBytesCompressed().toUnprefixedHexString();
+      records.put(
+          validator,
+          new ValidatorSigningRecord(
+              genesisValidatorsRoot,
+              UInt64.valueOf(i),
+              UInt64.valueOf(i + 1),
+              UInt64.valueOf(i + 2)));
+    }
+    final Map<Path, Bytes> files = new LinkedHashMap<>();
+    records.forEach(
+        (validator, record) -> files.put(exportDir.resolve(validator + ".yml"), record.toBytes()));
+    syncDataAccessor.syncedWrite(files);
+
+    final SlashingProtectionExporter exporter = new SlashingProtectionExporter(log);
+    exporter.initialise(exportDir);
+    exporter.saveToFile(exportFile.toString());
+
+    final SlashingProtectionImporter importer = new SlashingProtectionImporter(log);
+    importer.initialise(exportFile.toFile());
+    importer.updateLocalRecords(importDir);
+
+    verify(log, never()).exit(anyInt(), anyString());
+    for (Map.Entry<String, ValidatorSigningRecord> entry : records.entrySet()) {
+      assertThat(readRecord(importDir.resolve(entry.getKey() + ".yml")))
+          .contains(entry.getValue());
+    }
+  }
+
+  private Optional<ValidatorSigningRecord> readRecord(final Path file) throws IOException {
+    return syncDataAccessor.read(file).map(ValidatorSigningRecord::fromBytes);
+  }
+}
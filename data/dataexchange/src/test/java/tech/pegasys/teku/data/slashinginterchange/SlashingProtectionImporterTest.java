@@ -14,20 +14,38 @@
 package tech.pegasys.teku.data.slashinginterchange;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.io.Resources;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.data.SlashingProtectionImporter;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SlashingProtectionImporterTest {
+  private static final Bytes32 GENESIS_VALIDATORS_ROOT =
+      Bytes32.fromHexString("0x0000000000000000000000000000000000000000000000000000000000123456");
+  private static final String METADATA_JSON =
+      "{\"interchange_format_version\": \"5\", \"genesis_validators_root\": \""
+          + GENESIS_VALIDATORS_ROOT
+          + "\"}";
+  private static final String PUBKEY =
+      "0xb845089a1457f811bfc000588fbb4e713669be8ce060ea6be3c6ece09afc3794106c91ca73acda5e5457122d58723bed";
   private final ArgumentCaptor<String> stringArgs = ArgumentCaptor.forClass(String.class);
 
   @Test
@@ -55,6 +73,88 @@ public class SlashingProtectionImporterTest {
     assertThat(errorString).contains("does not appear to have metadata");
   }
 
+  @Test
+  public void shouldFailIfMetadataNotPresentWithData(@TempDir final Path tempDir)
+      throws IOException {
+    final Path importFile = tempDir.resolve("interchange.json");
+    Files.writeString(importFile, "{\"data\": [" + signingHistoryJson("1", "2", "3") + "]}");
+    final SubCommandLogger logger = mock(SubCommandLogger.class);
+
+    new SlashingProtectionImporter(logger).initialise(importFile.toFile());
+
+    verify(logger).exit(eq(1), stringArgs.capture());
+    assertThat(stringArgs.getValue()).contains("does not appear to have metadata");
+  }
+
+  @Test
+  public void shouldImportWhenMetadataFollowsData(@TempDir final Path tempDir) throws IOException {
+    final Path importFile = tempDir.resolve("interchange.json");
+    Files.writeString(
+        importFile,
+        "{\"data\": ["
+            + signingHistoryJson("1", "2", "3")
+            + "], \"metadata\": "
+            + METADATA_JSON
+            + "}");
+
+    final ValidatorSigningRecord record = importAndReadRecord(tempDir, importFile);
+
+    assertThat(record)
+        .isEqualTo(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT, UInt64.valueOf(1), UInt64.valueOf(2), UInt64.valueOf(3)));
+  }
+
+  @Test
+  public void shouldMergeRepeatedEntriesForValidator(@TempDir final Path tempDir)
+      throws IOException {
+    final Path importFile = tempDir.resolve("interchange.json");
+    Files.writeString(
+        importFile,
+        "{\"metadata\": "
+            + METADATA_JSON
+            + ", \"data\": ["
+            + signingHistoryJson("10", "2", "3")
+            + ","
+            + signingHistoryJson("1", "5", "6")
+            + "]}");
+
+    final ValidatorSigningRecord record = importAndReadRecord(tempDir, importFile);
+
+    assertThat(record)
+        .isEqualTo(
+            new ValidatorSigningRecord(
+                GENESIS_VALIDATORS_ROOT, UInt64.valueOf(10), UInt64.valueOf(5), UInt64.valueOf(6)));
+  }
+
+  private ValidatorSigningRecord importAndReadRecord(final Path tempDir, final Path importFile)
+      throws IOException {
+    final SubCommandLogger logger = mock(SubCommandLogger.class);
+    final SlashingProtectionImporter importer = new SlashingProtectionImporter(logger);
+    final Path recordsDir = tempDir.resolve("records");
+    importer.initialise(importFile.toFile());
+    importer.updateLocalRecords(recordsDir);
+
+    verify(logger, never()).exit(anyInt(), anyString());
+    return new SyncDataAccessor()
+        .read(recordsDir.resolve(PUBKEY.substring(2) + ".yml"))
+        .map(ValidatorSigningRecord::fromBytes)
+        .orElseThrow();
+  }
+
+  private String signingHistoryJson(
+      final String blockSlot, final String sourceEpoch, final String targetEpoch) {
+    return "{\"pubkey\": \""
+        + PUBKEY
+        + "\", \"signed_blocks\": [{\"slot\": \""
+        + blockSlot
+        + "\"}], \"signed_attestations\": [{\"source_epoch\": \""
+        + sourceEpoch
+        + "\", \"target_epoch\": \""
+        + targetEpoch
+        + "\"}]}";
+  }
+
   private String loadAndGetErrorText(final String resourceFile)
       throws URISyntaxException, IOException {
     final SubCommandLogger logger = mock(SubCommandLogger.class);
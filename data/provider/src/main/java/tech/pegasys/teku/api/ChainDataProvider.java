@@ -30,7 +30,9 @@ import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.StateJsonResponseCache.ResponseType;
 import tech.pegasys.teku.api.blockselector.BlockSelectorFactory;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.response.SszResponse;
@@ -43,6 +45,8 @@ import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.response.v1.debug.ChainHead;
+import tech.pegasys.teku.api.response.v1.debug.GetStateResponse;
+import tech.pegasys.teku.api.response.v2.debug.GetStateResponseV2;
 import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.BLSPubKey;
 import tech.pegasys.teku.api.schema.BeaconState;
@@ -51,8 +55,11 @@ import tech.pegasys.teku.api.schema.PublicKeyException;
 import tech.pegasys.teku.api.schema.Root;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.stateselector.StateSelectorFactory;
+import tech.pegasys.teku.api.stateselector.StateView;
+import tech.pegasys.teku.api.stateselector.StateViewRegistry;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
@@ -68,6 +75,8 @@ public class ChainDataProvider {
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
   private final SchemaObjectProvider schemaObjectProvider;
+  private final StateJsonResponseCache stateJsonResponseCache;
+  private final Optional<StateViewRegistry> stateViewRegistry;
 
   private final RecentChainData recentChainData;
 
@@ -75,12 +84,33 @@ public class ChainDataProvider {
       final Spec spec,
       final RecentChainData recentChainData,
       final CombinedChainDataClient combinedChainDataClient) {
+    this(spec, recentChainData, combinedChainDataClient, Optional.empty());
+  }
+
+  public ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final StateViewRegistry stateViewRegistry) {
+    this(spec, recentChainData, combinedChainDataClient, Optional.of(stateViewRegistry));
+  }
+
+  private ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final Optional<StateViewRegistry> stateViewRegistry) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.recentChainData = recentChainData;
+    this.stateViewRegistry = stateViewRegistry;
     this.schemaObjectProvider = new SchemaObjectProvider(spec);
     this.defaultBlockSelectorFactory = new BlockSelectorFactory(combinedChainDataClient);
-    this.defaultStateSelectorFactory = new StateSelectorFactory(combinedChainDataClient);
+    this.defaultStateSelectorFactory =
+        new StateSelectorFactory(combinedChainDataClient, stateViewRegistry);
+    this.stateJsonResponseCache =
+        new StateJsonResponseCache(
+            new JsonProvider().getObjectMapper(), StateJsonResponseCache.DEFAULT_MAX_CACHE_BYTES);
   }
 
   public UInt64 getGenesisTime() {
@@ -182,6 +212,46 @@ public class ChainDataProvider {
         .thenApply(maybeState -> maybeState.map(schemaObjectProvider::getBeaconState));
   }
 
+  public SafeFuture<Optional<StreamingJsonResponse>> getBeaconStateJson(final String stateIdParam) {
+    return defaultStateSelectorFactory
+        .defaultStateSelector(stateIdParam)
+        .getState()
+        .thenApply(
+            maybeState ->
+                maybeState.map(
+                    state ->
+                        stateJsonResponseCache.getObject(
+                            ResponseType.STATE_V2,
+                            state.hashTreeRoot(),
+                            () ->
+                                new GetStateResponseV2(
+                                    getMilestoneAtSlot(state.getSlot()),
+                                    schemaObjectProvider.getBeaconState(state)))));
+  }
+
+  public SafeFuture<Optional<StreamingJsonResponse>> getBeaconStatePhase0Json(
+      final String stateIdParam) {
+    return defaultStateSelectorFactory
+        .defaultStateSelector(stateIdParam)
+        .getState()
+        .thenApply(maybeState -> maybeState.map(this::getPhase0StateJson));
+  }
+
+  private StreamingJsonResponse getPhase0StateJson(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state) {
+    final SpecMilestone milestone = getMilestoneAtSlot(state.getSlot());
+    if (!milestone.equals(SpecMilestone.PHASE0)) {
+      throw new BadRequestException(
+          String.format(
+              "Slot %s is not a phase0 slot, please fetch via /eth/v2/debug/states",
+              state.getSlot()));
+    }
+    return stateJsonResponseCache.getObject(
+        ResponseType.STATE,
+        state.hashTreeRoot(),
+        () -> new GetStateResponse(milestone, schemaObjectProvider.getBeaconState(state)));
+  }
+
   public SafeFuture<Optional<SszResponse>> getBeaconStateSsz(final String stateIdParam) {
     return defaultStateSelectorFactory
         .defaultStateSelector(stateIdParam)
@@ -298,14 +368,43 @@ public class ChainDataProvider {
                 maybeState.map(state -> getValidatorBalancesFromState(state, validators)));
   }
 
+  public SafeFuture<Optional<StreamingJsonResponse>> getStateValidatorBalancesJson(
+      final String stateIdParam, final List<String> validators) {
+    return defaultStateSelectorFactory
+        .defaultStateSelector(stateIdParam)
+        .getState()
+        .thenApply(
+            maybeState ->
+                maybeState.map(
+                    state ->
+                        stateJsonResponseCache.getDataList(
+                            ResponseType.VALIDATOR_BALANCES,
+                            state.hashTreeRoot(),
+                            List.of(validators),
+                            () -> streamValidatorBalancesFromState(state, validators))));
+  }
+
   @VisibleForTesting
   List<ValidatorBalanceResponse> getValidatorBalancesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators) {
+    return streamValidatorBalancesFromState(state, validators).collect(Collectors.toList());
+  }
+
+  private Stream<ValidatorBalanceResponse> streamValidatorBalancesFromState(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators) {
+    final Optional<StateView> stateView = findStateView(state);
+    if (stateView.isPresent()) {
+      final StateView view = stateView.get();
+      return getValidatorSelector(state, validators)
+          .filter(index -> index < view.getValidatorCount())
+          .mapToObj(
+              index -> new ValidatorBalanceResponse(UInt64.valueOf(index), view.getBalance(index)));
+    }
     return getValidatorSelector(state, validators)
         .mapToObj(index -> ValidatorBalanceResponse.fromState(state, index))
-        .flatMap(Optional::stream)
-        .collect(Collectors.toList());
+        .flatMap(Optional::stream);
   }
 
   public Optional<Bytes32> getStateRootFromBlockRoot(final Bytes32 blockRoot) {
@@ -344,17 +443,49 @@ public class ChainDataProvider {
                 maybeState.map(state -> getFilteredValidatorList(state, validators, statusFilter)));
   }
 
+  public SafeFuture<Optional<StreamingJsonResponse>> getStateValidatorsJson(
+      final String stateIdParam,
+      final List<String> validators,
+      final Set<ValidatorStatus> statusFilter) {
+    return defaultStateSelectorFactory
+        .defaultStateSelector(stateIdParam)
+        .getState()
+        .thenApply(
+            maybeState ->
+                maybeState.map(
+                    state ->
+                        stateJsonResponseCache.getDataList(
+                            ResponseType.VALIDATORS,
+                            state.hashTreeRoot(),
+                            List.of(validators, statusFilter),
+                            () -> streamFilteredValidators(state, validators, statusFilter))));
+  }
+
   @VisibleForTesting
   List<ValidatorResponse> getFilteredValidatorList(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
+    return streamFilteredValidators(state, validators, statusFilter).collect(toList());
+  }
+
+  private Stream<ValidatorResponse> streamFilteredValidators(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final List<String> validators,
+      final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
+    final Optional<StateView> stateView = findStateView(state);
+    final IntStream validatorIndices;
+    if (stateView.isPresent() && validators.isEmpty() && !statusFilter.isEmpty()) {
+      validatorIndices = stateView.get().getValidatorIndicesWithStatus(statusFilter);
+    } else {
+      validatorIndices =
+          getValidatorSelector(state, validators)
+              .filter(getStatusPredicate(state, stateView, statusFilter));
+    }
+    return validatorIndices
         .mapToObj(index -> ValidatorResponse.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .collect(toList());
+        .flatMap(Optional::stream);
   }
 
   public SafeFuture<Optional<ValidatorResponse>> getStateValidator(
@@ -391,11 +522,38 @@ public class ChainDataProvider {
                     state -> getCommitteesFromState(state, epoch, committeeIndex, slot)));
   }
 
+  public SafeFuture<Optional<StreamingJsonResponse>> getStateCommitteesJson(
+      final String stateIdParameter,
+      final Optional<UInt64> epoch,
+      final Optional<UInt64> committeeIndex,
+      final Optional<UInt64> slot) {
+    return defaultStateSelectorFactory
+        .defaultStateSelector(stateIdParameter)
+        .getState()
+        .thenApply(
+            maybeState ->
+                maybeState.map(
+                    state ->
+                        stateJsonResponseCache.getDataList(
+                            ResponseType.COMMITTEES,
+                            state.hashTreeRoot(),
+                            List.of(epoch, committeeIndex, slot),
+                            () -> streamCommitteesFromState(state, epoch, committeeIndex, slot))));
+  }
+
   List<EpochCommitteeResponse> getCommitteesFromState(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
       final Optional<UInt64> epoch,
       final Optional<UInt64> committeeIndex,
       final Optional<UInt64> slot) {
+    return streamCommitteesFromState(state, epoch, committeeIndex, slot).collect(toList());
+  }
+
+  private Stream<EpochCommitteeResponse> streamCommitteesFromState(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final Optional<UInt64> epoch,
+      final Optional<UInt64> committeeIndex,
+      final Optional<UInt64> slot) {
     final Predicate<CommitteeAssignment> slotFilter =
         slot.isEmpty() ? __ -> true : (assignment) -> assignment.getSlot().equals(slot.get());
 
@@ -419,17 +577,27 @@ public class ChainDataProvider {
     return combinedChainDataClient.getCommitteesFromState(state, epoch.orElse(stateEpoch)).stream()
         .filter(slotFilter)
         .filter(committeeFilter)
-        .map(EpochCommitteeResponse::new)
-        .collect(toList());
+        .map(EpochCommitteeResponse::new);
   }
 
   private IntPredicate getStatusPredicate(
       final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state,
+      final Optional<StateView> stateView,
       final Set<ValidatorStatus> statusFilter) {
+    if (statusFilter.isEmpty()) {
+      return i -> true;
+    }
+    if (stateView.isPresent()) {
+      final StateView view = stateView.get();
+      return i -> statusFilter.contains(view.getValidatorStatus(i));
+    }
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+    return i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+  }
+
+  private Optional<StateView> findStateView(
+      final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState state) {
+    return stateViewRegistry.flatMap(registry -> registry.findView(state));
   }
 
   private IntStream getValidatorSelector(
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.api;
 
+import tech.pegasys.teku.api.stateselector.StateViewRegistry;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.operations.AttesterSlashing;
@@ -48,6 +49,66 @@ public class DataProvider {
       final OperationPool<AttesterSlashing> attesterSlashingPool,
       final OperationPool<ProposerSlashing> proposerSlashingPool,
       final OperationPool<SignedVoluntaryExit> voluntaryExitPool) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        p2pNetwork,
+        syncService,
+        validatorApiChannel,
+        attestationPool,
+        blockManager,
+        attestationManager,
+        attesterSlashingPool,
+        proposerSlashingPool,
+        voluntaryExitPool,
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient));
+  }
+
+  public DataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final Eth2P2PNetwork p2pNetwork,
+      final SyncService syncService,
+      final ValidatorApiChannel validatorApiChannel,
+      final AggregatingAttestationPool attestationPool,
+      final BlockManager blockManager,
+      final AttestationManager attestationManager,
+      final OperationPool<AttesterSlashing> attesterSlashingPool,
+      final OperationPool<ProposerSlashing> proposerSlashingPool,
+      final OperationPool<SignedVoluntaryExit> voluntaryExitPool,
+      final StateViewRegistry stateViewRegistry) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        p2pNetwork,
+        syncService,
+        validatorApiChannel,
+        attestationPool,
+        blockManager,
+        attestationManager,
+        attesterSlashingPool,
+        proposerSlashingPool,
+        voluntaryExitPool,
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient, stateViewRegistry));
+  }
+
+  private DataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final Eth2P2PNetwork p2pNetwork,
+      final SyncService syncService,
+      final ValidatorApiChannel validatorApiChannel,
+      final AggregatingAttestationPool attestationPool,
+      final BlockManager blockManager,
+      final AttestationManager attestationManager,
+      final OperationPool<AttesterSlashing> attesterSlashingPool,
+      final OperationPool<ProposerSlashing> proposerSlashingPool,
+      final OperationPool<SignedVoluntaryExit> voluntaryExitPool,
+      final ChainDataProvider chainDataProvider) {
     this.configProvider = new ConfigProvider(spec);
     networkDataProvider = new NetworkDataProvider(p2pNetwork);
     nodeDataProvider =
@@ -58,7 +119,7 @@ public class DataProvider {
             voluntaryExitPool,
             blockManager,
             attestationManager);
-    chainDataProvider = new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    this.chainDataProvider = chainDataProvider;
     syncDataProvider = new SyncDataProvider(syncService);
     this.validatorDataProvider =
         new ValidatorDataProvider(spec, validatorApiChannel, combinedChainDataClient);
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Serializes JSON responses derived from a beacon state directly to the response output stream
+ * and caches the result by state root and request parameters.
+ *
+ * <p>List responses are written element by element with a streaming {@link JsonGenerator} so the
+ * full list of response objects is never held in memory. A copy of the written bytes is retained
+ * for the cache only while it fits within the cache's byte limit.
+ */
+class StateJsonResponseCache {
+  // Responses for the full validator set can be tens of MB
+  static final long DEFAULT_MAX_CACHE_BYTES = 64 * 1024 * 1024;
+
+  enum ResponseType {
+    VALIDATORS,
+    VALIDATOR_BALANCES,
+    COMMITTEES,
+    STATE,
+    STATE_V2
+  }
+
+  private final ObjectMapper objectMapper;
+  private final long maxCacheBytes;
+  private final Cache<CacheKey, CachedResponse> cache;
+
+  StateJsonResponseCache(final ObjectMapper objectMapper, final long maxCacheBytes) {
+    this.objectMapper = objectMapper;
+    this.maxCacheBytes = maxCacheBytes;
+    // A single segment so the weight limit applies to the cache as a whole
+    this.cache =
+        CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(maxCacheBytes)
+            .weigher((CacheKey key, CachedResponse value) -> value.length)
+            .build();
+  }
+
+  /**
+   * Returns a response of the form <code>{"data": [...]}</code> containing the supplied items.
+   * The items are only requested if the response isn't already cached.
+   */
+  StreamingJsonResponse getDataList(
+      final ResponseType responseType,
+      final Bytes32 stateRoot,
+      final List<?> parameters,
+      final Supplier<Stream<?>> items) {
+    final CacheKey key = new CacheKey(responseType, stateRoot, parameters);
+    final CachedResponse cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    // Create the stream now so invalid parameters are reported before any output is written
+    final Stream<?> stream = items.get();
+    return writeJson(
+        key,
+        generator -> {
+          generator.writeStartObject();
+          generator.writeArrayFieldStart("data");
+          try (stream) {
+            final Iterator<?> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+              generator.writeObject(iterator.next());
+            }
+          }
+          generator.writeEndArray();
+          generator.writeEndObject();
+        });
+  }
+
+  /** Returns the serialized form of the supplied response object. */
+  StreamingJsonResponse getObject(
+      final ResponseType responseType, final Bytes32 stateRoot, final Supplier<?> response) {
+    final CacheKey key = new CacheKey(responseType, stateRoot, List.of());
+    final CachedResponse cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    return writeJson(key, generator -> generator.writeObject(response.get()));
+  }
+
+  long size() {
+    return cache.size();
+  }
+
+  private StreamingJsonResponse writeJson(final CacheKey key, final JsonWriter writer) {
+    return out -> {
+      final CachingOutputStream cachingOut = new CachingOutputStream(out, maxCacheBytes);
+      try (final JsonGenerator generator = objectMapper.getFactory().createGenerator(cachingOut)) {
+        writer.write(generator);
+      }
+      cachingOut.getCopy().ifPresent(copy -> cache.put(key, copy));
+    };
+  }
+
+  @FunctionalInterface
+  private interface JsonWriter {
+    void write(JsonGenerator generator) throws IOException;
+  }
+
+  /**
+   * Passes writes through to the response while keeping a copy until it exceeds the size limit.
+   * Closing only flushes, the response stream is owned by the caller.
+   */
+  private static class CachingOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final long maxCopySize;
+    private CopyBuffer copy = new CopyBuffer();
+
+    private CachingOutputStream(final OutputStream out, final long maxCopySize) {
+      this.out = out;
+      this.maxCopySize = maxCopySize;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      out.write(b);
+      if (retainCopy(1)) {
+        copy.write(b);
+      }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      out.write(b, off, len);
+      if (retainCopy(len)) {
+        copy.write(b, off, len);
+      }
+    }
+
+    private boolean retainCopy(final int length) {
+      if (copy != null && copy.size() + length > maxCopySize) {
+        copy = null;
+      }
+      return copy != null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+
+    private Optional<CachedResponse> getCopy() {
+      return Optional.ofNullable(copy).map(CopyBuffer::toCachedResponse);
+    }
+  }
+
+  private static class CopyBuffer extends ByteArrayOutputStream {
+    private CachedResponse toCachedResponse() {
+      // Keep the buffer rather than copying it as it is not written to again
+      return new CachedResponse(buf, count);
+    }
+  }
+
+  /** Serialized response bytes, written straight from the buffer they were captured in. */
+  private static class CachedResponse implements StreamingJsonResponse {
+    private final byte[] data;
+    private final int length;
+
+    private CachedResponse(final byte[] data, final int length) {
+      this.data = data;
+      this.length = length;
+    }
+
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+      out.write(data, 0, length);
+    }
+  }
+
+  private static class CacheKey {
+    private final ResponseType responseType;
+    private final Bytes32 stateRoot;
+    private final List<?> parameters;
+
+    private CacheKey(
+        final ResponseType responseType, final Bytes32 stateRoot, final List<?> parameters) {
+      this.responseType = responseType;
+      this.stateRoot = stateRoot;
+      this.parameters = parameters;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final CacheKey cacheKey = (CacheKey) o;
+      return responseType == cacheKey.responseType
+          && Objects.equals(stateRoot, cacheKey.stateRoot)
+          && Objects.equals(parameters, cacheKey.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(responseType, stateRoot, parameters);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("responseType", responseType)
+          .add("stateRoot", stateRoot)
+          .add("parameters", parameters)
+          .toString();
+    }
+  }
+}
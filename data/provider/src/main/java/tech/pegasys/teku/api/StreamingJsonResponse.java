@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** A JSON response body which is written directly to the response output stream. */
+@FunctionalInterface
+public interface StreamingJsonResponse {
+
+  /**
+   * Writes the response body. The stream is owned by the caller and is not closed.
+   *
+   * @param out the stream to write the JSON to
+   * @throws IOException if writing to the stream fails
+   */
+  void writeTo(OutputStream out) throws IOException;
+}
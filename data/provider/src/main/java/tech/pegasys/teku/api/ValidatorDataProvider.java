@@ -37,6 +37,7 @@ import tech.pegasys.teku.api.schema.BLSSignature;
 import tech.pegasys.teku.api.schema.BeaconBlock;
 import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
+import tech.pegasys.teku.api.schema.SszRequestSchemas;
 import tech.pegasys.teku.api.schema.ValidatorBlockResult;
 import tech.pegasys.teku.api.schema.altair.SignedBeaconBlockAltair;
 import tech.pegasys.teku.api.schema.altair.SignedContributionAndProof;
@@ -52,6 +53,7 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncComm
 import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeContributionSchema;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult.FailureReason;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.ssz.SszData;
 import tech.pegasys.teku.ssz.collections.SszBitvector;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -93,6 +95,19 @@ public class ValidatorDataProvider {
 
   public SafeFuture<Optional<BeaconBlock>> getUnsignedBeaconBlockAtSlot(
       UInt64 slot, BLSSignature randao, Optional<Bytes32> graffiti) {
+    return createUnsignedBlock(slot, randao, graffiti)
+        .thenApply(maybeBlock -> maybeBlock.map(schemaObjectProvider::getBeaconBlock));
+  }
+
+  public SafeFuture<Optional<Bytes>> getUnsignedBeaconBlockSszAtSlot(
+      UInt64 slot, BLSSignature randao, Optional<Bytes32> graffiti) {
+    return createUnsignedBlock(slot, randao, graffiti)
+        .thenApply(maybeBlock -> maybeBlock.map(SszData::sszSerialize));
+  }
+
+  private SafeFuture<Optional<tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock>>
+      createUnsignedBlock(
+          final UInt64 slot, final BLSSignature randao, final Optional<Bytes32> graffiti) {
     if (slot == null) {
       throw new IllegalArgumentException(NO_SLOT_PROVIDED);
     }
@@ -109,12 +124,8 @@ public class ValidatorDataProvider {
       throw new IllegalArgumentException(CANNOT_PRODUCE_HISTORIC_BLOCK);
     }
 
-    return validatorApiChannel
-        .createUnsignedBlock(
-            slot,
-            tech.pegasys.teku.bls.BLSSignature.fromBytesCompressed(randao.getBytes()),
-            graffiti)
-        .thenApply(maybeBlock -> maybeBlock.map(schemaObjectProvider::getBeaconBlock));
+    return validatorApiChannel.createUnsignedBlock(
+        slot, tech.pegasys.teku.bls.BLSSignature.fromBytesCompressed(randao.getBytes()), graffiti);
   }
 
   public SpecMilestone getMilestoneAtSlot(final UInt64 slot) {
@@ -131,15 +142,36 @@ public class ValidatorDataProvider {
         .thenApply(maybeAttestation -> maybeAttestation.map(AttestationData::new));
   }
 
+  public SafeFuture<Optional<Bytes>> createAttestationDataSszAtSlot(
+      UInt64 slot, int committeeIndex) {
+    if (!isStoreAvailable()) {
+      return SafeFuture.failedFuture(new ChainDataUnavailableException());
+    }
+    return validatorApiChannel
+        .createAttestationData(slot, committeeIndex)
+        .thenApply(maybeAttestationData -> maybeAttestationData.map(SszData::sszSerialize));
+  }
+
   public void submitAttestations(List<Attestation> attestations) {
     attestations.forEach(this::submitAttestation);
   }
 
   public void submitAttestation(Attestation attestation) {
-    if (attestation.signature.asInternalBLSSignature().toSSZBytes().isZero()) {
+    submitAttestation(attestation.asInternalAttestation());
+  }
+
+  public void submitAttestationsSsz(final Bytes serializedAttestations) {
+    SszRequestSchemas.ATTESTATIONS_SCHEMA
+        .sszDeserialize(serializedAttestations)
+        .forEach(this::submitAttestation);
+  }
+
+  private void submitAttestation(
+      final tech.pegasys.teku.spec.datastructures.operations.Attestation attestation) {
+    if (attestation.getAggregate_signature().toSSZBytes().isZero()) {
       throw new IllegalArgumentException("Signed attestations must have a non zero signature");
     }
-    validatorApiChannel.sendSignedAttestation(attestation.asInternalAttestation());
+    validatorApiChannel.sendSignedAttestation(attestation);
   }
 
   public SignedBeaconBlock parseBlock(final JsonProvider jsonProvider, final String jsonBlock)
@@ -164,8 +196,17 @@ public class ValidatorDataProvider {
 
   public SafeFuture<ValidatorBlockResult> submitSignedBlock(
       final SignedBeaconBlock signedBeaconBlock) {
+    return submitSignedBlock(signedBeaconBlock.asInternalSignedBeaconBlock(spec));
+  }
+
+  public SafeFuture<ValidatorBlockResult> submitSignedBlockSsz(final Bytes serializedBlock) {
+    return submitSignedBlock(spec.deserializeSignedBeaconBlock(serializedBlock));
+  }
+
+  private SafeFuture<ValidatorBlockResult> submitSignedBlock(
+      final tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock signedBeaconBlock) {
     return validatorApiChannel
-        .sendSignedBlock(signedBeaconBlock.asInternalSignedBeaconBlock(spec))
+        .sendSignedBlock(signedBeaconBlock)
         .thenApply(
             result -> {
               int responseCode;
@@ -15,17 +15,27 @@ package tech.pegasys.teku.api.stateselector;
 
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
+import java.util.Optional;
+import java.util.function.Function;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 public class StateSelectorFactory {
   private final CombinedChainDataClient client;
+  private final Optional<StateViewRegistry> stateViewRegistry;
 
   public StateSelectorFactory(final CombinedChainDataClient client) {
+    this(client, Optional.empty());
+  }
+
+  public StateSelectorFactory(
+      final CombinedChainDataClient client, final Optional<StateViewRegistry> stateViewRegistry) {
     this.client = client;
+    this.stateViewRegistry = stateViewRegistry;
   }
 
   public StateSelector byBlockRootStateSelector(final String selectorMethod) {
@@ -69,14 +79,30 @@ public class StateSelectorFactory {
   }
 
   public StateSelector headSelector() {
+    if (stateViewRegistry.isPresent()) {
+      return () ->
+          SafeFuture.completedFuture(stateViewRegistry.get().getHead().map(StateView::getState));
+    }
     return () -> SafeFuture.completedFuture(client.getBestState());
   }
 
   public StateSelector finalizedSelector() {
+    if (stateViewRegistry.isPresent()) {
+      return () ->
+          SafeFuture.completedFuture(
+              stateViewRegistry.get().getFinalized().map(StateView::getState));
+    }
     return () -> SafeFuture.completedFuture(client.getFinalizedState());
   }
 
   public StateSelector justifiedSelector() {
+    if (stateViewRegistry.isPresent()) {
+      return () ->
+          stateViewRegistry
+              .get()
+              .getJustified()
+              .thenApply(maybeView -> maybeView.map(StateView::getState));
+    }
     return () -> client.getJustifiedState();
   }
 
@@ -85,14 +111,25 @@ public class StateSelectorFactory {
   }
 
   public StateSelector forSlot(final UInt64 slot) {
-    return () -> client.getStateAtSlotExact(slot);
+    return () ->
+        fromRegistry(registry -> registry.getAtSlot(slot))
+            .orElseGet(() -> client.getStateAtSlotExact(slot));
   }
 
   public StateSelector forStateRoot(final Bytes32 stateRoot) {
-    return () -> client.getStateByStateRoot(stateRoot);
+    return () ->
+        fromRegistry(registry -> registry.getByStateRoot(stateRoot))
+            .orElseGet(() -> client.getStateByStateRoot(stateRoot));
   }
 
   public StateSelector forBlockRoot(final Bytes32 blockRoot) {
     return () -> client.getStateByBlockRoot(blockRoot);
   }
+
+  private Optional<SafeFuture<Optional<BeaconState>>> fromRegistry(
+      final Function<StateViewRegistry, Optional<StateView>> lookup) {
+    return stateViewRegistry
+        .flatMap(lookup)
+        .map(view -> SafeFuture.completedFuture(Optional.of(view.getState())));
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.stateselector;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import com.google.common.base.Suppliers;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.ssz.collections.SszUInt64List;
+
+/**
+ * An immutable snapshot of a state published for REST API queries along with indexes derived from
+ * it.
+ *
+ * <p>Indexes are built the first time they are used and then shared by every query against the
+ * snapshot.
+ */
+public class StateView {
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final BeaconState state;
+  private final UInt64 epoch;
+  private final Supplier<Bytes32> stateRoot;
+  private final Supplier<byte[]> validatorStatuses;
+  private final Supplier<Map<ValidatorStatus, int[]>> validatorsByStatus;
+  private final Supplier<long[]> balances;
+
+  private StateView(final BeaconState state, final UInt64 epoch) {
+    this.state = state;
+    this.epoch = epoch;
+    this.stateRoot = Suppliers.memoize(state::hashTreeRoot);
+    this.validatorStatuses = Suppliers.memoize(this::calculateValidatorStatuses);
+    this.validatorsByStatus = Suppliers.memoize(this::groupValidatorsByStatus);
+    this.balances = Suppliers.memoize(this::copyBalances);
+  }
+
+  public static StateView create(final Spec spec, final BeaconState state) {
+    return new StateView(state, spec.getCurrentEpoch(state));
+  }
+
+  public BeaconState getState() {
+    return state;
+  }
+
+  public UInt64 getSlot() {
+    return state.getSlot();
+  }
+
+  public Bytes32 getStateRoot() {
+    return stateRoot.get();
+  }
+
+  public int getValidatorCount() {
+    return validatorStatuses.get().length;
+  }
+
+  public ValidatorStatus getValidatorStatus(final int validatorIndex) {
+    return STATUSES[validatorStatuses.get()[validatorIndex]];
+  }
+
+  /** Returns the indices of validators with any of the specified statuses in ascending order. */
+  public IntStream getValidatorIndicesWithStatus(final Set<ValidatorStatus> statuses) {
+    final Map<ValidatorStatus, int[]> groupedValidators = validatorsByStatus.get();
+    final IntStream indices =
+        statuses.stream()
+            .map(status -> groupedValidators.getOrDefault(status, new int[0]))
+            .flatMapToInt(Arrays::stream);
+    return statuses.size() > 1 ? indices.sorted() : indices;
+  }
+
+  public UInt64 getBalance(final int validatorIndex) {
+    return UInt64.fromLongBits(balances.get()[validatorIndex]);
+  }
+
+  private byte[] calculateValidatorStatuses() {
+    final int validatorCount = state.getValidators().size();
+    final byte[] statuses = new byte[validatorCount];
+    for (int i = 0; i < validatorCount; i++) {
+      statuses[i] =
+          (byte)
+              ValidatorResponse.getValidatorStatus(
+                      epoch, state.getValidators().get(i), FAR_FUTURE_EPOCH)
+                  .ordinal();
+    }
+    return statuses;
+  }
+
+  private Map<ValidatorStatus, int[]> groupValidatorsByStatus() {
+    final byte[] statuses = validatorStatuses.get();
+    final int[] counts = new int[STATUSES.length];
+    for (byte status : statuses) {
+      counts[status]++;
+    }
+    final Map<ValidatorStatus, int[]> grouped = new EnumMap<>(ValidatorStatus.class);
+    final int[] positions = new int[STATUSES.length];
+    for (int i = 0; i < statuses.length; i++) {
+      final int status = statuses[i];
+      final int[] indices =
+          grouped.computeIfAbsent(STATUSES[status], __ -> new int[counts[status]]);
+      indices[positions[status]++] = i;
+    }
+    return grouped;
+  }
+
+  private long[] copyBalances() {
+    final SszUInt64List stateBalances = state.getBalances();
+    final long[] result = new long[stateBalances.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = stateBalances.getElement(i).longValue();
+    }
+    return result;
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.stateselector;
+
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager.TrackedStateCache;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Publishes immutable {@link StateView} snapshots of the head, justified and finalized states as
+ * well as a number of recent epoch boundary states so REST API queries can be served without
+ * acquiring store locks or regenerating states.
+ *
+ * <p>Snapshots are replaced in response to chain head and finalized checkpoint events. Reads never
+ * block and fall back to the {@link CombinedChainDataClient} when no snapshot is available.
+ *
+ * <p>Only the head, justified and finalized views plus at most {@code maxEpochBoundaryViews} epoch
+ * boundary views are retained. The epoch boundary views are registered with the {@link
+ * StateCacheMemoryManager} so they count towards, and can be evicted by, the state cache budget.
+ */
+public class StateViewRegistry implements ChainHeadChannel, FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final CombinedChainDataClient client;
+  private final int maxEpochBoundaryViews;
+  private final TrackedStateCache<UInt64, StateView> memoryTracker;
+
+  private final AtomicReference<StateView> head = new AtomicReference<>();
+  private final AtomicReference<CheckpointStateView> justified = new AtomicReference<>();
+  private final AtomicReference<StateView> finalized = new AtomicReference<>();
+  private volatile NavigableMap<UInt64, StateView> epochBoundaryViews =
+      Collections.emptyNavigableMap();
+
+  public StateViewRegistry(
+      final Spec spec, final CombinedChainDataClient client, final int maxEpochBoundaryViews) {
+    this(spec, client, maxEpochBoundaryViews, StateCacheMemoryManager.DISABLED);
+  }
+
+  public StateViewRegistry(
+      final Spec spec,
+      final CombinedChainDataClient client,
+      final int maxEpochBoundaryViews,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
+    this.spec = spec;
+    this.client = client;
+    this.maxEpochBoundaryViews = maxEpochBoundaryViews;
+    this.memoryTracker =
+        stateCacheMemoryManager.registerCache(
+            "rest_api_state_views",
+            view -> view.getState().getBackingNode(),
+            slot -> epochBoundaryViews.containsKey(slot),
+            this::removeEpochBoundaryView);
+  }
+
+  public Optional<StateView> getHead() {
+    return client.getBestState().map(this::getOrCreateHeadView);
+  }
+
+  public Optional<StateView> getFinalized() {
+    final StateView current = finalized.get();
+    if (current != null) {
+      return Optional.of(current);
+    }
+    return client
+        .getFinalizedState()
+        .map(state -> publishIfAbsent(finalized, StateView.create(spec, state)));
+  }
+
+  public SafeFuture<Optional<StateView>> getJustified() {
+    final CheckpointStateView current = justified.get();
+    if (current != null) {
+      return SafeFuture.completedFuture(Optional.of(current.view));
+    }
+    return client.getJustifiedState().thenApply(maybeState -> maybeState.map(this::createView));
+  }
+
+  /** Returns the view of the canonical state at exactly the given slot if one is published. */
+  public Optional<StateView> getAtSlot(final UInt64 slot) {
+    final Optional<StateView> headView = getHead();
+    if (headView.isPresent() && headView.get().getSlot().equals(slot)) {
+      return headView;
+    }
+    final StateView view = epochBoundaryViews.get(slot);
+    if (view == null) {
+      memoryTracker.onMiss();
+      return Optional.empty();
+    }
+    memoryTracker.onHit(slot);
+    return Optional.of(view);
+  }
+
+  public Optional<StateView> getByStateRoot(final Bytes32 stateRoot) {
+    return streamViews().filter(view -> view.getStateRoot().equals(stateRoot)).findFirst();
+  }
+
+  /** Finds the published view for a state previously returned from this registry. */
+  public Optional<StateView> findView(final BeaconState state) {
+    return streamViews().filter(view -> view.getState() == state).findFirst();
+  }
+
+  @Override
+  public void chainHeadUpdated(
+      final UInt64 slot,
+      final Bytes32 stateRoot,
+      final Bytes32 bestBlockRoot,
+      final boolean epochTransition,
+      final Bytes32 previousDutyDependentRoot,
+      final Bytes32 currentDutyDependentRoot,
+      final Optional<ReorgContext> optionalReorgContext) {
+    getHead().ifPresent(headView -> updateEpochBoundaryViews(headView, optionalReorgContext));
+    if (client.isStoreAvailable()) {
+      updateJustifiedView(client.getStore().getJustifiedCheckpoint());
+    }
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(final Checkpoint checkpoint) {
+    client.getFinalizedState().map(this::createView).ifPresent(finalized::set);
+  }
+
+  private StateView getOrCreateHeadView(final BeaconState state) {
+    final StateView current = head.get();
+    if (current != null && current.getState() == state) {
+      return current;
+    }
+    final StateView view = StateView.create(spec, state);
+    head.compareAndSet(current, view);
+    return view;
+  }
+
+  private synchronized void updateEpochBoundaryViews(
+      final StateView headView, final Optional<ReorgContext> reorgContext) {
+    final NavigableMap<UInt64, StateView> updated = new TreeMap<>(epochBoundaryViews);
+    // Views after the common ancestor are no longer canonical
+    reorgContext.ifPresent(
+        context -> updated.tailMap(context.getCommonAncestorSlot(), false).clear());
+    final UInt64 headSlot = headView.getSlot();
+    if (maxEpochBoundaryViews > 0
+        && spec.computeStartSlotAtEpoch(spec.computeEpochAtSlot(headSlot)).equals(headSlot)) {
+      updated.put(headSlot, headView);
+      while (updated.size() > maxEpochBoundaryViews) {
+        updated.pollFirstEntry();
+      }
+    }
+    epochBoundaryViews = Collections.unmodifiableNavigableMap(updated);
+    if (updated.get(headSlot) == headView) {
+      memoryTracker.onCached(headSlot, headView);
+    }
+  }
+
+  private synchronized void removeEpochBoundaryView(final UInt64 slot) {
+    if (!epochBoundaryViews.containsKey(slot)) {
+      return;
+    }
+    final NavigableMap<UInt64, StateView> updated = new TreeMap<>(epochBoundaryViews);
+    updated.remove(slot);
+    epochBoundaryViews = Collections.unmodifiableNavigableMap(updated);
+  }
+
+  private void updateJustifiedView(final Checkpoint checkpoint) {
+    final CheckpointStateView current = justified.get();
+    if (current != null && current.checkpoint.equals(checkpoint)) {
+      return;
+    }
+    client
+        .getStore()
+        .retrieveCheckpointState(checkpoint)
+        .thenAccept(
+            maybeState ->
+                maybeState.ifPresent(
+                    state ->
+                        justified.accumulateAndGet(
+                            new CheckpointStateView(checkpoint, createView(state)),
+                            StateViewRegistry::selectLatestCheckpoint)))
+        .finish(error -> LOG.warn("Failed to retrieve justified state for REST API", error));
+  }
+
+  private StateView createView(final BeaconState state) {
+    return StateView.create(spec, state);
+  }
+
+  private Stream<StateView> streamViews() {
+    final CheckpointStateView justifiedView = justified.get();
+    return Stream.concat(
+        Stream.of(head.get(), justifiedView != null ? justifiedView.view : null, finalized.get())
+            .filter(Objects::nonNull),
+        epochBoundaryViews.values().stream());
+  }
+
+  private static StateView publishIfAbsent(
+      final AtomicReference<StateView> reference, final StateView view) {
+    return reference.compareAndSet(null, view) ? view : reference.get();
+  }
+
+  private static CheckpointStateView selectLatestCheckpoint(
+      final CheckpointStateView existing, final CheckpointStateView update) {
+    if (existing == null
+        || existing.checkpoint.getEpoch().isLessThan(update.checkpoint.getEpoch())) {
+      return update;
+    }
+    return existing;
+  }
+
+  private static class CheckpointStateView {
+    private final Checkpoint checkpoint;
+    private final StateView view;
+
+    private CheckpointStateView(final Checkpoint checkpoint, final StateView view) {
+      this.checkpoint = checkpoint;
+      this.view = view;
+    }
+  }
+}
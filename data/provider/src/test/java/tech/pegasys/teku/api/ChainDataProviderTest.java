@@ -25,6 +25,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -36,9 +39,13 @@ import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.response.v1.beacon.BlockHeader;
 import tech.pegasys.teku.api.response.v1.beacon.FinalityCheckpointsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GenesisData;
+import tech.pegasys.teku.api.response.v1.beacon.GetStateCommitteesResponse;
+import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorBalancesResponse;
+import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.StateSyncCommittees;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
 import tech.pegasys.teku.api.response.v1.debug.ChainHead;
+import tech.pegasys.teku.api.response.v2.debug.GetStateResponseV2;
 import tech.pegasys.teku.api.schema.Attestation;
 import tech.pegasys.teku.api.schema.BLSSignature;
 import tech.pegasys.teku.api.schema.BeaconBlockHeader;
@@ -52,7 +59,9 @@ import tech.pegasys.teku.core.ChainBuilder;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
@@ -83,6 +92,7 @@ public class ChainDataProviderTest {
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
   private final DataStructureUtil data = new DataStructureUtil(spec);
   private final SpecConfig specConfig = spec.getGenesisSpecConfig();
+  private final JsonProvider jsonProvider = new JsonProvider();
 
   @BeforeEach
   public void setup() {
@@ -171,6 +181,19 @@ public class ChainDataProviderTest {
         .isEqualTo(beaconStateInternal.hashTreeRoot());
   }
 
+  @Test
+  public void getBeaconStateJson_shouldMatchSerializedResponseObject() throws Exception {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final String expected =
+        jsonProvider.objectToJSON(
+            new GetStateResponseV2(
+                SpecMilestone.PHASE0,
+                new SchemaObjectProvider(spec).getBeaconState(beaconStateInternal)));
+
+    assertThat(asString(provider.getBeaconStateJson("head").get())).contains(expected);
+  }
+
   @Test
   public void validatorParameterToIndex_shouldThrowWhenStoreNotFound() {
     final ChainDataProvider provider =
@@ -332,6 +355,34 @@ public class ChainDataProviderTest {
     assertThat(pubkeys).containsExactly(key);
   }
 
+  @Test
+  public void getStateValidatorsJson_shouldMatchSerializedResponseObject() throws Exception {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final List<String> validators = List.of("1", "3");
+    final Set<ValidatorStatus> statusFilter = Set.of(ValidatorStatus.active_ongoing);
+    final String expected =
+        jsonProvider.objectToJSON(
+            new GetStateValidatorsResponse(
+                provider.getFilteredValidatorList(beaconStateInternal, validators, statusFilter)));
+
+    assertThat(asString(provider.getStateValidatorsJson("head", validators, statusFilter).get()))
+        .contains(expected);
+  }
+
+  @Test
+  public void getStateValidatorBalancesJson_shouldMatchSerializedResponseObject() throws Exception {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final String expected =
+        jsonProvider.objectToJSON(
+            new GetStateValidatorBalancesResponse(
+                provider.getValidatorBalancesFromState(beaconStateInternal, emptyList())));
+
+    assertThat(asString(provider.getStateValidatorBalancesJson("head", emptyList()).get()))
+        .contains(expected);
+  }
+
   @Test
   public void validatorParameterToIndex_shouldThrowBadRequestExceptionWhenIndexInvalid() {
     final ChainDataProvider provider =
@@ -388,6 +439,25 @@ public class ChainDataProviderTest {
         .isEmpty();
   }
 
+  @Test
+  public void getStateCommitteesJson_shouldMatchSerializedResponseObject() throws Exception {
+    final ChainDataProvider provider =
+        new ChainDataProvider(spec, recentChainData, combinedChainDataClient);
+    final String expected =
+        jsonProvider.objectToJSON(
+            new GetStateCommitteesResponse(
+                provider.getCommitteesFromState(
+                    beaconStateInternal, Optional.empty(), Optional.empty(), Optional.empty())));
+
+    assertThat(
+            asString(
+                provider
+                    .getStateCommitteesJson(
+                        "head", Optional.empty(), Optional.empty(), Optional.empty())
+                    .get()))
+        .contains(expected);
+  }
+
   @Test
   public void getCommitteesFromState_shouldNotRequireFilters() {
     final tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState internalState =
@@ -578,4 +648,14 @@ public class ChainDataProviderTest {
     when(mockCombinedChainDataClient.getBestState()).thenReturn(Optional.of(internalState));
     return provider;
   }
+
+  private Optional<String> asString(final Optional<StreamingJsonResponse> json)
+      throws IOException {
+    if (json.isEmpty()) {
+      return Optional.empty();
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    json.get().writeTo(out);
+    return Optional.of(out.toString(StandardCharsets.UTF_8));
+  }
 }
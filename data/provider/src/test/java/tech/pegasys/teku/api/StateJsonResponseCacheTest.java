@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.StateJsonResponseCache.ResponseType;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorBalanceResponse;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.provider.JsonProvider;
+
+class StateJsonResponseCacheTest {
+  private final JsonProvider jsonProvider = new JsonProvider();
+  private final List<ValidatorBalanceResponse> balances =
+      List.of(
+          new ValidatorBalanceResponse(UInt64.ZERO, UInt64.valueOf(32)),
+          new ValidatorBalanceResponse(UInt64.ONE, UInt64.valueOf(31)));
+  private final String expectedJson = "{\"data\":" + jsonProvider.objectToJSON(balances) + "}";
+  private final StateJsonResponseCache cache =
+      new StateJsonResponseCache(jsonProvider.getObjectMapper(), 2L * expectedJson.length());
+  private final AtomicInteger invocations = new AtomicInteger();
+  private final Supplier<Stream<?>> items =
+      () -> {
+        invocations.incrementAndGet();
+        return balances.stream();
+      };
+
+  @Test
+  void getDataList_shouldWriteDataWrapper() throws Exception {
+    final String result =
+        write(cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of(), items));
+
+    assertThat(result).isEqualTo(expectedJson);
+  }
+
+  @Test
+  void getDataList_shouldReuseResponseForSameStateAndParameters() throws Exception {
+    final String first =
+        write(
+            cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of("1"), items));
+    final String second =
+        write(
+            cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of("1"), items));
+
+    assertThat(second).isEqualTo(first);
+    assertThat(invocations).hasValue(1);
+  }
+
+  @Test
+  void getDataList_shouldNotCacheResponseUntilWritten() {
+    cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of(), items);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void getDataList_shouldNotReuseResponseForDifferentParameters() throws Exception {
+    write(cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of("1"), items));
+    write(cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of("2"), items));
+    write(cache.getDataList(ResponseType.VALIDATORS, Bytes32.ZERO, List.of("1"), items));
+
+    assertThat(invocations).hasValue(3);
+  }
+
+  @Test
+  void getDataList_shouldNotReuseResponseForDifferentState() throws Exception {
+    write(cache.getDataList(ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of(), items));
+    write(
+        cache.getDataList(
+            ResponseType.VALIDATOR_BALANCES,
+            Bytes32.fromHexStringLenient("0x01"),
+            List.of(),
+            items));
+
+    assertThat(invocations).hasValue(2);
+  }
+
+  @Test
+  void shouldLimitTotalSizeOfCachedResponses() throws Exception {
+    for (int i = 0; i < 5; i++) {
+      write(cache.getDataList(ResponseType.VALIDATORS, Bytes32.ZERO, List.of(i), items));
+    }
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheResponseLargerThanLimit() throws Exception {
+    final StateJsonResponseCache smallCache =
+        new StateJsonResponseCache(jsonProvider.getObjectMapper(), expectedJson.length() - 1);
+
+    final String result =
+        write(
+            smallCache.getDataList(
+                ResponseType.VALIDATOR_BALANCES, Bytes32.ZERO, List.of(), items));
+
+    assertThat(result).isEqualTo(expectedJson);
+    assertThat(smallCache.size()).isZero();
+  }
+
+  private String write(final StreamingJsonResponse response) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.api.stateselector;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
@@ -87,6 +88,32 @@ public class StateSelectorFactoryTest {
     verify(client).getStateAtSlotExact(state.getSlot());
   }
 
+  @Test
+  public void forSlot_shouldUsePublishedStateViewWhenAvailable()
+      throws ExecutionException, InterruptedException {
+    final StateViewRegistry registry = new StateViewRegistry(spec, client, 4);
+    final StateSelectorFactory registryFactory =
+        new StateSelectorFactory(client, Optional.of(registry));
+    when(client.getBestState()).thenReturn(Optional.of(state));
+    Optional<BeaconState> result = registryFactory.forSlot(state.getSlot()).getState().get();
+    assertThat(result).containsSame(state);
+    verify(client, never()).getStateAtSlotExact(state.getSlot());
+  }
+
+  @Test
+  public void forStateRoot_shouldFallBackToClientWhenNoStateViewMatches()
+      throws ExecutionException, InterruptedException {
+    final StateViewRegistry registry = new StateViewRegistry(spec, client, 4);
+    final StateSelectorFactory registryFactory =
+        new StateSelectorFactory(client, Optional.of(registry));
+    when(client.getStateByStateRoot(state.hashTreeRoot()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+    Optional<BeaconState> result =
+        registryFactory.forStateRoot(state.hashTreeRoot()).getState().get();
+    assertThat(result).isEqualTo(Optional.of(state));
+    verify(client).getStateByStateRoot(state.hashTreeRoot());
+  }
+
   @Test
   public void forStateRoot_shouldGetStateAtSlotExact()
       throws ExecutionException, InterruptedException {
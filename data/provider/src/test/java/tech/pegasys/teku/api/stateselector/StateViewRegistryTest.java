@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.stateselector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager.TrackedStateCache;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.ReorgContext;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+import tech.pegasys.teku.storage.store.UpdatableStore;
+
+class StateViewRegistryTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil data = new DataStructureUtil(spec);
+  private final CombinedChainDataClient client = mock(CombinedChainDataClient.class);
+  private final UpdatableStore store = mock(UpdatableStore.class);
+  private final int slotsPerEpoch = spec.getGenesisSpecConfig().getSlotsPerEpoch();
+
+  private final StateViewRegistry registry = new StateViewRegistry(spec, client, 2);
+
+  @Test
+  void getHead_shouldReuseViewWhileHeadStateUnchanged() {
+    final BeaconState state = data.randomBeaconState();
+    when(client.getBestState()).thenReturn(Optional.of(state));
+
+    final Optional<StateView> first = registry.getHead();
+    assertThat(first).isPresent();
+    assertThat(first.get().getState()).isSameAs(state);
+    assertThat(registry.getHead()).containsSame(first.get());
+
+    final BeaconState newState = data.randomBeaconState();
+    when(client.getBestState()).thenReturn(Optional.of(newState));
+    assertThat(registry.getHead().orElseThrow().getState()).isSameAs(newState);
+  }
+
+  @Test
+  void getHead_shouldBeEmptyWhenNoBestState() {
+    when(client.getBestState()).thenReturn(Optional.empty());
+    assertThat(registry.getHead()).isEmpty();
+  }
+
+  @Test
+  void getFinalized_shouldCacheViewUntilNewFinalizedCheckpoint() {
+    final BeaconState state = data.randomBeaconState();
+    when(client.getFinalizedState()).thenReturn(Optional.of(state));
+
+    final StateView view = registry.getFinalized().orElseThrow();
+    assertThat(registry.getFinalized()).containsSame(view);
+    verify(client).getFinalizedState();
+
+    final BeaconState newState = data.randomBeaconState();
+    when(client.getFinalizedState()).thenReturn(Optional.of(newState));
+    registry.onNewFinalizedCheckpoint(data.randomCheckpoint());
+
+    assertThat(registry.getFinalized().orElseThrow().getState()).isSameAs(newState);
+    verify(client, times(2)).getFinalizedState();
+  }
+
+  @Test
+  void getJustified_shouldFallBackToClientWhenNoViewPublished() {
+    final BeaconState state = data.randomBeaconState();
+    when(client.getJustifiedState()).thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+
+    final SafeFuture<Optional<StateView>> result = registry.getJustified();
+    assertThat(result).isCompleted();
+    assertThat(result.join().orElseThrow().getState()).isSameAs(state);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldPublishJustifiedViewOncePerCheckpoint() {
+    final BeaconState headState = data.randomBeaconState(UInt64.valueOf(3));
+    final BeaconState justifiedState = data.randomBeaconState();
+    final Checkpoint checkpoint = data.randomCheckpoint();
+    when(client.getBestState()).thenReturn(Optional.of(headState));
+    when(client.isStoreAvailable()).thenReturn(true);
+    when(client.getStore()).thenReturn(store);
+    when(store.getJustifiedCheckpoint()).thenReturn(checkpoint);
+    when(store.retrieveCheckpointState(checkpoint))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(justifiedState)));
+
+    updateHead(headState, Optional.empty());
+    updateHead(headState, Optional.empty());
+
+    assertThat(registry.getJustified().join().orElseThrow().getState()).isSameAs(justifiedState);
+    verify(store).retrieveCheckpointState(checkpoint);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldRetainRecentEpochBoundaryViews() {
+    final BeaconState epoch1State = data.randomBeaconState(UInt64.valueOf(slotsPerEpoch));
+    final BeaconState epoch2State = data.randomBeaconState(UInt64.valueOf(2L * slotsPerEpoch));
+    final BeaconState epoch3State = data.randomBeaconState(UInt64.valueOf(3L * slotsPerEpoch));
+    final BeaconState midEpochState =
+        data.randomBeaconState(UInt64.valueOf(3L * slotsPerEpoch + 1));
+
+    updateHead(epoch1State, Optional.empty());
+    updateHead(epoch2State, Optional.empty());
+    updateHead(epoch3State, Optional.empty());
+    updateHead(midEpochState, Optional.empty());
+
+    assertThat(registry.getAtSlot(epoch1State.getSlot())).isEmpty();
+    assertThat(registry.getAtSlot(epoch2State.getSlot()).orElseThrow().getState())
+        .isSameAs(epoch2State);
+    assertThat(registry.getAtSlot(epoch3State.getSlot()).orElseThrow().getState())
+        .isSameAs(epoch3State);
+    assertThat(registry.getAtSlot(midEpochState.getSlot()).orElseThrow().getState())
+        .isSameAs(midEpochState);
+  }
+
+  @Test
+  void chainHeadUpdated_shouldDropEpochBoundaryViewsAfterReorg() {
+    final BeaconState epoch1State = data.randomBeaconState(UInt64.valueOf(slotsPerEpoch));
+    final BeaconState epoch2State = data.randomBeaconState(UInt64.valueOf(2L * slotsPerEpoch));
+    final BeaconState forkState = data.randomBeaconState(UInt64.valueOf(2L * slotsPerEpoch + 1));
+
+    updateHead(epoch1State, Optional.empty());
+    updateHead(epoch2State, Optional.empty());
+    updateHead(
+        forkState,
+        ReorgContext.of(
+            data.randomBytes32(), data.randomBytes32(), UInt64.valueOf(2L * slotsPerEpoch - 1)));
+
+    assertThat(registry.getAtSlot(epoch1State.getSlot())).isPresent();
+    assertThat(registry.getAtSlot(epoch2State.getSlot())).isEmpty();
+  }
+
+  @Test
+  void shouldFindPublishedViewsByStateRootAndInstance() {
+    final BeaconState headState = data.randomBeaconState();
+    final BeaconState finalizedState = data.randomBeaconState();
+    when(client.getBestState()).thenReturn(Optional.of(headState));
+    when(client.getFinalizedState()).thenReturn(Optional.of(finalizedState));
+    final StateView headView = registry.getHead().orElseThrow();
+    final StateView finalizedView = registry.getFinalized().orElseThrow();
+
+    assertThat(registry.getByStateRoot(finalizedState.hashTreeRoot()))
+        .containsSame(finalizedView);
+    assertThat(registry.getByStateRoot(data.randomBytes32())).isEmpty();
+    assertThat(registry.findView(headState)).containsSame(headView);
+    assertThat(registry.findView(data.randomBeaconState())).isEmpty();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldTrackEpochBoundaryViewsWithMemoryManager() {
+    final StateCacheMemoryManager memoryManager = mock(StateCacheMemoryManager.class);
+    final TrackedStateCache<UInt64, StateView> tracker = mock(TrackedStateCache.class);
+    final ArgumentCaptor<Consumer<UInt64>> evictor = ArgumentCaptor.forClass(Consumer.class);
+    when(memoryManager.<UInt64, StateView>registerCache(any(), any(), any(), evictor.capture()))
+        .thenReturn(tracker);
+    final StateViewRegistry trackedRegistry = new StateViewRegistry(spec, client, 2, memoryManager);
+    final BeaconState epoch1State = data.randomBeaconState(UInt64.valueOf(slotsPerEpoch));
+    final BeaconState epoch2State = data.randomBeaconState(UInt64.valueOf(2L * slotsPerEpoch));
+
+    updateHead(trackedRegistry, epoch1State, Optional.empty());
+    updateHead(trackedRegistry, epoch2State, Optional.empty());
+    final StateView epoch1View = trackedRegistry.getAtSlot(epoch1State.getSlot()).orElseThrow();
+    verify(tracker).onCached(eq(epoch1State.getSlot()), eq(epoch1View));
+    verify(tracker).onHit(epoch1State.getSlot());
+
+    evictor.getValue().accept(epoch1State.getSlot());
+
+    assertThat(trackedRegistry.getAtSlot(epoch1State.getSlot())).isEmpty();
+    assertThat(trackedRegistry.getAtSlot(epoch2State.getSlot())).isPresent();
+  }
+
+  private void updateHead(final BeaconState state, final Optional<ReorgContext> reorgContext) {
+    updateHead(registry, state, reorgContext);
+  }
+
+  private void updateHead(
+      final StateViewRegistry target,
+      final BeaconState state,
+      final Optional<ReorgContext> reorgContext) {
+    when(client.getBestState()).thenReturn(Optional.of(state));
+    target.chainHeadUpdated(
+        state.getSlot(),
+        state.hashTreeRoot(),
+        Bytes32.ZERO,
+        false,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        reorgContext);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.stateselector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
+import tech.pegasys.teku.api.response.v1.beacon.ValidatorStatus;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateViewTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil data = new DataStructureUtil(spec);
+  private final BeaconState state = data.randomBeaconState(64);
+  private final StateView view = StateView.create(spec, state);
+
+  @Test
+  void shouldCalculateValidatorStatuses() {
+    assertThat(view.getValidatorCount()).isEqualTo(state.getValidators().size());
+    for (int i = 0; i < view.getValidatorCount(); i++) {
+      assertThat(view.getValidatorStatus(i)).isEqualTo(expectedStatus(i));
+    }
+  }
+
+  @Test
+  void shouldGroupValidatorsByStatusInAscendingOrder() {
+    final Set<ValidatorStatus> statuses =
+        EnumSet.of(ValidatorStatus.active_ongoing, ValidatorStatus.pending_initialized);
+    final int[] expected =
+        IntStream.range(0, state.getValidators().size())
+            .filter(i -> statuses.contains(expectedStatus(i)))
+            .toArray();
+
+    assertThat(view.getValidatorIndicesWithStatus(statuses).toArray()).containsExactly(expected);
+  }
+
+  @Test
+  void shouldCoverAllValidatorsWhenAllStatusesRequested() {
+    assertThat(
+            view.getValidatorIndicesWithStatus(EnumSet.allOf(ValidatorStatus.class))
+                .boxed()
+                .collect(Collectors.toList()))
+        .containsExactlyElementsOf(
+            IntStream.range(0, state.getValidators().size())
+                .boxed()
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  void shouldReturnEmptyStreamWhenNoValidatorsHaveStatus() {
+    final Set<ValidatorStatus> unusedStatuses = EnumSet.allOf(ValidatorStatus.class);
+    IntStream.range(0, view.getValidatorCount())
+        .mapToObj(view::getValidatorStatus)
+        .forEach(unusedStatuses::remove);
+    assertThat(view.getValidatorIndicesWithStatus(unusedStatuses)).isEmpty();
+  }
+
+  @Test
+  void shouldReturnBalances() {
+    for (int i = 0; i < state.getBalances().size(); i++) {
+      assertThat(view.getBalance(i)).isEqualTo(state.getBalances().getElement(i));
+    }
+  }
+
+  @Test
+  void shouldReturnStateRoot() {
+    assertThat(view.getStateRoot()).isEqualTo(state.hashTreeRoot());
+    assertThat(view.getSlot()).isEqualTo(state.getSlot());
+  }
+
+  private ValidatorStatus expectedStatus(final int index) {
+    return ValidatorResponse.getValidatorStatus(
+        spec.getCurrentEpoch(state), state.getValidators().get(index), FAR_FUTURE_EPOCH);
+  }
+}
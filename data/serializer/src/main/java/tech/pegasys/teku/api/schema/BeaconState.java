@@ -18,6 +18,7 @@ import static tech.pegasys.teku.api.schema.SchemaConstants.DESCRIPTION_BYTES_SSZ
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Lists;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
@@ -140,8 +141,8 @@ public abstract class BeaconState implements State {
     this.eth1_data_votes =
         beaconState.getEth1_data_votes().stream().map(Eth1Data::new).collect(Collectors.toList());
     this.eth1_deposit_index = beaconState.getEth1_deposit_index();
-    this.validators =
-        beaconState.getValidators().stream().map(Validator::new).collect(Collectors.toList());
+    // A view so validator DTOs are only created one at a time as the response is serialized
+    this.validators = Lists.transform(beaconState.getValidators().asList(), Validator::new);
     this.balances = beaconState.getBalances().asListUnboxed();
     this.randao_mixes = beaconState.getRandao_mixes().asListUnboxed();
     this.slashings = beaconState.getSlashings().asListUnboxed();
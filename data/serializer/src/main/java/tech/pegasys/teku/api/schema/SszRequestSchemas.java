@@ -0,0 +1,28 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api.schema;
+
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.ssz.SszList;
+import tech.pegasys.teku.ssz.schema.SszListSchema;
+
+/** Schemas for SSZ encoded request bodies which don't correspond to a spec defined type. */
+public class SszRequestSchemas {
+  // One attestation for every validator in each of the maximum 64 committees of 2048 validators
+  private static final long MAX_ATTESTATIONS_PER_REQUEST = 64L * 2048L;
+
+  public static final SszListSchema<Attestation, ? extends SszList<Attestation>>
+      ATTESTATIONS_SCHEMA =
+          SszListSchema.create(Attestation.SSZ_SCHEMA, MAX_ATTESTATIONS_PER_REQUEST);
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.gen.BlockIO;
+import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
+import tech.pegasys.teku.spec.logic.common.block.BlockProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
+import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
+import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityFactory;
+
+/**
+ * Measures the latency of processing a single mainnet sized block, comparing signature
+ * verification concurrent with the state transition against verifying the batch afterwards.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Threads(1)
+public class BlockProcessingBenchmark {
+
+  private SignedBeaconBlock block;
+  private BeaconState blockSlotState;
+  private BlockProcessor blockProcessor;
+
+  @Param({"32768"})
+  int validatorsCount;
+
+  @Setup(Level.Trial)
+  public void init() throws Exception {
+    Constants.setConstants("mainnet");
+    AbstractBlockProcessor.BLS_VERIFY_DEPOSIT = false;
+
+    final String blocksFile =
+        "/blocks/blocks_epoch_"
+            + Constants.SLOTS_PER_EPOCH
+            + "_validators_"
+            + validatorsCount
+            + ".ssz.gz";
+    final String keysFile = "/bls-key-pairs/bls-key-pairs-200k-seed-0.txt.gz";
+
+    final List<BLSKeyPair> validatorKeys =
+        BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
+
+    final Spec spec = TestSpecFactory.createMainnetPhase0();
+    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(spec);
+    final ForkChoice forkChoice =
+        ForkChoice.create(spec, new InlineEventThread(), recentChainData);
+    final BeaconChainUtil localChain =
+        BeaconChainUtil.create(spec, recentChainData, validatorKeys, false);
+    localChain.initializeStorage();
+    final BlockImporter blockImporter =
+        new BlockImporter(
+            mock(BlockImportNotifications.class),
+            recentChainData,
+            forkChoice,
+            WeakSubjectivityFactory.lenientValidator());
+
+    // Import the first block so the benchmarked block carries a full set of attestations
+    final Iterator<SignedBeaconBlock> blockIterator =
+        BlockIO.createResourceReader(spec, blocksFile).iterator();
+    final SignedBeaconBlock firstBlock = blockIterator.next();
+    localChain.setSlot(firstBlock.getSlot());
+    final BlockImportResult result = blockImporter.importBlock(firstBlock).join();
+    if (!result.isSuccessful()) {
+      throw new RuntimeException("Unable to import block: " + result);
+    }
+
+    block = blockIterator.next();
+    final BeaconState preState =
+        recentChainData.retrieveBlockState(block.getParentRoot()).join().orElseThrow();
+    blockSlotState = spec.processSlots(preState, block.getSlot());
+    blockProcessor = spec.getBlockProcessor(block.getSlot());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 10)
+  public BeaconState concurrentSignatureVerification() throws StateTransitionException {
+    return blockProcessor.processAndValidateBlock(
+        block, blockSlotState, IndexedAttestationCache.NOOP);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 10)
+  public BeaconState sequentialSignatureVerification() throws StateTransitionException {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final BeaconState postState =
+        blockProcessor.processAndValidateBlock(
+            block, blockSlotState, IndexedAttestationCache.NOOP, signatureVerifier);
+    if (!signatureVerifier.batchVerify()) {
+      throw new StateTransitionException("Batch signature verification failed");
+    }
+    return postState;
+  }
+}
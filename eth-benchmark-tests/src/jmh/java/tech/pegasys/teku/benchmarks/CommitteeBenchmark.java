@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.collections.IntList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.BeaconStateTestBuilder;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CommitteeBenchmark {
+
+  @Param({"500000"})
+  int validatorCount;
+
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private BeaconState state;
+  private UInt64 epoch;
+  private UInt64 startSlot;
+  private int committeeCount;
+
+  @Setup
+  public void setup() {
+    final BeaconStateTestBuilder stateBuilder =
+        new BeaconStateTestBuilder(new DataStructureUtil(spec)).slot(1000);
+    for (int i = 0; i < validatorCount; i++) {
+      stateBuilder.activeValidator(spec.getGenesisSpecConfig().getMaxEffectiveBalance());
+    }
+    state = stateBuilder.build();
+    epoch = spec.getCurrentEpoch(state);
+    startSlot = spec.computeStartSlotAtEpoch(epoch);
+    committeeCount = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    // Populate the shuffle and committee caches
+    forEachCommittee(committee -> {});
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void iterateCachedCommittees(Blackhole bh) {
+    forEachCommittee(
+        committee -> {
+          for (int i = 0; i < committee.size(); i++) {
+            bh.consume(committee.getInt(i));
+          }
+        });
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void computeCommitteesFromCachedShuffle(Blackhole bh) {
+    BeaconStateCache.getTransitionCaches(state).getBeaconCommittee().clear();
+    forEachCommittee(bh::consume);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void findCommitteeAssignment(Blackhole bh) {
+    // Last active validator is the worst case as every committee may need to be searched
+    bh.consume(spec.getCommitteeAssignment(state, epoch, validatorCount - 1));
+  }
+
+  private void forEachCommittee(final Consumer<IntList> consumer) {
+    for (int slotOffset = 0; slotOffset < spec.slotsPerEpoch(epoch); slotOffset++) {
+      final UInt64 slot = startSlot.plus(slotOffset);
+      for (int index = 0; index < committeeCount; index++) {
+        consumer.accept(spec.getBeaconCommittee(state, slot, UInt64.valueOf(index)));
+      }
+    }
+  }
+}
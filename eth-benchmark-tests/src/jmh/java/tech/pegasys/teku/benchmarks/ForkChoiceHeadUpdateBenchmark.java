@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.benchmarks.gen.BlockIO;
+import tech.pegasys.teku.benchmarks.gen.BlsKeyPairIO;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
+import tech.pegasys.teku.statetransition.BeaconChainUtil;
+import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityFactory;
+
+/**
+ * Measures the head update latency when every validator's vote for an epoch is waiting to be
+ * applied to fork choice.
+ *
+ * <p>Before each invocation a new vote from every validator is buffered, alternating between the
+ * last two imported blocks so each head update moves the full validator weight between them.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Threads(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class ForkChoiceHeadUpdateBenchmark {
+  private static final int VALIDATORS_PER_ATTESTATION = 128;
+
+  @Param({"32768"})
+  int validatorsCount;
+
+  private Spec spec;
+  private RecentChainData recentChainData;
+  private ForkChoice forkChoice;
+  private Bytes32 headRoot;
+  private Bytes32 parentRoot;
+  private UInt64 headSlot;
+  private UInt64 voteTargetEpoch;
+  private boolean voteForHead;
+
+  @Setup(Level.Trial)
+  public void init() throws Exception {
+    Constants.setConstants("mainnet");
+    AbstractBlockProcessor.BLS_VERIFY_DEPOSIT = false;
+
+    final String blocksFile =
+        "/blocks/blocks_epoch_"
+            + Constants.SLOTS_PER_EPOCH
+            + "_validators_"
+            + validatorsCount
+            + ".ssz.gz";
+    final String keysFile = "/bls-key-pairs/bls-key-pairs-200k-seed-0.txt.gz";
+    final List<BLSKeyPair> validatorKeys =
+        BlsKeyPairIO.createReaderForResource(keysFile).readAll(validatorsCount);
+
+    spec = TestSpecFactory.createMainnetPhase0();
+    recentChainData = MemoryOnlyRecentChainData.create(spec);
+    forkChoice = ForkChoice.create(spec, new InlineEventThread(), recentChainData);
+    final BeaconChainUtil localChain =
+        BeaconChainUtil.create(spec, recentChainData, validatorKeys, false);
+    localChain.initializeStorage();
+    final BlockImporter blockImporter =
+        new BlockImporter(
+            mock(BlockImportNotifications.class),
+            recentChainData,
+            forkChoice,
+            WeakSubjectivityFactory.lenientValidator());
+
+    final Iterator<SignedBeaconBlock> blockIterator =
+        BlockIO.createResourceReader(spec, blocksFile).iterator();
+    SignedBeaconBlock block = null;
+    while (blockIterator.hasNext()) {
+      block = blockIterator.next();
+      localChain.setSlot(block.getSlot());
+      blockImporter.importBlock(block).join();
+    }
+    forkChoice.processHead().join();
+    headRoot = block.getRoot();
+    parentRoot = block.getParentRoot();
+    headSlot = block.getSlot();
+    voteTargetEpoch = spec.computeEpochAtSlot(headSlot);
+  }
+
+  @Setup(Level.Invocation)
+  public void bufferVotes() {
+    // Votes only replace earlier votes with a lower target epoch
+    voteTargetEpoch = voteTargetEpoch.plus(1);
+    voteForHead = !voteForHead;
+    final Bytes32 voteRoot = voteForHead ? headRoot : parentRoot;
+    final Checkpoint justifiedCheckpoint = recentChainData.getStore().getJustifiedCheckpoint();
+    final List<ValidateableAttestation> fullEpochOfVotes = new ArrayList<>();
+    for (int start = 0; start < validatorsCount; start += VALIDATORS_PER_ATTESTATION) {
+      final AttestationData data =
+          new AttestationData(
+              headSlot,
+              UInt64.valueOf(start / VALIDATORS_PER_ATTESTATION),
+              voteRoot,
+              justifiedCheckpoint,
+              new Checkpoint(voteTargetEpoch, voteRoot));
+      final ValidateableAttestation attestation =
+          ValidateableAttestation.from(
+              spec,
+              new Attestation(
+                  Attestation.SSZ_SCHEMA
+                      .getAggregationBitsSchema()
+                      .ofBits(VALIDATORS_PER_ATTESTATION),
+                  data,
+                  BLSSignature.empty()));
+      attestation.setIndexedAttestation(
+          new IndexedAttestation(
+              IndexedAttestation.SSZ_SCHEMA
+                  .getAttestingIndicesSchema()
+                  .of(
+                      LongStream.range(
+                              start, Math.min(start + VALIDATORS_PER_ATTESTATION, validatorsCount))
+                          .mapToObj(UInt64::valueOf)
+                          .collect(Collectors.toList())),
+              data,
+              BLSSignature.empty()));
+      fullEpochOfVotes.add(attestation);
+    }
+    forkChoice.applyIndexedAttestations(fullEpochOfVotes);
+  }
+
+  @Benchmark
+  public boolean processHeadWithFullEpochOfVotes() {
+    return forkChoice.processHead(headSlot).join();
+  }
+}
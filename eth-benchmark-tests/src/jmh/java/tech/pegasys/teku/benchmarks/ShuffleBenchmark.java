@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.benchmarks;
 
+import java.util.List;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -22,13 +23,19 @@ import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.BeaconStateTestBuilder;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.logic.common.helpers.MiscHelpers;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingContext;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.util.config.Constants;
 
 @Fork(3)
@@ -43,10 +50,27 @@ public class ShuffleBenchmark {
   private final Spec spec = TestSpecFactory.createMainnetPhase0();
   private final MiscHelpers miscHelpers = spec.atSlot(UInt64.ZERO).miscHelpers();
 
+  // Number of candidates typically sampled when selecting a sync committee
+  private static final int SAMPLED_INDEX_COUNT = 512;
+
+  private BeaconState state;
+  private UInt64 epoch;
+
   public ShuffleBenchmark() {
     Constants.setConstants("mainnet");
   }
 
+  @Setup
+  public void setup() {
+    final BeaconStateTestBuilder stateBuilder =
+        new BeaconStateTestBuilder(new DataStructureUtil(spec)).slot(1000);
+    for (int i = 0; i < indexCount; i++) {
+      stateBuilder.activeValidator(spec.getGenesisSpecConfig().getMaxEffectiveBalance());
+    }
+    state = stateBuilder.build();
+    epoch = spec.getCurrentEpoch(state);
+  }
+
   @Benchmark
   @Warmup(iterations = 2)
   @Measurement(iterations = 5)
@@ -65,4 +89,53 @@ public class ShuffleBenchmark {
     miscHelpers.shuffleList(indexes, seed);
     bh.consume(indexes);
   }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void shufflingContextBench(Blackhole bh) {
+    final ShufflingContext context = miscHelpers.createShufflingContext(seed, indexCount);
+    for (int i = 0; i < indexCount; i++) {
+      bh.consume(context.getShuffledIndex(i));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void sampledShuffledIndexBench(Blackhole bh) {
+    for (int i = 0; i < SAMPLED_INDEX_COUNT; i++) {
+      bh.consume(miscHelpers.computeShuffledIndex(i, indexCount, seed));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void sampledShufflingContextBench(Blackhole bh) {
+    final ShufflingContext context = miscHelpers.createShufflingContext(seed, indexCount);
+    for (int i = 0; i < SAMPLED_INDEX_COUNT; i++) {
+      bh.consume(context.getShuffledIndex(i));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void proposerPerSlotBench(Blackhole bh) {
+    BeaconStateCache.getTransitionCaches(state).getBeaconProposerIndex().clear();
+    final UInt64 startSlot = spec.computeStartSlotAtEpoch(epoch);
+    for (int i = 0; i < spec.slotsPerEpoch(epoch); i++) {
+      bh.consume(spec.getBeaconProposerIndex(state, startSlot.plus(i)));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 5)
+  public void proposerLookaheadBench(Blackhole bh) {
+    BeaconStateCache.getTransitionCaches(state).getBeaconProposerIndex().clear();
+    final List<Integer> proposers = spec.getBeaconProposerIndices(state, epoch);
+    bh.consume(proposers);
+  }
 }
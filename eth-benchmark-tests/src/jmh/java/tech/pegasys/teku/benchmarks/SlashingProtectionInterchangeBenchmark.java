@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.data.SlashingProtectionExporter;
+import tech.pegasys.teku.data.SlashingProtectionImporter;
+import tech.pegasys.teku.data.signingrecord.ValidatorSigningRecord;
+import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.logging.SubCommandLogger;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Measures how long it takes to export the slashing protection records of a large number of
+ * validators to an interchange file and to import that file into a records directory which
+ * already holds a record for every validator.
+ *
+ * <p>Results depend heavily on how quickly the file system flushes to hardware storage so the
+ * benchmark should be run on the same kind of disk the validator client uses.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SlashingProtectionInterchangeBenchmark {
+  private static final int WRITE_BATCH_SIZE = 256;
+
+  @Param({"50000"})
+  private int validatorCount;
+
+  private final SubCommandLogger log =
+      new SubCommandLogger() {
+        @Override
+        public void display(final String message) {}
+      };
+
+  private Path tempDir;
+  private Path recordsDir;
+  private Path importDir;
+  private Path interchangeFile;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    final DataStructureUtil dataStructureUtil =
+        new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+    final Bytes32 genesisValidatorsRoot = dataStructureUtil.randomBytes32();
+    tempDir = Files.createTempDirectory("slashing-protection-benchmark");
+    recordsDir = tempDir.resolve("records");
+    importDir = tempDir.resolve("import");
+    interchangeFile = tempDir.resolve("interchange.json");
+
+    final SyncDataAccessor syncDataAccessor = new SyncDataAccessor();
+    final Map<Path, Bytes> batch = new LinkedHashMap<>();
+    for (int i = 0; i < validatorCount; i++) {
+      final String validator =
+          dataStructureUtil.randomPublicKey().toBytesCompressed().toUnprefixedHexString();
+      final ValidatorSigningRecord record =
+          new ValidatorSigningRecord(
+              genesisValidatorsRoot,
+              UInt64.valueOf(i),
+              UInt64.valueOf(i + 1),
+              UInt64.valueOf(i + 2));
+      batch.put(recordsDir.resolve(validator + ".yml"), record.toBytes());
+      if (batch.size() == WRITE_BATCH_SIZE || i == validatorCount - 1) {
+        syncDataAccessor.syncedWrite(batch);
+        batch.clear();
+      }
+    }
+
+    exportRecords();
+    importRecords();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(tempDir)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public void exportRecords() throws IOException {
+    final SlashingProtectionExporter exporter = new SlashingProtectionExporter(log);
+    exporter.initialise(recordsDir);
+    exporter.saveToFile(interchangeFile.toString());
+  }
+
+  @Benchmark
+  public void importRecords() throws IOException {
+    final SlashingProtectionImporter importer = new SlashingProtectionImporter(log);
+    importer.initialise(interchangeFile.toFile());
+    importer.updateLocalRecords(importDir);
+  }
+}
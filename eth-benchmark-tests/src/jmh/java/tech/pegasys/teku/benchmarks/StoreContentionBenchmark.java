@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.store.UpdatableStore.StoreTransaction;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+/**
+ * Measures how quickly gossip validation style reads can be served from the store while blocks
+ * are being imported.
+ *
+ * <p>Seven threads repeatedly read the time, checkpoints and block lookups that gossip validation
+ * performs for every message while one thread continuously commits store transactions that import
+ * a block and advance the time. Compare the {@code gossipReads} score with and without the {@code
+ * importBlock} thread to see how much commits slow readers down.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Group)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class StoreContentionBenchmark {
+  private static final int CHAIN_LENGTH = 64;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+
+  private RecentChainData recentChainData;
+  private List<SignedBlockAndState> blocks;
+  private List<Bytes32> blockRoots;
+  // Only accessed by the single import thread
+  private int nextBlockIndex;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+    storageSystem.chainUpdater().initializeGenesis();
+    blocks = storageSystem.chainBuilder().generateBlocksUpToSlot(CHAIN_LENGTH);
+    blockRoots = blocks.stream().map(SignedBlockAndState::getRoot).collect(toList());
+    recentChainData = storageSystem.recentChainData();
+  }
+
+  @Benchmark
+  @Group("importWithGossipReads")
+  @GroupThreads(7)
+  public void gossipReads(final Blackhole bh) {
+    final ReadOnlyStore store = recentChainData.getStore();
+    final Bytes32 blockRoot =
+        blockRoots.get(ThreadLocalRandom.current().nextInt(blockRoots.size()));
+    bh.consume(store.getTime());
+    bh.consume(store.getFinalizedCheckpoint());
+    bh.consume(store.getJustifiedCheckpoint());
+    bh.consume(store.containsBlock(blockRoot));
+    bh.consume(store.getBlockIfAvailable(blockRoot));
+  }
+
+  @Benchmark
+  @Group("importWithGossipReads")
+  @GroupThreads(1)
+  public void importBlock() {
+    // Blocks are re-imported once the chain is exhausted which still exercises the full commit
+    final SignedBlockAndState block = blocks.get(nextBlockIndex);
+    nextBlockIndex = (nextBlockIndex + 1) % blocks.size();
+    final StoreTransaction transaction = recentChainData.startStoreTransaction();
+    transaction.putBlockAndState(block);
+    transaction.setTime(transaction.getTime().plus(1));
+    transaction.commit().join();
+  }
+}
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.benchmarks;
 
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -29,6 +28,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -40,7 +40,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.Transition
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 public class TransitionCachesBenchmark {
 
-  private static final List<Integer> SOME_INT_LIST = List.of(1, 2, 3, 43, 4, 5);
+  private static final IntList SOME_INT_LIST = IntList.of(1, 2, 3, 43, 4, 5);
 
   @Param({"1048576"})
   int validatorsCount;
@@ -94,8 +94,8 @@ public class TransitionCachesBenchmark {
     if (counter >= 10064) {
       counter = 10000;
     }
-    Cache<TekuPair<UInt64, UInt64>, List<Integer>> cache = fullCache.getBeaconCommittee();
-    List<Integer> res =
+    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
+    IntList res =
         cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
     bh.consume(res);
   }
@@ -106,8 +106,8 @@ public class TransitionCachesBenchmark {
       counter = 10064;
     }
     counter++;
-    Cache<TekuPair<UInt64, UInt64>, List<Integer>> cache = fullCache.getBeaconCommittee();
-    List<Integer> res =
+    Cache<TekuPair<UInt64, UInt64>, IntList> cache = fullCache.getBeaconCommittee();
+    IntList res =
         cache.get(TekuPair.of(UInt64.valueOf(counter), UInt64.ZERO), __ -> SOME_INT_LIST);
     bh.consume(res);
   }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.api.schema.Attestation;
+import tech.pegasys.teku.api.schema.AttestationData;
+import tech.pegasys.teku.api.schema.BeaconBlock;
+import tech.pegasys.teku.api.schema.SszRequestSchemas;
+import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares the SSZ and JSON encodings used by the hot validator REST endpoints. Each benchmark
+ * performs the full round trip between the beacon node's internal type and the validator client's
+ * schema object. Run with {@code -prof gc} to compare allocation as well as latency.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidatorApiEncodingBenchmark {
+
+  private final Spec spec = TestSpecFactory.createMainnetPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(0, spec);
+  private final JsonProvider jsonProvider = new JsonProvider();
+
+  private final tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock block =
+      dataStructureUtil.randomBeaconBlock(100, Bytes32.random(), true);
+  private final tech.pegasys.teku.spec.datastructures.operations.AttestationData attestationData =
+      dataStructureUtil.randomAttestationData();
+  private final Attestation attestation = new Attestation(dataStructureUtil.randomAttestation());
+
+  @Benchmark
+  public void produceBlockSsz(Blackhole bh) {
+    bh.consume(new BeaconBlock(spec.deserializeBeaconBlock(block.sszSerialize())));
+  }
+
+  @Benchmark
+  public void produceBlockJson(Blackhole bh) throws JsonProcessingException {
+    final String json = jsonProvider.objectToJSON(new BeaconBlock(block));
+    bh.consume(jsonProvider.jsonToObject(json, BeaconBlock.class));
+  }
+
+  @Benchmark
+  public void attestationDataSsz(Blackhole bh) {
+    bh.consume(
+        new AttestationData(
+            tech.pegasys.teku.spec.datastructures.operations.AttestationData.SSZ_SCHEMA
+                .sszDeserialize(attestationData.sszSerialize())));
+  }
+
+  @Benchmark
+  public void attestationDataJson(Blackhole bh) throws JsonProcessingException {
+    final String json = jsonProvider.objectToJSON(new AttestationData(attestationData));
+    bh.consume(jsonProvider.jsonToObject(json, AttestationData.class));
+  }
+
+  @Benchmark
+  public void publishAttestationSsz(Blackhole bh) {
+    bh.consume(
+        SszRequestSchemas.ATTESTATIONS_SCHEMA.sszDeserialize(
+            SszRequestSchemas.ATTESTATIONS_SCHEMA
+                .createFromElements(List.of(attestation.asInternalAttestation()))
+                .sszSerialize()));
+  }
+
+  @Benchmark
+  public void publishAttestationJson(Blackhole bh) throws JsonProcessingException {
+    final String json = jsonProvider.objectToJSON(List.of(attestation));
+    for (Attestation received : jsonProvider.jsonToObject(json, Attestation[].class)) {
+      bh.consume(received.asInternalAttestation());
+    }
+  }
+}
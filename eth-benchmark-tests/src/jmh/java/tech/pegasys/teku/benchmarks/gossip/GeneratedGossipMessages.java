@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.gossip;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.core.AggregateGenerator;
+import tech.pegasys.teku.core.ChainBuilder;
+import tech.pegasys.teku.core.ChainBuilder.BlockOptions;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.interop.MockStartValidatorKeyPairFactory;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
+import tech.pegasys.teku.spec.datastructures.operations.SignedAggregateAndProof;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
+import tech.pegasys.teku.spec.logic.common.util.SyncCommitteeUtil;
+
+/**
+ * The gossip traffic of a single slot on a chain that has only its genesis block, already encoded
+ * the way it arrives off the wire.
+ *
+ * <p>Slot 0 carries an unaggregated attestation from every validator and an aggregate for every
+ * committee. Slot 1 carries the block including those aggregates and a sync committee message from
+ * every sync committee member on each of its subnets.
+ */
+public class GeneratedGossipMessages {
+  private static final UInt64 BLOCK_SLOT = UInt64.ONE;
+
+  private final BeaconState genesisState;
+  private final Map<GossipMessageType, List<GossipMessage>> messages;
+
+  private GeneratedGossipMessages(
+      final BeaconState genesisState, final Map<GossipMessageType, List<GossipMessage>> messages) {
+    this.genesisState = genesisState;
+    this.messages = messages;
+  }
+
+  public static GeneratedGossipMessages generate(
+      final Spec spec, final GossipEncoding gossipEncoding, final int validatorCount) {
+    final List<BLSKeyPair> validatorKeys =
+        new MockStartValidatorKeyPairFactory().generateKeyPairs(0, validatorCount);
+    final ChainBuilder chainBuilder = ChainBuilder.create(spec, validatorKeys);
+    final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+    final BeaconState genesisState = genesis.getState();
+    final Map<GossipMessageType, List<GossipMessage>> messages =
+        new EnumMap<>(GossipMessageType.class);
+
+    final List<Attestation> attestations =
+        chainBuilder.streamValidAttestationsWithTargetBlock(genesis).collect(toList());
+    messages.put(
+        GossipMessageType.ATTESTATION,
+        attestations.stream()
+            .map(
+                attestation ->
+                    new GossipMessage(
+                        spec.computeSubnetForAttestation(genesisState, attestation),
+                        gossipEncoding.encode(attestation)))
+            .collect(toList()));
+
+    final AggregateGenerator aggregateGenerator = new AggregateGenerator(spec, validatorKeys);
+    final List<SignedAggregateAndProof> aggregates =
+        attestations.stream()
+            .map(attestation -> attestation.getData().getIndex())
+            .distinct()
+            .map(
+                committeeIndex ->
+                    aggregateGenerator
+                        .generator()
+                        .blockAndState(genesis)
+                        .committeeIndex(committeeIndex)
+                        .generate())
+            .collect(toList());
+    messages.put(
+        GossipMessageType.AGGREGATE,
+        aggregates.stream()
+            .map(aggregate -> new GossipMessage(0, gossipEncoding.encode(aggregate)))
+            .collect(toList()));
+
+    messages.put(
+        GossipMessageType.SYNC_COMMITTEE_MESSAGE,
+        createSyncCommitteeMessages(spec, gossipEncoding, chainBuilder, genesis));
+
+    final BlockOptions blockOptions = BlockOptions.create();
+    aggregates.forEach(
+        aggregate -> blockOptions.addAttestation(aggregate.getMessage().getAggregate()));
+    final SignedBlockAndState block = chainBuilder.generateBlockAtSlot(BLOCK_SLOT, blockOptions);
+    messages.put(
+        GossipMessageType.BLOCK,
+        List.of(new GossipMessage(0, gossipEncoding.encode(block.getBlock()))));
+
+    return new GeneratedGossipMessages(genesisState, messages);
+  }
+
+  private static List<GossipMessage> createSyncCommitteeMessages(
+      final Spec spec,
+      final GossipEncoding gossipEncoding,
+      final ChainBuilder chainBuilder,
+      final SignedBlockAndState genesis) {
+    final BeaconStateAltair state = BeaconStateAltair.required(genesis.getState());
+    final SyncCommitteeUtil syncCommitteeUtil = spec.getSyncCommitteeUtilRequired(BLOCK_SLOT);
+    final Map<UInt64, SyncSubcommitteeAssignments> assignments =
+        syncCommitteeUtil.getSyncSubcommittees(
+            state, syncCommitteeUtil.getEpochForDutiesAtSlot(BLOCK_SLOT));
+
+    final List<GossipMessage> messages = new ArrayList<>();
+    assignments.forEach(
+        (validatorIndex, assignment) -> {
+          final SyncCommitteeMessage message =
+              chainBuilder.createSyncCommitteeMessage(
+                  BLOCK_SLOT,
+                  genesis.getRoot(),
+                  state,
+                  chainBuilder.getValidatorKeys().get(validatorIndex.intValue()).getPublicKey());
+          final Bytes payload = gossipEncoding.encode(message);
+          assignment
+              .getAssignedSubcommittees()
+              .forEach(subnetId -> messages.add(new GossipMessage(subnetId, payload)));
+        });
+    return messages;
+  }
+
+  public BeaconState getGenesisState() {
+    return genesisState;
+  }
+
+  /** The start of the slot the gossip was published in, as seen by the receiving node. */
+  public UInt64 getCurrentTime(final Spec spec) {
+    return spec.getSlotStartTime(BLOCK_SLOT, genesisState.getGenesis_time());
+  }
+
+  public List<GossipMessage> getMessages(final GossipMessageType type) {
+    return messages.get(type);
+  }
+
+  public static class GossipMessage {
+    private final int subnetId;
+    private final Bytes payload;
+
+    private GossipMessage(final int subnetId, final Bytes payload) {
+      this.subnetId = subnetId;
+      this.payload = payload;
+    }
+
+    public int getSubnetId() {
+      return subnetId;
+    }
+
+    public Bytes getPayload() {
+      return payload;
+    }
+  }
+}
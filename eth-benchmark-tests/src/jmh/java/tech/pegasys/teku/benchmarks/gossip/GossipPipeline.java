@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.gossip;
+
+import static org.mockito.Mockito.mock;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import io.libp2p.core.pubsub.ValidationResult;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import tech.pegasys.teku.benchmarks.gossip.GeneratedGossipMessages.GossipMessage;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
+import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.AggregateAttestationTopicHandler;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SingleAttestationTopicHandler;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.constants.NetworkConstants;
+import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.SyncCommitteeMessage;
+import tech.pegasys.teku.spec.datastructures.operations.versions.altair.ValidateableSyncCommitteeMessage;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.ssz.type.Bytes4;
+import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
+import tech.pegasys.teku.statetransition.attestation.AttestationManager;
+import tech.pegasys.teku.statetransition.block.BlockImportNotifications;
+import tech.pegasys.teku.statetransition.block.BlockImporter;
+import tech.pegasys.teku.statetransition.block.BlockManager;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessagePool;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessageValidator;
+import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeStateUtils;
+import tech.pegasys.teku.statetransition.util.FutureItems;
+import tech.pegasys.teku.statetransition.util.PendingPool;
+import tech.pegasys.teku.statetransition.validation.AggregateAttestationValidator;
+import tech.pegasys.teku.statetransition.validation.AttestationValidator;
+import tech.pegasys.teku.statetransition.validation.BlockValidator;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
+import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.util.config.Constants;
+import tech.pegasys.teku.weaksubjectivity.WeakSubjectivityFactory;
+
+/**
+ * The gossip receive path from the topic handler down to the operation pools and fork choice, wired
+ * the same way as {@code BeaconChainController} but over in-memory storage and running every step
+ * on the calling thread.
+ *
+ * <p>Gossip validation remembers what it has already seen, so a new pipeline is needed for each
+ * replay of the same messages.
+ */
+class GossipPipeline {
+  private final List<Eth2TopicHandler<?>> attestationHandlers;
+  private final Eth2TopicHandler<?> aggregateHandler;
+  private final Eth2TopicHandler<?> blockHandler;
+  private final List<Eth2TopicHandler<?>> syncCommitteeMessageHandlers;
+
+  GossipPipeline(
+      final Spec spec,
+      final GeneratedGossipMessages generatedMessages,
+      final GossipEncoding gossipEncoding) {
+    final UInt64 currentTime = generatedMessages.getCurrentTime(spec);
+    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(spec);
+    recentChainData.initializeFromGenesis(generatedMessages.getGenesisState(), currentTime);
+    final Bytes4 forkDigest =
+        recentChainData.getCurrentForkInfo().orElseThrow().getForkDigest(spec);
+
+    final SignatureVerificationService signatureVerificationService =
+        SignatureVerificationService.createSimple();
+    final ForkChoice forkChoice = ForkChoice.create(spec, new InlineEventThread(), recentChainData);
+
+    final AttestationValidator attestationValidator =
+        new AttestationValidator(spec, recentChainData, signatureVerificationService);
+    final AttestationManager attestationManager =
+        AttestationManager.create(
+            PendingPool.createForAttestations(spec),
+            FutureItems.create(
+                ValidateableAttestation::getEarliestSlotForForkChoiceProcessing, UInt64.valueOf(3)),
+            forkChoice,
+            new AggregatingAttestationPool(spec, new StubMetricsSystem()),
+            attestationValidator,
+            new AggregateAttestationValidator(recentChainData, attestationValidator, spec),
+            signatureVerificationService);
+
+    final BlockManager blockManager =
+        BlockManager.create(
+            PendingPool.createForBlocks(spec),
+            FutureItems.create(SignedBeaconBlock::getSlot),
+            recentChainData,
+            new BlockImporter(
+                mock(BlockImportNotifications.class),
+                recentChainData,
+                forkChoice,
+                WeakSubjectivityFactory.lenientValidator()),
+            new BlockValidator(spec, recentChainData));
+
+    final SyncCommitteeMessagePool syncCommitteeMessagePool =
+        new SyncCommitteeMessagePool(
+            spec,
+            new SyncCommitteeMessageValidator(
+                spec,
+                recentChainData,
+                new SyncCommitteeStateUtils(spec, recentChainData),
+                signatureVerificationService,
+                StubTimeProvider.withTimeInSeconds(currentTime)));
+
+    attestationHandlers =
+        IntStream.range(0, Constants.ATTESTATION_SUBNET_COUNT)
+            .mapToObj(
+                subnetId ->
+                    SingleAttestationTopicHandler.createHandler(
+                        recentChainData,
+                        SYNC_RUNNER,
+                        attestationManager::addAttestation,
+                        gossipEncoding,
+                        forkDigest,
+                        GossipTopicName.getAttestationSubnetTopicName(subnetId),
+                        subnetId))
+            .collect(Collectors.toList());
+    aggregateHandler =
+        AggregateAttestationTopicHandler.createHandler(
+            recentChainData,
+            SYNC_RUNNER,
+            attestationManager::addAggregate,
+            gossipEncoding,
+            forkDigest);
+    blockHandler =
+        new Eth2TopicHandler<>(
+            recentChainData,
+            SYNC_RUNNER,
+            blockManager::validateAndImportBlock,
+            gossipEncoding,
+            forkDigest,
+            GossipTopicName.BEACON_BLOCK,
+            spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema());
+
+    final SchemaDefinitionsAltair schemaDefinitions =
+        SchemaDefinitionsAltair.required(spec.getGenesisSchemaDefinitions());
+    syncCommitteeMessageHandlers =
+        IntStream.range(0, NetworkConstants.SYNC_COMMITTEE_SUBNET_COUNT)
+            .mapToObj(
+                subnetId -> {
+                  final OperationProcessor<SyncCommitteeMessage> convertingProcessor =
+                      message ->
+                          syncCommitteeMessagePool.add(
+                              ValidateableSyncCommitteeMessage.fromNetwork(message, subnetId));
+                  return new Eth2TopicHandler<>(
+                      recentChainData,
+                      SYNC_RUNNER,
+                      convertingProcessor,
+                      gossipEncoding,
+                      forkDigest,
+                      GossipTopicName.getSyncCommitteeSubnetTopicName(subnetId),
+                      schemaDefinitions.getSyncCommitteeMessageSchema());
+                })
+            .collect(Collectors.toList());
+  }
+
+  SafeFuture<ValidationResult> handle(final GossipMessageType type, final GossipMessage message) {
+    final Eth2TopicHandler<?> handler = getHandler(type, message.getSubnetId());
+    return handler.handleMessage(handler.prepareMessage(message.getPayload()));
+  }
+
+  private Eth2TopicHandler<?> getHandler(final GossipMessageType type, final int subnetId) {
+    switch (type) {
+      case ATTESTATION:
+        return attestationHandlers.get(subnetId);
+      case AGGREGATE:
+        return aggregateHandler;
+      case BLOCK:
+        return blockHandler;
+      case SYNC_COMMITTEE_MESSAGE:
+        return syncCommitteeMessageHandlers.get(subnetId);
+      default:
+        throw new IllegalArgumentException("Unsupported gossip message type " + type);
+    }
+  }
+}
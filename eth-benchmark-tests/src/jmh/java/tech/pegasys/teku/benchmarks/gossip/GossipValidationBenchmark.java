@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.benchmarks.gossip;
+
+import io.libp2p.core.pubsub.ValidationResult;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import tech.pegasys.teku.benchmarks.gossip.GeneratedGossipMessages.GossipMessage;
+import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+
+/**
+ * Replays one slot of generated mainnet gossip through the real receive path: snappy
+ * decompression, SSZ deserialization, gossip validation including signature checks, and finally
+ * insertion into the attestation pool, fork choice, block import or sync committee message pool.
+ *
+ * <p>The primary score is slots replayed per second and the {@code messages} counter gives
+ * messages per second. Per message p50/p99 latency and allocated bytes are printed at the end of
+ * each trial; run with {@code -prof gc} for JMH's own allocation rate figures.
+ *
+ * <p>Everything runs on the benchmark thread so the results can be profiled directly, e.g. with
+ * {@code -prof async:output=flamegraph}. The fork enables {@code DebugNonSafepoints} so sampling
+ * profilers attribute time to the right inlined frames.
+ */
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-XX:+UnlockDiagnosticVMOptions", "-XX:+DebugNonSafepoints"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class GossipValidationBenchmark {
+  private static final GossipEncoding GOSSIP_ENCODING = GossipEncoding.SSZ_SNAPPY;
+
+  @Param({"ATTESTATION", "AGGREGATE", "BLOCK", "SYNC_COMMITTEE_MESSAGE"})
+  GossipMessageType messageType;
+
+  @Param({"16384"})
+  int validatorsCount;
+
+  private final Spec spec = TestSpecFactory.createMainnetAltair();
+  private final com.sun.management.ThreadMXBean threadMXBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private GeneratedGossipMessages generatedMessages;
+  private List<GossipMessage> messages;
+  private MessageStats stats;
+  private boolean recordingStats;
+  private GossipPipeline pipeline;
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class MessageCounter {
+    public long messages;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      messages = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void generateMessages() {
+    generatedMessages = GeneratedGossipMessages.generate(spec, GOSSIP_ENCODING, validatorsCount);
+    messages = generatedMessages.getMessages(messageType);
+    stats = new MessageStats();
+    System.out.printf("Generated %d %s gossip messages%n", messages.size(), messageType);
+  }
+
+  @Setup(Level.Iteration)
+  public void startIteration(final IterationParams iterationParams) {
+    // Only report latency and allocation for measured iterations, not while warming up
+    recordingStats = iterationParams.getType() == IterationType.MEASUREMENT;
+  }
+
+  @Setup(Level.Invocation)
+  public void createPipeline() {
+    pipeline = new GossipPipeline(spec, generatedMessages, GOSSIP_ENCODING);
+  }
+
+  @Benchmark
+  public void replaySlot(final MessageCounter counter) {
+    final long threadId = Thread.currentThread().getId();
+    for (GossipMessage message : messages) {
+      final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      final long start = System.nanoTime();
+      final ValidationResult result = pipeline.handle(messageType, message).join();
+      final long latency = System.nanoTime() - start;
+      if (recordingStats) {
+        stats.record(latency, threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+      }
+      if (result != ValidationResult.Valid) {
+        throw new IllegalStateException(messageType + " gossip was not accepted: " + result);
+      }
+    }
+    counter.messages += messages.size();
+  }
+
+  @TearDown(Level.Trial)
+  public void printStats() {
+    System.out.println();
+    System.out.println(messageType + " " + stats);
+  }
+
+  private static class MessageStats {
+    private long[] latencies = new long[1024];
+    private long totalAllocatedBytes;
+    private int count;
+
+    void record(final long latencyNanos, final long allocatedBytes) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      totalAllocatedBytes += allocatedBytes;
+    }
+
+    private double percentileMicros(final long[] sorted, final double percentile) {
+      final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(index, 0)] / 1000d;
+    }
+
+    @Override
+    public String toString() {
+      if (count == 0) {
+        return "no messages processed";
+      }
+      final long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      return String.format(
+          "messages: %d, p50: %.1fus, p99: %.1fus, max: %.1fus, allocated: %d bytes/message",
+          count,
+          percentileMicros(sorted, 0.5),
+          percentileMicros(sorted, 0.99),
+          sorted[count - 1] / 1000d,
+          totalAllocatedBytes / count);
+    }
+  }
+}
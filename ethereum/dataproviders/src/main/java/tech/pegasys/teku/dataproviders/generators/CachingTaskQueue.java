@@ -21,16 +21,19 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager.TrackedStateCache;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.ssz.tree.TreeNode;
 
 public class CachingTaskQueue<K, V> {
 
@@ -44,6 +47,7 @@ public class CachingTaskQueue<K, V> {
   private final Queue<CacheableTask<K, V>> queuedTasks = new ConcurrentLinkedQueue<>();
 
   private final Map<K, V> cache;
+  private final TrackedStateCache<K, V> memoryTracker;
   private final AsyncRunner asyncRunner;
   private final MetricsSystem metricsSystem;
   private final String metricsPrefix;
@@ -54,12 +58,17 @@ public class CachingTaskQueue<K, V> {
       final MetricsSystem metricsSystem,
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
-      final int maxCacheSize) {
+      final int maxCacheSize,
+      final StateCacheMemoryManager memoryManager,
+      final Function<V, TreeNode> getBackingNode) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
     this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.memoryTracker =
+        memoryManager.registerCache(
+            metricsPrefix, getBackingNode, cache::containsKey, cache::remove);
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -77,13 +86,17 @@ public class CachingTaskQueue<K, V> {
       final AsyncRunner asyncRunner,
       final MetricsSystem metricsSystem,
       final String metricsPrefix,
-      final int maxCacheSize) {
+      final int maxCacheSize,
+      final StateCacheMemoryManager memoryManager,
+      final Function<V, TreeNode> getBackingNode) {
     return new CachingTaskQueue<>(
         asyncRunner,
         metricsSystem,
         metricsPrefix,
         () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
-        maxCacheSize);
+        maxCacheSize,
+        memoryManager,
+        getBackingNode);
   }
 
   public void startMetrics() {
@@ -114,8 +127,10 @@ public class CachingTaskQueue<K, V> {
     final V cachedResult = cache.get(task.getKey());
     if (cachedResult != null) {
       cachedTaskCounter.inc();
+      memoryTracker.onHit(task.getKey());
       return SafeFuture.completedFuture(Optional.of(cachedResult));
     }
+    memoryTracker.onMiss();
 
     // Check if the task is already scheduled
     final SafeFuture<Optional<V>> currentPendingTask = pendingTasks.get(task.getKey());
@@ -153,7 +168,13 @@ public class CachingTaskQueue<K, V> {
   }
 
   public Optional<V> getIfAvailable(final K key) {
-    return Optional.ofNullable(cache.get(key));
+    final Optional<V> result = Optional.ofNullable(cache.get(key));
+    if (result.isPresent()) {
+      memoryTracker.onHit(key);
+    } else {
+      memoryTracker.onMiss();
+    }
+    return result;
   }
 
   private void queueTask(final CacheableTask<K, V> task) {
@@ -209,10 +230,12 @@ public class CachingTaskQueue<K, V> {
 
   public void cache(final K key, final V value) {
     cache.put(key, value);
+    memoryTracker.onCached(key, value);
   }
 
   public void cacheAll(final Map<K, V> values) {
     cache.putAll(values);
+    values.forEach(memoryTracker::onCached);
   }
 
   public void remove(final K key) {
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+import tech.pegasys.teku.ssz.tree.TreeNodeSizeEstimator;
+
+/**
+ * Bounds the memory retained by cached states using {@link TreeNodeSizeEstimator}.
+ *
+ * <p>Each newly cached state is estimated once, asynchronously, counting only the nodes which
+ * differ from the previously estimated state. Walking just the differing paths is cheap and leaves
+ * nothing behind. States the caches have evicted on their own are dropped and their estimates
+ * subtracted at the same time.
+ *
+ * <p>Once the total exceeds the budget the trees of all cached states are walked, from the most to
+ * the least recently used one, and states are evicted until the total is back down to {@link
+ * #TARGET_RETAINED_PERCENTAGE} of the budget. The headroom means the full walk isn't repeated for
+ * every new state. The nodes counted during that walk are only held until it completes.
+ *
+ * <p>States are only weakly referenced.
+ */
+class MemoryBoundedStateCacheManager implements StateCacheMemoryManager {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int TARGET_RETAINED_PERCENTAGE = 80;
+
+  private final Map<String, ManagedCache<?, ?>> caches = new ConcurrentHashMap<>();
+  private final AtomicLong accessCounter = new AtomicLong();
+  private final AtomicBoolean checkScheduled = new AtomicBoolean(false);
+  private final Queue<CachedState<?>> unestimatedStates = new ConcurrentLinkedQueue<>();
+
+  private final AsyncRunner asyncRunner;
+  private final MetricsSystem metricsSystem;
+  private final LabelledMetric<Counter> requestCounter;
+  private final long maxRetainedBytes;
+  private final long targetRetainedBytes;
+
+  private volatile long retainedBytes = 0;
+  // The state new states are compared with when estimating them, guarded by this
+  private CachedState<?> lastEstimatedState;
+
+  MemoryBoundedStateCacheManager(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final long maxRetainedBytes) {
+    this.asyncRunner = asyncRunner;
+    this.metricsSystem = metricsSystem;
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.targetRetainedBytes = maxRetainedBytes * TARGET_RETAINED_PERCENTAGE / 100;
+
+    requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            "state_cache_requests_total",
+            "Total number of state cache lookups",
+            "cache",
+            "result");
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        "state_cache_retained_bytes",
+        "Estimated memory retained by all cached states",
+        () -> retainedBytes);
+    metricsSystem.createGauge(
+        TekuMetricCategory.STORAGE,
+        "state_cache_max_retained_bytes",
+        "Maximum memory cached states are allowed to retain",
+        () -> maxRetainedBytes);
+  }
+
+  @Override
+  public <K, V> TrackedStateCache<K, V> registerCache(
+      final String name,
+      final Function<V, TreeNode> getBackingNode,
+      final Predicate<K> isCached,
+      final Consumer<K> evictor) {
+    final ManagedCache<K, V> cache = new ManagedCache<>(name, getBackingNode, isCached, evictor);
+    if (caches.put(name, cache) == null) {
+      // Gauges can only be created once so read the current registration for the name
+      metricsSystem.createGauge(
+          TekuMetricCategory.STORAGE,
+          name + "_retained_bytes",
+          "Estimated memory retained by states in the " + name + " cache",
+          () -> getRetainedBytes(name));
+    }
+    return cache;
+  }
+
+  @VisibleForTesting
+  long getRetainedBytes() {
+    return retainedBytes;
+  }
+
+  @VisibleForTesting
+  long getRetainedBytes(final String cacheName) {
+    final ManagedCache<?, ?> cache = caches.get(cacheName);
+    return cache != null ? cache.retainedBytes : 0;
+  }
+
+  private void scheduleCheck() {
+    if (checkScheduled.compareAndSet(false, true)) {
+      asyncRunner
+          .runAsync(
+              () -> {
+                checkScheduled.set(false);
+                estimateNewStates();
+              })
+          .finish(error -> LOG.error("Failed to enforce state cache memory limit", error));
+    }
+  }
+
+  private synchronized void estimateNewStates() {
+    // Subtract the states the caches have evicted on their own
+    caches.values().forEach(ManagedCache::removeUncachedStates);
+    CachedState<?> state;
+    while ((state = unestimatedStates.poll()) != null) {
+      final TreeNode root = state.getRoot();
+      if (root == null || !state.isTracked()) {
+        // Already garbage collected or evicted
+        continue;
+      }
+      state.estimatedBytes =
+          TreeNodeSizeEstimator.estimateAdditionalSize(root, getLastEstimatedRoot());
+      lastEstimatedState = state;
+    }
+    updateRetainedBytes();
+    if (retainedBytes > maxRetainedBytes) {
+      enforceLimit();
+    }
+  }
+
+  private TreeNode getLastEstimatedRoot() {
+    if (lastEstimatedState == null || !lastEstimatedState.isTracked()) {
+      return null;
+    }
+    return lastEstimatedState.getRoot();
+  }
+
+  @VisibleForTesting
+  synchronized void enforceLimit() {
+    // Every cached state is re-estimated below
+    unestimatedStates.clear();
+
+    final List<CachedState<?>> states =
+        caches.values().stream()
+            .<CachedState<?>>flatMap(ManagedCache::streamCachedStates)
+            .sorted(Comparator.comparingLong(CachedState<?>::getLastAccess).reversed())
+            .collect(Collectors.toList());
+
+    // Only needed for this pass, so the counted nodes aren't kept reachable afterwards
+    final TreeNodeSizeEstimator estimator = new TreeNodeSizeEstimator();
+    long totalRetainedBytes = 0;
+    int keptCount = 0;
+    int evictedCount = 0;
+    boolean limitReached = false;
+    lastEstimatedState = null;
+    for (CachedState<?> state : states) {
+      final TreeNode root = state.getRoot();
+      if (root == null) {
+        // Already garbage collected
+        continue;
+      }
+      if (!limitReached) {
+        final long stateSize = estimator.add(root);
+        // Always keep the most recently used state, even if it alone exceeds the budget
+        if (keptCount == 0 || totalRetainedBytes + stateSize <= targetRetainedBytes) {
+          state.estimatedBytes = stateSize;
+          totalRetainedBytes += stateSize;
+          if (keptCount == 0) {
+            lastEstimatedState = state;
+          }
+          keptCount++;
+          continue;
+        }
+        // All less recently used states are evicted as well so there's no need to walk them
+        limitReached = true;
+      }
+      state.evict();
+      evictedCount++;
+    }
+
+    updateRetainedBytes();
+    if (evictedCount > 0) {
+      LOG.debug(
+          "Evicted {} cached states to stay within the {} bytes state cache limit",
+          evictedCount,
+          maxRetainedBytes);
+    }
+  }
+
+  private void updateRetainedBytes() {
+    long totalRetainedBytes = 0;
+    for (ManagedCache<?, ?> cache : caches.values()) {
+      totalRetainedBytes += cache.updateRetainedBytes();
+    }
+    retainedBytes = totalRetainedBytes;
+  }
+
+  private class ManagedCache<K, V> implements TrackedStateCache<K, V> {
+    private final Map<K, CachedState<K>> states = new ConcurrentHashMap<>();
+    private final Function<V, TreeNode> getBackingNode;
+    private final Predicate<K> isCached;
+    private final Consumer<K> evictor;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private volatile long retainedBytes = 0;
+
+    private ManagedCache(
+        final String name,
+        final Function<V, TreeNode> getBackingNode,
+        final Predicate<K> isCached,
+        final Consumer<K> evictor) {
+      this.getBackingNode = getBackingNode;
+      this.isCached = isCached;
+      this.evictor = evictor;
+      this.hitCounter = requestCounter.labels(name, "hit");
+      this.missCounter = requestCounter.labels(name, "miss");
+    }
+
+    @Override
+    public void onCached(final K key, final V value) {
+      final TreeNode root = getBackingNode.apply(value);
+      final CachedState<K> state =
+          new CachedState<>(this, key, root, accessCounter.incrementAndGet());
+      states.put(key, state);
+      unestimatedStates.add(state);
+      scheduleCheck();
+    }
+
+    @Override
+    public void onHit(final K key) {
+      hitCounter.inc();
+      final CachedState<K> state = states.get(key);
+      if (state != null) {
+        state.lastAccess = accessCounter.incrementAndGet();
+      }
+    }
+
+    @Override
+    public void onMiss() {
+      missCounter.inc();
+    }
+
+    private void removeUncachedStates() {
+      states.values().removeIf(state -> state.getRoot() == null || !isCached.test(state.key));
+    }
+
+    private Stream<CachedState<K>> streamCachedStates() {
+      // Drop the states the cache has evicted on its own
+      removeUncachedStates();
+      return states.values().stream();
+    }
+
+    /** Sums the estimates of the states still in the cache, so evicted states are subtracted */
+    private long updateRetainedBytes() {
+      long total = 0;
+      for (CachedState<K> state : states.values()) {
+        total += state.estimatedBytes;
+      }
+      retainedBytes = total;
+      return total;
+    }
+
+    private void evict(final CachedState<K> state) {
+      states.remove(state.key, state);
+      evictor.accept(state.key);
+    }
+  }
+
+  private static class CachedState<K> {
+    private final ManagedCache<K, ?> cache;
+    private final K key;
+    private final WeakReference<TreeNode> root;
+    private volatile long lastAccess;
+    // Zero until the state has been estimated, guarded by the manager
+    private long estimatedBytes;
+
+    private CachedState(
+        final ManagedCache<K, ?> cache, final K key, final TreeNode root, final long lastAccess) {
+      this.cache = cache;
+      this.key = key;
+      this.root = new WeakReference<>(root);
+      this.lastAccess = lastAccess;
+    }
+
+    private TreeNode getRoot() {
+      return root.get();
+    }
+
+    private long getLastAccess() {
+      return lastAccess;
+    }
+
+    private boolean isTracked() {
+      return cache.states.get(key) == this;
+    }
+
+    private void evict() {
+      cache.evict(this);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+
+/**
+ * Bounds the memory retained by all the state caches of the node with a single byte budget.
+ *
+ * <p>States share most of their subtrees so the number of cached states says little about the
+ * memory they actually use. Caches register with the manager and report the states they cache and
+ * are accessed for, the manager then evicts the least recently used states across all the caches
+ * whenever their combined retained size exceeds the budget.
+ */
+public interface StateCacheMemoryManager {
+
+  StateCacheMemoryManager DISABLED =
+      new StateCacheMemoryManager() {
+        @Override
+        public <K, V> TrackedStateCache<K, V> registerCache(
+            final String name,
+            final Function<V, TreeNode> getBackingNode,
+            final Predicate<K> isCached,
+            final Consumer<K> evictor) {
+          return TrackedStateCache.noop();
+        }
+      };
+
+  static StateCacheMemoryManager create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final long maxRetainedBytes) {
+    return maxRetainedBytes > 0
+        ? new MemoryBoundedStateCacheManager(asyncRunner, metricsSystem, maxRetainedBytes)
+        : DISABLED;
+  }
+
+  /**
+   * Registers a state cache. Registering a cache with the same name again replaces the previous
+   * registration.
+   *
+   * @param name the unique cache name, used as the metrics prefix
+   * @param getBackingNode returns the root of the state tree for a cached value
+   * @param isCached returns whether the key is still held by the cache. Entries evicted by the
+   *     cache itself are dropped by the manager the next time a state is cached
+   * @param evictor removes the key from the cache
+   * @return the tracker the cache reports its updates and lookups to
+   */
+  <K, V> TrackedStateCache<K, V> registerCache(
+      String name,
+      Function<V, TreeNode> getBackingNode,
+      Predicate<K> isCached,
+      Consumer<K> evictor);
+
+  interface TrackedStateCache<K, V> {
+
+    @SuppressWarnings("unchecked")
+    static <K, V> TrackedStateCache<K, V> noop() {
+      return (TrackedStateCache<K, V>) NoOpTrackedStateCache.INSTANCE;
+    }
+
+    void onCached(K key, V value);
+
+    void onHit(K key);
+
+    void onMiss();
+  }
+
+  class NoOpTrackedStateCache implements TrackedStateCache<Object, Object> {
+    private static final NoOpTrackedStateCache INSTANCE = new NoOpTrackedStateCache();
+
+    private NoOpTrackedStateCache() {}
+
+    @Override
+    public void onCached(final Object key, final Object value) {}
+
+    @Override
+    public void onHit(final Object key) {}
+
+    @Override
+    public void onMiss() {}
+  }
+}
@@ -26,6 +26,7 @@ import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.ssz.tree.LeafNode;
 
 class CachingTaskQueueTest {
   private static final int MAX_CONCURRENT_TASKS = 2;
@@ -35,7 +36,13 @@ class CachingTaskQueueTest {
 
   private final CachingTaskQueue<Integer, String> taskQueue =
       new CachingTaskQueue<>(
-          SYNC_RUNNER, metricsSystem, METRICS_PREFIX, () -> MAX_CONCURRENT_TASKS, MAX_CACHE_SIZE);
+          SYNC_RUNNER,
+          metricsSystem,
+          METRICS_PREFIX,
+          () -> MAX_CONCURRENT_TASKS,
+          MAX_CACHE_SIZE,
+          StateCacheMemoryManager.DISABLED,
+          value -> LeafNode.EMPTY_LEAF);
 
   @BeforeEach
   void setUp() {
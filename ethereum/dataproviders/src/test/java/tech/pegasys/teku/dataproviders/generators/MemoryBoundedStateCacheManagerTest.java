@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.dataproviders.generators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager.TrackedStateCache;
+import tech.pegasys.teku.infrastructure.metrics.StubCounter;
+import tech.pegasys.teku.infrastructure.metrics.StubGauge;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.ssz.tree.LeafNode;
+import tech.pegasys.teku.ssz.tree.TreeNode;
+import tech.pegasys.teku.ssz.tree.TreeNodeSizeEstimator;
+import tech.pegasys.teku.ssz.tree.TreeUtil;
+
+class MemoryBoundedStateCacheManagerTest {
+  private static final long TREE_SIZE = new TreeNodeSizeEstimator().add(createTree(0));
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final Map<String, TreeNode> cache1 = new HashMap<>();
+  private final Map<String, TreeNode> cache2 = new HashMap<>();
+
+  @Test
+  void shouldEvictLeastRecentlyUsedStatesWhenLimitExceeded() {
+    // Evicts down to 2 states
+    final MemoryBoundedStateCacheManager manager = createManager(5 * TREE_SIZE / 2);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    cache(tracker, cache1, "a", createTree(1));
+    cache(tracker, cache1, "b", createTree(2));
+    tracker.onHit("a");
+    cache(tracker, cache1, "c", createTree(3));
+
+    assertThat(cache1).containsOnlyKeys("a", "c");
+    assertThat(manager.getRetainedBytes()).isEqualTo(2 * TREE_SIZE);
+    assertThat(manager.getRetainedBytes("cache1")).isEqualTo(2 * TREE_SIZE);
+  }
+
+  @Test
+  void shouldOnlyCountSharedSubtreesOnce() {
+    final MemoryBoundedStateCacheManager manager = createManager(TREE_SIZE + TREE_SIZE / 2);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+    final TreeNode tree = createTree(1);
+
+    cache(tracker, cache1, "a", tree);
+    cache(tracker, cache1, "b", tree.updated(8, createLeaf(100)));
+
+    assertThat(cache1).containsOnlyKeys("a", "b");
+    assertThat(manager.getRetainedBytes()).isLessThan(TREE_SIZE + TREE_SIZE / 2);
+  }
+
+  @Test
+  void shouldEvictAcrossCachesInOrderOfLastAccess() {
+    final MemoryBoundedStateCacheManager manager = createManager(5 * TREE_SIZE / 2);
+    final TrackedStateCache<String, TreeNode> tracker1 = register(manager, "cache1", cache1);
+    final TrackedStateCache<String, TreeNode> tracker2 = register(manager, "cache2", cache2);
+
+    cache(tracker1, cache1, "a", createTree(1));
+    cache(tracker2, cache2, "b", createTree(2));
+    cache(tracker2, cache2, "c", createTree(3));
+
+    assertThat(cache1).isEmpty();
+    assertThat(cache2).containsOnlyKeys("b", "c");
+    assertThat(manager.getRetainedBytes("cache1")).isZero();
+    assertThat(manager.getRetainedBytes("cache2")).isEqualTo(2 * TREE_SIZE);
+  }
+
+  @Test
+  void shouldEvictDownToTargetSoLaterStatesFitWithoutEvicting() {
+    final MemoryBoundedStateCacheManager manager = createManager(5 * TREE_SIZE);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    for (int i = 0; i < 6; i++) {
+      cache(tracker, cache1, "state" + i, createTree(i));
+    }
+    assertThat(cache1).containsOnlyKeys("state2", "state3", "state4", "state5");
+    assertThat(manager.getRetainedBytes()).isEqualTo(4 * TREE_SIZE);
+
+    cache(tracker, cache1, "state6", createTree(6));
+    assertThat(cache1).containsOnlyKeys("state2", "state3", "state4", "state5", "state6");
+    assertThat(manager.getRetainedBytes()).isEqualTo(5 * TREE_SIZE);
+  }
+
+  @Test
+  void shouldAlwaysKeepMostRecentlyUsedState() {
+    final MemoryBoundedStateCacheManager manager = createManager(1);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    cache(tracker, cache1, "a", createTree(1));
+    cache(tracker, cache1, "b", createTree(2));
+
+    assertThat(cache1).containsOnlyKeys("b");
+    assertThat(manager.getRetainedBytes()).isEqualTo(TREE_SIZE);
+  }
+
+  @Test
+  void shouldStopTrackingStatesRemovedFromCache() {
+    final MemoryBoundedStateCacheManager manager = createManager(2 * TREE_SIZE);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    cache(tracker, cache1, "a", createTree(1));
+    cache(tracker, cache1, "b", createTree(2));
+    cache1.remove("b");
+    manager.enforceLimit();
+    assertThat(manager.getRetainedBytes()).isEqualTo(TREE_SIZE);
+
+    cache(tracker, cache1, "c", createTree(3));
+    assertThat(cache1).containsOnlyKeys("a", "c");
+  }
+
+  @Test
+  void shouldSubtractStatesEvictedByCacheWhenNextStateIsCached() {
+    final MemoryBoundedStateCacheManager manager = createManager(2 * TREE_SIZE);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    cache(tracker, cache1, "a", createTree(1));
+    cache(tracker, cache1, "b", createTree(2));
+    // Estimates are only updated when new states are cached
+    cache1.remove("b");
+    assertThat(manager.getRetainedBytes()).isEqualTo(2 * TREE_SIZE);
+
+    // b is subtracted so c fits without evicting anything
+    cache(tracker, cache1, "c", createTree(3));
+    assertThat(cache1).containsOnlyKeys("a", "c");
+    assertThat(manager.getRetainedBytes()).isEqualTo(2 * TREE_SIZE);
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    final MemoryBoundedStateCacheManager manager = createManager(2 * TREE_SIZE);
+    final TrackedStateCache<String, TreeNode> tracker = register(manager, "cache1", cache1);
+
+    cache(tracker, cache1, "a", createTree(1));
+    tracker.onHit("a");
+    tracker.onHit("a");
+    tracker.onMiss();
+
+    final StubCounter counter =
+        metricsSystem.getCounter(TekuMetricCategory.STORAGE, "state_cache_requests_total");
+    assertThat(counter.getValue("cache1", "hit")).isEqualTo(2);
+    assertThat(counter.getValue("cache1", "miss")).isEqualTo(1);
+    final StubGauge gauge =
+        metricsSystem.getGauge(TekuMetricCategory.STORAGE, "cache1_retained_bytes");
+    assertThat(gauge.getValue()).isEqualTo(TREE_SIZE);
+  }
+
+  private MemoryBoundedStateCacheManager createManager(final long maxRetainedBytes) {
+    return new MemoryBoundedStateCacheManager(SYNC_RUNNER, metricsSystem, maxRetainedBytes);
+  }
+
+  private TrackedStateCache<String, TreeNode> register(
+      final StateCacheMemoryManager manager,
+      final String name,
+      final Map<String, TreeNode> cache) {
+    return manager.registerCache(name, Function.identity(), cache::containsKey, cache::remove);
+  }
+
+  private void cache(
+      final TrackedStateCache<String, TreeNode> tracker,
+      final Map<String, TreeNode> cache,
+      final String key,
+      final TreeNode tree) {
+    cache.put(key, tree);
+    tracker.onCached(key, tree);
+  }
+
+  private static TreeNode createTree(final int seed) {
+    final List<TreeNode> leaves =
+        IntStream.range(0, 8).mapToObj(i -> createLeaf(seed * 8 + i)).collect(Collectors.toList());
+    return TreeUtil.createTree(leaves);
+  }
+
+  private static TreeNode createLeaf(final int value) {
+    return LeafNode.create(Bytes32.leftPad(Bytes.ofUnsignedInt(value)));
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.pow.api;
+
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * The finalized part of the deposit contract merkle tree.
+ *
+ * <p>Only the roots of the complete subtrees covering the first {@code depositCount} leaves are
+ * held, ordered from the leftmost, which is enough to keep adding deposits and to prove any later
+ * deposit. The snapshot always ends on a block boundary so deposit logs can be fetched again from
+ * the block after {@code executionBlockHeight}.
+ */
+public class DepositTreeSnapshot {
+
+  private final List<Bytes32> finalized;
+  private final UInt64 depositCount;
+  private final Bytes32 depositRoot;
+  private final UInt64 executionBlockHeight;
+  private final Bytes32 executionBlockHash;
+
+  public DepositTreeSnapshot(
+      final List<Bytes32> finalized,
+      final UInt64 depositCount,
+      final Bytes32 depositRoot,
+      final UInt64 executionBlockHeight,
+      final Bytes32 executionBlockHash) {
+    this.finalized = List.copyOf(finalized);
+    this.depositCount = depositCount;
+    this.depositRoot = depositRoot;
+    this.executionBlockHeight = executionBlockHeight;
+    this.executionBlockHash = executionBlockHash;
+  }
+
+  public List<Bytes32> getFinalized() {
+    return finalized;
+  }
+
+  public UInt64 getDepositCount() {
+    return depositCount;
+  }
+
+  public Bytes32 getDepositRoot() {
+    return depositRoot;
+  }
+
+  public UInt64 getExecutionBlockHeight() {
+    return executionBlockHeight;
+  }
+
+  public Bytes32 getExecutionBlockHash() {
+    return executionBlockHash;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    final DepositTreeSnapshot that = (DepositTreeSnapshot) o;
+    return Objects.equals(finalized, that.finalized)
+        && Objects.equals(depositCount, that.depositCount)
+        && Objects.equals(depositRoot, that.depositRoot)
+        && Objects.equals(executionBlockHeight, that.executionBlockHeight)
+        && Objects.equals(executionBlockHash, that.executionBlockHash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        finalized, depositCount, depositRoot, executionBlockHeight, executionBlockHash);
+  }
+
+  @Override
+  public String toString() {
+    return "DepositTreeSnapshot{"
+        + "depositCount="
+        + depositCount
+        + ", depositRoot="
+        + depositRoot
+        + ", executionBlockHeight="
+        + executionBlockHeight
+        + ", executionBlockHash="
+        + executionBlockHash
+        + '}';
+  }
+}
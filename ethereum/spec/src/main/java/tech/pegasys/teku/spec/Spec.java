@@ -27,8 +27,10 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
+import tech.pegasys.teku.spec.cache.PersistentPubKeyCache;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -246,6 +248,18 @@ public class Spec {
         .sszDeserialize(serializedState);
   }
 
+  /**
+   * Deserializes a state which was previously serialized by this node, deferring deserialization of
+   * its large fields until they are accessed.
+   */
+  public BeaconState deserializeBeaconStateLazily(final Bytes serializedState) {
+    final UInt64 slot = BeaconStateInvariants.extractSlot(serializedState);
+    return atSlot(slot)
+        .getSchemaDefinitions()
+        .getBeaconStateSchema()
+        .sszDeserializeLazily(serializedState);
+  }
+
   public SignedBeaconBlock deserializeSignedBeaconBlock(final Bytes serializedState) {
     final UInt64 slot = BeaconBlockInvariants.extractSignedBeaconBlockSlot(serializedState);
     return atSlot(slot)
@@ -298,6 +312,10 @@ public class Spec {
     return atState(state).beaconStateAccessors().getBeaconProposerIndex(state, slot);
   }
 
+  public List<Integer> getBeaconProposerIndices(final BeaconState state, final UInt64 epoch) {
+    return atState(state).beaconStateAccessors().getBeaconProposerIndices(state, epoch);
+  }
+
   public UInt64 getCommitteeCountPerSlot(final BeaconState state, final UInt64 epoch) {
     return atState(state).beaconStateAccessors().getCommitteeCountPerSlot(state, epoch);
   }
@@ -526,7 +544,7 @@ public class Spec {
     return atState(state).beaconStateAccessors().getMaxLookaheadEpoch(state);
   }
 
-  public List<Integer> getActiveValidatorIndices(final BeaconState state, final UInt64 epoch) {
+  public IntList getActiveValidatorIndices(final BeaconState state, final UInt64 epoch) {
     return atEpoch(epoch).beaconStateAccessors().getActiveValidatorIndices(state, epoch);
   }
 
@@ -538,7 +556,7 @@ public class Spec {
     return atState(state).beaconStateAccessors().getPreviousEpochAttestationCapacity(state);
   }
 
-  public List<Integer> getBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
+  public IntList getBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
     return atState(state).beaconStateAccessors().getBeaconCommittee(state, slot, index);
   }
 
@@ -547,6 +565,16 @@ public class Spec {
     return atState(state).beaconStateAccessors().getValidatorPubKey(state, proposerIndex);
   }
 
+  /**
+   * Sets the on-disk cache which validator public keys are loaded from before falling back to
+   * decompressing them, or clears it if empty. Applies to all milestones of this spec.
+   */
+  public void setPersistentPubKeyCache(final Optional<PersistentPubKeyCache> cache) {
+    specVersions
+        .values()
+        .forEach(specVersion -> specVersion.beaconStateAccessors().setPersistentPubKeyCache(cache));
+  }
+
   // Validator Utils
   public int countActiveValidators(final BeaconState state, final UInt64 epoch) {
     return getActiveValidatorIndices(state, epoch).size();
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import static java.lang.Math.toIntExact;
+import static tech.pegasys.teku.bls.BLSConstants.BLS_PUBKEY_SIZE;
+import static tech.pegasys.teku.bls.BLSConstants.BLS_PUBKEY_UNCOMPRESSED_SIZE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.ssz.SszList;
+
+/**
+ * Append-only, memory-mapped file of validator public keys in both compressed and uncompressed
+ * form, indexed by validator index.
+ *
+ * <p>Creating a public key from its uncompressed form avoids the expensive point decompression,
+ * so after a restart keys can be loaded from this file instead of being decompressed one by one
+ * as signatures are verified. Records are only served once they have been validated against a
+ * state's validator list via {@link #update(SszList)}, which also appends keys for any new
+ * validators.
+ *
+ * <p>Replaced mappings are released when they are garbage collected. Some platforms don't allow a
+ * file to be truncated while it is still mapped, so truncating the file is best effort and a
+ * smaller mapping is used instead. Any stale records left beyond it are overwritten by later
+ * appends or discarded when validated after a restart. Readers hold a read lock while accessing
+ * the mapping so they never see a validated count from before a truncation with the mapping from
+ * after it.
+ *
+ * <p>Closing the cache doesn't wait for an in-flight {@link #update(SszList)}, which stops at its
+ * next write instead.
+ */
+public class PersistentPubKeyCache implements Closeable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int RECORD_SIZE = BLS_PUBKEY_SIZE + BLS_PUBKEY_UNCOMPRESSED_SIZE;
+  private static final int MAX_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+  private static final int APPEND_BATCH_SIZE = 1024;
+
+  private static final ByteBuffer NO_RECORDS = ByteBuffer.allocate(0);
+
+  private final ReadWriteLock mappingLock = new ReentrantReadWriteLock();
+  private final FileChannel channel;
+  private volatile ByteBuffer records = NO_RECORDS;
+  private volatile int validatedCount = 0;
+  private volatile boolean closed = false;
+
+  private PersistentPubKeyCache(final FileChannel channel) {
+    this.channel = channel;
+  }
+
+  public static PersistentPubKeyCache open(final Path path) throws IOException {
+    final FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    final PersistentPubKeyCache cache = new PersistentPubKeyCache(channel);
+    // Discard any partially written record
+    final int recordCount = toIntExact(Math.min(channel.size() / RECORD_SIZE, MAX_RECORDS));
+    cache.truncate(recordCount);
+    LOG.debug("Opened public key cache {} with {} keys", path, recordCount);
+    return cache;
+  }
+
+  /**
+   * Returns the public key for the validator at the given index if it has been validated and
+   * matches the expected compressed public key.
+   */
+  public Optional<BLSPublicKey> getPublicKey(final int validatorIndex, final Bytes48 expected) {
+    final Bytes uncompressed;
+    mappingLock.readLock().lock();
+    try {
+      // Read the validated count first as the records are always remapped before it increases
+      final int validatedCount = this.validatedCount;
+      final ByteBuffer records = this.records;
+      if (validatorIndex < 0
+          || validatorIndex >= validatedCount
+          || validatorIndex >= getRecordCount(records)) {
+        return Optional.empty();
+      }
+      if (!readCompressed(records, validatorIndex).equals(expected)) {
+        return Optional.empty();
+      }
+      uncompressed = readUncompressed(records, validatorIndex);
+    } finally {
+      mappingLock.readLock().unlock();
+    }
+    return Optional.of(BLSPublicKey.fromBytesUncompressed(expected, uncompressed));
+  }
+
+  /** Returns the number of keys which have been validated and may be served. */
+  public int getValidatedCount() {
+    return Math.min(validatedCount, getRecordCount(records));
+  }
+
+  /**
+   * Validates the stored keys against the given validator list, discarding any from the first
+   * mismatch onwards, then appends keys for validators not yet stored.
+   *
+   * <p>Validator indices are assigned in deposit order so the keys are the same for every fork and
+   * only need to be validated once. Decompressing new keys is expensive so this should be called
+   * off the critical path.
+   */
+  public synchronized void update(final SszList<Validator> validators) {
+    if (closed) {
+      return;
+    }
+    try {
+      validateStoredKeys(validators);
+      appendNewKeys(validators);
+    } catch (final IOException e) {
+      if (closed) {
+        LOG.debug("Public key cache closed during update", e);
+        return;
+      }
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void validateStoredKeys(final SszList<Validator> validators) throws IOException {
+    final ByteBuffer records = this.records;
+    final int recordCount = getRecordCount(records);
+    final int validateUpTo = Math.min(recordCount, validators.size());
+    int index = validatedCount;
+    while (index < validateUpTo && isValidRecord(records, index, validators.get(index))) {
+      index++;
+    }
+    if (index < validateUpTo) {
+      LOG.warn(
+          "Public key cache does not match validator {}, discarding {} cached keys",
+          index,
+          recordCount - index);
+      truncate(index);
+    }
+    validatedCount = index;
+  }
+
+  private boolean isValidRecord(
+      final ByteBuffer records, final int index, final Validator validator) {
+    final Bytes48 compressed = readCompressed(records, index);
+    if (!compressed.equals(validator.getPubkeyBytes())) {
+      return false;
+    }
+    try {
+      // Check the uncompressed point is the same key, which is much cheaper than decompressing
+      return BLSPublicKey.fromBytesUncompressed(readUncompressed(records, index))
+          .toBytesCompressed()
+          .equals(compressed);
+    } catch (final IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private void appendNewKeys(final SszList<Validator> validators) throws IOException {
+    // Only append once all stored keys are validated so records stay in validator index order
+    if (validatedCount < getRecordCount(records)) {
+      return;
+    }
+    final int appendUpTo = Math.min(validators.size(), MAX_RECORDS);
+    int index = validatedCount;
+    while (index < appendUpTo && !closed) {
+      final int batchEnd = Math.min(index + APPEND_BATCH_SIZE, appendUpTo);
+      final ByteBuffer batch = ByteBuffer.allocate((batchEnd - index) * RECORD_SIZE);
+      final int appendedUpTo = fillBatch(batch, validators, index, batchEnd);
+      batch.flip();
+      writeFully(batch, (long) index * RECORD_SIZE);
+      remap(appendedUpTo);
+      validatedCount = appendedUpTo;
+      if (appendedUpTo < batchEnd) {
+        // Records are indexed by position so no later keys can be stored either
+        return;
+      }
+      index = appendedUpTo;
+    }
+  }
+
+  private int fillBatch(
+      final ByteBuffer batch,
+      final SszList<Validator> validators,
+      final int fromIndex,
+      final int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      final Bytes48 compressed = validators.get(i).getPubkeyBytes();
+      try {
+        final Bytes uncompressed =
+            BLSPublicKey.fromBytesCompressed(compressed).toBytesUncompressed();
+        batch.put(compressed.toArrayUnsafe()).put(uncompressed.toArrayUnsafe());
+      } catch (final IllegalArgumentException e) {
+        LOG.debug("Unable to cache invalid public key for validator {}", i, e);
+        return i;
+      }
+    }
+    return toIndex;
+  }
+
+  private void writeFully(final ByteBuffer batch, final long position) throws IOException {
+    long writePosition = position;
+    while (batch.hasRemaining()) {
+      writePosition += channel.write(batch, writePosition);
+    }
+  }
+
+  private void truncate(final int recordCount) throws IOException {
+    final long size = (long) recordCount * RECORD_SIZE;
+    final ByteBuffer newRecords = channel.map(MapMode.READ_ONLY, 0, size);
+    mappingLock.writeLock().lock();
+    try {
+      checkNotClosed();
+      validatedCount = Math.min(validatedCount, recordCount);
+      records = newRecords;
+    } finally {
+      mappingLock.writeLock().unlock();
+    }
+    try {
+      channel.truncate(size);
+    } catch (final IOException e) {
+      if (closed) {
+        throw e;
+      }
+      // The previous mapping may not have been garbage collected yet
+      LOG.debug("Unable to truncate public key cache, stale records will be overwritten", e);
+    }
+  }
+
+  private void remap(final int recordCount) throws IOException {
+    final ByteBuffer newRecords =
+        channel.map(MapMode.READ_ONLY, 0, (long) recordCount * RECORD_SIZE);
+    mappingLock.writeLock().lock();
+    try {
+      checkNotClosed();
+      records = newRecords;
+    } finally {
+      mappingLock.writeLock().unlock();
+    }
+  }
+
+  private void checkNotClosed() throws ClosedChannelException {
+    // A mapping stays valid after the channel is closed so it must not be published
+    if (closed) {
+      throw new ClosedChannelException();
+    }
+  }
+
+  private static int getRecordCount(final ByteBuffer records) {
+    return records.capacity() / RECORD_SIZE;
+  }
+
+  private static Bytes48 readCompressed(final ByteBuffer records, final int index) {
+    return Bytes48.wrap(read(records, index * RECORD_SIZE, BLS_PUBKEY_SIZE));
+  }
+
+  private static Bytes readUncompressed(final ByteBuffer records, final int index) {
+    return Bytes.wrap(
+        read(records, index * RECORD_SIZE + BLS_PUBKEY_SIZE, BLS_PUBKEY_UNCOMPRESSED_SIZE));
+  }
+
+  private static byte[] read(final ByteBuffer records, final int offset, final int length) {
+    final byte[] data = new byte[length];
+    // Duplicate so concurrent readers don't share a position
+    records.duplicate().position(offset).get(data);
+    return data;
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    mappingLock.writeLock().lock();
+    try {
+      validatedCount = 0;
+      records = NO_RECORDS;
+      channel.close();
+    } finally {
+      mappingLock.writeLock().unlock();
+    }
+  }
+}
@@ -26,6 +26,8 @@ public abstract class MerkleTree {
   protected final List<List<Bytes32>> tree;
   protected final List<Bytes32> zeroHashes;
   protected final int treeDepth; // Root does not count as depth, i.e. tree height is treeDepth + 1
+  // Index of the first node held at each height, any nodes before it have been pruned
+  protected final int[] levelOffsets;
 
   protected MerkleTree(int treeDepth) {
     checkArgument(treeDepth > 1, "MerkleTree: treeDepth must be greater than 1");
@@ -34,6 +36,7 @@ public abstract class MerkleTree {
     for (int i = 0; i <= treeDepth; i++) {
       tree.add(new ArrayList<>());
     }
+    levelOffsets = new int[treeDepth + 1];
     zeroHashes = generateZeroHashes(treeDepth);
   }
 
@@ -51,12 +54,30 @@ public abstract class MerkleTree {
     return zeroHashes;
   }
 
-  public List<Bytes32> getProof(Bytes32 value) {
-    int index = tree.get(0).indexOf(value);
+  /** Returns the number of nodes at the given height, including any that have been pruned. */
+  protected int getLevelSize(final int level) {
+    return levelOffsets[level] + tree.get(level).size();
+  }
+
+  protected Bytes32 getNode(final int level, final int index) {
+    checkArgument(
+        index >= levelOffsets[level],
+        "MerkleTree: Node %s at height %s has been pruned",
+        index,
+        level);
+    return tree.get(level).get(index - levelOffsets[level]);
+  }
+
+  private int getLeafIndex(final Bytes32 value) {
+    final int index = tree.get(0).indexOf(value);
     if (index == -1) {
       throw new IllegalArgumentException("Leaf value is missing from the MerkleTree");
     }
-    return getProof(index);
+    return levelOffsets[0] + index;
+  }
+
+  public List<Bytes32> getProof(Bytes32 value) {
+    return getProof(getLeafIndex(value));
   }
 
   public List<Bytes32> getProof(int itemIndex) {
@@ -67,10 +88,10 @@ public abstract class MerkleTree {
       int siblingIndex = itemIndex % 2 == 1 ? itemIndex - 1 : itemIndex + 1;
 
       // If sibling is contained in the tree
-      if (siblingIndex < tree.get(i).size()) {
+      if (siblingIndex < getLevelSize(i)) {
 
         // Get the sibling from the tree
-        proof.add(tree.get(i).get(siblingIndex));
+        proof.add(getNode(i, siblingIndex));
       } else {
 
         // Get the zero hash at the appropriate
@@ -84,7 +105,7 @@ public abstract class MerkleTree {
     return proof;
   }
 
-  private Bytes32 calcViewBoundaryRoot(int depth, int viewLimit) {
+  protected Bytes32 calcViewBoundaryRoot(int depth, int viewLimit) {
     if (depth == 0) {
       return zeroHashes.get(0);
     }
@@ -94,7 +115,7 @@ public abstract class MerkleTree {
     if ((viewLimit & (1 << depth)) != 0) {
       // For the right subtree
       return Hash.sha2_256(
-          Bytes.concatenate(tree.get(depth).get((viewLimit >> depth) - 1), deeperRoot));
+          Bytes.concatenate(getNode(depth, (viewLimit >> depth) - 1), deeperRoot));
     } else {
       // For the left subtree
       return Hash.sha2_256(Bytes.concatenate(deeperRoot, zeroHashes.get(depth)));
@@ -107,7 +128,7 @@ public abstract class MerkleTree {
    * @return proof (i.e. collection of siblings on the way to root for the given leaf)
    */
   public List<Bytes32> getProofWithViewBoundary(Bytes32 value, int viewLimit) {
-    return getProofWithViewBoundary(tree.get(0).indexOf(value), viewLimit);
+    return getProofWithViewBoundary(getLeafIndex(value), viewLimit);
   }
 
   /**
@@ -127,7 +148,7 @@ public abstract class MerkleTree {
       int limit = viewLimit >> i;
 
       checkArgument(
-          limit <= tree.get(i).size(), "MerkleTree: Tree is too small for given limit at height");
+          limit <= getLevelSize(i), "MerkleTree: Tree is too small for given limit at height");
 
       // If the sibling is equal to the limit,
       if (siblingIndex == limit) {
@@ -140,7 +161,7 @@ public abstract class MerkleTree {
       } else {
         // Within:
         // Return the tree node as-is without modifications
-        proof.add(tree.get(i).get(siblingIndex));
+        proof.add(getNode(i, siblingIndex));
       }
       itemIndex /= 2;
     }
@@ -158,7 +179,13 @@ public abstract class MerkleTree {
   }
 
   public Bytes32 getRoot() {
-    return Hash.sha2_256(Bytes.concatenate(tree.get(treeDepth).get(0), calcMixInValue()));
+    final List<Bytes32> rootLevel = tree.get(treeDepth);
+    // A tree restored from its finalized branch has no root node until another leaf is added
+    final Bytes32 root =
+        rootLevel.isEmpty()
+            ? calcViewBoundaryRoot(treeDepth, getNumberOfLeaves())
+            : rootLevel.get(0);
+    return Hash.sha2_256(Bytes.concatenate(root, calcMixInValue()));
   }
 
   @Override
@@ -13,7 +13,10 @@
 
 package tech.pegasys.teku.spec.datastructures.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -23,36 +26,58 @@ import org.apache.tuweni.crypto.Hash;
 
 public class OptimizedMerkleTree extends MerkleTree {
 
+  private int finalizedCount = 0;
+
   public OptimizedMerkleTree(int treeDepth) {
     super(treeDepth);
   }
 
+  /**
+   * Creates a tree holding only its finalized branch, as returned by {@link
+   * #getFinalizedBranch()}. Leaves can be added and proven as usual, but none of the finalized
+   * leaves can be proven.
+   */
+  public static OptimizedMerkleTree fromFinalizedBranch(
+      final int treeDepth, final List<Bytes32> finalizedBranch, final int finalizedCount) {
+    checkArgument(
+        Integer.bitCount(finalizedCount) == finalizedBranch.size(),
+        "MerkleTree: Finalized branch must have one node per complete subtree");
+    final OptimizedMerkleTree merkleTree = new OptimizedMerkleTree(treeDepth);
+    final Iterator<Bytes32> branch = finalizedBranch.iterator();
+    for (int h = treeDepth; h >= 0; h--) {
+      merkleTree.levelOffsets[h] = getFirstRetainedNode(h, finalizedCount);
+      if (((finalizedCount >> h) & 1) == 1) {
+        merkleTree.tree.get(h).add(branch.next());
+      }
+    }
+    merkleTree.finalizedCount = finalizedCount;
+    return merkleTree;
+  }
+
   @Override
   public void add(Bytes32 leaf) {
-    if (!tree.get(0).isEmpty()
-        && tree.get(0).get(tree.get(0).size() - 1).equals(zeroHashes.get(0))) {
-      tree.get(0).remove(tree.get(0).size() - 1);
+    final List<Bytes32> leaves = tree.get(0);
+    if (!leaves.isEmpty() && leaves.get(leaves.size() - 1).equals(zeroHashes.get(0))) {
+      leaves.remove(leaves.size() - 1);
     }
-    int stageSize = tree.get(0).size();
-    tree.get(0).add(leaf);
+    int stageSize = getLevelSize(0);
+    leaves.add(leaf);
     for (int h = 0; h <= treeDepth; h++) {
       List<Bytes32> stage = tree.get(h);
       if (h > 0) {
         // Remove elements that should be modified
         stageSize = stageSize / 2;
-        while (stage.size() != stageSize) {
+        while (getLevelSize(h) != stageSize) {
           stage.remove(stage.size() - 1);
         }
 
-        List<Bytes32> previousStage = tree.get(h - 1);
-        int previousStageSize = previousStage.size();
+        int previousStageSize = getLevelSize(h - 1);
         stage.add(
             Hash.sha2_256(
                 Bytes.concatenate(
-                    previousStage.get(previousStageSize - 2),
-                    previousStage.get(previousStageSize - 1))));
+                    getNode(h - 1, previousStageSize - 2), getNode(h - 1, previousStageSize - 1))));
       }
-      if (stage.size() % 2 == 1 && h != treeDepth) {
+      if (getLevelSize(h) % 2 == 1 && h != treeDepth) {
         stage.add(zeroHashes.get(h));
       }
     }
@@ -60,11 +85,61 @@ public class OptimizedMerkleTree extends MerkleTree {
 
   @Override
   public int getNumberOfLeaves() {
-    int lastLeafIndex = tree.get(0).size() - 1;
-    if (tree.get(0).get(lastLeafIndex).equals(Bytes32.ZERO)) {
-      return tree.get(0).size() - 1;
+    final List<Bytes32> leaves = tree.get(0);
+    if (!leaves.isEmpty() && leaves.get(leaves.size() - 1).equals(Bytes32.ZERO)) {
+      return getLevelSize(0) - 1;
+    }
+    return getLevelSize(0);
+  }
+
+  /**
+   * Discards every node which is only needed to prove one of the first {@code count} leaves.
+   *
+   * <p>The roots of the complete subtrees covering those leaves are kept, as they are all that is
+   * needed from that part of the tree to add and prove later leaves.
+   */
+  public void prune(final int count) {
+    checkArgument(
+        count <= getNumberOfLeaves(), "MerkleTree: Cannot prune leaves that have not been added");
+    if (count <= finalizedCount) {
+      return;
+    }
+    for (int h = 0; h <= treeDepth; h++) {
+      final int firstRetainedNode = getFirstRetainedNode(h, count);
+      if (firstRetainedNode > levelOffsets[h]) {
+        tree.get(h).subList(0, firstRetainedNode - levelOffsets[h]).clear();
+        levelOffsets[h] = firstRetainedNode;
+      }
     }
-    return tree.get(0).size();
+    finalizedCount = count;
+  }
+
+  public int getFinalizedCount() {
+    return finalizedCount;
+  }
+
+  /** Returns the roots of the complete subtrees covering the pruned leaves, leftmost first. */
+  public List<Bytes32> getFinalizedBranch() {
+    final List<Bytes32> branch = new ArrayList<>();
+    for (int h = treeDepth; h >= 0; h--) {
+      if (((finalizedCount >> h) & 1) == 1) {
+        branch.add(getNode(h, (finalizedCount >> h) - 1));
+      }
+    }
+    return branch;
+  }
+
+  /** Returns the root the tree had when it only held the pruned leaves. */
+  public Bytes32 getFinalizedRoot() {
+    return Hash.sha2_256(
+        Bytes.concatenate(
+            calcViewBoundaryRoot(treeDepth, finalizedCount), calcMixInValue(finalizedCount)));
+  }
+
+  private static int getFirstRetainedNode(final int level, final int count) {
+    final int prunedNodes = count >> level;
+    // Keep the root of the last complete subtree at this height, if there is one
+    return (prunedNodes & 1) == 1 ? prunedNodes - 1 : prunedNodes;
   }
 
   @Override
@@ -17,11 +17,13 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.lang.Math.toIntExact;
 import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
+import com.google.common.base.Throwables;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import javax.annotation.CheckReturnValue;
@@ -33,6 +35,7 @@ import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.LogFormatter;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.cache.CapturingIndexedAttestationCache;
@@ -126,17 +129,92 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
       final IndexedAttestationCache indexedAttestationCache)
       throws StateTransitionException {
     final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+    final BlockValidationResult signaturesResult;
+    try {
+      // All signatures are checked against the pre-state so can be collected before processing
+      signaturesResult =
+          BlockValidationResult.allOf(
+              () ->
+                  verifyBlockSignatures(
+                      blockSlotState, signedBlock, indexedAttestationCache, signatureVerifier),
+              () ->
+                  verifySyncAggregateSignature(
+                      blockSlotState, signedBlock.getMessage().getBody(), signatureVerifier));
+    } catch (final RuntimeException e) {
+      // Malformed block, process sequentially so the precise failure is reported
+      LOG.debug("Failed to collect signatures for block {}", signedBlock.getRoot(), e);
+      return processAndBatchVerifyBlock(signedBlock, blockSlotState, indexedAttestationCache);
+    }
+    if (!signaturesResult.isValid()) {
+      throw handleProcessingFailure(
+          signedBlock, new BlockProcessingException(signaturesResult.getFailureReason()));
+    }
+
+    // Verify signatures on the verification pool while the state transition runs on this thread
+    final SafeFuture<Boolean> signaturesValid = signatureVerifier.batchVerifyAsync();
+    final BeaconState postState;
+    try {
+      postState =
+          processUnsignedBlock(
+              blockSlotState,
+              signedBlock.getMessage(),
+              indexedAttestationCache,
+              BLSSignatureVerifier.NO_OP);
+      final BlockValidationResult postStateResult = validatePostState(postState, signedBlock);
+      if (!postStateResult.isValid()) {
+        throw new BlockProcessingException(postStateResult.getFailureReason());
+      }
+    } catch (final IllegalArgumentException | BlockProcessingException e) {
+      throw handleProcessingFailure(signedBlock, e);
+    }
+
+    if (!waitForSignatureVerification(signaturesValid)) {
+      throw batchVerificationFailed(signedBlock);
+    }
+    return postState;
+  }
+
+  private BeaconState processAndBatchVerifyBlock(
+      final SignedBeaconBlock signedBlock,
+      final BeaconState blockSlotState,
+      final IndexedAttestationCache indexedAttestationCache)
+      throws StateTransitionException {
+    final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
     final BeaconState result =
         processAndValidateBlock(
             signedBlock, blockSlotState, indexedAttestationCache, signatureVerifier);
     if (!signatureVerifier.batchVerify()) {
-      throw new StateTransitionException(
-          "Batch signature verification failed for block "
-              + LogFormatter.formatBlock(signedBlock.getSlot(), signedBlock.getRoot()));
+      throw batchVerificationFailed(signedBlock);
     }
     return result;
   }
 
+  private boolean waitForSignatureVerification(final SafeFuture<Boolean> signaturesValid) {
+    try {
+      return signaturesValid.join();
+    } catch (final CompletionException e) {
+      // Rethrow the same exception batchVerify would have thrown
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  private StateTransitionException batchVerificationFailed(final SignedBeaconBlock signedBlock) {
+    return new StateTransitionException(
+        "Batch signature verification failed for block "
+            + LogFormatter.formatBlock(signedBlock.getSlot(), signedBlock.getRoot()));
+  }
+
+  private StateTransitionException handleProcessingFailure(
+      final SignedBeaconBlock signedBlock, final Exception e) {
+    LOG.warn(
+        String.format(
+            "State transition error while importing block %s (%s)",
+            signedBlock.getSlot(), signedBlock.getRoot()),
+        e);
+    return new StateTransitionException(e);
+  }
+
   @Override
   public BeaconState processAndValidateBlock(
       final SignedBeaconBlock signedBlock,
@@ -160,12 +238,7 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
 
       return postState;
     } catch (final IllegalArgumentException | BlockProcessingException e) {
-      LOG.warn(
-          String.format(
-              "State transition error while importing block %s (%s)",
-              signedBlock.getSlot(), signedBlock.getRoot()),
-          e);
-      throw new StateTransitionException(e);
+      throw handleProcessingFailure(signedBlock, e);
     }
   }
 
@@ -211,6 +284,19 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
         () -> verifyVoluntaryExits(preState, blockBody.getVoluntary_exits(), signatureVerifier));
   }
 
+  /**
+   * Verifies the sync aggregate signature for forks which include one. Only used when all the
+   * block's signatures are collected up front, otherwise it is verified during {@link
+   * #processBlock(MutableBeaconState, BeaconBlock, IndexedAttestationCache, BLSSignatureVerifier)}.
+   */
+  @CheckReturnValue
+  protected BlockValidationResult verifySyncAggregateSignature(
+      final BeaconState preState,
+      final BeaconBlockBody blockBody,
+      final BLSSignatureVerifier signatureVerifier) {
+    return BlockValidationResult.SUCCESSFUL;
+  }
+
   @CheckReturnValue
   private BlockValidationResult verifyBlockSignature(
       final BeaconState state,
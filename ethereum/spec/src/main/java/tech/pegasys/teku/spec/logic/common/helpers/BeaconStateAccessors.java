@@ -17,17 +17,20 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_EPOCH;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uint64ToBytes;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.cache.PersistentPubKeyCache;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
@@ -42,6 +45,8 @@ public abstract class BeaconStateAccessors {
   protected final Predicates predicates;
   protected final MiscHelpers miscHelpers;
 
+  private volatile Optional<PersistentPubKeyCache> persistentPubKeyCache = Optional.empty();
+
   protected BeaconStateAccessors(
       final SpecConfig config, final Predicates predicates, final MiscHelpers miscHelpers) {
     this.config = config;
@@ -49,6 +54,14 @@ public abstract class BeaconStateAccessors {
     this.miscHelpers = miscHelpers;
   }
 
+  /**
+   * Sets the on-disk cache which {@link #getValidatorPubKey(BeaconState, UInt64)} loads public keys
+   * from before falling back to decompressing them
+   */
+  public void setPersistentPubKeyCache(final Optional<PersistentPubKeyCache> cache) {
+    this.persistentPubKeyCache = cache;
+  }
+
   public UInt64 getCurrentEpoch(BeaconState state) {
     return miscHelpers.computeEpochAtSlot(state.getSlot());
   }
@@ -80,7 +93,12 @@ public abstract class BeaconStateAccessors {
             .get(
                 validatorIndex,
                 i -> {
-                  BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
+                  final Validator validator = state.getValidators().get(i.intValue());
+                  BLSPublicKey pubKey =
+                      persistentPubKeyCache
+                          .flatMap(
+                              cache -> cache.getPublicKey(i.intValue(), validator.getPubkeyBytes()))
+                          .orElseGet(validator::getPublicKey);
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
                   BeaconStateCache.getTransitionCaches(state)
@@ -97,7 +115,7 @@ public abstract class BeaconStateAccessors {
    * @param epoch - The epoch under consideration.
    * @return A list of indices representing the active validators for the given epoch.
    */
-  public List<Integer> getActiveValidatorIndices(BeaconState state, UInt64 epoch) {
+  public IntList getActiveValidatorIndices(BeaconState state, UInt64 epoch) {
     final UInt64 stateEpoch = getCurrentEpoch(state);
     final UInt64 maxLookaheadEpoch = getMaxLookaheadEpoch(stateEpoch);
     checkArgument(
@@ -111,10 +129,10 @@ public abstract class BeaconStateAccessors {
             epoch,
             e -> {
               SszList<Validator> validators = state.getValidators();
-              return IntStream.range(0, validators.size())
-                  .filter(index -> predicates.isActiveValidator(validators.get(index), epoch))
-                  .boxed()
-                  .collect(Collectors.toList());
+              return IntList.wrap(
+                  IntStream.range(0, validators.size())
+                      .filter(index -> predicates.isActiveValidator(validators.get(index), epoch))
+                      .toArray());
             });
   }
 
@@ -160,8 +178,7 @@ public abstract class BeaconStateAccessors {
    * @return
    */
   public UInt64 getCommitteeCountPerSlot(BeaconState state, UInt64 epoch) {
-    List<Integer> activeValidatorIndices = getActiveValidatorIndices(state, epoch);
-    return getCommitteeCountPerSlot(activeValidatorIndices.size());
+    return getCommitteeCountPerSlot(getActiveValidatorIndices(state, epoch).size());
   }
 
   public UInt64 getCommitteeCountPerSlot(final int activeValidatorCount) {
@@ -192,15 +209,49 @@ public abstract class BeaconStateAccessors {
             requestedSlot,
             slot -> {
               UInt64 epoch = miscHelpers.computeEpochAtSlot(slot);
-              Bytes32 seed =
-                  Hash.sha2_256(
-                      Bytes.concatenate(
-                          getSeed(state, epoch, Domain.BEACON_PROPOSER), uint64ToBytes(slot)));
-              List<Integer> indices = getActiveValidatorIndices(state, epoch);
-              return miscHelpers.computeProposerIndex(state, indices, seed);
+              return computeBeaconProposerIndex(
+                  state,
+                  getSeed(state, epoch, Domain.BEACON_PROPOSER),
+                  getActiveValidatorIndices(state, epoch),
+                  slot);
             });
   }
 
+  /**
+   * Returns the proposer index for every slot in the given epoch, which must be the current epoch
+   * of the state. The epoch seed and active validator indices are only calculated once for the
+   * whole epoch.
+   *
+   * @param state the state to calculate proposers from
+   * @param epoch the epoch to calculate proposers for
+   * @return the proposer indices, ordered by slot starting from the first slot of the epoch
+   */
+  public List<Integer> getBeaconProposerIndices(final BeaconState state, final UInt64 epoch) {
+    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
+    validateStateCanCalculateProposerIndexAtSlot(state, startSlot);
+    final Cache<UInt64, Integer> proposerIndexCache =
+        BeaconStateCache.getTransitionCaches(state).getBeaconProposerIndex();
+    final Bytes32 epochSeed = getSeed(state, epoch, Domain.BEACON_PROPOSER);
+    final IntList indices = getActiveValidatorIndices(state, epoch);
+    final List<Integer> proposerIndices = new ArrayList<>(config.getSlotsPerEpoch());
+    for (int i = 0; i < config.getSlotsPerEpoch(); i++) {
+      proposerIndices.add(
+          proposerIndexCache.get(
+              startSlot.plus(i),
+              slot -> computeBeaconProposerIndex(state, epochSeed, indices, slot)));
+    }
+    return proposerIndices;
+  }
+
+  private int computeBeaconProposerIndex(
+      final BeaconState state,
+      final Bytes32 epochSeed,
+      final IntList indices,
+      final UInt64 slot) {
+    final Bytes32 seed = Hash.sha2_256(Bytes.concatenate(epochSeed, uint64ToBytes(slot)));
+    return miscHelpers.computeProposerIndex(state, indices, seed);
+  }
+
   public UInt64 getFinalityDelay(final BeaconState state) {
     return getPreviousEpoch(state).minus(state.getFinalized_checkpoint().getEpoch());
   }
@@ -262,7 +313,7 @@ public abstract class BeaconStateAccessors {
     return Integer.MAX_VALUE;
   }
 
-  public List<Integer> getBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
+  public IntList getBeaconCommittee(BeaconState state, UInt64 slot, UInt64 index) {
     // Make sure state is within range of the slot being queried
     validateStateForCommitteeQuery(state, slot);
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.helpers;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUInt64;
+import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.uintToBytes;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.crypto.Hash;
+
+/**
+ * Computes shuffled indices for a fixed seed and index count.
+ *
+ * <p>The pivot for each round depends only on the seed and index count so is calculated once when
+ * the context is created. The source hashes that supply the swap bits are calculated on first use
+ * and reused by later queries that land in the same block of 256 positions.
+ *
+ * <p>Instances are not thread safe and are intended to be used for the duration of a single
+ * calculation, such as selecting the proposer for a slot or the next sync committee.
+ */
+public class ShufflingContext {
+  private final Bytes32 seed;
+  private final int indexCount;
+  private final int[] pivots;
+  private final Bytes[][] sourceHashes;
+
+  ShufflingContext(final Bytes32 seed, final int indexCount, final int shuffleRoundCount) {
+    checkArgument(indexCount > 0, "Index count must be greater than 0");
+    this.seed = seed;
+    this.indexCount = indexCount;
+    this.pivots = new int[shuffleRoundCount];
+    this.sourceHashes = new Bytes[shuffleRoundCount][];
+    for (int round = 0; round < shuffleRoundCount; round++) {
+      // This needs to be unsigned modulo.
+      pivots[round] =
+          bytesToUInt64(Hash.sha2_256(Bytes.wrap(seed, roundAsByte(round))).slice(0, 8))
+              .mod(indexCount)
+              .intValue();
+    }
+  }
+
+  public int getIndexCount() {
+    return indexCount;
+  }
+
+  public int getShuffledIndex(final int index) {
+    checkArgument(index < indexCount, "CommitteeUtil.computeShuffledIndex1");
+    int indexRet = index;
+    for (int round = 0; round < pivots.length; round++) {
+      final int flip = Math.floorMod(pivots[round] + indexCount - indexRet, indexCount);
+      final int position = Math.max(indexRet, flip);
+      final Bytes hashBytes = getSourceHash(round, position / 256);
+
+      final int bitIndex = position & 0xff;
+      final int theByte = hashBytes.get(bitIndex / 8);
+      final int theBit = (theByte >> (bitIndex & 0x07)) & 1;
+      if (theBit != 0) {
+        indexRet = flip;
+      }
+    }
+    return indexRet;
+  }
+
+  private Bytes getSourceHash(final int round, final int block) {
+    Bytes[] roundHashes = sourceHashes[round];
+    if (roundHashes == null) {
+      roundHashes = new Bytes[(indexCount + 255) / 256];
+      sourceHashes[round] = roundHashes;
+    }
+    Bytes hash = roundHashes[block];
+    if (hash == null) {
+      hash = Hash.sha2_256(Bytes.wrap(seed, roundAsByte(round), uintToBytes(block, 4)));
+      roundHashes[block] = hash;
+    }
+    return hash;
+  }
+
+  private static Bytes roundAsByte(final int round) {
+    return Bytes.of((byte) round);
+  }
+}
@@ -18,6 +18,10 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLS;
@@ -25,6 +29,7 @@ import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.bls.BatchSemiAggregate;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 /**
  * Implementation which doesn't perform any actual validations on {@link #verify(List, Bytes,
@@ -32,7 +37,10 @@ import tech.pegasys.teku.bls.BatchSemiAggregate;
  * way with {@link #batchVerify()} call.
  *
  * <p>Every instance of this class is disposable, i.e. it is intended for just a single batch and a
- * single {@link #batchVerify()} call.
+ * single {@link #batchVerify()} or {@link #batchVerifyAsync()} call.
+ *
+ * <p>Verification runs on a dedicated pool rather than the common fork-join pool so it doesn't
+ * compete with unrelated parallel streams and can overlap with work on the calling thread.
  *
  * <p>This is thread-safe class.
  */
@@ -52,6 +60,18 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
     }
   }
 
+  private static final ForkJoinPool VERIFICATION_POOL =
+      new ForkJoinPool(
+          Runtime.getRuntime().availableProcessors(),
+          pool -> {
+            final ForkJoinWorkerThread thread =
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("bls-batch-verify-" + thread.getPoolIndex());
+            return thread;
+          },
+          null,
+          false);
+
   @VisibleForTesting final List<Job> toVerify = new ArrayList<>();
   private boolean complete = false;
 
@@ -72,7 +92,22 @@ public class BatchSignatureVerifier implements BLSSignatureVerifier {
    * <p>After this method completes the instance should be disposed and any subsequent calls to this
    * instance methods would fail with exception
    */
-  public synchronized boolean batchVerify() {
+  public boolean batchVerify() {
+    return VERIFICATION_POOL.invoke(ForkJoinTask.adapt(this::verifyCollectedSignatures));
+  }
+
+  /**
+   * Starts verification of all the signatures collected so far on the verification pool and
+   * returns immediately.
+   *
+   * <p>The same disposal rules as {@link #batchVerify()} apply as soon as this method is called.
+   */
+  public SafeFuture<Boolean> batchVerifyAsync() {
+    return SafeFuture.of(
+        CompletableFuture.supplyAsync(this::verifyCollectedSignatures, VERIFICATION_POOL));
+  }
+
+  private synchronized boolean verifyCollectedSignatures() {
     if (complete) throw new IllegalStateException("Reuse of disposable instance");
     List<BatchSemiAggregate> batchSemiAggregates =
         toVerify.stream()
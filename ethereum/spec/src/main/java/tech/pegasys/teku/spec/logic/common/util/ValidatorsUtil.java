@@ -16,11 +16,11 @@ package tech.pegasys.teku.spec.logic.common.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUInt64;
 
-import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.ValidatorConstants;
@@ -110,8 +110,8 @@ public class ValidatorsUtil {
       for (UInt64 index = UInt64.ZERO;
           index.compareTo(committeeCountPerSlot) < 0;
           index = index.plus(UInt64.ONE)) {
-        final List<Integer> committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
-        if (committee.contains(validator_index)) {
+        final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
+        if (committee.containsInt(validator_index)) {
           return Optional.of(new CommitteeAssignment(committee, index, slot));
         }
       }
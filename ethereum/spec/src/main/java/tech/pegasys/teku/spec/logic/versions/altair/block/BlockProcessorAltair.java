@@ -29,12 +29,15 @@ import tech.pegasys.teku.spec.cache.IndexedAttestationCache;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBody;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.BeaconBlockBodyAltair;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
 import tech.pegasys.teku.spec.datastructures.operations.Deposit;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
 import tech.pegasys.teku.spec.logic.common.block.AbstractBlockProcessor;
@@ -42,6 +45,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BlockValidationResult;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.BlockProcessingException;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -187,19 +191,7 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
       }
     }
 
-    final UInt64 previousSlot = state.getSlot().minusMinZero(1);
-    final Bytes32 domain =
-        beaconStateAccessors.getDomain(
-            state, Domain.SYNC_COMMITTEE, miscHelpers.computeEpochAtSlot(previousSlot));
-    final Bytes32 signingRoot =
-        miscHelpersAltair.computeSigningRoot(
-            beaconStateAccessors.getBlockRootAtSlot(state, previousSlot), domain);
-
-    if (!eth2FastAggregateVerify(
-        signatureVerifier,
-        participantPubkeys,
-        signingRoot,
-        aggregate.getSyncCommitteeSignature().getSignature())) {
+    if (!isValidSyncAggregateSignature(state, aggregate, participantPubkeys, signatureVerifier)) {
       throw new BlockProcessingException("Invalid sync committee signature in " + aggregate);
     }
 
@@ -241,6 +233,46 @@ public class BlockProcessorAltair extends AbstractBlockProcessor {
             });
   }
 
+  @Override
+  protected BlockValidationResult verifySyncAggregateSignature(
+      final BeaconState state,
+      final BeaconBlockBody body,
+      final BLSSignatureVerifier signatureVerifier) {
+    final SyncAggregate aggregate = BeaconBlockBodyAltair.required(body).getSyncAggregate();
+    final SszVector<SszPublicKey> committeePubkeys =
+        BeaconStateAltair.required(state).getCurrentSyncCommittee().getPubkeys();
+    final List<BLSPublicKey> participantPubkeys = new ArrayList<>();
+    for (int i = 0; i < committeePubkeys.size(); i++) {
+      if (aggregate.getSyncCommitteeBits().getBit(i)) {
+        participantPubkeys.add(committeePubkeys.get(i).getBLSPublicKey());
+      }
+    }
+    if (!isValidSyncAggregateSignature(state, aggregate, participantPubkeys, signatureVerifier)) {
+      return BlockValidationResult.failed("Invalid sync committee signature in " + aggregate);
+    }
+    return BlockValidationResult.SUCCESSFUL;
+  }
+
+  private boolean isValidSyncAggregateSignature(
+      final BeaconState state,
+      final SyncAggregate aggregate,
+      final List<BLSPublicKey> participantPubkeys,
+      final BLSSignatureVerifier signatureVerifier) {
+    final UInt64 previousSlot = state.getSlot().minusMinZero(1);
+    final Bytes32 domain =
+        beaconStateAccessors.getDomain(
+            state, Domain.SYNC_COMMITTEE, miscHelpers.computeEpochAtSlot(previousSlot));
+    final Bytes32 signingRoot =
+        miscHelpersAltair.computeSigningRoot(
+            beaconStateAccessors.getBlockRootAtSlot(state, previousSlot), domain);
+
+    return eth2FastAggregateVerify(
+        signatureVerifier,
+        participantPubkeys,
+        signingRoot,
+        aggregate.getSyncCommitteeSignature().getSignature());
+  }
+
   static boolean eth2FastAggregateVerify(
       final BLSSignatureVerifier signatureVerifier,
       List<BLSPublicKey> pubkeys,
@@ -23,6 +23,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.crypto.Hash;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.unsigned.ByteUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
@@ -38,6 +39,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.B
 import tech.pegasys.teku.spec.datastructures.type.SszPublicKey;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.helpers.ShufflingContext;
 import tech.pegasys.teku.ssz.SszList;
 
 public class BeaconStateAccessorsAltair extends BeaconStateAccessors {
@@ -93,19 +95,22 @@ public class BeaconStateAccessorsAltair extends BeaconStateAccessors {
    */
   public List<Integer> getNextSyncCommitteeIndices(final BeaconState state) {
     final UInt64 epoch = getCurrentEpoch(state).plus(1);
-    final List<Integer> activeValidatorIndices = getActiveValidatorIndices(state, epoch);
+    final IntList activeValidatorIndices = getActiveValidatorIndices(state, epoch);
     final int activeValidatorCount = activeValidatorIndices.size();
     final Bytes32 seed = getSeed(state, epoch, Domain.SYNC_COMMITTEE);
+    final ShufflingContext shufflingContext =
+        miscHelpers.createShufflingContext(seed, activeValidatorCount);
     int i = 0;
     final SszList<Validator> validators = state.getValidators();
     final List<Integer> syncCommitteeIndices = new ArrayList<>();
+    Bytes32 randomBytes = null;
     while (syncCommitteeIndices.size() < altairConfig.getSyncCommitteeSize()) {
-      final int shuffledIndex =
-          miscHelpers.computeShuffledIndex(i % activeValidatorCount, activeValidatorCount, seed);
-      final Integer candidateIndex = activeValidatorIndices.get(shuffledIndex);
-      final int randomByte =
-          ByteUtil.toUnsignedInt(
-              Hash.sha2_256(Bytes.wrap(seed, uint64ToBytes(i / 32))).get(i % 32));
+      final int shuffledIndex = shufflingContext.getShuffledIndex(i % activeValidatorCount);
+      final int candidateIndex = activeValidatorIndices.getInt(shuffledIndex);
+      if (i % 32 == 0) {
+        randomBytes = Hash.sha2_256(Bytes.wrap(seed, uint64ToBytes(i / 32)));
+      }
+      final int randomByte = ByteUtil.toUnsignedInt(randomBytes.get(i % 32));
       final UInt64 effectiveBalance = validators.get(candidateIndex).getEffective_balance();
       if (effectiveBalance
           .times(MAX_RANDOM_BYTE)
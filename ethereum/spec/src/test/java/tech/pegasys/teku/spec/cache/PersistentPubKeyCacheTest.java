@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.ssz.SszList;
+
+class PersistentPubKeyCacheTest {
+  private static final int VALIDATOR_COUNT = 10;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SszList<Validator> validators =
+      dataStructureUtil.randomBeaconState(VALIDATOR_COUNT).getValidators();
+
+  @TempDir Path tempDir;
+  private Path cacheFile;
+  private PersistentPubKeyCache cache;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    cacheFile = tempDir.resolve("pubkeys.dat");
+    cache = PersistentPubKeyCache.open(cacheFile);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    cache.close();
+  }
+
+  @Test
+  void shouldAppendAndServeKeysForAllValidators() throws IOException {
+    cache.update(validators);
+
+    assertThat(cache.getValidatedCount()).isEqualTo(VALIDATOR_COUNT);
+    assertThat(Files.size(cacheFile))
+        .isEqualTo((long) VALIDATOR_COUNT * PersistentPubKeyCache.RECORD_SIZE);
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      assertCachedKey(i, validators.get(i));
+    }
+  }
+
+  @Test
+  void shouldNotServeKeysAfterClose() throws IOException {
+    cache.update(validators);
+    cache.close();
+
+    assertThat(cache.getValidatedCount()).isZero();
+    assertThat(cache.getPublicKey(0, validators.get(0).getPubkeyBytes())).isEmpty();
+  }
+
+  @Test
+  void shouldIgnoreUpdatesAfterClose() throws IOException {
+    cache.close();
+
+    cache.update(validators);
+
+    assertThat(cache.getValidatedCount()).isZero();
+    assertThat(cache.getPublicKey(0, validators.get(0).getPubkeyBytes())).isEmpty();
+  }
+
+  @Test
+  void shouldNotServeKeysUntilValidatedAfterReopening() throws IOException {
+    cache.update(validators);
+    reopen();
+
+    assertThat(cache.getPublicKey(0, validators.get(0).getPubkeyBytes())).isEmpty();
+
+    cache.update(validators);
+    assertThat(cache.getValidatedCount()).isEqualTo(VALIDATOR_COUNT);
+    assertCachedKey(0, validators.get(0));
+  }
+
+  @Test
+  void shouldNotServeKeyWhenExpectedKeyDiffers() {
+    cache.update(validators);
+
+    assertThat(cache.getPublicKey(0, validators.get(1).getPubkeyBytes())).isEmpty();
+  }
+
+  @Test
+  void shouldNotServeKeysBeyondValidatedCount() {
+    cache.update(validators);
+
+    assertThat(cache.getPublicKey(VALIDATOR_COUNT, dataStructureUtil.randomPublicKeyBytes()))
+        .isEmpty();
+    assertThat(cache.getPublicKey(-1, validators.get(0).getPubkeyBytes())).isEmpty();
+  }
+
+  @Test
+  void shouldReplaceKeysFromFirstMismatch() throws IOException {
+    cache.update(validators);
+    reopen();
+
+    final SszList<Validator> otherValidators =
+        dataStructureUtil.randomBeaconState(VALIDATOR_COUNT).getValidators();
+    final SszList<Validator> updatedValidators =
+        IntStream.range(0, VALIDATOR_COUNT)
+            .mapToObj(i -> i < 5 ? validators.get(i) : otherValidators.get(i))
+            .collect(validators.getSchema().collector());
+    cache.update(updatedValidators);
+
+    assertThat(cache.getValidatedCount()).isEqualTo(VALIDATOR_COUNT);
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      assertCachedKey(i, updatedValidators.get(i));
+    }
+  }
+
+  @Test
+  void shouldExtendWhenNewValidatorsAreAdded() {
+    cache.update(validators.getSchema().createFromElements(validators.asList().subList(0, 4)));
+    assertThat(cache.getValidatedCount()).isEqualTo(4);
+
+    cache.update(validators);
+    assertThat(cache.getValidatedCount()).isEqualTo(VALIDATOR_COUNT);
+    assertCachedKey(VALIDATOR_COUNT - 1, validators.get(VALIDATOR_COUNT - 1));
+  }
+
+  @Test
+  void shouldDiscardPartiallyWrittenRecord() throws IOException {
+    cache.update(validators);
+    cache.close();
+    Files.write(cacheFile, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+    cache = PersistentPubKeyCache.open(cacheFile);
+
+    cache.update(validators);
+    assertThat(cache.getValidatedCount()).isEqualTo(VALIDATOR_COUNT);
+    assertThat(Files.size(cacheFile))
+        .isEqualTo((long) VALIDATOR_COUNT * PersistentPubKeyCache.RECORD_SIZE);
+  }
+
+  private void reopen() throws IOException {
+    cache.close();
+    cache = PersistentPubKeyCache.open(cacheFile);
+  }
+
+  private void assertCachedKey(final int index, final Validator validator) {
+    final BLSPublicKey expected = validator.getPublicKey();
+    assertThat(cache.getPublicKey(index, validator.getPubkeyBytes()))
+        .hasValueSatisfying(
+            key -> {
+              assertThat(key).isEqualTo(expected);
+              assertThat(key.toBytesUncompressed()).isEqualTo(expected.toBytesUncompressed());
+            });
+  }
+}
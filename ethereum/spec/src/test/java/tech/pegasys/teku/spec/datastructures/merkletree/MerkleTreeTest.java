@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.datastructures.merkletree;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -139,4 +140,69 @@ public class MerkleTreeTest {
     }
     assertThat(results).allSatisfy(Assertions::assertTrue);
   }
+
+  @Test
+  void prune_shouldStillProveLaterLeaves() {
+    final OptimizedMerkleTree prunedTree = new OptimizedMerkleTree(treeDepth);
+    merkleTree1 = new OptimizedMerkleTree(treeDepth);
+
+    for (int i = 0; i < 9; i++) {
+      prunedTree.add(leaves.get(i));
+      merkleTree1.add(leaves.get(i));
+    }
+    prunedTree.prune(7);
+    for (int i = 9; i < 13; i++) {
+      prunedTree.add(leaves.get(i));
+      merkleTree1.add(leaves.get(i));
+    }
+
+    assertThat(prunedTree.getRoot()).isEqualTo(merkleTree1.getRoot());
+    assertThat(prunedTree.getNumberOfLeaves()).isEqualTo(13);
+    for (int index = 7; index < 13; index++) {
+      for (int viewLimit = index + 1; viewLimit <= 13; viewLimit++) {
+        assertThat(prunedTree.getProofWithViewBoundary(index, viewLimit))
+            .isEqualTo(merkleTree1.getProofWithViewBoundary(index, viewLimit));
+      }
+      assertThat(prunedTree.getProof(index)).isEqualTo(merkleTree1.getProof(index));
+    }
+    assertThatThrownBy(() -> prunedTree.getProof(6)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fromFinalizedBranch_shouldContinueFromPrunedTree() {
+    final OptimizedMerkleTree prunedTree = new OptimizedMerkleTree(treeDepth);
+    merkleTree1 = new OptimizedMerkleTree(treeDepth);
+
+    for (int i = 0; i < 11; i++) {
+      prunedTree.add(leaves.get(i));
+      merkleTree1.add(leaves.get(i));
+    }
+    prunedTree.prune(11);
+    assertThat(prunedTree.getFinalizedBranch()).hasSize(3);
+    assertThat(prunedTree.getFinalizedRoot()).isEqualTo(merkleTree1.getRoot());
+
+    final OptimizedMerkleTree restoredTree =
+        OptimizedMerkleTree.fromFinalizedBranch(treeDepth, prunedTree.getFinalizedBranch(), 11);
+    assertThat(restoredTree.getNumberOfLeaves()).isEqualTo(11);
+    assertThat(restoredTree.getRoot()).isEqualTo(merkleTree1.getRoot());
+
+    for (int i = 11; i < 16; i++) {
+      restoredTree.add(leaves.get(i));
+      merkleTree1.add(leaves.get(i));
+      assertThat(restoredTree.getRoot()).isEqualTo(merkleTree1.getRoot());
+    }
+    final Bytes32 root = merkleTree1.getRoot();
+    for (int index = 11; index < 16; index++) {
+      assertThat(
+              genesisSpec
+                  .predicates()
+                  .isValidMerkleBranch(
+                      leaves.get(index),
+                      toSszBytes32Vector(restoredTree.getProof(index)),
+                      treeDepth + 1, // Add 1 for the `List` length mix-in
+                      index,
+                      root))
+          .isTrue();
+    }
+  }
 }
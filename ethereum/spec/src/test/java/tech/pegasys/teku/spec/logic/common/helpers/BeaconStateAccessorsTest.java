@@ -21,6 +21,7 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_EPOCH;
 import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -129,6 +130,32 @@ public class BeaconStateAccessorsTest {
     assertDoesNotThrow(() -> beaconStateAccessors.getBeaconCommittee(state, oldSlot, ONE));
   }
 
+  @Test
+  public void getBeaconProposerIndices_shouldMatchProposerIndexForEachSlot() {
+    final UInt64 epoch = ONE;
+    final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
+    final BeaconState state = new DataStructureUtil(spec).randomBeaconState(epochStartSlot);
+    final BeaconState sameState = new DataStructureUtil(spec).randomBeaconState(epochStartSlot);
+    assertEquals(state, sameState);
+
+    final List<Integer> proposers = beaconStateAccessors.getBeaconProposerIndices(state, epoch);
+
+    assertEquals(specConfig.getSlotsPerEpoch(), proposers.size());
+    for (int i = 0; i < proposers.size(); i++) {
+      assertEquals(
+          beaconStateAccessors.getBeaconProposerIndex(sameState, epochStartSlot.plus(i)),
+          proposers.get(i));
+    }
+  }
+
+  @Test
+  public void getBeaconProposerIndices_shouldRejectEpochOtherThanCurrentEpoch() {
+    final BeaconState state =
+        dataStructureUtil.randomBeaconState(spec.computeStartSlotAtEpoch(ONE));
+    assertThatThrownBy(() -> beaconStateAccessors.getBeaconProposerIndices(state, ONE.plus(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   private BeaconState createBeaconState() {
     return new BeaconStateTestBuilder(dataStructureUtil)
         .forkVersion(specConfig.getGenesisForkVersion())
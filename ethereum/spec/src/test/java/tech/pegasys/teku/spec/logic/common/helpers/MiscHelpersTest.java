@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.config.SpecConfigLoader;
@@ -85,13 +86,39 @@ class MiscHelpersTest {
     int[] indexes = IntStream.range(0, index_count).toArray();
     miscHelpers.shuffleList(indexes, seed);
 
-    List<Integer> indexList = IntStream.range(0, index_count).boxed().collect(Collectors.toList());
+    IntList indexList = IntList.wrap(IntStream.range(0, index_count).toArray());
     final List<Integer> result = miscHelpers.shuffleList(indexList, seed);
 
     assertThat(result)
         .containsExactlyElementsOf(Arrays.stream(indexes).boxed().collect(Collectors.toList()));
   }
 
+  @Test
+  void shufflingContext_matchesShuffleList() {
+    final SpecConfig specConfig = mock(SpecConfig.class);
+    final MiscHelpers miscHelpers = new MiscHelpers(specConfig);
+
+    when(specConfig.getShuffleRoundCount()).thenReturn(90);
+    final Bytes32 seed = Bytes32.fromHexStringLenient("0x1234");
+    final int indexCount = 1000;
+    final int[] expected = IntStream.range(0, indexCount).toArray();
+    miscHelpers.shuffleList(expected, seed);
+
+    final ShufflingContext context = miscHelpers.createShufflingContext(seed, indexCount);
+    // Query in reverse order so cached source hashes are reused across blocks out of order
+    for (int i = indexCount - 1; i >= 0; i--) {
+      assertThat(context.getShuffledIndex(i)).isEqualTo(expected[i]);
+    }
+  }
+
+  @Test
+  void shufflingContext_boundaryTest() {
+    final ShufflingContext context = miscHelpers.createShufflingContext(Bytes32.ZERO, 1);
+    assertThat(context.getShuffledIndex(0)).isZero();
+    assertThatThrownBy(() -> context.getShuffledIndex(1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @ParameterizedTest(name = "n={0}")
   @MethodSource("getNValues")
   void isSlotAtNthEpochBoundary_withSkippedBlock(final int n) {
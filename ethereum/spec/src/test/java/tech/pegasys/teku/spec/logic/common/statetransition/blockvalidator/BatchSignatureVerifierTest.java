@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLS;
+import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.bls.BLSTestUtil;
@@ -101,4 +103,38 @@ public class BatchSignatureVerifierTest {
     final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
     assertThat(verifier.batchVerify()).isTrue();
   }
+
+  @Test
+  void batchVerifyAsync_shouldBeValidWhenNothingVerified() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    assertThat(verifier.batchVerifyAsync().join()).isTrue();
+  }
+
+  @Test
+  void batchVerifyAsync_shouldVerifyCollectedSignatures() {
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    verifier.verify(keyPair.getPublicKey(), message, BLS.sign(keyPair.getSecretKey(), message));
+
+    assertThat(verifier.batchVerifyAsync().join()).isTrue();
+  }
+
+  @Test
+  void batchVerifyAsync_shouldFailWhenSignatureInvalid() {
+    final BLSKeyPair keyPair = BLSTestUtil.randomKeyPair(1);
+    final Bytes message = Bytes.wrap("Hello, world!".getBytes(UTF_8));
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    verifier.verify(keyPair.getPublicKey(), message, BLSTestUtil.randomSignature(2));
+
+    assertThat(verifier.batchVerifyAsync().join()).isFalse();
+  }
+
+  @Test
+  void batchVerifyAsync_shouldNotAllowReuse() {
+    final BatchSignatureVerifier verifier = new BatchSignatureVerifier();
+    assertThat(verifier.batchVerifyAsync().join()).isTrue();
+
+    assertThatThrownBy(verifier::batchVerify).isInstanceOf(IllegalStateException.class);
+  }
 }
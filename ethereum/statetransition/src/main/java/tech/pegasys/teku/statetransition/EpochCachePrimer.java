@@ -62,13 +62,13 @@ public class EpochCachePrimer {
   }
 
   private void primeEpochStateCaches(final BeaconState state) {
+    // Calculate all proposers
+    spec.getBeaconProposerIndices(state, spec.getCurrentEpoch(state));
+
     UInt64.range(state.getSlot(), state.getSlot().plus(spec.getSlotsPerEpoch(state.getSlot())))
         .forEach(
             slot -> {
               final BeaconStateUtil beaconStateUtil = spec.getBeaconStateUtil(state.getSlot());
-              // Calculate all proposers
-              spec.getBeaconProposerIndex(state, slot);
-
               // Calculate attesters total effective balance
               beaconStateUtil.getAttestersTotalEffectiveBalance(state, slot);
             });
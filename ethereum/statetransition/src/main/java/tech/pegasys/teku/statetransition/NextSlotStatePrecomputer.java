@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Advances the head state to the start of the next slot ahead of time.
+ *
+ * <p>The resulting state is held in the store's checkpoint state cache keyed by slot and head block
+ * root, which is where block production, block gossip validation and block import look for the
+ * state at a block's slot. When the head hasn't changed by the time the next slot starts, the slot
+ * processing is already off the critical path.
+ */
+public class NextSlotStatePrecomputer {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+
+  public NextSlotStatePrecomputer(final Spec spec, final RecentChainData recentChainData) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+  }
+
+  public void precomputeStateForSlot(final UInt64 slot) {
+    recentChainData
+        .getHeadBlock()
+        // Don't precompute if we're more than an epoch behind as we likely need to sync
+        .filter(headBlock -> isWithinOneEpochOfHeadBlock(slot, headBlock))
+        .ifPresent(
+            headBlock ->
+                recentChainData
+                    .retrieveStateAtSlot(new SlotAndBlockRoot(slot, headBlock.getRoot()))
+                    .finish(
+                        maybeState -> maybeState.ifPresent(state -> primeProposer(state, slot)),
+                        error -> LOG.warn("Failed to precompute state for slot {}", slot, error)));
+  }
+
+  private boolean isWithinOneEpochOfHeadBlock(final UInt64 slot, final SignedBeaconBlock block) {
+    return block.getSlot().isLessThan(slot)
+        && block.getSlot().plus(spec.getSlotsPerEpoch(slot)).isGreaterThanOrEqualTo(slot);
+  }
+
+  private void primeProposer(final BeaconState state, final UInt64 slot) {
+    // Needed to validate and import the block for this slot
+    spec.getBeaconProposerIndex(state, slot);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.spec.cache.PersistentPubKeyCache;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Keeps the {@link PersistentPubKeyCache} in sync with the validators in the latest finalized
+ * state, validating the stored keys on startup and appending keys as new deposits are finalized.
+ */
+public class PubKeyCacheUpdater implements FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final AsyncRunner asyncRunner;
+  private final RecentChainData recentChainData;
+  private final PersistentPubKeyCache pubKeyCache;
+
+  public PubKeyCacheUpdater(
+      final AsyncRunner asyncRunner,
+      final RecentChainData recentChainData,
+      final PersistentPubKeyCache pubKeyCache) {
+    this.asyncRunner = asyncRunner;
+    this.recentChainData = recentChainData;
+    this.pubKeyCache = pubKeyCache;
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(final Checkpoint checkpoint) {
+    updateFromFinalizedState();
+  }
+
+  public void updateFromFinalizedState() {
+    if (recentChainData.isPreGenesis()) {
+      return;
+    }
+    final BeaconState finalizedState = recentChainData.getStore().getLatestFinalized().getState();
+    asyncRunner
+        .runAsync(() -> pubKeyCache.update(finalizedState.getValidators()))
+        .finish(
+            () -> LOG.debug("Public key cache holds {} keys", pubKeyCache.getValidatedCount()),
+            error -> LOG.warn("Failed to update public key cache", error));
+  }
+}
@@ -23,10 +23,15 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingRunnable;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingSupplier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.spec.Spec;
@@ -37,7 +42,6 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.InvalidCheckpointException;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ProposerWeighting;
-import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
 import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
@@ -56,16 +60,29 @@ public class ForkChoice {
   private final EventThread forkChoiceExecutor;
   private final RecentChainData recentChainData;
   private final ProposerWeightings proposerWeightings;
+  private final PendingVotes pendingVotes = new PendingVotes();
+  private final OperationTimer processHeadTimer;
 
   private ForkChoice(
       final Spec spec,
       final EventThread forkChoiceExecutor,
       final RecentChainData recentChainData,
-      final ProposerWeightings proposerWeightings) {
+      final ProposerWeightings proposerWeightings,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
     this.forkChoiceExecutor = forkChoiceExecutor;
     this.recentChainData = recentChainData;
     this.proposerWeightings = proposerWeightings;
+    this.processHeadTimer =
+        metricsSystem.createTimer(
+            TekuMetricCategory.BEACON,
+            "fork_choice_process_head_time",
+            "Time taken to apply pending votes and select a new chain head");
+    metricsSystem.createIntegerGauge(
+        TekuMetricCategory.BEACON,
+        "fork_choice_pending_votes",
+        "Number of validator votes waiting to be applied by the next fork choice run",
+        pendingVotes::size);
     recentChainData.subscribeStoreInitialized(this::initializeProtoArrayForkChoice);
   }
 
@@ -73,12 +90,14 @@ public class ForkChoice {
       final Spec spec,
       final EventThread forkChoiceExecutor,
       final RecentChainData recentChainData,
-      final boolean balanceAttackMitigationEnabled) {
+      final boolean balanceAttackMitigationEnabled,
+      final MetricsSystem metricsSystem) {
     final ProposerWeightings proposerWeightings =
         balanceAttackMitigationEnabled
             ? new ActiveProposerWeightings(forkChoiceExecutor, spec)
             : new InactiveProposerWeightings();
-    return new ForkChoice(spec, forkChoiceExecutor, recentChainData, proposerWeightings);
+    return new ForkChoice(
+        spec, forkChoiceExecutor, recentChainData, proposerWeightings, metricsSystem);
   }
 
   /**
@@ -90,7 +109,7 @@ public class ForkChoice {
       final Spec spec,
       final EventThread forkChoiceExecutor,
       final RecentChainData recentChainData) {
-    return create(spec, forkChoiceExecutor, recentChainData, false);
+    return create(spec, forkChoiceExecutor, recentChainData, false, new NoOpMetricsSystem());
   }
 
   private void initializeProtoArrayForkChoice() {
@@ -106,6 +125,7 @@ public class ForkChoice {
   }
 
   private SafeFuture<Boolean> processHead(Optional<UInt64> nodeSlot) {
+    final TimingContext timingContext = processHeadTimer.startTimer();
     final Checkpoint retrievedJustifiedCheckpoint =
         recentChainData.getStore().getJustifiedCheckpoint();
     return recentChainData
@@ -128,7 +148,8 @@ public class ForkChoice {
                         return false;
                       }
                       final VoteUpdater transaction = recentChainData.startVoteUpdate();
-                      final ReadOnlyForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+                      final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
+                      pendingVotes.applyTo(forkChoiceStrategy, transaction);
                       final BeaconState justifiedState = justifiedCheckpointState.orElseThrow();
                       final List<UInt64> justifiedEffectiveBalances =
                           spec.getBeaconStateUtil(justifiedState.getSlot())
@@ -155,7 +176,8 @@ public class ForkChoice {
                                                   + headBlockRoot))));
                       transaction.commit();
                       return true;
-                    }));
+                    }))
+        .alwaysRun(timingContext::stopTimer);
   }
 
   /** Import a block to the store. */
@@ -205,12 +227,26 @@ public class ForkChoice {
           }
           // Note: not using thenRun here because we want to ensure each step is on the event thread
           transaction.commit().join();
+          applyPendingVotes(forkChoiceStrategy);
           updateForkChoiceForImportedBlock(block, blockSlotState.get(), result, forkChoiceStrategy);
           applyVotesFromBlock(forkChoiceStrategy, indexedAttestationCache);
           return result;
         });
   }
 
+  /**
+   * Records the buffered votes before the new head is selected so block import sees the same votes
+   * as it would if they had been applied as they arrived.
+   */
+  private void applyPendingVotes(final ForkChoiceStrategy forkChoiceStrategy) {
+    if (pendingVotes.size() == 0) {
+      return;
+    }
+    final VoteUpdater voteUpdater = recentChainData.startVoteUpdate();
+    pendingVotes.applyTo(forkChoiceStrategy, voteUpdater);
+    voteUpdater.commit();
+  }
+
   private void applyVotesFromBlock(
       final ForkChoiceStrategy forkChoiceStrategy,
       final CapturingIndexedAttestationCache indexedAttestationProvider) {
@@ -277,17 +313,11 @@ public class ForkChoice {
               final AttestationProcessingResult validationResult =
                   spec.validateAttestation(store, attestation, maybeTargetState);
 
-              if (!validationResult.isSuccessful()) {
-                return SafeFuture.completedFuture(validationResult);
+              if (validationResult.isSuccessful()) {
+                // Applied to fork choice the next time the head is processed
+                pendingVotes.add(getIndexedAttestation(attestation));
               }
-              return onForkChoiceThread(
-                      () -> {
-                        final VoteUpdater transaction = recentChainData.startVoteUpdate();
-                        getForkChoiceStrategy()
-                            .onAttestation(transaction, getIndexedAttestation(attestation));
-                        transaction.commit();
-                      })
-                  .thenApply(__ -> validationResult);
+              return SafeFuture.completedFuture(validationResult);
             })
         .exceptionallyCompose(
             error -> {
@@ -300,18 +330,12 @@ public class ForkChoice {
             });
   }
 
+  /**
+   * Adds the votes from already validated attestations. The votes are buffered and applied the
+   * next time the head is processed so callers never wait for block import to complete.
+   */
   public void applyIndexedAttestations(final List<ValidateableAttestation> attestations) {
-    onForkChoiceThread(
-            () -> {
-              final VoteUpdater transaction = recentChainData.startVoteUpdate();
-              final ForkChoiceStrategy forkChoiceStrategy = getForkChoiceStrategy();
-              attestations.stream()
-                  .map(this::getIndexedAttestation)
-                  .forEach(
-                      attestation -> forkChoiceStrategy.onAttestation(transaction, attestation));
-              transaction.commit();
-            })
-        .reportExceptions();
+    attestations.stream().map(this::getIndexedAttestation).forEach(pendingVotes::add);
   }
 
   public void onBlocksDueForSlot(final UInt64 slot) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+
+/**
+ * Buffers the latest vote from each validator until fork choice next processes the head.
+ *
+ * <p>Votes can be added from any thread without waiting for the fork choice thread, which may be
+ * busy importing a block. Only the vote with the highest target epoch is kept for each validator,
+ * as fork choice would ignore the others, so the buffer holds at most one entry per validator.
+ */
+class PendingVotes {
+  private final ConcurrentMap<UInt64, PendingVote> votes = new ConcurrentHashMap<>();
+
+  public void add(final IndexedAttestation attestation) {
+    final PendingVote vote =
+        new PendingVote(
+            attestation.getData().getBeacon_block_root(),
+            attestation.getData().getTarget().getEpoch());
+    attestation
+        .getAttesting_indices()
+        .streamUnboxed()
+        .forEach(validatorIndex -> votes.merge(validatorIndex, vote, PendingVote::latest));
+  }
+
+  /**
+   * Remove all buffered votes and record them in the given vote updater.
+   *
+   * <p>Votes added concurrently are either applied now or left for the next call, never lost.
+   */
+  public void applyTo(final ForkChoiceStrategy forkChoiceStrategy, final VoteUpdater voteUpdater) {
+    for (UInt64 validatorIndex : votes.keySet()) {
+      final PendingVote vote = votes.remove(validatorIndex);
+      if (vote != null) {
+        forkChoiceStrategy.onVote(voteUpdater, validatorIndex, vote.blockRoot, vote.targetEpoch);
+      }
+    }
+  }
+
+  public int size() {
+    return votes.size();
+  }
+
+  private static class PendingVote {
+    private final Bytes32 blockRoot;
+    private final UInt64 targetEpoch;
+
+    private PendingVote(final Bytes32 blockRoot, final UInt64 targetEpoch) {
+      this.blockRoot = blockRoot;
+      this.targetEpoch = targetEpoch;
+    }
+
+    private static PendingVote latest(final PendingVote existing, final PendingVote candidate) {
+      return candidate.targetEpoch.isGreaterThan(existing.targetEpoch) ? candidate : existing;
+    }
+  }
+}
@@ -13,22 +13,22 @@
 
 package tech.pegasys.teku.statetransition.synccommittee;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.IntList;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -48,9 +48,12 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
   /**
    * Effectively provides a mapping from (slot, blockRoot, subcommitteeIndex) -> ContributionData
    * but using a nested map under slot so that pruning based on slot is efficient.
+   *
+   * <p>There is no pool wide lock. Each ContributionData synchronizes on itself so messages for
+   * different subcommittees are added concurrently.
    */
-  private final NavigableMap<UInt64, Map<BlockRootAndCommitteeIndex, ContributionData>>
-      committeeContributionData = new TreeMap<>();
+  private final ConcurrentNavigableMap<UInt64, Map<BlockRootAndCommitteeIndex, ContributionData>>
+      committeeContributionData = new ConcurrentSkipListMap<>();
 
   public SyncCommitteeMessagePool(final Spec spec, final SyncCommitteeMessageValidator validator) {
     this.spec = spec;
@@ -74,11 +77,12 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
             });
   }
 
-  private synchronized void doAdd(final ValidateableSyncCommitteeMessage message) {
+  private void doAdd(final ValidateableSyncCommitteeMessage message) {
     final SyncSubcommitteeAssignments assignments =
         message.getSubcommitteeAssignments().orElseThrow();
     final Map<BlockRootAndCommitteeIndex, ContributionData> blockRootAndCommitteeIndexToMessages =
-        committeeContributionData.computeIfAbsent(message.getSlot(), __ -> new HashMap<>());
+        committeeContributionData.computeIfAbsent(
+            message.getSlot(), __ -> new ConcurrentHashMap<>());
     assignments
         .getAssignedSubcommittees()
         .forEach(
@@ -93,18 +97,19 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
                         message.getMessage().getSignature()));
   }
 
-  public synchronized Optional<SyncCommitteeContribution> createContribution(
+  public Optional<SyncCommitteeContribution> createContribution(
       final UInt64 slot, final Bytes32 blockRoot, final int subcommitteeIndex) {
     return getContributionData(slot, blockRoot, subcommitteeIndex)
+        .map(ContributionData::snapshot)
         .map(
-            contributionData ->
+            snapshot ->
                 spec.getSyncCommitteeUtilRequired(slot)
                     .createSyncCommitteeContribution(
                         slot,
                         blockRoot,
                         UInt64.valueOf(subcommitteeIndex),
-                        contributionData.getParticipationIndices(),
-                        contributionData.getAggregatedSignature()));
+                        snapshot.participationIndices,
+                        snapshot.aggregatedSignature));
   }
 
   /**
@@ -114,7 +119,7 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
    * @param slot the current node slot
    */
   @Override
-  public synchronized void onSlot(final UInt64 slot) {
+  public void onSlot(final UInt64 slot) {
     committeeContributionData.headMap(slot.minusMinZero(1), false).clear();
   }
 
@@ -153,25 +158,40 @@ public class SyncCommitteeMessagePool implements SlotEventsChannel {
     }
   }
 
+  /**
+   * Participation bits and the aggregate of all signatures added so far. The aggregate is updated
+   * as each message is added so creating a contribution doesn't need to aggregate every signature
+   * again.
+   */
   private static class ContributionData {
-    private final Set<Integer> participationIndices = new HashSet<>();
-    private final List<BLSSignature> signatures = new ArrayList<>();
-
-    public void add(final Set<Integer> participationIndices, final BLSSignature signature) {
-      this.participationIndices.addAll(participationIndices);
-      this.signatures.add(signature);
+    private final BitSet participationIndices = new BitSet();
+    private Optional<BLSSignature> aggregatedSignature = Optional.empty();
+
+    public synchronized void add(
+        final Set<Integer> participationIndices, final BLSSignature signature) {
+      participationIndices.forEach(this.participationIndices::set);
+      aggregatedSignature =
+          Optional.of(
+              aggregatedSignature
+                  .map(aggregate -> BLS.aggregate(List.of(aggregate, signature)))
+                  .orElse(signature));
     }
 
-    public boolean isEmpty() {
-      return signatures.isEmpty();
+    public synchronized ContributionSnapshot snapshot() {
+      return new ContributionSnapshot(
+          IntList.wrap(participationIndices.stream().toArray()),
+          aggregatedSignature.orElseGet(BLSSignature::infinity));
     }
+  }
 
-    public Set<Integer> getParticipationIndices() {
-      return participationIndices;
-    }
+  private static class ContributionSnapshot {
+    private final IntList participationIndices;
+    private final BLSSignature aggregatedSignature;
 
-    public BLSSignature getAggregatedSignature() {
-      return signatures.isEmpty() ? BLSSignature.infinity() : BLS.aggregate(signatures);
+    private ContributionSnapshot(
+        final IntList participationIndices, final BLSSignature aggregatedSignature) {
+      this.participationIndices = participationIndices;
+      this.aggregatedSignature = aggregatedSignature;
     }
   }
 }
@@ -13,9 +13,7 @@
 
 package tech.pegasys.teku.statetransition.validation;
 
-import static tech.pegasys.teku.spec.datastructures.util.BeaconStateUtil.compute_epoch_at_slot;
 import static tech.pegasys.teku.spec.datastructures.util.BeaconStateUtil.compute_signing_root;
-import static tech.pegasys.teku.spec.datastructures.util.BeaconStateUtil.compute_start_slot_at_epoch;
 import static tech.pegasys.teku.spec.datastructures.util.BeaconStateUtil.get_beacon_proposer_index;
 import static tech.pegasys.teku.spec.datastructures.util.BeaconStateUtil.get_domain;
 import static tech.pegasys.teku.util.config.Constants.DOMAIN_BEACON_PROPOSER;
@@ -98,13 +96,10 @@ public class BlockValidator {
                 return SafeFuture.completedFuture(InternalValidationResult.REJECT);
               }
 
-              final UInt64 firstSlotInBlockEpoch =
-                  compute_start_slot_at_epoch(compute_epoch_at_slot(block.getSlot()));
+              // Use the same state block import requires so it is only generated once. It is
+              // usually already available when the parent block is the chain head.
               return recentChainData
-                  .retrieveStateAtSlot(
-                      new SlotAndBlockRoot(
-                          parentBlock.get().getSlot().max(firstSlotInBlockEpoch),
-                          block.getParentRoot()))
+                  .retrieveStateAtSlot(new SlotAndBlockRoot(block.getSlot(), block.getParentRoot()))
                   .thenApply(
                       postState -> {
                         if (postState.isEmpty()) {
@@ -80,14 +80,14 @@ class EpochCachePrimerTest {
   void shouldNotPrecomputeEpochsBeforeHeadBlock() {
     primer.primeCacheForEpoch(UInt64.ZERO);
 
-    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+    verify(mockSpec, never()).getBeaconProposerIndices(any(), any());
   }
 
   @Test
   void shouldNotPrecomputeMoreThanOneEpochAhead() {
     primer.primeCacheForEpoch(UInt64.valueOf(2));
 
-    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+    verify(mockSpec, never()).getBeaconProposerIndices(any(), any());
   }
 
   @Test
@@ -97,7 +97,7 @@ class EpochCachePrimerTest {
     primer.primeCacheForEpoch(epoch);
 
     final BeaconState state = getStateForEpoch(epoch);
-    forEachSlotInEpoch(epoch, slot -> verify(mockSpec).getBeaconProposerIndex(state, slot));
+    verify(mockSpec).getBeaconProposerIndices(state, epoch);
   }
 
   @Test
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+class NextSlotStatePrecomputerTest {
+
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+  private final Spec realSpec = TestSpecFactory.createMinimalPhase0();
+  private final Spec mockSpec = mock(Spec.class);
+  private final RecentChainData recentChainData = storageSystem.recentChainData();
+
+  private final NextSlotStatePrecomputer precomputer =
+      new NextSlotStatePrecomputer(mockSpec, recentChainData);
+
+  @BeforeEach
+  void setUp() {
+    storageSystem.chainUpdater().initializeGenesis();
+    final SignedBlockAndState head = storageSystem.chainUpdater().advanceChainUntil(5);
+    storageSystem.chainUpdater().updateBestBlock(head);
+
+    when(mockSpec.getSlotsPerEpoch(any())).thenReturn(realSpec.getSlotsPerEpoch(UInt64.ZERO));
+  }
+
+  @Test
+  void shouldPrecomputeStateAndProposerForNextSlot() {
+    final UInt64 slot = UInt64.valueOf(6);
+
+    precomputer.precomputeStateForSlot(slot);
+
+    final BeaconState state = getStateAtSlot(slot);
+    assertThat(state.getSlot()).isEqualTo(slot);
+    verify(mockSpec).getBeaconProposerIndex(state, slot);
+  }
+
+  @Test
+  void shouldNotPrecomputeSlotsAtOrBeforeHeadBlock() {
+    precomputer.precomputeStateForSlot(UInt64.valueOf(5));
+
+    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+  }
+
+  @Test
+  void shouldNotPrecomputeMoreThanOneEpochAhead() {
+    precomputer.precomputeStateForSlot(
+        UInt64.valueOf(5 + realSpec.getSlotsPerEpoch(UInt64.ZERO) + 1));
+
+    verify(mockSpec, never()).getBeaconProposerIndex(any(), any());
+  }
+
+  private BeaconState getStateAtSlot(final UInt64 slot) {
+    final SignedBeaconBlock headBlock = recentChainData.getHeadBlock().orElseThrow();
+    final SafeFuture<Optional<BeaconState>> stateFuture =
+        recentChainData.retrieveStateAtSlot(new SlotAndBlockRoot(slot, headBlock.getRoot()));
+    assertThatSafeFuture(stateFuture).isCompletedWithNonEmptyOptional();
+    return stateFuture.getNow(null).orElseThrow();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.spec.cache.PersistentPubKeyCache;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+class PubKeyCacheUpdaterTest {
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault();
+
+  @TempDir Path tempDir;
+  private PersistentPubKeyCache pubKeyCache;
+  private PubKeyCacheUpdater updater;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    pubKeyCache = PersistentPubKeyCache.open(tempDir.resolve("pubkeys.dat"));
+    updater = new PubKeyCacheUpdater(asyncRunner, storageSystem.recentChainData(), pubKeyCache);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    pubKeyCache.close();
+  }
+
+  @Test
+  void shouldUpdateCacheFromFinalizedStateAsynchronously() {
+    storageSystem.chainUpdater().initializeGenesis();
+    final BeaconState finalizedState =
+        storageSystem.recentChainData().getStore().getLatestFinalized().getState();
+
+    updater.updateFromFinalizedState();
+    assertThat(pubKeyCache.getValidatedCount()).isZero();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(pubKeyCache.getValidatedCount())
+        .isEqualTo(finalizedState.getValidators().size())
+        .isPositive();
+    final Validator validator = finalizedState.getValidators().get(0);
+    assertThat(pubKeyCache.getPublicKey(0, validator.getPubkeyBytes()))
+        .contains(validator.getPublicKey());
+  }
+
+  @Test
+  void shouldNotUpdateCacheBeforeGenesis() {
+    updater.updateFromFinalizedState();
+
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+  }
+}
@@ -336,6 +336,17 @@ public class BlockImporterTest {
     assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
   }
 
+  @Test
+  public void importBlock_invalidBlockSignature() throws Exception {
+    final SignedBeaconBlock block = otherChain.createBlockAtSlot(UInt64.ONE);
+    final SignedBeaconBlock newBlock =
+        SignedBeaconBlock.create(spec, block.getMessage(), BLSTestUtil.randomSignature(1));
+    localChain.setSlot(block.getSlot());
+
+    final BlockImportResult result = blockImporter.importBlock(newBlock).get();
+    assertImportFailed(result, FailureReason.FAILED_STATE_TRANSITION);
+  }
+
   @Test
   public void importBlock_weakSubjectivityFailure_wrongAncestor() throws Exception {
     final UInt64 wsEpoch = UInt64.valueOf(10);
@@ -21,6 +21,7 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyPair;
@@ -31,6 +32,7 @@ import tech.pegasys.teku.core.ChainBuilder.BlockOptions;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.InlineEventThread;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
@@ -124,7 +126,9 @@ class ForkChoiceTest {
 
   @Test
   void onBlock_shouldReorgWhenProposerWeightingMakesForkBestChain() {
-    forkChoice = ForkChoice.create(spec, new InlineEventThread(), recentChainData, true);
+    forkChoice =
+        ForkChoice.create(
+            spec, new InlineEventThread(), recentChainData, true, new NoOpMetricsSystem());
 
     final ChainBuilder chainB = chainBuilder.fork();
     final SignedBlockAndState chainBBlock1 =
@@ -267,6 +271,39 @@ class ForkChoiceTest {
     assertDoesNotThrow(() -> forkChoice.processHead(updatedAttestationSlot));
   }
 
+  @Test
+  void applyIndexedAttestations_shouldNotApplyVotesUntilHeadIsProcessed() {
+    final SignedBlockAndState block = chainBuilder.generateBlockAtSlot(1);
+    importBlock(block);
+    processHead(ONE);
+    final ForkChoiceStrategy forkChoiceStrategy =
+        recentChainData.getForkChoiceStrategy().orElseThrow();
+    final UInt64 initialWeight = forkChoiceStrategy.blockWeight(block.getRoot()).orElseThrow();
+
+    final UInt64 attestationSlot = applyAttestationFromValidator(UInt64.ZERO, block);
+
+    // Vote is buffered so proto-array is unchanged until the head is next processed
+    assertThat(forkChoiceStrategy.blockWeight(block.getRoot())).contains(initialWeight);
+
+    processHead(attestationSlot);
+    assertThat(forkChoiceStrategy.blockWeight(block.getRoot()).orElseThrow())
+        .isGreaterThan(initialWeight);
+  }
+
+  @Test
+  void onBlock_shouldRecordBufferedVotesBeforeSelectingHead() {
+    final SignedBlockAndState block = chainBuilder.generateBlockAtSlot(1);
+    importBlock(block);
+    applyAttestationFromValidator(UInt64.ZERO, block);
+    assertThat(recentChainData.startVoteUpdate().getVote(UInt64.ZERO).getNextRoot())
+        .isNotEqualTo(block.getRoot());
+
+    importBlock(chainBuilder.generateBlockAtSlot(2));
+
+    assertThat(recentChainData.startVoteUpdate().getVote(UInt64.ZERO).getNextRoot())
+        .isEqualTo(block.getRoot());
+  }
+
   @Test
   void onBlock_shouldHandleNonCanonicalBlockThatUpdatesJustifiedCheckpoint() {
     // If the new block is not the child of the current head block we use `ProtoArray.findHead`
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.stream.LongStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.ForkChoiceStrategy;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteUpdater;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.IndexedAttestation;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class PendingVotesTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final ForkChoiceStrategy forkChoiceStrategy = mock(ForkChoiceStrategy.class);
+  private final VoteUpdater voteUpdater = mock(VoteUpdater.class);
+
+  private final PendingVotes pendingVotes = new PendingVotes();
+
+  @Test
+  void shouldApplyBufferedVotes() {
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    pendingVotes.add(attestation(blockRoot, 2, 1, 3));
+
+    pendingVotes.applyTo(forkChoiceStrategy, voteUpdater);
+
+    verify(forkChoiceStrategy).onVote(voteUpdater, UInt64.valueOf(1), blockRoot, UInt64.valueOf(2));
+    verify(forkChoiceStrategy).onVote(voteUpdater, UInt64.valueOf(3), blockRoot, UInt64.valueOf(2));
+    verifyNoMoreInteractions(forkChoiceStrategy);
+  }
+
+  @Test
+  void shouldKeepOnlyVoteWithLatestTargetEpochForEachValidator() {
+    final Bytes32 blockRoot1 = dataStructureUtil.randomBytes32();
+    final Bytes32 blockRoot2 = dataStructureUtil.randomBytes32();
+    final Bytes32 blockRoot3 = dataStructureUtil.randomBytes32();
+    pendingVotes.add(attestation(blockRoot1, 2, 1, 2));
+    pendingVotes.add(attestation(blockRoot2, 3, 1));
+    pendingVotes.add(attestation(blockRoot3, 1, 2));
+    assertThat(pendingVotes.size()).isEqualTo(2);
+
+    pendingVotes.applyTo(forkChoiceStrategy, voteUpdater);
+
+    verify(forkChoiceStrategy)
+        .onVote(voteUpdater, UInt64.valueOf(1), blockRoot2, UInt64.valueOf(3));
+    verify(forkChoiceStrategy)
+        .onVote(voteUpdater, UInt64.valueOf(2), blockRoot1, UInt64.valueOf(2));
+    verifyNoMoreInteractions(forkChoiceStrategy);
+  }
+
+  @Test
+  void shouldKeepFirstVoteWhenTargetEpochIsTheSame() {
+    final Bytes32 blockRoot1 = dataStructureUtil.randomBytes32();
+    final Bytes32 blockRoot2 = dataStructureUtil.randomBytes32();
+    pendingVotes.add(attestation(blockRoot1, 2, 1));
+    pendingVotes.add(attestation(blockRoot2, 2, 1));
+
+    pendingVotes.applyTo(forkChoiceStrategy, voteUpdater);
+
+    verify(forkChoiceStrategy)
+        .onVote(voteUpdater, UInt64.valueOf(1), blockRoot1, UInt64.valueOf(2));
+    verifyNoMoreInteractions(forkChoiceStrategy);
+  }
+
+  @Test
+  void shouldClearVotesOnceApplied() {
+    pendingVotes.add(attestation(dataStructureUtil.randomBytes32(), 2, 1));
+    pendingVotes.applyTo(forkChoiceStrategy, voteUpdater);
+    assertThat(pendingVotes.size()).isZero();
+
+    final ForkChoiceStrategy secondForkChoiceStrategy = mock(ForkChoiceStrategy.class);
+    pendingVotes.applyTo(secondForkChoiceStrategy, voteUpdater);
+    verifyNoInteractions(secondForkChoiceStrategy);
+  }
+
+  private IndexedAttestation attestation(
+      final Bytes32 blockRoot, final long targetEpoch, final long... validatorIndices) {
+    final AttestationData data =
+        new AttestationData(
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomUInt64(),
+            blockRoot,
+            dataStructureUtil.randomCheckpoint(),
+            new Checkpoint(UInt64.valueOf(targetEpoch), blockRoot));
+    return new IndexedAttestation(
+        IndexedAttestation.SSZ_SCHEMA
+            .getAttestingIndicesSchema()
+            .of(LongStream.of(validatorIndices).mapToObj(UInt64::valueOf).collect(toList())),
+        data,
+        dataStructureUtil.randomSignature());
+  }
+}
@@ -155,6 +155,33 @@ class SyncCommitteeMessagePoolTest {
         .contains(createContributionFrom(subcommitteeIndex, message1, message2));
   }
 
+  @Test
+  void shouldUpdateAggregateAsMessagesAreAdded() {
+    final int subcommitteeIndex = 3;
+    final ValidateableSyncCommitteeMessage message1 =
+        ValidateableSyncCommitteeMessage.fromValidator(
+            dataStructureUtil.randomSyncCommitteeMessage());
+    message1.setSubcommitteeAssignments(
+        SyncSubcommitteeAssignments.builder().addAssignment(subcommitteeIndex, 3).build());
+    final ValidateableSyncCommitteeMessage message2 =
+        ValidateableSyncCommitteeMessage.fromValidator(
+            dataStructureUtil.randomSyncCommitteeMessage(
+                message1.getSlot(), message1.getBeaconBlockRoot()));
+    message2.setSubcommitteeAssignments(
+        SyncSubcommitteeAssignments.builder().addAssignment(subcommitteeIndex, 1).build());
+    final UInt64 slot = message1.getSlot();
+    final Bytes32 blockRoot = message1.getBeaconBlockRoot();
+
+    addValid(message1);
+    final Optional<SyncCommitteeContribution> firstContribution =
+        pool.createContribution(slot, blockRoot, subcommitteeIndex);
+    addValid(message2);
+
+    assertThat(firstContribution).contains(createContributionFrom(subcommitteeIndex, message1));
+    assertThat(pool.createContribution(slot, blockRoot, subcommitteeIndex))
+        .contains(createContributionFrom(subcommitteeIndex, message1, message2));
+  }
+
   @Test
   void shouldIncludeMessageInContributionForAllApplicableSubnets() {
     final ValidateableSyncCommitteeMessage message =
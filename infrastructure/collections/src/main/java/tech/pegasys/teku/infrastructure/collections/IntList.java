@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable list of primitive ints backed by an {@code int[]}.
+ *
+ * <p>Implements {@link List} so it can be passed to code expecting a {@code List<Integer>}, but
+ * callers on hot paths should prefer {@link #getInt(int)}, {@link #intStream()} and {@link
+ * #forEachInt(IntConsumer)} which avoid boxing. {@link #subList(int, int)} returns a view sharing
+ * the same backing array.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+  private static final IntList EMPTY = new IntList(new int[0], 0, 0);
+
+  private final int[] values;
+  private final int offset;
+  private final int size;
+
+  private IntList(final int[] values, final int offset, final int size) {
+    this.values = values;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  public static IntList empty() {
+    return EMPTY;
+  }
+
+  public static IntList of(final int... values) {
+    return wrap(values.clone());
+  }
+
+  /**
+   * Creates a list backed directly by the given array. The array must not be modified afterwards.
+   */
+  public static IntList wrap(final int[] values) {
+    return values.length == 0 ? EMPTY : new IntList(values, 0, values.length);
+  }
+
+  public static IntList copyOf(final Collection<Integer> values) {
+    if (values instanceof IntList) {
+      return (IntList) values;
+    }
+    return wrap(values.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  public int getInt(final int index) {
+    checkElementIndex(index, size);
+    return values[offset + index];
+  }
+
+  @Override
+  public Integer get(final int index) {
+    return getInt(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  public boolean containsInt(final int value) {
+    return indexOfInt(value) >= 0;
+  }
+
+  public int indexOfInt(final int value) {
+    for (int i = 0; i < size; i++) {
+      if (values[offset + i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return o instanceof Integer && containsInt((Integer) o);
+  }
+
+  @Override
+  public int indexOf(final Object o) {
+    return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+  }
+
+  public IntStream intStream() {
+    return Arrays.stream(values, offset, offset + size);
+  }
+
+  public void forEachInt(final IntConsumer action) {
+    for (int i = offset; i < offset + size; i++) {
+      action.accept(values[i]);
+    }
+  }
+
+  public int[] toIntArray() {
+    return Arrays.copyOfRange(values, offset, offset + size);
+  }
+
+  @Override
+  public IntList subList(final int fromIndex, final int toIndex) {
+    checkPositionIndexes(fromIndex, toIndex, size);
+    if (fromIndex == 0 && toIndex == size) {
+      return this;
+    }
+    return new IntList(values, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof IntList) {
+      final IntList other = (IntList) o;
+      return Arrays.equals(
+          values, offset, offset + size, other.values, other.offset, other.offset + other.size);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = offset; i < offset + size; i++) {
+      hashCode = 31 * hashCode + values[i];
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class IntListTest {
+
+  @Test
+  public void of_shouldCopyInputArray() {
+    final int[] values = {1, 2, 3};
+    final IntList list = IntList.of(values);
+    values[0] = 10;
+
+    assertThat(list).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void shouldBeEqualToEquivalentBoxedList() {
+    final IntList list = IntList.of(5, 3, 9);
+
+    assertThat(list).isEqualTo(List.of(5, 3, 9));
+    assertThat(List.of(5, 3, 9)).isEqualTo(list);
+    assertThat(list.hashCode()).isEqualTo(List.of(5, 3, 9).hashCode());
+  }
+
+  @Test
+  public void subList_shouldShareBackingArray() {
+    final IntList list = IntList.of(0, 1, 2, 3, 4, 5);
+    final IntList subList = list.subList(2, 5);
+
+    assertThat(subList).containsExactly(2, 3, 4);
+    assertThat(subList.getInt(0)).isEqualTo(2);
+    assertThat(subList.intStream().toArray()).containsExactly(2, 3, 4);
+    assertThat(subList.toIntArray()).containsExactly(2, 3, 4);
+    assertThat(subList).isEqualTo(IntList.of(2, 3, 4));
+    assertThat(subList.hashCode()).isEqualTo(List.of(2, 3, 4).hashCode());
+    assertThat(subList.subList(1, 2)).containsExactly(3);
+  }
+
+  @Test
+  public void subList_shouldNotAllowAccessOutsideView() {
+    final IntList subList = IntList.of(0, 1, 2, 3).subList(1, 3);
+
+    assertThatThrownBy(() -> subList.getInt(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> subList.subList(0, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThat(subList.containsInt(0)).isFalse();
+    assertThat(subList.containsInt(3)).isFalse();
+    assertThat(subList.indexOfInt(2)).isEqualTo(1);
+  }
+
+  @Test
+  public void forEachInt_shouldVisitElementsInOrder() {
+    final List<Integer> visited = new ArrayList<>();
+    IntList.of(7, 8, 9).subList(1, 3).forEachInt(visited::add);
+
+    assertThat(visited).containsExactly(8, 9);
+  }
+
+  @Test
+  public void contains_shouldHandleNonIntegerValues() {
+    final IntList list = IntList.of(1, 2);
+
+    assertThat(list.contains(1)).isTrue();
+    assertThat(list.contains(1L)).isFalse();
+    assertThat(list.contains(null)).isFalse();
+    assertThat(list.indexOf("1")).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldBeImmutable() {
+    final IntList list = IntList.of(1, 2);
+
+    assertThatThrownBy(() -> list.add(3)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> list.set(0, 3)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void copyOf_shouldReturnSameInstanceForIntList() {
+    final IntList list = IntList.of(1, 2);
+
+    assertThat(IntList.copyOf(list)).isSameAs(list);
+    assertThat(IntList.copyOf(List.of(1, 2))).isEqualTo(list);
+    assertThat(IntList.copyOf(List.of())).isSameAs(IntList.empty());
+  }
+}
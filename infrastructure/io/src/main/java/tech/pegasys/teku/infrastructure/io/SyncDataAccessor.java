@@ -15,9 +15,15 @@ package tech.pegasys.teku.infrastructure.io;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -26,6 +32,7 @@ import org.apache.tuweni.bytes.Bytes;
  * to disk.
  */
 public class SyncDataAccessor {
+  private static final String TEMP_SUFFIX = ".tmp";
 
   /**
    * Reads the content of the specified path, if it exists.
@@ -52,6 +59,72 @@ public class SyncDataAccessor {
    * @exception IOException if an IO error occurs while writing
    */
   public void syncedWrite(final Path path, final Bytes data) throws IOException {
+    final Path absolutePath = createParentDirectory(path);
+    Files.write(
+        absolutePath,
+        data.toArrayUnsafe(),
+        StandardOpenOption.SYNC,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Writes data to each of the specified paths, ensuring that each path always holds either its
+   * previous content or the complete new content, even if the process crashes part way through.
+   *
+   * <p>The data is first written to a temporary file next to each target. The temporary files are
+   * flushed to hardware storage together, which is much faster than waiting for each file to be
+   * flushed before writing the next when writing many small files, and are then atomically moved
+   * over their targets. Existing files are overwritten, otherwise they are created.
+   *
+   * <p>All files in the batch are held in memory so callers writing a large number of files should
+   * split them into batches.
+   *
+   * @param data the data to write, keyed by the path to write it to
+   * @exception IOException if an IO error occurs while writing
+   */
+  public void syncedWrite(final Map<Path, Bytes> data) throws IOException {
+    final List<PendingWrite> pendingWrites = new ArrayList<>(data.size());
+    try {
+      for (Map.Entry<Path, Bytes> entry : data.entrySet()) {
+        final Path absolutePath = createParentDirectory(entry.getKey());
+        final Path tempPath = absolutePath.resolveSibling(absolutePath.getFileName() + TEMP_SUFFIX);
+        pendingWrites.add(new PendingWrite(tempPath, absolutePath));
+        Files.write(
+            tempPath,
+            entry.getValue().toArrayUnsafe(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+      }
+      try {
+        pendingWrites.parallelStream().forEach(write -> force(write.tempPath));
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+      for (PendingWrite write : pendingWrites) {
+        Files.move(
+            write.tempPath,
+            write.targetPath,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException | RuntimeException e) {
+      for (PendingWrite write : pendingWrites) {
+        Files.deleteIfExists(write.tempPath);
+      }
+      throw e;
+    }
+  }
+
+  private static void force(final Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path createParentDirectory(final Path path) throws IOException {
     final Path absolutePath = path.toAbsolutePath();
     if (absolutePath.getParent() != null) {
       final File parentDirectory = absolutePath.getParent().toFile();
@@ -59,11 +132,16 @@ public class SyncDataAccessor {
         throw new IOException("Unable to create directory " + parentDirectory);
       }
     }
-    Files.write(
-        absolutePath,
-        data.toArrayUnsafe(),
-        StandardOpenOption.SYNC,
-        StandardOpenOption.CREATE,
-        StandardOpenOption.TRUNCATE_EXISTING);
+    return absolutePath;
+  }
+
+  private static class PendingWrite {
+    private final Path tempPath;
+    private final Path targetPath;
+
+    private PendingWrite(final Path tempPath, final Path targetPath) {
+      this.tempPath = tempPath;
+      this.targetPath = targetPath;
+    }
   }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SyncDataAccessorTest {
+  private final SyncDataAccessor dataAccessor = new SyncDataAccessor();
+
+  @Test
+  void syncedWrite_shouldReplaceExistingFilesWithoutLeavingTemporaryFiles(
+      @TempDir final Path tempDir) throws IOException {
+    final Path existingFile = tempDir.resolve("existing.yml");
+    final Path newFile = tempDir.resolve("nested").resolve("new.yml");
+    Files.write(existingFile, Bytes.fromHexString("0x0102030405").toArrayUnsafe());
+
+    final Map<Path, Bytes> data = new LinkedHashMap<>();
+    data.put(existingFile, Bytes.fromHexString("0x06"));
+    data.put(newFile, Bytes.fromHexString("0x0708"));
+    dataAccessor.syncedWrite(data);
+
+    assertThat(dataAccessor.read(existingFile)).contains(Bytes.fromHexString("0x06"));
+    assertThat(dataAccessor.read(newFile)).contains(Bytes.fromHexString("0x0708"));
+    try (Stream<Path> paths = Files.walk(tempDir)) {
+      assertThat(paths.filter(path -> path.getFileName().toString().endsWith(".tmp"))).isEmpty();
+    }
+  }
+}
@@ -136,6 +136,8 @@ public class Eth2P2PNetworkBuilder {
             timeProvider,
             config.getPeerRateLimit(),
             config.getPeerRequestLimit(),
+            config.getPeerBandwidthLimit(),
+            config.getGlobalBandwidthLimit(),
             spec);
     final Collection<RpcMethod<?, ?, ?>> eth2RpcMethods =
         eth2PeerManager.getBeaconChainMethods().all();
@@ -35,6 +35,8 @@ public class P2PConfig {
   private final boolean subscribeAllSubnetsEnabled;
   private final int peerRateLimit;
   private final int peerRequestLimit;
+  private final int peerBandwidthLimit;
+  private final int globalBandwidthLimit;
   private final boolean batchVerifyAttestationSignatures;
 
   private P2PConfig(
@@ -47,6 +49,8 @@ public class P2PConfig {
       final boolean subscribeAllSubnetsEnabled,
       final int peerRateLimit,
       final int peerRequestLimit,
+      final int peerBandwidthLimit,
+      final int globalBandwidthLimit,
       final boolean batchVerifyAttestationSignatures) {
     this.spec = spec;
     this.networkConfig = networkConfig;
@@ -57,6 +61,8 @@ public class P2PConfig {
     this.subscribeAllSubnetsEnabled = subscribeAllSubnetsEnabled;
     this.peerRateLimit = peerRateLimit;
     this.peerRequestLimit = peerRequestLimit;
+    this.peerBandwidthLimit = peerBandwidthLimit;
+    this.globalBandwidthLimit = globalBandwidthLimit;
     this.batchVerifyAttestationSignatures = batchVerifyAttestationSignatures;
   }
 
@@ -100,6 +106,14 @@ public class P2PConfig {
     return peerRequestLimit;
   }
 
+  public int getPeerBandwidthLimit() {
+    return peerBandwidthLimit;
+  }
+
+  public int getGlobalBandwidthLimit() {
+    return globalBandwidthLimit;
+  }
+
   public boolean batchVerifyAttestationSignatures() {
     return batchVerifyAttestationSignatures;
   }
@@ -107,6 +121,8 @@ public class P2PConfig {
   public static class Builder {
     public static final int DEFAULT_PEER_RATE_LIMIT = 500;
     public static final int DEFAULT_PEER_REQUEST_LIMIT = 50;
+    public static final int DEFAULT_PEER_BANDWIDTH_LIMIT = 2 * 1024 * 1024;
+    public static final int DEFAULT_GLOBAL_BANDWIDTH_LIMIT = 10 * 1024 * 1024;
 
     private final NetworkConfig.Builder networkConfig = NetworkConfig.builder();
     private final DiscoveryConfig.Builder discoveryConfig = DiscoveryConfig.builder();
@@ -118,6 +134,8 @@ public class P2PConfig {
     private Boolean subscribeAllSubnetsEnabled = false;
     private Integer peerRateLimit = DEFAULT_PEER_RATE_LIMIT;
     private Integer peerRequestLimit = DEFAULT_PEER_REQUEST_LIMIT;
+    private Integer peerBandwidthLimit = DEFAULT_PEER_BANDWIDTH_LIMIT;
+    private Integer globalBandwidthLimit = DEFAULT_GLOBAL_BANDWIDTH_LIMIT;
     private Boolean batchVerifyAttestationSignatures = false;
 
     private Builder() {}
@@ -146,6 +164,8 @@ public class P2PConfig {
           subscribeAllSubnetsEnabled,
           peerRateLimit,
           peerRequestLimit,
+          peerBandwidthLimit,
+          globalBandwidthLimit,
           batchVerifyAttestationSignatures);
     }
 
@@ -199,6 +219,18 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder peerBandwidthLimit(final Integer peerBandwidthLimit) {
+      checkNotNull(peerBandwidthLimit);
+      this.peerBandwidthLimit = peerBandwidthLimit;
+      return this;
+    }
+
+    public Builder globalBandwidthLimit(final Integer globalBandwidthLimit) {
+      checkNotNull(globalBandwidthLimit);
+      this.globalBandwidthLimit = globalBandwidthLimit;
+      return this;
+    }
+
     public Builder batchVerifyAttestationSignatures(
         final Boolean batchVerifyAttestationSignatures) {
       checkNotNull(batchVerifyAttestationSignatures);
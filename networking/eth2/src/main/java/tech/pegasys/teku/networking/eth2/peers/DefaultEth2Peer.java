@@ -68,6 +68,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
   private final AtomicInteger unansweredPings = new AtomicInteger();
   private final RateTracker blockRequestTracker;
   private final RateTracker requestTracker;
+  private final PeerBandwidthTracker bandwidthTracker;
 
   DefaultEth2Peer(
       final Peer peer,
@@ -76,7 +77,8 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
       final MetadataMessagesFactory metadataMessagesFactory,
       final PeerChainValidator peerChainValidator,
       final RateTracker blockRequestTracker,
-      final RateTracker requestTracker) {
+      final RateTracker requestTracker,
+      final PeerBandwidthTracker bandwidthTracker) {
     super(peer);
     this.rpcMethods = rpcMethods;
     this.statusMessageFactory = statusMessageFactory;
@@ -84,6 +86,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
     this.peerChainValidator = peerChainValidator;
     this.blockRequestTracker = blockRequestTracker;
     this.requestTracker = requestTracker;
+    this.bandwidthTracker = bandwidthTracker;
   }
 
   @Override
@@ -253,6 +256,15 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
     return true;
   }
 
+  @Override
+  public boolean wantToSendBytes(final long byteCount) {
+    if (!bandwidthTracker.wantToSend(byteCount)) {
+      LOG.debug("Bandwidth limit reached while responding to peer {}", getId());
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public SafeFuture<UInt64> sendPing() {
     unansweredPings.getAndIncrement();
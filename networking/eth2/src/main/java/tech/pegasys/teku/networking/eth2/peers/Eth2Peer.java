@@ -41,7 +41,8 @@ public interface Eth2Peer extends Peer, SyncSource {
       final MetadataMessagesFactory metadataMessagesFactory,
       final PeerChainValidator peerChainValidator,
       final RateTracker blockRequestTracker,
-      final RateTracker requestTracker) {
+      final RateTracker requestTracker,
+      final PeerBandwidthTracker bandwidthTracker) {
     return new DefaultEth2Peer(
         peer,
         rpcMethods,
@@ -49,7 +50,8 @@ public interface Eth2Peer extends Peer, SyncSource {
         metadataMessagesFactory,
         peerChainValidator,
         blockRequestTracker,
-        requestTracker);
+        requestTracker,
+        bandwidthTracker);
   }
 
   void updateStatus(PeerStatus status);
@@ -93,6 +95,12 @@ public interface Eth2Peer extends Peer, SyncSource {
 
   boolean wantToMakeRequest();
 
+  /**
+   * Checks whether the bandwidth limits allow sending the specified number of bytes to this peer
+   * as part of an RPC response. Unlike the other limits, exceeding it does not disconnect the peer.
+   */
+  boolean wantToSendBytes(long byteCount);
+
   SafeFuture<UInt64> sendPing();
 
   int getUnansweredPingCount();
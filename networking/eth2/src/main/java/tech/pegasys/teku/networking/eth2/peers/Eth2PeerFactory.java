@@ -35,6 +35,7 @@ public class Eth2PeerFactory {
   private final Optional<Checkpoint> requiredCheckpoint;
   private final int peerRateLimit;
   private final int peerRequestLimit;
+  private final RpcBandwidthLimiter bandwidthLimiter;
 
   public Eth2PeerFactory(
       final Spec spec,
@@ -45,7 +46,9 @@ public class Eth2PeerFactory {
       final TimeProvider timeProvider,
       final Optional<Checkpoint> requiredCheckpoint,
       final int peerRateLimit,
-      final int peerRequestLimit) {
+      final int peerRequestLimit,
+      final int peerBandwidthLimit,
+      final int globalBandwidthLimit) {
     this.spec = spec;
     this.metricsSystem = metricsSystem;
     this.chainDataClient = chainDataClient;
@@ -55,6 +58,9 @@ public class Eth2PeerFactory {
     this.requiredCheckpoint = requiredCheckpoint;
     this.peerRateLimit = peerRateLimit;
     this.peerRequestLimit = peerRequestLimit;
+    this.bandwidthLimiter =
+        new RpcBandwidthLimiter(
+            metricsSystem, timeProvider, peerBandwidthLimit, globalBandwidthLimit);
   }
 
   public Eth2Peer create(final Peer peer, final BeaconChainMethods rpcMethods) {
@@ -65,6 +71,7 @@ public class Eth2PeerFactory {
         metadataMessagesFactory,
         PeerChainValidator.create(spec, metricsSystem, chainDataClient, requiredCheckpoint),
         new RateTracker(peerRateLimit, 60, timeProvider),
-        new RateTracker(peerRequestLimit, 60, timeProvider));
+        new RateTracker(peerRequestLimit, 60, timeProvider),
+        bandwidthLimiter.createPeerTracker());
   }
 }
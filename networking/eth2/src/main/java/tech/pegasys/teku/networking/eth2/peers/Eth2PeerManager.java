@@ -115,6 +115,8 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
       final TimeProvider timeProvider,
       final int peerRateLimit,
       final int peerRequestLimit,
+      final int peerBandwidthLimit,
+      final int globalBandwidthLimit,
       final Spec spec) {
 
     final StatusMessageFactory statusMessageFactory = new StatusMessageFactory(recentChainData);
@@ -141,7 +143,9 @@ public class Eth2PeerManager implements PeerLookup, PeerHandler {
             timeProvider,
             requiredCheckpoint,
             peerRateLimit,
-            peerRequestLimit),
+            peerRequestLimit,
+            peerBandwidthLimit,
+            globalBandwidthLimit),
         statusMessageFactory,
         metadataMessagesFactory,
         rpcEncoding,
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+/** Tracks the RPC response bandwidth used by a single peer. */
+public class PeerBandwidthTracker {
+  private final RpcBandwidthLimiter limiter;
+  private final TokenBucket peerBucket;
+
+  PeerBandwidthTracker(final RpcBandwidthLimiter limiter, final TokenBucket peerBucket) {
+    this.limiter = limiter;
+    this.peerBucket = peerBucket;
+  }
+
+  /**
+   * Checks both the peer and global bandwidth limits and if allowed, charges the bytes against
+   * them.
+   *
+   * @return true if the bytes may be sent, false if a limit has been reached
+   */
+  public boolean wantToSend(final long bytes) {
+    return limiter.wantToSend(peerBucket, bytes);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Limits the bandwidth used to respond to RPC requests from peers.
+ *
+ * <p>Each peer has its own token bucket, with tokens representing bytes, and all peers share a
+ * single global bucket so that many peers syncing from us at once can't saturate our uplink and
+ * starve gossip. Both buckets allow bursts of up to {@link #BURST_SECONDS} worth of tokens.
+ */
+public class RpcBandwidthLimiter {
+  static final int BURST_SECONDS = 2;
+
+  /**
+   * Cost charged for each request in addition to the bytes sent to cover the work of looking up
+   * data, even when nothing is found.
+   */
+  public static final long REQUEST_COST = 4096;
+
+  private final TimeProvider timeProvider;
+  private final long peerBytesPerSecond;
+  private final TokenBucket globalBucket;
+  private final Counter sentBytesCounter;
+  private final Counter peerThrottledCounter;
+  private final Counter globalThrottledCounter;
+
+  public RpcBandwidthLimiter(
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final long peerBytesPerSecond,
+      final long globalBytesPerSecond) {
+    this.timeProvider = timeProvider;
+    this.peerBytesPerSecond = peerBytesPerSecond;
+    this.globalBucket =
+        new TokenBucket(globalBytesPerSecond * BURST_SECONDS, globalBytesPerSecond, timeProvider);
+
+    metricsSystem.createGauge(
+        TekuMetricCategory.NETWORK,
+        "rpc_bandwidth_global_available_bytes",
+        "Bytes currently available to respond to RPC requests across all peers",
+        globalBucket::getAvailableTokens);
+    sentBytesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_bandwidth_sent_bytes_total",
+            "Total number of bytes charged against the RPC bandwidth limits");
+    final LabelledMetric<Counter> throttledCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_bandwidth_throttled_total",
+            "Total number of RPC responses cut short because a bandwidth limit was reached",
+            "limit");
+    peerThrottledCounter = throttledCounter.labels("peer");
+    globalThrottledCounter = throttledCounter.labels("global");
+  }
+
+  public PeerBandwidthTracker createPeerTracker() {
+    return new PeerBandwidthTracker(
+        this,
+        new TokenBucket(peerBytesPerSecond * BURST_SECONDS, peerBytesPerSecond, timeProvider));
+  }
+
+  boolean wantToSend(final TokenBucket peerBucket, final long bytes) {
+    if (!peerBucket.tryConsume(bytes)) {
+      peerThrottledCounter.inc();
+      return false;
+    }
+    if (!globalBucket.tryConsume(bytes)) {
+      // Not this peer's fault so don't hold the bytes against it
+      peerBucket.refund(bytes);
+      globalThrottledCounter.inc();
+      return false;
+    }
+    sentBytesCounter.inc(bytes);
+    return true;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Token bucket which refills continuously at a fixed rate up to a maximum capacity.
+ *
+ * <p>Consumption is allowed as long as at least one token is available, even if the cost exceeds
+ * the tokens remaining. The bucket then goes into debt which has to be repaid by refilling before
+ * anything else is allowed. This ensures items larger than the capacity can still be sent while
+ * the average rate remains bounded.
+ */
+public class TokenBucket {
+  private static final long MILLIS_PER_SECOND = 1000;
+
+  private final long capacity;
+  private final long tokensPerSecond;
+  private final TimeProvider timeProvider;
+  private long availableTokens;
+  private long lastRefillTimeMillis;
+
+  public TokenBucket(
+      final long capacity, final long tokensPerSecond, final TimeProvider timeProvider) {
+    checkArgument(capacity > 0, "Capacity must be greater than zero");
+    checkArgument(tokensPerSecond > 0, "Tokens per second must be greater than zero");
+    this.capacity = capacity;
+    this.tokensPerSecond = tokensPerSecond;
+    this.timeProvider = timeProvider;
+    this.availableTokens = capacity;
+    this.lastRefillTimeMillis = timeProvider.getTimeInMillis().longValue();
+  }
+
+  public synchronized boolean tryConsume(final long tokens) {
+    refill();
+    if (availableTokens <= 0) {
+      return false;
+    }
+    availableTokens -= tokens;
+    return true;
+  }
+
+  /** Returns tokens which were consumed but ended up not being used. */
+  public synchronized void refund(final long tokens) {
+    availableTokens = Math.min(capacity, availableTokens + tokens);
+  }
+
+  public synchronized long getAvailableTokens() {
+    refill();
+    return availableTokens;
+  }
+
+  private void refill() {
+    final long currentTimeMillis = timeProvider.getTimeInMillis().longValue();
+    final long elapsedMillis = currentTimeMillis - lastRefillTimeMillis;
+    if (elapsedMillis <= 0) {
+      return;
+    }
+    if (availableTokens >= capacity) {
+      lastRefillTimeMillis = currentTimeMillis;
+      return;
+    }
+    final long refilledTokens = elapsedMillis * tokensPerSecond / MILLIS_PER_SECOND;
+    if (refilledTokens > 0) {
+      // Only move the refill time forward once tokens are added so short intervals aren't lost
+      availableTokens = Math.min(capacity, availableTokens + refilledTokens);
+      lastRefillTimeMillis = currentTimeMillis;
+    }
+  }
+}
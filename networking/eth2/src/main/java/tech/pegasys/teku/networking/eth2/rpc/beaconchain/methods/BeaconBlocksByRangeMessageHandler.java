@@ -29,6 +29,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RpcBandwidthLimiter;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
@@ -105,8 +106,12 @@ public class BeaconBlocksByRangeMessageHandler
             callback, maxRequestSize.min(message.getCount()).longValue())) {
       return;
     }
+    if (!peer.wantToSendBytes(RpcBandwidthLimiter.REQUEST_COST)) {
+      callback.completeWithErrorResponse(bandwidthLimitException());
+      return;
+    }
 
-    sendMatchingBlocks(message, callback)
+    sendMatchingBlocks(peer, message, callback)
         .finish(
             callback::completeSuccessfully,
             error -> {
@@ -127,6 +132,7 @@ public class BeaconBlocksByRangeMessageHandler
   }
 
   private SafeFuture<?> sendMatchingBlocks(
+      final Eth2Peer peer,
       final BeaconBlocksByRangeRequestMessage message,
       final ResponseCallback<SignedBeaconBlock> callback) {
     final UInt64 count = maxRequestSize.min(message.getCount());
@@ -165,6 +171,7 @@ public class BeaconBlocksByRangeMessageHandler
               final UInt64 headSlot = hotRoots.isEmpty() ? headBlockSlot : hotRoots.lastKey();
               return sendNextBlock(
                       new RequestState(
+                          peer,
                           message.getStartSlot(),
                           message.getStep(),
                           count,
@@ -201,6 +208,13 @@ public class BeaconBlocksByRangeMessageHandler
   /** Sends the block and returns true if the request is now complete. */
   private SafeFuture<Boolean> handleLoadedBlock(
       final RequestState requestState, final Optional<SignedBeaconBlock> block) {
+    if (block.isPresent() && !requestState.wantToSendBlock(block.get())) {
+      if (!requestState.hasSentBlocks()) {
+        return SafeFuture.failedFuture(bandwidthLimitException());
+      }
+      // Responses are allowed to contain fewer blocks than requested so end it here
+      return completedFuture(true);
+    }
     return block
         .map(requestState::sendBlock)
         .orElse(SafeFuture.COMPLETE)
@@ -215,21 +229,29 @@ public class BeaconBlocksByRangeMessageHandler
             });
   }
 
+  private static RpcException bandwidthLimitException() {
+    return new RpcException.ResourceUnavailableException("Bandwidth limit reached, retry later");
+  }
+
   private class RequestState {
+    private final Eth2Peer peer;
     private final UInt64 headSlot;
     private final ResponseCallback<SignedBeaconBlock> callback;
     private final UInt64 step;
     private final NavigableMap<UInt64, Bytes32> knownBlockRoots;
     private UInt64 currentSlot;
     private UInt64 remainingBlocks;
+    private int sentBlocks = 0;
 
     RequestState(
+        final Eth2Peer peer,
         final UInt64 startSlot,
         final UInt64 step,
         final UInt64 count,
         final UInt64 headSlot,
         final NavigableMap<UInt64, Bytes32> knownBlockRoots,
         final ResponseCallback<SignedBeaconBlock> callback) {
+      this.peer = peer;
       this.currentSlot = startSlot;
       this.knownBlockRoots = knownBlockRoots;
       // Minus 1 to account for sending the block at startSlot.
@@ -252,7 +274,16 @@ public class BeaconBlocksByRangeMessageHandler
       return !needsMoreBlocks() || hasReachedHeadSlot();
     }
 
+    boolean wantToSendBlock(final SignedBeaconBlock block) {
+      return peer.wantToSendBytes(block.getSszSize());
+    }
+
+    boolean hasSentBlocks() {
+      return sentBlocks > 0;
+    }
+
     SafeFuture<Void> sendBlock(final SignedBeaconBlock block) {
+      sentBlocks++;
       return callback.respond(block);
     }
 
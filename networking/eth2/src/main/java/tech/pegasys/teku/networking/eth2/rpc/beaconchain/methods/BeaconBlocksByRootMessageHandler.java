@@ -20,11 +20,13 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.eth2.peers.RpcBandwidthLimiter;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ResourceUnavailableException;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
@@ -59,23 +61,34 @@ public class BeaconBlocksByRootMessageHandler
         peer.disconnectCleanly(DisconnectReason.RATE_LIMITING).reportExceptions();
         return;
       }
+      if (!peer.wantToSendBytes(RpcBandwidthLimiter.REQUEST_COST)) {
+        callback.completeWithErrorResponse(bandwidthLimitException());
+        return;
+      }
 
+      final ResponseState responseState = new ResponseState();
       for (SszBytes32 blockRoot : message) {
         future =
             future.thenCompose(
-                __ ->
-                    storageClient
-                        .getStore()
-                        .retrieveSignedBlock(blockRoot.get())
-                        .thenCompose(
-                            block -> {
-                              final Optional<RpcException> validationResult =
-                                  block.flatMap(b -> validateResponse(protocolId, b));
-                              if (validationResult.isPresent()) {
-                                return SafeFuture.failedFuture(validationResult.get());
-                              }
-                              return block.map(callback::respond).orElse(SafeFuture.COMPLETE);
-                            }));
+                __ -> {
+                  if (responseState.bandwidthLimitReached) {
+                    return SafeFuture.COMPLETE;
+                  }
+                  return storageClient
+                      .getStore()
+                      .retrieveSignedBlock(blockRoot.get())
+                      .thenCompose(
+                          block -> {
+                            final Optional<RpcException> validationResult =
+                                block.flatMap(b -> validateResponse(protocolId, b));
+                            if (validationResult.isPresent()) {
+                              return SafeFuture.failedFuture(validationResult.get());
+                            }
+                            return block
+                                .map(b -> sendBlock(peer, callback, responseState, b))
+                                .orElse(SafeFuture.COMPLETE);
+                          });
+                });
       }
       future.finish(callback::completeSuccessfully, err -> handleError(callback, err));
     } else {
@@ -83,6 +96,27 @@ public class BeaconBlocksByRootMessageHandler
     }
   }
 
+  private SafeFuture<Void> sendBlock(
+      final Eth2Peer peer,
+      final ResponseCallback<SignedBeaconBlock> callback,
+      final ResponseState responseState,
+      final SignedBeaconBlock block) {
+    if (!peer.wantToSendBytes(block.getSszSize())) {
+      if (responseState.sentBlocks == 0) {
+        return SafeFuture.failedFuture(bandwidthLimitException());
+      }
+      // Responses are allowed to contain fewer blocks than requested so end it here
+      responseState.bandwidthLimitReached = true;
+      return SafeFuture.COMPLETE;
+    }
+    responseState.sentBlocks++;
+    return callback.respond(block);
+  }
+
+  private static RpcException bandwidthLimitException() {
+    return new ResourceUnavailableException("Bandwidth limit reached, retry later");
+  }
+
   private void handleError(
       final ResponseCallback<SignedBeaconBlock> callback, final Throwable error) {
     final Throwable rootCause = Throwables.getRootCause(error);
@@ -115,4 +149,10 @@ public class BeaconBlocksByRootMessageHandler
 
     return Optional.empty();
   }
+
+  private static class ResponseState {
+    // Only accessed sequentially as each block is sent after the previous future completes
+    private int sentBlocks = 0;
+    private boolean bandwidthLimitReached = false;
+  }
 }
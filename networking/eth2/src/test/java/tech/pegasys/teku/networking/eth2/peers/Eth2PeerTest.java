@@ -41,6 +41,7 @@ class Eth2PeerTest {
   private final PeerChainValidator peerChainValidator = mock(PeerChainValidator.class);
   private final RateTracker blockRateTracker = mock(RateTracker.class);
   private final RateTracker rateTracker = mock(RateTracker.class);
+  private final PeerBandwidthTracker bandwidthTracker = mock(PeerBandwidthTracker.class);
 
   private final PeerStatus randomPeerStatus = randomPeerStatus();
 
@@ -52,7 +53,8 @@ class Eth2PeerTest {
           metadataMessagesFactory,
           peerChainValidator,
           blockRateTracker,
-          rateTracker);
+          rateTracker,
+          bandwidthTracker);
 
   @Test
   void updateStatus_shouldNotUpdateUntilValidationPasses() {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class RpcBandwidthLimiterTest {
+  private static final int PEER_LIMIT = 100;
+  private static final int GLOBAL_LIMIT = 300;
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final RpcBandwidthLimiter limiter =
+      new RpcBandwidthLimiter(metricsSystem, timeProvider, PEER_LIMIT, GLOBAL_LIMIT);
+
+  @Test
+  public void shouldLimitIndividualPeer() {
+    final PeerBandwidthTracker peer1 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer2 = limiter.createPeerTracker();
+
+    assertThat(peer1.wantToSend(PEER_LIMIT * RpcBandwidthLimiter.BURST_SECONDS)).isTrue();
+    assertThat(peer1.wantToSend(1)).isFalse();
+
+    // Other peers are unaffected
+    assertThat(peer2.wantToSend(1)).isTrue();
+    assertThat(getThrottledCount("peer")).isEqualTo(1);
+    assertThat(getThrottledCount("global")).isZero();
+  }
+
+  @Test
+  public void shouldLimitTotalAcrossAllPeers() {
+    final PeerBandwidthTracker peer1 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer2 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer3 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer4 = limiter.createPeerTracker();
+
+    assertThat(peer1.wantToSend(200)).isTrue();
+    assertThat(peer2.wantToSend(200)).isTrue();
+    assertThat(peer3.wantToSend(200)).isTrue();
+    assertThat(peer4.wantToSend(1)).isFalse();
+
+    assertThat(getThrottledCount("global")).isEqualTo(1);
+    assertThat(
+            metricsSystem
+                .getGauge(TekuMetricCategory.NETWORK, "rpc_bandwidth_global_available_bytes")
+                .getValue())
+        .isZero();
+  }
+
+  @Test
+  public void shouldNotChargePeerWhenGlobalLimitReached() {
+    final PeerBandwidthTracker peer1 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer2 = limiter.createPeerTracker();
+    final PeerBandwidthTracker peer3 = limiter.createPeerTracker();
+    assertThat(peer1.wantToSend(300)).isTrue();
+    assertThat(peer2.wantToSend(300)).isTrue();
+
+    // Global bucket is empty so peer3 is throttled but keeps its own allowance
+    assertThat(peer3.wantToSend(200)).isFalse();
+
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(peer3.wantToSend(150)).isTrue();
+    assertThat(peer3.wantToSend(50)).isTrue();
+  }
+
+  @Test
+  public void shouldTrackSentBytes() {
+    final PeerBandwidthTracker peer = limiter.createPeerTracker();
+    assertThat(peer.wantToSend(50)).isTrue();
+    assertThat(peer.wantToSend(25)).isTrue();
+
+    assertThat(
+            metricsSystem
+                .getCounter(TekuMetricCategory.NETWORK, "rpc_bandwidth_sent_bytes_total")
+                .getValue())
+        .isEqualTo(75);
+  }
+
+  private long getThrottledCount(final String limit) {
+    return metricsSystem
+        .getCounter(TekuMetricCategory.NETWORK, "rpc_bandwidth_throttled_total")
+        .getValue(limit);
+  }
+}
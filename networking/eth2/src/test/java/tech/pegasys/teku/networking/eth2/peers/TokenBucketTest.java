@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class TokenBucketTest {
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+  private final TokenBucket bucket = new TokenBucket(100, 10, timeProvider);
+
+  @Test
+  public void shouldStartFull() {
+    assertThat(bucket.getAvailableTokens()).isEqualTo(100);
+    assertThat(bucket.tryConsume(100)).isTrue();
+    assertThat(bucket.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  public void shouldAllowGoingIntoDebtWhileTokensAreAvailable() {
+    assertThat(bucket.tryConsume(150)).isTrue();
+    assertThat(bucket.getAvailableTokens()).isEqualTo(-50);
+    assertThat(bucket.tryConsume(1)).isFalse();
+
+    // Debt has to be repaid before anything else is allowed
+    timeProvider.advanceTimeBySeconds(5);
+    assertThat(bucket.tryConsume(1)).isFalse();
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(bucket.tryConsume(1)).isTrue();
+  }
+
+  @Test
+  public void shouldRefillOverTime() {
+    assertThat(bucket.tryConsume(100)).isTrue();
+
+    timeProvider.advanceTimeByMillis(500);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(5);
+
+    timeProvider.advanceTimeBySeconds(2);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(25);
+  }
+
+  @Test
+  public void shouldNotLoseTokensWhenCheckedFrequently() {
+    assertThat(bucket.tryConsume(100)).isTrue();
+
+    // Each step is less than the time needed to add a single token
+    for (int i = 0; i < 10; i++) {
+      timeProvider.advanceTimeByMillis(50);
+      bucket.getAvailableTokens();
+    }
+    assertThat(bucket.getAvailableTokens()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldNotRefillBeyondCapacity() {
+    timeProvider.advanceTimeBySeconds(60);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(100);
+
+    assertThat(bucket.tryConsume(10)).isTrue();
+    timeProvider.advanceTimeBySeconds(60);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldRefundTokens() {
+    assertThat(bucket.tryConsume(100)).isTrue();
+    bucket.refund(40);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(40);
+
+    bucket.refund(100);
+    assertThat(bucket.getAvailableTokens()).isEqualTo(100);
+  }
+}
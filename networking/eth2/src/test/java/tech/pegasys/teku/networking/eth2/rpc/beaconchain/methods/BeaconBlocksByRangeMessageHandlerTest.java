@@ -60,6 +60,8 @@ class BeaconBlocksByRangeMessageHandlerTest {
       BeaconChainMethodIds.getBlocksByRangeMethodId(1, RpcEncoding.SSZ_SNAPPY);
   private static final String V2_PROTOCOL_ID =
       BeaconChainMethodIds.getBlocksByRangeMethodId(2, RpcEncoding.SSZ_SNAPPY);
+  private static final RpcException BANDWIDTH_LIMIT_ERROR =
+      new RpcException.ResourceUnavailableException("Bandwidth limit reached, retry later");
 
   private final Spec spec = TestSpecFactory.createMinimalPhase0();
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
@@ -91,6 +93,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   public void setup() {
     when(peer.wantToMakeRequest()).thenReturn(true);
     when(peer.wantToReceiveObjects(any(), anyLong())).thenReturn(true);
+    when(peer.wantToSendBytes(anyLong())).thenReturn(true);
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
   }
@@ -412,6 +415,42 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verifyBlocksReturned(1, 2, 3, 4, 5);
   }
 
+  @Test
+  void shouldRejectRequestWhenBandwidthLimitReached() {
+    when(peer.wantToSendBytes(anyLong())).thenReturn(false);
+    withCanonicalHeadBlock(blocksWStates.get(10));
+
+    requestBlocks(3, 5, 1);
+
+    verify(listener).completeWithErrorResponse(BANDWIDTH_LIMIT_ERROR);
+    verifyNoMoreInteractions(listener);
+    verify(combinedChainDataClient, never()).getEarliestAvailableBlockSlot();
+  }
+
+  @Test
+  void shouldEndResponseEarlyWhenBandwidthLimitReached() {
+    // Allow the request cost and the first two blocks
+    when(peer.wantToSendBytes(anyLong())).thenReturn(true, true, true, false);
+    withCanonicalHeadBlock(blocksWStates.get(10));
+    withAncestorRoots(3, 5, 1, allBlocks());
+
+    requestBlocks(3, 5, 1);
+
+    verifyBlocksReturned(3, 4);
+  }
+
+  @Test
+  void shouldReturnErrorWhenBandwidthLimitReachedBeforeFirstBlock() {
+    when(peer.wantToSendBytes(anyLong())).thenReturn(true, false);
+    withCanonicalHeadBlock(blocksWStates.get(10));
+    withAncestorRoots(3, 5, 1, allBlocks());
+
+    requestBlocks(3, 5, 1);
+
+    verify(listener).completeWithErrorResponse(BANDWIDTH_LIMIT_ERROR);
+    verifyNoMoreInteractions(listener);
+  }
+
   private void requestBlocks(final int startBlock, final long count, final int skip) {
 
     handler.onIncomingMessage(
@@ -79,6 +79,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
     chainUpdater.initializeGenesis();
     when(peer.wantToMakeRequest()).thenReturn(true);
     when(peer.wantToReceiveObjects(any(), anyLong())).thenReturn(true);
+    when(peer.wantToSendBytes(anyLong())).thenReturn(true);
     when(recentChainData.getStore()).thenReturn(store);
     // Forward block requests from the mock to the actual store
     when(store.retrieveSignedBlock(any()))
@@ -116,6 +117,38 @@ public class BeaconBlocksByRootMessageHandlerTest {
     verify(callback, times(1)).respond(any());
   }
 
+  @Test
+  public void onIncomingMessage_endsResponseEarlyWhenBandwidthLimitReached() {
+    final List<SignedBeaconBlock> blocks = buildChain(5);
+    // Allow the request cost and the first two blocks
+    when(peer.wantToSendBytes(anyLong())).thenReturn(true, true, true, false);
+
+    final BeaconBlocksByRootRequestMessage message = createRequest(blocks);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+
+    verify(callback).respond(blocks.get(0));
+    verify(callback).respond(blocks.get(1));
+    verify(callback, times(2)).respond(any());
+    verify(store, times(3)).retrieveSignedBlock(any());
+    verify(callback).completeSuccessfully();
+  }
+
+  @Test
+  public void onIncomingMessage_rejectsRequestWhenBandwidthLimitReached() {
+    final List<SignedBeaconBlock> blocks = buildChain(5);
+    when(peer.wantToSendBytes(anyLong())).thenReturn(false);
+
+    final BeaconBlocksByRootRequestMessage message = createRequest(blocks);
+    handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
+
+    verify(callback)
+        .completeWithErrorResponse(
+            new RpcException.ResourceUnavailableException("Bandwidth limit reached, retry later"));
+    verify(store, never()).retrieveSignedBlock(any());
+    verify(callback, never()).respond(any());
+    verify(peer, never()).disconnectCleanly(any());
+  }
+
   @Test
   public void onIncomingMessage_requestBlocksAcrossAltairFork_v2() {
     // Set up request that spans the altair fork
@@ -192,6 +192,8 @@ public class Eth2P2PNetworkFactory {
                 StubTimeProvider.withTimeInSeconds(1000),
                 500,
                 50,
+                P2PConfig.Builder.DEFAULT_PEER_BANDWIDTH_LIMIT,
+                P2PConfig.Builder.DEFAULT_GLOBAL_BANDWIDTH_LIMIT,
                 spec);
 
         List<RpcMethod<?, ?, ?>> rpcMethods =
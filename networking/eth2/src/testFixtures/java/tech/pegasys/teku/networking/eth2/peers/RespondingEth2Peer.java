@@ -274,6 +274,11 @@ public class RespondingEth2Peer implements Eth2Peer {
     return true;
   }
 
+  @Override
+  public boolean wantToSendBytes(final long byteCount) {
+    return true;
+  }
+
   @Override
   public SafeFuture<UInt64> sendPing() {
     return SafeFuture.completedFuture(UInt64.ONE);
@@ -13,18 +13,26 @@
 
 package tech.pegasys.teku.networking.p2p.connection;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
+import com.google.common.base.Suppliers;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -38,6 +46,7 @@ import tech.pegasys.teku.networking.p2p.discovery.DiscoveryService;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
 import tech.pegasys.teku.service.serviceutils.Service;
 
@@ -50,6 +59,7 @@ public class ConnectionManager extends Service {
   private final Set<PeerAddress> staticPeers;
   private final DiscoveryService discoveryService;
   private final PeerSelectionStrategy peerSelectionStrategy;
+  private final KnownPeerStore knownPeerStore;
   private final Counter attemptedConnectionCounter;
   private final Counter successfulConnectionCounter;
   private final Counter failedConnectionCounter;
@@ -65,12 +75,14 @@ public class ConnectionManager extends Service {
       final AsyncRunner asyncRunner,
       final P2PNetwork<? extends Peer> network,
       final PeerSelectionStrategy peerSelectionStrategy,
+      final KnownPeerStore knownPeerStore,
       final List<PeerAddress> peerAddresses) {
     this.asyncRunner = asyncRunner;
     this.network = network;
     this.staticPeers = new HashSet<>(peerAddresses);
     this.discoveryService = discoveryService;
     this.peerSelectionStrategy = peerSelectionStrategy;
+    this.knownPeerStore = knownPeerStore;
 
     final LabelledMetric<Counter> connectionAttemptCounter =
         metricsSystem.createLabelledCounter(
@@ -86,6 +98,7 @@ public class ConnectionManager extends Service {
   @Override
   protected SafeFuture<?> doStart() {
     LOG.trace("Starting discovery manager");
+    knownPeerStore.load();
     synchronized (this) {
       staticPeers.forEach(this::createPersistentConnection);
     }
@@ -101,12 +114,28 @@ public class ConnectionManager extends Service {
   }
 
   private void connectToKnownPeers() {
-    peerSelectionStrategy
-        .selectPeersToConnect(
-            network,
-            peerPools,
-            () -> discoveryService.streamKnownPeers().filter(this::isPeerValid).collect(toList()))
-        .forEach(this::attemptConnection);
+    final Supplier<List<DiscoveryPeer>> candidates = Suppliers.memoize(this::getCandidatePeers);
+    final List<PeerAddress> peersToConnect =
+        peerSelectionStrategy.selectPeersToConnect(network, peerPools, candidates);
+    if (peersToConnect.isEmpty()) {
+      return;
+    }
+    final Map<NodeId, DiscoveryPeer> candidatesById =
+        candidates.get().stream()
+            .collect(toMap(candidate -> network.createPeerAddress(candidate).getId(), identity()));
+    peersToConnect.forEach(
+        peerAddress ->
+            attemptConnection(
+                peerAddress, Optional.ofNullable(candidatesById.get(peerAddress.getId()))));
+  }
+
+  private List<DiscoveryPeer> getCandidatePeers() {
+    // Previously connected peers come first so they win ties when candidates are ranked, but use
+    // the record from discovery where available as it is likely to be more up to date
+    final Map<Bytes, DiscoveryPeer> candidates = new LinkedHashMap<>();
+    knownPeerStore.getKnownPeers().forEach(peer -> candidates.put(peer.getPublicKey(), peer));
+    discoveryService.streamKnownPeers().forEach(peer -> candidates.put(peer.getPublicKey(), peer));
+    return candidates.values().stream().filter(this::isPeerValid).collect(toList());
   }
 
   private void searchForPeers() {
@@ -115,6 +144,7 @@ public class ConnectionManager extends Service {
       return;
     }
     LOG.trace("Searching for peers");
+    knownPeerStore.save();
     discoveryService
         .searchForPeers()
         .orTimeout(10, TimeUnit.SECONDS)
@@ -126,7 +156,8 @@ public class ConnectionManager extends Service {
             });
   }
 
-  private void attemptConnection(final PeerAddress peerAddress) {
+  private void attemptConnection(
+      final PeerAddress peerAddress, final Optional<DiscoveryPeer> discoveryPeer) {
     LOG.trace("Attempting to connect to {}", peerAddress.getId());
     attemptedConnectionCounter.inc();
     network
@@ -135,13 +166,21 @@ public class ConnectionManager extends Service {
             peer -> {
               LOG.trace("Successfully connected to peer {}", peer.getId());
               successfulConnectionCounter.inc();
+              discoveryPeer.ifPresent(knownPeerStore::onConnected);
               peer.subscribeDisconnect(
-                  (reason, locallyInitiated) -> peerPools.forgetPeer(peer.getId()));
+                  (reason, locallyInitiated) -> {
+                    peerPools.forgetPeer(peer.getId());
+                    discoveryPeer.ifPresent(
+                        candidate ->
+                            knownPeerStore.onDisconnected(candidate.getPublicKey(), reason));
+                  });
             },
             error -> {
               LOG.trace(() -> "Failed to connect to peer: " + peerAddress.getId(), error);
               failedConnectionCounter.inc();
               peerPools.forgetPeer(peerAddress.getId());
+              discoveryPeer.ifPresent(
+                  candidate -> knownPeerStore.onConnectionFailed(candidate.getPublicKey()));
             });
   }
 
@@ -160,6 +199,7 @@ public class ConnectionManager extends Service {
     if (peerSearchTask != null) {
       peerSearchTask.cancel();
     }
+    knownPeerStore.save();
     return SafeFuture.COMPLETE;
   }
 
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.connection;
+
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EnrForkId;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsSupplier;
+import tech.pegasys.teku.ssz.collections.SszBitvector;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+
+/**
+ * Remembers peers we have successfully connected to so they can be offered as connection
+ * candidates straight after a restart, before discovery has found any peers.
+ *
+ * <p>Peers are ranked by their number of consecutive failed connection attempts and then by how
+ * recently we connected to them. Peers which disconnect for a permanent reason or repeatedly fail
+ * to connect are forgotten.
+ */
+public class KnownPeerStore {
+  private static final Logger LOG = LogManager.getLogger();
+
+  @VisibleForTesting static final String KNOWN_PEERS_STORE_KEY = "known-peers";
+  @VisibleForTesting static final int MAX_KNOWN_PEERS = 200;
+  @VisibleForTesting static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+  private final KeyValueStore<String, Bytes> kvStore;
+  private final SchemaDefinitionsSupplier currentSchemaDefinitionsSupplier;
+
+  // Ordered from least to most recently connected
+  private final Map<Bytes, KnownPeer> knownPeers = new LinkedHashMap<>();
+  private boolean modified = false;
+
+  public KnownPeerStore(
+      final KeyValueStore<String, Bytes> kvStore,
+      final SchemaDefinitionsSupplier currentSchemaDefinitionsSupplier) {
+    this.kvStore = kvStore;
+    this.currentSchemaDefinitionsSupplier = currentSchemaDefinitionsSupplier;
+  }
+
+  public synchronized void load() {
+    knownPeers.clear();
+    kvStore
+        .get(KNOWN_PEERS_STORE_KEY)
+        .ifPresent(
+            data -> {
+              try {
+                SSZ.decodeBytesList(data).stream()
+                    .map(this::decodePeer)
+                    .flatMap(Optional::stream)
+                    .forEach(peer -> knownPeers.put(peer.getPublicKey(), peer));
+              } catch (final RuntimeException e) {
+                LOG.warn("Failed to load known peers. Stored peers will be ignored", e);
+                knownPeers.clear();
+              }
+            });
+    LOG.debug("Loaded {} known peers", knownPeers.size());
+    modified = false;
+  }
+
+  public synchronized void save() {
+    if (!modified) {
+      return;
+    }
+    kvStore.put(
+        KNOWN_PEERS_STORE_KEY,
+        SSZ.encodeBytesList(knownPeers.values().stream().map(this::encodePeer).collect(toList())));
+    modified = false;
+  }
+
+  /** Returns the known peers, best first. */
+  public synchronized List<DiscoveryPeer> getKnownPeers() {
+    final List<KnownPeer> peers = new ArrayList<>(knownPeers.values());
+    Collections.reverse(peers);
+    return peers.stream()
+        .sorted(Comparator.comparingInt(KnownPeer::getConsecutiveFailures))
+        .map(KnownPeer::getDiscoveryPeer)
+        .collect(toList());
+  }
+
+  public synchronized void onConnected(final DiscoveryPeer peer) {
+    knownPeers.remove(peer.getPublicKey());
+    knownPeers.put(peer.getPublicKey(), new KnownPeer(peer, 0));
+    if (knownPeers.size() > MAX_KNOWN_PEERS) {
+      final Iterator<KnownPeer> iterator = knownPeers.values().iterator();
+      iterator.next();
+      iterator.remove();
+    }
+    modified = true;
+  }
+
+  public synchronized void onConnectionFailed(final Bytes publicKey) {
+    final KnownPeer peer = knownPeers.get(publicKey);
+    if (peer == null) {
+      return;
+    }
+    if (peer.getConsecutiveFailures() + 1 >= MAX_CONSECUTIVE_FAILURES) {
+      knownPeers.remove(publicKey);
+    } else {
+      knownPeers.put(
+          publicKey, new KnownPeer(peer.getDiscoveryPeer(), peer.getConsecutiveFailures() + 1));
+    }
+    modified = true;
+  }
+
+  public synchronized void onDisconnected(
+      final Bytes publicKey, final Optional<DisconnectReason> reason) {
+    if (reason.map(DisconnectReason::isPermanent).orElse(false)
+        && knownPeers.remove(publicKey) != null) {
+      modified = true;
+    }
+  }
+
+  private Bytes encodePeer(final KnownPeer knownPeer) {
+    final DiscoveryPeer peer = knownPeer.getDiscoveryPeer();
+    return SSZ.encode(
+        writer -> {
+          writer.writeBytes(peer.getPublicKey());
+          writer.writeBytes(Bytes.wrap(peer.getNodeAddress().getAddress().getAddress()));
+          writer.writeUInt16(peer.getNodeAddress().getPort());
+          writer.writeBytes(peer.getEnrForkId().map(EnrForkId::sszSerialize).orElse(Bytes.EMPTY));
+          writer.writeBytes(peer.getPersistentAttestationSubnets().sszSerialize());
+          writer.writeBytes(peer.getSyncCommitteeSubnets().sszSerialize());
+          writer.writeUInt8(knownPeer.getConsecutiveFailures());
+        });
+  }
+
+  private Optional<KnownPeer> decodePeer(final Bytes data) {
+    try {
+      return Optional.of(
+          SSZ.decode(
+              data,
+              reader -> {
+                final Bytes publicKey = reader.readBytes();
+                final InetAddress address = toInetAddress(reader.readBytes());
+                final int port = reader.readUInt16();
+                final Bytes enrForkId = reader.readBytes();
+                final SszBitvector attnets =
+                    currentSchemaDefinitionsSupplier
+                        .getAttnetsENRFieldSchema()
+                        .sszDeserialize(reader.readBytes());
+                final SszBitvector syncnets =
+                    currentSchemaDefinitionsSupplier
+                        .getSyncnetsENRFieldSchema()
+                        .sszDeserialize(reader.readBytes());
+                final int consecutiveFailures = reader.readUInt8();
+                return new KnownPeer(
+                    new DiscoveryPeer(
+                        publicKey,
+                        new InetSocketAddress(address, port),
+                        enrForkId.isEmpty()
+                            ? Optional.empty()
+                            : Optional.of(EnrForkId.SSZ_SCHEMA.sszDeserialize(enrForkId)),
+                        attnets,
+                        syncnets),
+                    consecutiveFailures);
+              }));
+    } catch (final RuntimeException e) {
+      LOG.debug("Ignoring known peer which could not be decoded", e);
+      return Optional.empty();
+    }
+  }
+
+  private static InetAddress toInetAddress(final Bytes address) {
+    try {
+      return InetAddress.getByAddress(address.toArrayUnsafe());
+    } catch (final UnknownHostException e) {
+      throw new IllegalArgumentException("Invalid peer address " + address, e);
+    }
+  }
+
+  private static class KnownPeer {
+    private final DiscoveryPeer discoveryPeer;
+    private final int consecutiveFailures;
+
+    private KnownPeer(final DiscoveryPeer discoveryPeer, final int consecutiveFailures) {
+      this.discoveryPeer = discoveryPeer;
+      this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public Bytes getPublicKey() {
+      return discoveryPeer.getPublicKey();
+    }
+
+    public DiscoveryPeer getDiscoveryPeer() {
+      return discoveryPeer;
+    }
+
+    public int getConsecutiveFailures() {
+      return consecutiveFailures;
+    }
+  }
+}
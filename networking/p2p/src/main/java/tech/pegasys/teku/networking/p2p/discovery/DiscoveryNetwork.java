@@ -27,6 +27,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.logging.StatusLogger;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.p2p.connection.ConnectionManager;
+import tech.pegasys.teku.networking.p2p.connection.KnownPeerStore;
 import tech.pegasys.teku.networking.p2p.connection.PeerSelectionStrategy;
 import tech.pegasys.teku.networking.p2p.discovery.discv5.DiscV5Service;
 import tech.pegasys.teku.networking.p2p.discovery.noop.NoOpDiscoveryService;
@@ -110,6 +111,7 @@ public class DiscoveryNetwork<P extends Peer> extends DelegatingP2PNetwork<P> {
             asyncRunner,
             p2pNetwork,
             peerSelectionStrategy,
+            new KnownPeerStore(kvStore, currentSchemaDefinitionsSupplier),
             discoveryConfig.getStaticPeers().stream()
                 .map(p2pNetwork::createPeerAddress)
                 .collect(toList()));
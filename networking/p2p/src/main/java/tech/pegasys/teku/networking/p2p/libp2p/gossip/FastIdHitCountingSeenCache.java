@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.libp2p.gossip;
+
+import io.libp2p.etc.types.WBytes;
+import io.libp2p.pubsub.FastIdSeenCache;
+import io.libp2p.pubsub.PubsubMessage;
+import io.libp2p.pubsub.SeenCache;
+import java.util.Collection;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the messages recognised as duplicates by the fast id of a {@link FastIdSeenCache}.
+ *
+ * <p>The fast id is calculated over the compressed message data so these duplicates are dropped
+ * without their payload being uncompressed to calculate the message-id.
+ */
+class FastIdHitCountingSeenCache<T> implements SeenCache<T> {
+  private final FastIdSeenCache<T> delegate;
+  private final Counter fastIdHitCounter;
+
+  FastIdHitCountingSeenCache(final FastIdSeenCache<T> delegate, final Counter fastIdHitCounter) {
+    this.delegate = delegate;
+    this.fastIdHitCounter = fastIdHitCounter;
+  }
+
+  @Override
+  public int getSize() {
+    return delegate.getSize();
+  }
+
+  @NotNull
+  @Override
+  public Collection<PubsubMessage> getMessages() {
+    return delegate.getMessages();
+  }
+
+  @NotNull
+  @Override
+  public PubsubMessage getSeenMessage(@NotNull final PubsubMessage msg) {
+    return delegate.getSeenMessage(msg);
+  }
+
+  @Override
+  public T getValue(@NotNull final PubsubMessage msg) {
+    return delegate.getValue(msg);
+  }
+
+  @Override
+  public boolean isSeen(@NotNull final PubsubMessage msg) {
+    // Only a fast id match returns a different instance, without calculating the message-id
+    if (delegate.getSeenMessage(msg) != msg) {
+      fastIdHitCounter.inc();
+      return true;
+    }
+    return delegate.isSeen(msg);
+  }
+
+  @Override
+  public boolean isSeen(@NotNull final WBytes messageId) {
+    return delegate.isSeen(messageId);
+  }
+
+  @Override
+  public void put(@NotNull final PubsubMessage msg, final T value) {
+    delegate.put(msg, value);
+  }
+
+  @Override
+  public void remove(@NotNull final WBytes messageId) {
+    delegate.remove(messageId);
+  }
+}
@@ -51,8 +51,10 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.crypto.Hash;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessageFactory;
@@ -85,9 +87,19 @@ public class LibP2PGossipNetwork implements GossipNetwork {
       boolean logWireGossip) {
 
     TopicHandlers topicHandlers = new TopicHandlers();
+    Counter avoidedDecompressionCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.LIBP2P,
+            "gossip_avoided_decompressions_total",
+            "Total number of duplicate gossip messages dropped without being uncompressed");
     Gossip gossip =
         createGossip(
-            gossipConfig, logWireGossip, defaultMessageFactory, gossipTopicFilter, topicHandlers);
+            gossipConfig,
+            logWireGossip,
+            defaultMessageFactory,
+            gossipTopicFilter,
+            topicHandlers,
+            avoidedDecompressionCounter);
     PubsubPublisherApi publisher = gossip.createPublisher(null, NULL_SEQNO_GENERATOR);
 
     return new LibP2PGossipNetwork(metricsSystem, gossip, publisher, topicHandlers);
@@ -98,7 +110,8 @@ public class LibP2PGossipNetwork implements GossipNetwork {
       boolean gossipLogsEnabled,
       PreparedGossipMessageFactory defaultMessageFactory,
       GossipTopicFilter gossipTopicFilter,
-      TopicHandlers topicHandlers) {
+      TopicHandlers topicHandlers,
+      Counter avoidedDecompressionCounter) {
     final GossipParams gossipParams = LibP2PParamsFactory.createGossipParams(gossipConfig);
     final GossipScoreParams scoreParams =
         LibP2PParamsFactory.createGossipScoreParams(gossipConfig.getScoringConfig());
@@ -111,10 +124,12 @@ public class LibP2PGossipNetwork implements GossipNetwork {
 
           final SeenCache<Optional<ValidationResult>> seenCache =
               new TTLSeenCache<>(
-                  new FastIdSeenCache<>(
-                      msg ->
-                          Bytes.wrap(
-                              Hash.sha2_256(msg.getProtobufMessage().getData().toByteArray()))),
+                  new FastIdHitCountingSeenCache<>(
+                      new FastIdSeenCache<>(
+                          msg ->
+                              Bytes.wrap(
+                                  Hash.sha2_256(msg.getProtobufMessage().getData().toByteArray()))),
+                      avoidedDecompressionCounter),
                   gossipParams.getSeenTTL(),
                   getCurTimeMillis());
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsSupplier;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
+
+class KnownPeerStoreTest {
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaDefinitionsSupplier schemaDefinitionsSupplier =
+      spec::getGenesisSchemaDefinitions;
+  private final KeyValueStore<String, Bytes> kvStore = new MemKeyValueStore<>();
+
+  private final KnownPeerStore store = createStore();
+
+  @Test
+  void shouldRestoreSavedPeers() {
+    final DiscoveryPeer peer1 = createPeer(1, true);
+    final DiscoveryPeer peer2 = createPeer(2, false);
+    store.onConnected(peer1);
+    store.onConnected(peer2);
+    store.save();
+
+    final KnownPeerStore reloadedStore = createStore();
+    reloadedStore.load();
+
+    assertThat(reloadedStore.getKnownPeers()).containsExactly(peer2, peer1);
+  }
+
+  @Test
+  void shouldRankPeersWithFailedConnectionsLast() {
+    final DiscoveryPeer peer1 = createPeer(1, false);
+    final DiscoveryPeer peer2 = createPeer(2, false);
+    store.onConnected(peer1);
+    store.onConnected(peer2);
+
+    store.onConnectionFailed(peer2.getPublicKey());
+
+    assertThat(store.getKnownPeers()).containsExactly(peer1, peer2);
+  }
+
+  @Test
+  void shouldForgetPeersAfterRepeatedConnectionFailures() {
+    final DiscoveryPeer peer = createPeer(1, false);
+    store.onConnected(peer);
+
+    for (int i = 0; i < KnownPeerStore.MAX_CONSECUTIVE_FAILURES - 1; i++) {
+      store.onConnectionFailed(peer.getPublicKey());
+    }
+    assertThat(store.getKnownPeers()).containsExactly(peer);
+
+    store.onConnectionFailed(peer.getPublicKey());
+    assertThat(store.getKnownPeers()).isEmpty();
+  }
+
+  @Test
+  void shouldForgetPeersDisconnectedForPermanentReason() {
+    final DiscoveryPeer peer1 = createPeer(1, false);
+    final DiscoveryPeer peer2 = createPeer(2, false);
+    store.onConnected(peer1);
+    store.onConnected(peer2);
+
+    store.onDisconnected(peer1.getPublicKey(), Optional.of(DisconnectReason.TOO_MANY_PEERS));
+    store.onDisconnected(peer2.getPublicKey(), Optional.of(DisconnectReason.IRRELEVANT_NETWORK));
+
+    assertThat(store.getKnownPeers()).containsExactly(peer1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyConnectedPeerWhenFull() {
+    for (int i = 1; i <= KnownPeerStore.MAX_KNOWN_PEERS; i++) {
+      store.onConnected(createPeer(i, false));
+    }
+    final DiscoveryPeer oldestPeer = createPeer(1, false);
+    final DiscoveryPeer newPeer = createPeer(KnownPeerStore.MAX_KNOWN_PEERS + 1, false);
+
+    store.onConnected(newPeer);
+
+    assertThat(store.getKnownPeers())
+        .hasSize(KnownPeerStore.MAX_KNOWN_PEERS)
+        .startsWith(newPeer)
+        .doesNotContain(oldestPeer);
+  }
+
+  @Test
+  void shouldIgnoreUnreadableStoredPeers() {
+    kvStore.put(KnownPeerStore.KNOWN_PEERS_STORE_KEY, Bytes.fromHexString("0x1234"));
+
+    store.load();
+
+    assertThat(store.getKnownPeers()).isEmpty();
+  }
+
+  private KnownPeerStore createStore() {
+    return new KnownPeerStore(kvStore, schemaDefinitionsSupplier);
+  }
+
+  private DiscoveryPeer createPeer(final int id, final boolean withEnrForkId) {
+    return new DiscoveryPeer(
+        Bytes.ofUnsignedInt(id),
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 9000 + id),
+        withEnrForkId ? Optional.of(dataStructureUtil.randomEnrForkId()) : Optional.empty(),
+        schemaDefinitionsSupplier.getAttnetsENRFieldSchema().ofBits(id % 64),
+        schemaDefinitionsSupplier.getSyncnetsENRFieldSchema().ofBits(id % 4));
+  }
+}
@@ -41,16 +41,20 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.network.p2p.peer.StubPeer;
 import tech.pegasys.teku.networking.p2p.connection.ConnectionManager;
+import tech.pegasys.teku.networking.p2p.connection.KnownPeerStore;
 import tech.pegasys.teku.networking.p2p.connection.PeerSelectionStrategy;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.network.PeerAddress;
+import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.networking.p2p.peer.Peer;
 import tech.pegasys.teku.networking.p2p.peer.PeerConnectedSubscriber;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.EnrForkId;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsSupplier;
+import tech.pegasys.teku.storage.store.KeyValueStore;
+import tech.pegasys.teku.storage.store.MemKeyValueStore;
 
 class ConnectionManagerTest {
 
@@ -70,10 +74,17 @@ class ConnectionManagerTest {
   private final DiscoveryService discoveryService = mock(DiscoveryService.class);
   private final PeerSelectionStrategy peerSelectionStrategy = mock(PeerSelectionStrategy.class);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final KeyValueStore<String, Bytes> kvStore = new MemKeyValueStore<>();
 
   @BeforeEach
   public void setUp() {
     when(discoveryService.searchForPeers()).thenReturn(new SafeFuture<>());
+    when(network.createPeerAddress(any(DiscoveryPeer.class)))
+        .thenAnswer(
+            invocation -> {
+              final DiscoveryPeer peer = invocation.getArgument(0);
+              return new PeerAddress(new MockNodeId(peer.getPublicKey()));
+            });
     when(peerSelectionStrategy.selectPeersToConnect(eq(network), any(), any()))
         .thenAnswer(
             invocation -> {
@@ -399,6 +410,43 @@ class ConnectionManagerTest {
     verify(network, never()).connect(PEER2);
   }
 
+  @Test
+  public void shouldReconnectToPreviouslyConnectedPeersAfterRestart() {
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    when(network.connect(PEER1)).thenReturn(SafeFuture.completedFuture(peer1));
+    when(discoveryService.streamKnownPeers())
+        .thenReturn(Stream.of(DISCOVERY_PEER1))
+        .thenReturn(Stream.empty());
+
+    final ConnectionManager manager = createManager();
+    manager.start().join();
+    manager.stop().join();
+    verify(network).connect(PEER1);
+
+    // Discovery hasn't found any peers yet but the previously connected peer is still known
+    final ConnectionManager restartedManager = createManager();
+    restartedManager.start().join();
+    verify(network, times(2)).connect(PEER1);
+  }
+
+  @Test
+  public void shouldNotReconnectToPeersDisconnectedForPermanentReasonAfterRestart() {
+    final StubPeer peer1 = new StubPeer(new MockNodeId(1));
+    when(network.connect(PEER1)).thenReturn(SafeFuture.completedFuture(peer1));
+    when(discoveryService.streamKnownPeers())
+        .thenReturn(Stream.of(DISCOVERY_PEER1))
+        .thenReturn(Stream.empty());
+
+    final ConnectionManager manager = createManager();
+    manager.start().join();
+    peer1.disconnectImmediately(Optional.of(DisconnectReason.IRRELEVANT_NETWORK), false);
+    manager.stop().join();
+
+    final ConnectionManager restartedManager = createManager();
+    restartedManager.start().join();
+    verify(network, times(1)).connect(PEER1);
+  }
+
   private PeerConnectedSubscriber<Peer> getPeerConnectedSubscriber() {
     @SuppressWarnings("unchecked")
     final ArgumentCaptor<PeerConnectedSubscriber<Peer>> captor =
@@ -414,6 +462,7 @@ class ConnectionManagerTest {
         asyncRunner,
         network,
         peerSelectionStrategy,
+        new KnownPeerStore(kvStore, SCHEMA_DEFINITIONS_SUPPLIER),
         Arrays.asList(peers));
   }
 
@@ -13,19 +13,20 @@
 
 package tech.pegasys.teku.pow;
 
-import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 
 import com.google.common.base.Throwables;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
 import java.util.TreeMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,6 +44,16 @@ import tech.pegasys.teku.pow.contract.DepositContract.DepositEventEventResponse;
 import tech.pegasys.teku.pow.exception.Eth1RequestException;
 import tech.pegasys.teku.util.config.Constants;
 
+/**
+ * Fetches deposit events for a range of blocks and posts them to the {@link Eth1EventsChannel} in
+ * block order.
+ *
+ * <p>The range is split into batches of up to {@code maxBlockRange} blocks. Up to {@code
+ * maxConcurrentRequests} batches are fetched concurrently, including the blocks containing their
+ * deposits, and completed batches are posted strictly in order. Batches which have completed but
+ * can't be posted yet because an earlier batch is still in flight count towards the limit, so at
+ * most {@code maxConcurrentRequests} batches of deposits are ever buffered.
+ */
 public class DepositFetcher {
 
   private static final Logger LOG = LogManager.getLogger();
@@ -53,6 +64,7 @@ public class DepositFetcher {
   private final Eth1BlockFetcher eth1BlockFetcher;
   private final AsyncRunner asyncRunner;
   private final int maxBlockRange;
+  private final int maxConcurrentRequests;
 
   public DepositFetcher(
       final Eth1Provider eth1Provider,
@@ -60,13 +72,16 @@ public class DepositFetcher {
       final DepositEventsAccessor depositEventsAccessor,
       final Eth1BlockFetcher eth1BlockFetcher,
       final AsyncRunner asyncRunner,
-      final int maxBlockRange) {
+      final int maxBlockRange,
+      final int maxConcurrentRequests) {
+    checkArgument(maxConcurrentRequests > 0, "Must allow at least one concurrent request");
     this.eth1Provider = eth1Provider;
     this.eth1EventsChannel = eth1EventsChannel;
     this.depositEventsAccessor = depositEventsAccessor;
     this.eth1BlockFetcher = eth1BlockFetcher;
     this.asyncRunner = asyncRunner;
     this.maxBlockRange = maxBlockRange;
+    this.maxConcurrentRequests = maxConcurrentRequests;
   }
 
   // Inclusive on both sides
@@ -79,114 +94,34 @@ public class DepositFetcher {
         toBlockNumber);
 
     final DepositFetchState fetchState = new DepositFetchState(fromBlockNumber, toBlockNumber);
-    return sendNextBatchRequest(fetchState);
-  }
-
-  private SafeFuture<Void> sendNextBatchRequest(final DepositFetchState fetchState) {
-    final BigInteger nextBatchEnd = fetchState.getNextBatchEnd();
-    LOG.debug(
-        "Requesting deposits between {} and {}. Batch size: {}",
-        fetchState.nextBatchStart,
-        nextBatchEnd,
-        fetchState.batchSize);
-    return processDepositsInBatch(fetchState.nextBatchStart, nextBatchEnd)
-        .exceptionallyCompose(
-            (err) -> {
-              LOG.debug(
-                  "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
-                  fetchState.nextBatchStart,
-                  nextBatchEnd,
-                  err);
-
-              final Throwable rootCause = Throwables.getRootCause(err);
-              if (rootCause instanceof InvalidDepositEventsException) {
-                STATUS_LOG.eth1DepositEventsFailure(rootCause);
-              } else if (rootCause instanceof Eth1RequestException
-                  && ((Eth1RequestException) rootCause)
-                      .containsExceptionSolvableWithSmallerRange()) {
-                STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(fetchState.batchSize);
-                fetchState.reduceBatchSize();
-              }
-
-              return asyncRunner.runAfterDelay(
-                  () -> sendNextBatchRequest(fetchState),
-                  Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT);
-            })
-        .thenCompose(
-            __ -> {
-              fetchState.moveToNextBatch();
-              LOG.trace("Batch request completed. Done? {}", fetchState.isDone());
-              if (fetchState.isDone()) {
-                return SafeFuture.COMPLETE;
-              } else {
-                return sendNextBatchRequest(fetchState);
-              }
-            });
+    fetchState.processBatches();
+    return fetchState.result;
   }
 
-  private SafeFuture<Void> processDepositsInBatch(
+  private SafeFuture<List<DepositsFromBlockEvent>> fetchDepositsInBatch(
       final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
     return depositEventsAccessor
         .depositEventInRange(
             DefaultBlockParameter.valueOf(fromBlockNumber),
             DefaultBlockParameter.valueOf(toBlockNumber))
         .thenApply(this::groupDepositEventResponsesByBlockHash)
-        .thenCompose(
-            eventResponsesByBlockHash ->
-                postDepositEvents(
-                    getListOfEthBlockFutures(eventResponsesByBlockHash.keySet()),
-                    eventResponsesByBlockHash,
-                    fromBlockNumber,
-                    toBlockNumber));
-  }
-
-  private SafeFuture<Void> postDepositEvents(
-      List<SafeFuture<EthBlock.Block>> blockRequests,
-      Map<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>> depositEventsByBlock,
-      BigInteger fromBlock,
-      BigInteger toBlock) {
-    LOG.trace("Posting deposit events for {} blocks", depositEventsByBlock.size());
-    BigInteger from = fromBlock;
-    // First process completed requests using iteration.
-    // Avoid StackOverflowException when there is a long string of requests already completed.
-    while (!blockRequests.isEmpty() && blockRequests.get(0).isDone()) {
-      final EthBlock.Block block = blockRequests.remove(0).join();
-
-      // Fetch any empty blocks between this deposit block and the previous one (or start of range)
-      final BigInteger to = block.getNumber().subtract(BigInteger.ONE);
-      eth1BlockFetcher.fetch(from, to);
-      from = block.getNumber().add(BigInteger.ONE);
-
-      postEventsForBlock(block, depositEventsByBlock);
-    }
-
-    // All requests have completed and been processed.
-    if (blockRequests.isEmpty()) {
-      // Fetch any empty blocks between the last deposit and end of the range
-      eth1BlockFetcher.fetch(from, toBlock);
-      return SafeFuture.COMPLETE;
-    }
-
-    BigInteger remainingRangeStart = from;
-    // Reached a block request that isn't complete so wait for it and recurse back into this method.
-    return blockRequests
-        .get(0)
-        .thenCompose(
-            block ->
-                postDepositEvents(
-                    blockRequests, depositEventsByBlock, remainingRangeStart, toBlock));
+        .thenCompose(this::fetchDepositBlocks);
   }
 
-  private synchronized void postEventsForBlock(
-      final EthBlock.Block block,
-      final Map<BlockNumberAndHash, List<DepositContract.DepositEventEventResponse>>
+  private SafeFuture<List<DepositsFromBlockEvent>> fetchDepositBlocks(
+      final NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>
           depositEventsByBlock) {
-    final BigInteger blockNumber = block.getNumber();
-    final List<DepositContract.DepositEventEventResponse> deposits =
-        depositEventsByBlock.get(new BlockNumberAndHash(blockNumber, block.getHash()));
-    checkNotNull(deposits, "Did not find any deposits for block {}", blockNumber);
-    LOG.trace("Successfully fetched deposit events for block: {} ", blockNumber);
-    postDeposits(createDepositFromBlockEvent(block, deposits));
+    LOG.trace("Fetching {} blocks containing deposits", depositEventsByBlock.size());
+    // Request all the blocks at once rather than waiting for each before requesting the next
+    final List<SafeFuture<DepositsFromBlockEvent>> eventFutures =
+        depositEventsByBlock.entrySet().stream()
+            .map(
+                entry ->
+                    eth1Provider
+                        .getGuaranteedEth1Block(entry.getKey().getHash())
+                        .thenApply(block -> createDepositFromBlockEvent(block, entry.getValue())))
+            .collect(toList());
+    return SafeFuture.collectAll(eventFutures.stream());
   }
 
   private DepositsFromBlockEvent createDepositFromBlockEvent(
@@ -199,14 +134,6 @@ public class DepositFetcher {
         groupedDepositEventResponse.stream().map(DepositEventEventResponse::toDeposit));
   }
 
-  private List<SafeFuture<EthBlock.Block>> getListOfEthBlockFutures(
-      Set<BlockNumberAndHash> neededBlockHashes) {
-    return neededBlockHashes.stream()
-        .map(BlockNumberAndHash::getHash)
-        .map(eth1Provider::getGuaranteedEth1Block)
-        .collect(toList());
-  }
-
   private NavigableMap<BlockNumberAndHash, List<DepositEventEventResponse>>
       groupDepositEventResponsesByBlockHash(
           List<DepositContract.DepositEventEventResponse> events) {
@@ -224,40 +151,183 @@ public class DepositFetcher {
   }
 
   private class DepositFetchState {
+    private final SafeFuture<Void> result = new SafeFuture<>();
+    // Batches in block order, including completed batches waiting for earlier ones
+    private final Deque<DepositBatch> pendingBatches = new ArrayDeque<>();
+
     // Both inclusive
-    BigInteger nextBatchStart;
+    private BigInteger nextBatchStart;
+    private final BigInteger lastBlock;
+    private int batchSize = maxBlockRange;
 
-    final BigInteger lastBlock;
-    int batchSize = maxBlockRange;
+    private boolean retryScheduled = false;
+    private boolean processing = false;
+    private boolean reprocessRequired = false;
 
     public DepositFetchState(final BigInteger fromBlockNumber, final BigInteger toBlockNumber) {
       this.nextBatchStart = fromBlockNumber;
       this.lastBlock = toBlockNumber;
     }
 
-    public void moveToNextBatch() {
-      nextBatchStart = getNextBatchEnd().add(BigInteger.ONE);
-      if (batchSize < maxBlockRange) {
-        // Grow the batch size slowly as we may be past a large blob of logs that caused trouble
-        // +1 to guarantee it grows by at least 1
-        batchSize = Math.min(maxBlockRange, (int) (batchSize * 1.1 + 1));
+    /**
+     * Posts any batches which are complete and ready, then requests more batches until the limit
+     * is reached. Batches that complete immediately call back into this method, in which case the
+     * outer call does the work again rather than recursing.
+     */
+    private synchronized void processBatches() {
+      if (processing) {
+        reprocessRequired = true;
+        return;
+      }
+      processing = true;
+      try {
+        do {
+          reprocessRequired = false;
+          postCompletedBatches();
+          requestBatches();
+        } while (reprocessRequired);
+      } finally {
+        processing = false;
+      }
+
+      if (pendingBatches.isEmpty() && !retryScheduled && isAllRequested()) {
+        LOG.trace("Completed fetching deposits up to block {}", lastBlock);
+        result.complete(null);
       }
     }
 
-    private BigInteger getNextBatchEnd() {
-      return lastBlock.min(nextBatchStart.add(BigInteger.valueOf(batchSize)));
+    private void postCompletedBatches() {
+      while (!pendingBatches.isEmpty() && pendingBatches.peekFirst().deposits.isPresent()) {
+        final DepositBatch batch = pendingBatches.peekFirst();
+        try {
+          postBatch(batch);
+        } catch (final RuntimeException e) {
+          handleBatchFailure(batch, e);
+          return;
+        }
+        pendingBatches.removeFirst();
+        increaseBatchSize();
+      }
+    }
+
+    private void postBatch(final DepositBatch batch) {
+      BigInteger from = batch.fromBlock;
+      for (DepositsFromBlockEvent event : batch.deposits.orElseThrow()) {
+        final BigInteger blockNumber = event.getBlockNumber().bigIntegerValue();
+        // Fetch any empty blocks between this deposit block and the previous one
+        eth1BlockFetcher.fetch(from, blockNumber.subtract(BigInteger.ONE));
+        from = blockNumber.add(BigInteger.ONE);
+        postDeposits(event);
+      }
+      // Fetch any empty blocks between the last deposit and end of the batch
+      eth1BlockFetcher.fetch(from, batch.toBlock);
     }
 
-    public boolean isDone() {
-      return nextBatchStart.compareTo(lastBlock) >= 0;
+    private void requestBatches() {
+      while (!retryScheduled
+          && !isAllRequested()
+          && pendingBatches.size() < maxConcurrentRequests) {
+        final BigInteger batchEnd =
+            lastBlock.min(nextBatchStart.add(BigInteger.valueOf(batchSize)));
+        final DepositBatch batch = new DepositBatch(nextBatchStart, batchEnd);
+        nextBatchStart = batchEnd.add(BigInteger.ONE);
+        pendingBatches.addLast(batch);
+
+        LOG.debug(
+            "Requesting deposits between {} and {}. Batch size: {}",
+            batch.fromBlock,
+            batch.toBlock,
+            batchSize);
+        fetchDepositsInBatch(batch.fromBlock, batch.toBlock)
+            .finish(
+                deposits -> onBatchCompleted(batch, deposits),
+                error -> onBatchFailed(batch, error));
+      }
     }
 
-    public void reduceBatchSize() {
+    private synchronized void onBatchCompleted(
+        final DepositBatch batch, final List<DepositsFromBlockEvent> deposits) {
+      if (batch.cancelled) {
+        return;
+      }
+      LOG.trace("Batch request for blocks {} to {} completed", batch.fromBlock, batch.toBlock);
+      batch.deposits = Optional.of(deposits);
+      processBatches();
+    }
+
+    private synchronized void onBatchFailed(final DepositBatch batch, final Throwable err) {
+      if (batch.cancelled) {
+        return;
+      }
+      handleBatchFailure(batch, err);
+    }
+
+    private void handleBatchFailure(final DepositBatch batch, final Throwable err) {
+      LOG.debug(
+          "Failed to request deposit events for block numbers in the range ({}, {}). Retrying.",
+          batch.fromBlock,
+          batch.toBlock,
+          err);
+
+      final Throwable rootCause = Throwables.getRootCause(err);
+      if (rootCause instanceof InvalidDepositEventsException) {
+        STATUS_LOG.eth1DepositEventsFailure(rootCause);
+      } else if (rootCause instanceof Eth1RequestException
+          && ((Eth1RequestException) rootCause).containsExceptionSolvableWithSmallerRange()) {
+        STATUS_LOG.eth1FetchDepositsRequiresSmallerRange(batchSize);
+        reduceBatchSize();
+      }
+
+      // Later batches can't be posted until this one succeeds so discard them and request them
+      // again, with the new batch size, after retrying this one.
+      while (pendingBatches.peekLast() != batch) {
+        pendingBatches.removeLast().cancelled = true;
+      }
+      pendingBatches.removeLast().cancelled = true;
+      nextBatchStart = batch.fromBlock;
+
+      retryScheduled = true;
+      asyncRunner
+          .runAfterDelay(this::retry, Constants.ETH1_DEPOSIT_REQUEST_RETRY_TIMEOUT)
+          .finish(result::completeExceptionally);
+    }
+
+    private synchronized void retry() {
+      retryScheduled = false;
+      processBatches();
+    }
+
+    private boolean isAllRequested() {
+      return nextBatchStart.compareTo(lastBlock) > 0;
+    }
+
+    private void increaseBatchSize() {
+      if (batchSize < maxBlockRange) {
+        // Grow the batch size slowly as we may be past a large blob of logs that caused trouble
+        // +1 to guarantee it grows by at least 1
+        batchSize = Math.min(maxBlockRange, (int) (batchSize * 1.1 + 1));
+      }
+    }
+
+    private void reduceBatchSize() {
       batchSize = Math.max(1, batchSize / 2);
       LOG.debug("Reduced batch size to {}", batchSize);
     }
   }
 
+  private static class DepositBatch {
+    // Both inclusive
+    private final BigInteger fromBlock;
+    private final BigInteger toBlock;
+    private Optional<List<DepositsFromBlockEvent>> deposits = Optional.empty();
+    private boolean cancelled = false;
+
+    private DepositBatch(final BigInteger fromBlock, final BigInteger toBlock) {
+      this.fromBlock = fromBlock;
+      this.toBlock = toBlock;
+    }
+  }
+
   private static class BlockNumberAndHash implements Comparable<BlockNumberAndHash> {
     private static final Comparator<BlockNumberAndHash> COMPARATOR =
         Comparator.comparing(BlockNumberAndHash::getNumber)
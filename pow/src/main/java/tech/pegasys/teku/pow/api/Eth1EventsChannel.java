@@ -14,6 +14,7 @@
 package tech.pegasys.teku.pow.api;
 
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.events.VoidReturningChannelInterface;
@@ -25,4 +26,10 @@ public interface Eth1EventsChannel extends VoidReturningChannelInterface {
   void onMinGenesisTimeBlock(MinGenesisTimeBlockEvent event);
 
   default void onEth1Block(Bytes32 blockHash, UInt64 blockTimestamp) {}
+
+  /**
+   * Called before any deposits are replayed when the finalized deposits have been pruned from
+   * storage. Replayed deposits then continue from {@link DepositTreeSnapshot#getDepositCount()}.
+   */
+  default void onDepositTreeSnapshot(DepositTreeSnapshot snapshot) {}
 }
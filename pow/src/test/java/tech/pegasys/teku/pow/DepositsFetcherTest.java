@@ -21,17 +21,21 @@ import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.primitives.Longs;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InOrder;
+import org.mockito.stubbing.OngoingStubbing;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.Log;
@@ -47,6 +51,7 @@ import tech.pegasys.teku.pow.exception.RejectedRequestException;
 public class DepositsFetcherTest {
 
   private static final int MAX_BLOCK_RANGE = 10_000;
+  private static final int MAX_CONCURRENT_REQUESTS = 3;
   private final Eth1Provider eth1Provider = mock(Eth1Provider.class);
   private final Eth1EventsChannel eth1EventsChannel = mock(Eth1EventsChannel.class);
   private final DepositEventsAccessor depositEventsAccessor = mock(DepositEventsAccessor.class);
@@ -60,7 +65,8 @@ public class DepositsFetcherTest {
           depositEventsAccessor,
           eth1BlockFetcher,
           asyncRunner,
-          MAX_BLOCK_RANGE);
+          MAX_BLOCK_RANGE,
+          1);
 
   @Test
   void depositsInConsecutiveBlocks() {
@@ -193,6 +199,121 @@ public class DepositsFetcherTest {
     verifyNoMoreInteractions(depositEventsAccessor);
   }
 
+  @Test
+  void shouldRequestBatchesConcurrentlyAndPostThemInOrder() {
+    final DepositFetcher depositFetcher = createConcurrentDepositFetcher();
+    final BigInteger toBlockNumber = BigInteger.valueOf(4 * MAX_BLOCK_RANGE);
+    final List<SafeFuture<List<DepositContract.DepositEventEventResponse>>> responses =
+        mockDepositEventResponses(5);
+
+    final SafeFuture<Void> result =
+        depositFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+
+    verifyBatchRequested(0, MAX_BLOCK_RANGE);
+    verifyBatchRequested(MAX_BLOCK_RANGE + 1, 2 * MAX_BLOCK_RANGE + 1);
+    verifyBatchRequested(2 * MAX_BLOCK_RANGE + 2, 3 * MAX_BLOCK_RANGE + 2);
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    // Later batches are held until the earlier ones complete
+    mockBlockForEth1Provider("0x5678", MAX_BLOCK_RANGE + 5, 1014);
+    responses
+        .get(1)
+        .complete(List.of(mockDepositEventEventResponse(1, "0x5678", MAX_BLOCK_RANGE + 5)));
+    verifyNoInteractions(eth1EventsChannel, eth1BlockFetcher);
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    mockBlockForEth1Provider("0x1234", 5, 1000);
+    responses.get(0).complete(List.of(mockDepositEventEventResponse(0, "0x1234", 5)));
+
+    final InOrder inOrder = inOrder(eth1EventsChannel, eth1BlockFetcher);
+    inOrder.verify(eth1BlockFetcher).fetch(BigInteger.ZERO, BigInteger.valueOf(4));
+    inOrder.verify(eth1EventsChannel).onDepositsFromBlock(argThat(isEvent(5, 1)));
+    inOrder
+        .verify(eth1BlockFetcher)
+        .fetch(BigInteger.valueOf(6), BigInteger.valueOf(MAX_BLOCK_RANGE));
+    inOrder.verify(eth1BlockFetcher)
+        .fetch(BigInteger.valueOf(MAX_BLOCK_RANGE + 1), BigInteger.valueOf(MAX_BLOCK_RANGE + 4));
+    inOrder
+        .verify(eth1EventsChannel)
+        .onDepositsFromBlock(argThat(isEvent(MAX_BLOCK_RANGE + 5, 1)));
+
+    // Posting the first two batches makes room to request the last one
+    verifyBatchRequested(3 * MAX_BLOCK_RANGE + 3, toBlockNumber.longValueExact());
+    verifyNoMoreInteractions(depositEventsAccessor);
+    assertThat(result).isNotDone();
+
+    responses.get(2).complete(emptyList());
+    responses.get(3).complete(emptyList());
+    assertThat(result).isCompleted();
+  }
+
+  @Test
+  void shouldRetryFailedBatchAndRequestLaterBatchesAgain() {
+    final DepositFetcher depositFetcher = createConcurrentDepositFetcher();
+    final BigInteger toBlockNumber = BigInteger.valueOf(3 * MAX_BLOCK_RANGE);
+    final List<SafeFuture<List<DepositContract.DepositEventEventResponse>>> responses =
+        mockDepositEventResponses(5);
+
+    final SafeFuture<Void> result =
+        depositFetcher.fetchDepositsInRange(BigInteger.ZERO, toBlockNumber);
+    verifyBatchRequested(0, MAX_BLOCK_RANGE);
+    verifyBatchRequested(MAX_BLOCK_RANGE + 1, 2 * MAX_BLOCK_RANGE + 1);
+    verifyBatchRequested(2 * MAX_BLOCK_RANGE + 2, toBlockNumber.longValueExact());
+
+    responses.get(2).complete(emptyList());
+    responses.get(1).completeExceptionally(new RuntimeException("Nope"));
+    responses.get(0).complete(emptyList());
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    // After the delay the failed batch and the one after it are requested again
+    asyncRunner.executeQueuedActions();
+    verifyBatchRequested(MAX_BLOCK_RANGE + 1, 2 * MAX_BLOCK_RANGE + 1, 2);
+    verifyBatchRequested(2 * MAX_BLOCK_RANGE + 2, toBlockNumber.longValueExact(), 2);
+    verifyNoMoreInteractions(depositEventsAccessor);
+
+    responses.get(3).complete(emptyList());
+    responses.get(4).complete(emptyList());
+    assertThat(result).isCompleted();
+    verify(eth1BlockFetcher).fetch(BigInteger.valueOf(2 * MAX_BLOCK_RANGE + 2), toBlockNumber);
+  }
+
+  private DepositFetcher createConcurrentDepositFetcher() {
+    return new DepositFetcher(
+        eth1Provider,
+        eth1EventsChannel,
+        depositEventsAccessor,
+        eth1BlockFetcher,
+        asyncRunner,
+        MAX_BLOCK_RANGE,
+        MAX_CONCURRENT_REQUESTS);
+  }
+
+  private List<SafeFuture<List<DepositContract.DepositEventEventResponse>>>
+      mockDepositEventResponses(final int count) {
+    final List<SafeFuture<List<DepositContract.DepositEventEventResponse>>> responses =
+        new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      responses.add(new SafeFuture<>());
+    }
+    OngoingStubbing<SafeFuture<List<DepositContract.DepositEventEventResponse>>> stubbing =
+        when(depositEventsAccessor.depositEventInRange(any(), any()));
+    for (SafeFuture<List<DepositContract.DepositEventEventResponse>> response : responses) {
+      stubbing = stubbing.thenReturn(response);
+    }
+    return responses;
+  }
+
+  private void verifyBatchRequested(final long fromBlock, final long toBlock) {
+    verifyBatchRequested(fromBlock, toBlock, 1);
+  }
+
+  private void verifyBatchRequested(final long fromBlock, final long toBlock, final int times) {
+    verify(depositEventsAccessor, times(times))
+        .depositEventInRange(
+            refEq(DefaultBlockParameter.valueOf(BigInteger.valueOf(fromBlock))),
+            refEq(DefaultBlockParameter.valueOf(BigInteger.valueOf(toBlock))));
+  }
+
   private void mockBlockForEth1Provider(String blockHash, long blockNumber, long timestamp) {
     EthBlock.Block block = mock(EthBlock.Block.class);
     when(block.getTimestamp()).thenReturn(BigInteger.valueOf(timestamp));
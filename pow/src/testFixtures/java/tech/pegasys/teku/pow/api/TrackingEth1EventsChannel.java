@@ -15,6 +15,7 @@ package tech.pegasys.teku.pow.api;
 
 import java.util.ArrayList;
 import java.util.List;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 
@@ -33,6 +34,11 @@ public class TrackingEth1EventsChannel implements Eth1EventsChannel {
     orderedList.add(event);
   }
 
+  @Override
+  public void onDepositTreeSnapshot(final DepositTreeSnapshot snapshot) {
+    orderedList.add(snapshot);
+  }
+
   public MinGenesisTimeBlockEvent getGenesis() {
     return genesis;
   }
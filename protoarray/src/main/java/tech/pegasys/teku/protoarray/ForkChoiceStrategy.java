@@ -148,6 +148,28 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     }
   }
 
+  /**
+   * Records a single validator's vote, as if from an attestation. Has no effect if the validator
+   * already has a vote with the same or later target epoch.
+   *
+   * @param voteUpdater the vote updater to record the vote in
+   * @param validatorIndex the index of the validator casting the vote
+   * @param blockRoot the block root being voted for
+   * @param targetEpoch the target epoch of the vote
+   */
+  public void onVote(
+      final VoteUpdater voteUpdater,
+      final UInt64 validatorIndex,
+      final Bytes32 blockRoot,
+      final UInt64 targetEpoch) {
+    votesLock.writeLock().lock();
+    try {
+      processAttestation(voteUpdater, validatorIndex, blockRoot, targetEpoch);
+    } finally {
+      votesLock.writeLock().unlock();
+    }
+  }
+
   @Override
   public Map<Bytes32, UInt64> getChainHeads() {
     protoArrayLock.readLock().lock();
@@ -292,6 +314,21 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
     }
   }
 
+  /**
+   * Returns the weight proto-array currently holds for a block, including votes for descendants.
+   *
+   * @param blockRoot the block root to look up
+   * @return the block's weight, or empty if the block is not tracked
+   */
+  public Optional<UInt64> blockWeight(final Bytes32 blockRoot) {
+    protoArrayLock.readLock().lock();
+    try {
+      return getProtoNode(blockRoot).map(ProtoNode::getWeight);
+    } finally {
+      protoArrayLock.readLock().unlock();
+    }
+  }
+
   @Override
   public Optional<Bytes32> getAncestor(final Bytes32 blockRoot, final UInt64 slot) {
     protoArrayLock.readLock().lock();
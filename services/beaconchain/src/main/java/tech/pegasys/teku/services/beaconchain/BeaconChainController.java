@@ -21,6 +21,7 @@ import static tech.pegasys.teku.util.config.Constants.SECONDS_PER_SLOT;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Throwables;
+import java.io.IOException;
 import java.net.BindException;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -32,7 +33,9 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.api.stateselector.StateViewRegistry;
 import tech.pegasys.teku.beaconrestapi.BeaconRestApi;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
@@ -60,6 +63,7 @@ import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.services.timer.TimeTickChannel;
 import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.cache.PersistentPubKeyCache;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidateableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBodySchema;
@@ -72,8 +76,10 @@ import tech.pegasys.teku.spec.datastructures.operations.versions.altair.Validate
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.NextSlotStatePrecomputer;
 import tech.pegasys.teku.statetransition.OperationPool;
 import tech.pegasys.teku.statetransition.OperationsReOrgManager;
+import tech.pegasys.teku.statetransition.PubKeyCacheUpdater;
 import tech.pegasys.teku.statetransition.attestation.AggregatingAttestationPool;
 import tech.pegasys.teku.statetransition.attestation.AttestationManager;
 import tech.pegasys.teku.statetransition.block.BlockImportChannel;
@@ -99,6 +105,7 @@ import tech.pegasys.teku.statetransition.validation.ValidationResultCode;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.storage.api.ChainHeadChannel;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -133,6 +140,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private static final Logger LOG = LogManager.getLogger();
 
   private static final String KEY_VALUE_STORE_SUBDIRECTORY = "kvstore";
+  private static final String PUBKEY_CACHE_FILE = "pubkey-cache.dat";
 
   private final BeaconChainConfiguration beaconConfig;
   private final Spec spec;
@@ -148,6 +156,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private final Path beaconDataDirectory;
   private final WeakSubjectivityInitializer wsInitializer = new WeakSubjectivityInitializer();
   private final AsyncRunnerEventThread forkChoiceExecutor;
+  private final StateCacheMemoryManager stateCacheMemoryManager;
 
   private volatile ForkChoice forkChoice;
   private volatile ForkChoiceTrigger forkChoiceTrigger;
@@ -155,6 +164,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private volatile RecentChainData recentChainData;
   private volatile Eth2P2PNetwork p2pNetwork;
   private volatile Optional<BeaconRestApi> beaconRestAPI = Optional.empty();
+  private volatile Optional<PersistentPubKeyCache> persistentPubKeyCache = Optional.empty();
+  private volatile Optional<PubKeyCacheUpdater> pubKeyCacheUpdater = Optional.empty();
   private volatile AggregatingAttestationPool attestationPool;
   private volatile DepositProvider depositProvider;
   private volatile SyncService syncService;
@@ -181,8 +192,11 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   private BlockManager blockManager;
 
   public BeaconChainController(
-      final ServiceConfig serviceConfig, final BeaconChainConfiguration beaconConfig) {
+      final ServiceConfig serviceConfig,
+      final BeaconChainConfiguration beaconConfig,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     this.beaconConfig = beaconConfig;
+    this.stateCacheMemoryManager = stateCacheMemoryManager;
     this.spec = beaconConfig.getSpec();
     this.beaconBlockSchemaSupplier =
         slot -> spec.atSlot(slot).getSchemaDefinitions().getBeaconBlockBodySchema();
@@ -247,7 +261,21 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             blockManager.stop(),
             attestationManager.stop(),
             p2pNetwork.stop())
-        .thenRun(forkChoiceExecutor::stop);
+        .thenRun(forkChoiceExecutor::stop)
+        .thenRun(this::closePersistentPubKeyCache);
+  }
+
+  private void closePersistentPubKeyCache() {
+    persistentPubKeyCache.ifPresent(
+        pubKeyCache -> {
+          spec.setPersistentPubKeyCache(Optional.empty());
+          try {
+            pubKeyCache.close();
+          } catch (final IOException e) {
+            LOG.warn("Failed to close public key cache", e);
+          }
+        });
+    persistentPubKeyCache = Optional.empty();
   }
 
   private SafeFuture<?> initialize() {
@@ -273,7 +301,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
                     eventChannels.getPublisher(ProtoArrayStorageChannel.class, beaconAsyncRunner),
                     eventChannels.getPublisher(FinalizedCheckpointChannel.class, beaconAsyncRunner),
                     coalescingChainHeadChannel,
-                    spec))
+                    spec,
+                    stateCacheMemoryManager))
         .thenCompose(
             client -> {
               // Setup chain storage
@@ -297,6 +326,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
   }
 
   public void initAll() {
+    initPersistentPubKeyCache();
     initForkChoice();
     initBlockImporter();
     initCombinedChainDataClient();
@@ -405,7 +435,11 @@ public class BeaconChainController extends Service implements TimeTickChannel {
         beaconConfig.eth2NetworkConfig().isBalanceAttackMitigationEnabled();
     forkChoice =
         ForkChoice.create(
-            spec, forkChoiceExecutor, recentChainData, balanceAttackMitigationEnabled);
+            spec,
+            forkChoiceExecutor,
+            recentChainData,
+            balanceAttackMitigationEnabled,
+            metricsSystem);
     forkChoiceTrigger = ForkChoiceTrigger.create(forkChoice, balanceAttackMitigationEnabled);
   }
 
@@ -429,7 +463,13 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   public void initDepositProvider() {
     LOG.debug("BeaconChainController.initDepositProvider()");
-    depositProvider = new DepositProvider(metricsSystem, recentChainData, eth1DataCache, spec);
+    depositProvider =
+        new DepositProvider(
+            metricsSystem,
+            recentChainData,
+            eth1DataCache,
+            eventChannels.getPublisher(Eth1DepositStorageChannel.class, beaconAsyncRunner),
+            spec);
     eventChannels
         .subscribe(Eth1EventsChannel.class, depositProvider)
         .subscribe(FinalizedCheckpointChannel.class, depositProvider);
@@ -671,6 +711,27 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             .build();
   }
 
+  private void initPersistentPubKeyCache() {
+    if (!beaconConfig.storeConfig().isPersistentPubKeyCacheEnabled()) {
+      return;
+    }
+    LOG.debug("BeaconChainController.initPersistentPubKeyCache()");
+    final PersistentPubKeyCache pubKeyCache;
+    try {
+      pubKeyCache = PersistentPubKeyCache.open(beaconDataDirectory.resolve(PUBKEY_CACHE_FILE));
+    } catch (final IOException e) {
+      LOG.warn("Unable to open public key cache, public keys will be decompressed instead", e);
+      return;
+    }
+    persistentPubKeyCache = Optional.of(pubKeyCache);
+    spec.setPersistentPubKeyCache(persistentPubKeyCache);
+    final PubKeyCacheUpdater updater =
+        new PubKeyCacheUpdater(
+            asyncRunnerFactory.create("pubkeycache", 1), recentChainData, pubKeyCache);
+    eventChannels.subscribe(FinalizedCheckpointChannel.class, updater);
+    pubKeyCacheUpdater = Optional.of(updater);
+  }
+
   private void initSlotProcessor() {
     slotProcessor =
         new SlotProcessor(
@@ -680,7 +741,8 @@ public class BeaconChainController extends Service implements TimeTickChannel {
             forkChoiceTrigger,
             p2pNetwork,
             slotEventsChannelPublisher,
-            new EpochCachePrimer(spec, recentChainData));
+            new EpochCachePrimer(spec, recentChainData),
+            new NextSlotStatePrecomputer(spec, recentChainData));
   }
 
   public void initAttestationPool() {
@@ -692,29 +754,40 @@ public class BeaconChainController extends Service implements TimeTickChannel {
 
   public void initRestAPI() {
     LOG.debug("BeaconChainController.initRestAPI()");
-    DataProvider dataProvider =
-        new DataProvider(
-            spec,
-            recentChainData,
-            combinedChainDataClient,
-            p2pNetwork,
-            syncService,
-            eventChannels.getPublisher(ValidatorApiChannel.class, beaconAsyncRunner),
-            attestationPool,
-            blockManager,
-            attestationManager,
-            attesterSlashingPool,
-            proposerSlashingPool,
-            voluntaryExitPool);
     if (beaconConfig.beaconRestApiConfig().isRestApiEnabled()) {
-
+      final StateViewRegistry stateViewRegistry =
+          new StateViewRegistry(
+              spec,
+              combinedChainDataClient,
+              beaconConfig.beaconRestApiConfig().getRecentStateViewEpochs(),
+              stateCacheMemoryManager);
+      eventChannels
+          .subscribe(ChainHeadChannel.class, stateViewRegistry)
+          .subscribe(FinalizedCheckpointChannel.class, stateViewRegistry);
+      final DataProvider dataProvider =
+          new DataProvider(
+              spec,
+              recentChainData,
+              combinedChainDataClient,
+              p2pNetwork,
+              syncService,
+              eventChannels.getPublisher(ValidatorApiChannel.class, beaconAsyncRunner),
+              attestationPool,
+              blockManager,
+              attestationManager,
+              attesterSlashingPool,
+              proposerSlashingPool,
+              voluntaryExitPool,
+              stateViewRegistry);
       beaconRestAPI =
           Optional.of(
               new BeaconRestApi(
                   dataProvider,
                   beaconConfig.beaconRestApiConfig(),
                   eventChannels,
-                  eventAsyncRunner));
+                  eventAsyncRunner,
+                  metricsSystem,
+                  timeProvider));
     } else {
       LOG.info("rest-api-enabled is false, not starting rest api.");
     }
@@ -836,6 +909,7 @@ public class BeaconChainController extends Service implements TimeTickChannel {
     }
     slotProcessor.setCurrentSlot(currentSlot);
     performanceTracker.start(currentSlot);
+    pubKeyCacheUpdater.ifPresent(PubKeyCacheUpdater::updateFromFinalizedState);
   }
 
   private UInt64 getCurrentSlot(final UInt64 genesisTime) {
@@ -24,6 +24,7 @@ import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.NodeSlot;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.NextSlotStatePrecomputer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.sync.forward.ForwardSync;
@@ -38,11 +39,13 @@ public class SlotProcessor {
   private final SlotEventsChannel slotEventsChannelPublisher;
   private final NodeSlot nodeSlot = new NodeSlot(ZERO);
   private final EpochCachePrimer epochCachePrimer;
+  private final NextSlotStatePrecomputer nextSlotStatePrecomputer;
   private final EventLogger eventLog;
 
   private volatile UInt64 onTickSlotStart;
   private volatile UInt64 onTickSlotAttestation;
   private volatile UInt64 onTickEpochPrecompute;
+  private volatile UInt64 onTickNextSlotPrecompute;
 
   @VisibleForTesting
   SlotProcessor(
@@ -53,6 +56,7 @@ public class SlotProcessor {
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
       final EpochCachePrimer epochCachePrimer,
+      final NextSlotStatePrecomputer nextSlotStatePrecomputer,
       final EventLogger eventLogger) {
     this.spec = spec;
     this.recentChainData = recentChainData;
@@ -61,6 +65,7 @@ public class SlotProcessor {
     this.p2pNetwork = p2pNetwork;
     this.slotEventsChannelPublisher = slotEventsChannelPublisher;
     this.epochCachePrimer = epochCachePrimer;
+    this.nextSlotStatePrecomputer = nextSlotStatePrecomputer;
     this.eventLog = eventLogger;
   }
 
@@ -71,7 +76,8 @@ public class SlotProcessor {
       final ForkChoiceTrigger forkChoiceTrigger,
       final Eth2P2PNetwork p2pNetwork,
       final SlotEventsChannel slotEventsChannelPublisher,
-      final EpochCachePrimer epochCachePrimer) {
+      final EpochCachePrimer epochCachePrimer,
+      final NextSlotStatePrecomputer nextSlotStatePrecomputer) {
     this(
         spec,
         recentChainData,
@@ -80,6 +86,7 @@ public class SlotProcessor {
         p2pNetwork,
         slotEventsChannelPublisher,
         epochCachePrimer,
+        nextSlotStatePrecomputer,
         EventLogger.EVENT_LOG);
   }
 
@@ -123,6 +130,11 @@ public class SlotProcessor {
     if (isEpochPrecalculationDue(epoch, currentTime, genesisTime)) {
       processEpochPrecompute(epoch);
     }
+
+    final UInt64 nextSlot = calculatedSlot.plus(ONE);
+    if (isNextSlotPrecalculationDue(nextSlot, currentTime, genesisTime)) {
+      processNextSlotPrecompute(nextSlot);
+    }
   }
 
   private void processEpochPrecompute(final UInt64 epoch) {
@@ -130,6 +142,14 @@ public class SlotProcessor {
     epochCachePrimer.primeCacheForEpoch(epoch);
   }
 
+  private void processNextSlotPrecompute(final UInt64 nextSlot) {
+    onTickNextSlotPrecompute = nextSlot;
+    // The epoch cache primer already calculates the state for the first slot of each epoch
+    if (!spec.computeStartSlotAtEpoch(spec.computeEpochAtSlot(nextSlot)).equals(nextSlot)) {
+      nextSlotStatePrecomputer.precomputeStateForSlot(nextSlot);
+    }
+  }
+
   private void processSlotWhileSyncing() {
     UInt64 slot = nodeSlot.getValue();
     this.forkChoiceTrigger.onSlotStartedWhileSyncing(slot);
@@ -180,6 +200,15 @@ public class SlotProcessor {
     return processingDueForSlot && timeReached;
   }
 
+  // Precalculate the state for the next slot 2/3 of the way through the current slot
+  boolean isNextSlotPrecalculationDue(
+      final UInt64 nextSlot, final UInt64 currentTime, final UInt64 genesisTime) {
+    final UInt64 nextSlotStartTime = spec.getSlotStartTime(nextSlot, genesisTime);
+    final UInt64 earliestTime = nextSlotStartTime.minusMinZero(oneThirdSlotSeconds(nextSlot));
+    return isProcessingDueForSlot(nextSlot, onTickNextSlotPrecompute)
+        && isTimeReached(currentTime, earliestTime);
+  }
+
   private int oneThirdSlotSeconds(final UInt64 slot) {
     return spec.getSecondsPerSlot(slot) / 3;
   }
@@ -42,6 +42,7 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.EpochCachePrimer;
+import tech.pegasys.teku.statetransition.NextSlotStatePrecomputer;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceTrigger;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.server.StateStorageMode;
@@ -65,6 +66,8 @@ public class SlotProcessorTest {
   private final Eth2P2PNetwork p2pNetwork = mock(Eth2P2PNetwork.class);
   private final SlotEventsChannel slotEventsChannel = mock(SlotEventsChannel.class);
   private final EpochCachePrimer epochCachePrimer = mock(EpochCachePrimer.class);
+  private final NextSlotStatePrecomputer nextSlotStatePrecomputer =
+      mock(NextSlotStatePrecomputer.class);
   private final SlotProcessor slotProcessor =
       new SlotProcessor(
           spec,
@@ -74,6 +77,7 @@ public class SlotProcessorTest {
           p2pNetwork,
           slotEventsChannel,
           epochCachePrimer,
+          nextSlotStatePrecomputer,
           eventLogger);
   private final UInt64 genesisTime = beaconState.getGenesis_time();
   private final UInt64 desiredSlot = UInt64.valueOf(100L);
@@ -290,6 +294,7 @@ public class SlotProcessorTest {
             p2pNetwork,
             slotEventsChannel,
             epochCachePrimer,
+            nextSlotStatePrecomputer,
             eventLogger);
     slotProcessor.setCurrentSlot(UInt64.valueOf(6));
     final UInt64 slot6StartTime = spec.getSlotStartTime(UInt64.valueOf(6), genesisTime);
@@ -314,4 +319,35 @@ public class SlotProcessorTest {
     slotProcessor.onTick(slot7StartTime.plus(SECONDS_PER_SLOT / 3 * 2 + 2));
     verify(recentChainData, atMostOnce()).retrieveStateAtSlot(any());
   }
+
+  @Test
+  void shouldPrecomputeNextSlotStateJustBeforeNextSlot() {
+    when(syncService.isSyncActive()).thenReturn(false);
+    slotProcessor.setCurrentSlot(UInt64.valueOf(2));
+    final UInt64 slot2StartTime = spec.getSlotStartTime(UInt64.valueOf(2), genesisTime);
+
+    slotProcessor.onTick(slot2StartTime);
+    slotProcessor.onTick(slot2StartTime.plus(SECONDS_PER_SLOT / 3));
+    verify(nextSlotStatePrecomputer, never()).precomputeStateForSlot(any());
+
+    slotProcessor.onTick(slot2StartTime.plus(SECONDS_PER_SLOT / 3 * 2));
+    verify(nextSlotStatePrecomputer).precomputeStateForSlot(UInt64.valueOf(3));
+
+    // Should not repeat computation
+    slotProcessor.onTick(slot2StartTime.plus(SECONDS_PER_SLOT / 3 * 2 + 1));
+    verify(nextSlotStatePrecomputer, atMostOnce()).precomputeStateForSlot(any());
+  }
+
+  @Test
+  void shouldLeaveFirstSlotOfEpochToEpochCachePrimer() {
+    when(syncService.isSyncActive()).thenReturn(false);
+    slotProcessor.setCurrentSlot(UInt64.valueOf(7));
+    final UInt64 slot7StartTime = spec.getSlotStartTime(UInt64.valueOf(7), genesisTime);
+
+    slotProcessor.onTick(slot7StartTime);
+    slotProcessor.onTick(slot7StartTime.plus(SECONDS_PER_SLOT / 3));
+    slotProcessor.onTick(slot7StartTime.plus(SECONDS_PER_SLOT / 3 * 2));
+
+    verify(nextSlotStatePrecomputer, never()).precomputeStateForSlot(any());
+  }
 }
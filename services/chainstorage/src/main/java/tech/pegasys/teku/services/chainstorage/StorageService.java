@@ -16,6 +16,7 @@ package tech.pegasys.teku.services.chainstorage;
 import static tech.pegasys.teku.util.config.Constants.STORAGE_QUERY_CHANNEL_PARALLELISM;
 
 import java.util.Optional;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.pow.api.Eth1EventsChannel;
 import tech.pegasys.teku.protoarray.ProtoArrayStorageChannel;
@@ -36,12 +37,16 @@ public class StorageService extends Service {
   private volatile ChainStorage chainStorage;
   private volatile ProtoArrayStorage protoArrayStorage;
   private final ServiceConfig serviceConfig;
+  private final StateCacheMemoryManager stateCacheMemoryManager;
   private volatile Database database;
 
   public StorageService(
-      final ServiceConfig serviceConfig, final StorageConfiguration storageConfiguration) {
+      final ServiceConfig serviceConfig,
+      final StorageConfiguration storageConfiguration,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     this.serviceConfig = serviceConfig;
     this.config = storageConfiguration;
+    this.stateCacheMemoryManager = stateCacheMemoryManager;
   }
 
   @Override
@@ -61,7 +66,8 @@ public class StorageService extends Service {
                   config.getSpec());
           database = dbFactory.createDatabase();
 
-          chainStorage = ChainStorage.create(database, config.getSpec());
+          chainStorage =
+              ChainStorage.create(database, config.getSpec(), stateCacheMemoryManager);
           final DepositStorage depositStorage =
               DepositStorage.create(
                   serviceConfig.getEventChannels().getPublisher(Eth1EventsChannel.class), database);
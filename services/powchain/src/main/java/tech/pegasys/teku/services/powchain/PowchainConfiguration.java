@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.services.powchain;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.ArrayList;
@@ -24,12 +25,14 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.eth1.Eth1Address;
 
 public class PowchainConfiguration {
+  public static final int DEFAULT_ETH1_LOGS_MAX_CONCURRENT_REQUESTS = 4;
 
   private final Spec spec;
   private final List<String> eth1Endpoints;
   private final Eth1Address depositContract;
   private final Optional<UInt64> depositContractDeployBlock;
   private final int eth1LogsMaxBlockRange;
+  private final int eth1LogsMaxConcurrentRequests;
   private final boolean useTimeBasedHeadTracking;
 
   private PowchainConfiguration(
@@ -38,12 +41,14 @@ public class PowchainConfiguration {
       final Eth1Address depositContract,
       final Optional<UInt64> depositContractDeployBlock,
       final int eth1LogsMaxBlockRange,
+      final int eth1LogsMaxConcurrentRequests,
       final boolean useTimeBasedHeadTracking) {
     this.spec = spec;
     this.eth1Endpoints = eth1Endpoints;
     this.depositContract = depositContract;
     this.depositContractDeployBlock = depositContractDeployBlock;
     this.eth1LogsMaxBlockRange = eth1LogsMaxBlockRange;
+    this.eth1LogsMaxConcurrentRequests = eth1LogsMaxConcurrentRequests;
     this.useTimeBasedHeadTracking = useTimeBasedHeadTracking;
   }
 
@@ -75,6 +80,10 @@ public class PowchainConfiguration {
     return eth1LogsMaxBlockRange;
   }
 
+  public int getEth1LogsMaxConcurrentRequests() {
+    return eth1LogsMaxConcurrentRequests;
+  }
+
   public boolean useTimeBasedHeadTracking() {
     return useTimeBasedHeadTracking;
   }
@@ -85,6 +94,7 @@ public class PowchainConfiguration {
     private Eth1Address depositContract;
     private Optional<UInt64> depositContractDeployBlock = Optional.empty();
     private int eth1LogsMaxBlockRange;
+    private int eth1LogsMaxConcurrentRequests = DEFAULT_ETH1_LOGS_MAX_CONCURRENT_REQUESTS;
     private boolean useTimeBasedHeadTracking = false;
 
     private Builder() {}
@@ -97,6 +107,7 @@ public class PowchainConfiguration {
           depositContract,
           depositContractDeployBlock,
           eth1LogsMaxBlockRange,
+          eth1LogsMaxConcurrentRequests,
           useTimeBasedHeadTracking);
     }
 
@@ -139,6 +150,14 @@ public class PowchainConfiguration {
       return this;
     }
 
+    public Builder eth1LogsMaxConcurrentRequests(final int eth1LogsMaxConcurrentRequests) {
+      checkArgument(
+          eth1LogsMaxConcurrentRequests > 0,
+          "Eth1 logs max concurrent requests must be greater than 0");
+      this.eth1LogsMaxConcurrentRequests = eth1LogsMaxConcurrentRequests;
+      return this;
+    }
+
     public Builder specProvider(final Spec spec) {
       this.spec = spec;
       return this;
@@ -118,7 +118,8 @@ public class PowchainService extends Service {
             depositEventsAccessor,
             eth1BlockFetcher,
             asyncRunner,
-            powConfig.getEth1LogsMaxBlockRange());
+            powConfig.getEth1LogsMaxBlockRange(),
+            powConfig.getEth1LogsMaxConcurrentRequests());
 
     if (powConfig.useTimeBasedHeadTracking()) {
       headTracker =
@@ -15,10 +15,13 @@ package tech.pegasys.teku.ssz.schema;
 
 import java.util.List;
 import java.util.function.BiFunction;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.ssz.SszContainer;
 import tech.pegasys.teku.ssz.SszData;
 import tech.pegasys.teku.ssz.schema.impl.AbstractSszContainerSchema;
 import tech.pegasys.teku.ssz.schema.impl.AbstractSszContainerSchema.NamedSchema;
+import tech.pegasys.teku.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.ssz.tree.LazyBranchNode;
 import tech.pegasys.teku.ssz.tree.TreeNode;
 
 /**
@@ -63,6 +66,16 @@ public interface SszContainerSchema<C extends SszContainer> extends SszComposite
    */
   int getFieldIndex(String fieldName);
 
+  /**
+   * Deserializes the container keeping its large list and vector fields as raw SSZ bytes which are
+   * only deserialized on the first access (see {@link LazyBranchNode}). As those fields are not
+   * validated upfront this method is intended for trusted data only (e.g. loaded from the local
+   * database). The default implementation deserializes everything eagerly
+   */
+  default C sszDeserializeLazily(Bytes ssz) throws SszDeserializeException {
+    return sszDeserialize(ssz);
+  }
+
   /**
    * Creates the backing tree from container field values
    *
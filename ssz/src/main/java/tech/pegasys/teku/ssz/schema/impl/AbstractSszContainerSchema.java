@@ -21,18 +21,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.ssz.SszContainer;
 import tech.pegasys.teku.ssz.SszData;
 import tech.pegasys.teku.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.ssz.schema.SszListSchema;
 import tech.pegasys.teku.ssz.schema.SszSchema;
 import tech.pegasys.teku.ssz.schema.SszType;
+import tech.pegasys.teku.ssz.schema.SszVectorSchema;
 import tech.pegasys.teku.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.ssz.sos.SszLengthBounds;
 import tech.pegasys.teku.ssz.sos.SszReader;
 import tech.pegasys.teku.ssz.sos.SszWriter;
+import tech.pegasys.teku.ssz.tree.LazyBranchNode;
 import tech.pegasys.teku.ssz.tree.TreeNode;
 import tech.pegasys.teku.ssz.tree.TreeUtil;
 
@@ -66,6 +71,12 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     return new NamedSchema<>(fieldName, schema);
   }
 
+  /**
+   * Minimal SSZ size of a list or vector field to be deserialized lazily by {@link
+   * #sszDeserializeLazily(Bytes)}. Smaller fields are cheap to deserialize upfront
+   */
+  static final int LAZY_DESERIALIZATION_MIN_SIZE = 1024;
+
   private final String containerName;
   private final List<String> childrenNames = new ArrayList<>();
   private final Map<String, Integer> childrenNamesToFieldIndex = new HashMap<>();
@@ -209,7 +220,11 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       for (int i = 0; i < getFieldsCount(); i++) {
         SszSchema<?> childType = getChildSchema(i);
         if (!childType.isFixedSize()) {
-          size += childType.getSszSize(node.get(getChildGeneralizedIndex(i)));
+          TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
+          size +=
+              getUnexpandedSsz(childSubtree)
+                  .map(Bytes::size)
+                  .orElseGet(() -> childType.getSszSize(childSubtree));
         }
       }
       return size;
@@ -229,11 +244,14 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        int size = childType.sszSerializeTree(childSubtree, writer);
+        int size = sszSerializeChild(childType, childSubtree, writer);
         assert size == childType.getSszFixedPartSize();
       } else {
         writer.write(SszType.sszLengthToBytes(variableChildOffset));
-        int childSize = childType.getSszSize(childSubtree);
+        int childSize =
+            getUnexpandedSsz(childSubtree)
+                .map(Bytes::size)
+                .orElseGet(() -> childType.getSszSize(childSubtree));
         variableSizes[i] = childSize;
         variableChildOffset += childSize;
       }
@@ -242,15 +260,40 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       SszSchema<?> childType = getChildSchema(i);
       if (!childType.isFixedSize()) {
         TreeNode childSubtree = node.get(getChildGeneralizedIndex(i));
-        int size = childType.sszSerializeTree(childSubtree, writer);
+        int size = sszSerializeChild(childType, childSubtree, writer);
         assert size == variableSizes[i];
       }
     }
     return variableChildOffset;
   }
 
+  private static int sszSerializeChild(
+      SszSchema<?> childType, TreeNode childSubtree, SszWriter writer) {
+    Optional<Bytes> unexpandedSsz = getUnexpandedSsz(childSubtree);
+    if (unexpandedSsz.isPresent()) {
+      // lazily deserialized child which was not accessed: just copy its original SSZ
+      writer.write(unexpandedSsz.get());
+      return unexpandedSsz.get().size();
+    } else {
+      return childType.sszSerializeTree(childSubtree, writer);
+    }
+  }
+
+  private static Optional<Bytes> getUnexpandedSsz(TreeNode node) {
+    return node instanceof LazyBranchNode ? ((LazyBranchNode) node).getSsz() : Optional.empty();
+  }
+
+  @Override
+  public C sszDeserializeLazily(Bytes ssz) throws SszDeserializeException {
+    return createFromBackingNode(sszDeserializeTree(SszReader.fromBytes(ssz), true));
+  }
+
   @Override
   public TreeNode sszDeserializeTree(SszReader reader) {
+    return sszDeserializeTree(reader, false);
+  }
+
+  private TreeNode sszDeserializeTree(SszReader reader, boolean lazy) {
     int endOffset = reader.getAvailableBytes();
     int childCount = getFieldsCount();
     Queue<TreeNode> fixedChildrenSubtrees = new ArrayDeque<>(childCount);
@@ -258,10 +301,8 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     for (int i = 0; i < childCount; i++) {
       SszSchema<?> childType = getChildSchema(i);
       if (childType.isFixedSize()) {
-        try (SszReader sszReader = reader.slice(childType.getSszFixedPartSize())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          fixedChildrenSubtrees.add(childNode);
-        }
+        fixedChildrenSubtrees.add(
+            sszDeserializeChild(childType, reader, childType.getSszFixedPartSize(), lazy));
       } else {
         int childOffset = SszType.sszBytesToLength(reader.read(SSZ_LENGTH_SIZE));
         variableChildrenOffsets.add(childOffset);
@@ -298,16 +339,42 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
       if (childType.isFixedSize()) {
         childrenSubtrees.add(fixedChildrenSubtrees.remove());
       } else {
-        try (SszReader sszReader = reader.slice(variableChildrenSizes.remove())) {
-          TreeNode childNode = childType.sszDeserializeTree(sszReader);
-          childrenSubtrees.add(childNode);
-        }
+        childrenSubtrees.add(
+            sszDeserializeChild(childType, reader, variableChildrenSizes.remove(), lazy));
       }
     }
 
     return TreeUtil.createTree(childrenSubtrees);
   }
 
+  private static TreeNode sszDeserializeChild(
+      SszSchema<?> childType, SszReader reader, int size, boolean lazy) {
+    if (lazy && isLazilyDeserializable(childType, size)) {
+      return new LazyBranchNode(
+          reader.read(size), ssz -> sszDeserializeChild(childType, SszReader.fromBytes(ssz)));
+    }
+    return sszDeserializeChild(childType, reader.slice(size));
+  }
+
+  private static TreeNode sszDeserializeChild(SszSchema<?> childType, SszReader childReader) {
+    try (childReader) {
+      return childType.sszDeserializeTree(childReader);
+    }
+  }
+
+  /**
+   * Only schemas which always have a {@link tech.pegasys.teku.ssz.tree.BranchNode} root may be
+   * represented by a {@link LazyBranchNode}: lists (<code>data</code> and <code>length</code>
+   * nodes) and vectors with more than a single chunk
+   */
+  private static boolean isLazilyDeserializable(SszSchema<?> schema, int sszSize) {
+    if (sszSize < LAZY_DESERIALIZATION_MIN_SIZE) {
+      return false;
+    }
+    return schema instanceof SszListSchema
+        || (schema instanceof SszVectorSchema && ((SszVectorSchema<?, ?>) schema).treeDepth() > 0);
+  }
+
   @Override
   public SszLengthBounds getSszLengthBounds() {
     return IntStream.range(0, getFieldsCount())
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Optional;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Branch node which keeps its subtree as the SSZ bytes it was deserialized from and only builds the
+ * actual subtree the first time its children (or its hash) are accessed.
+ *
+ * <p>This node is intended for large fields of trusted data (e.g. a <code>BeaconState</code> read
+ * back from the database) where typically just a few fields are accessed and the cost of building
+ * the full tree for every field would dominate. Note that the SSZ bytes are only validated on
+ * expansion, so a malformed subtree results in a {@link
+ * tech.pegasys.teku.ssz.sos.SszDeserializeException} thrown on first access rather than on
+ * deserialization of the enclosing structure
+ *
+ * <p>The node is immutable: any update expands it and returns a regular (non-lazy) tree. Until the
+ * node is expanded the <code>ssz</code> slice keeps the whole original byte array reachable
+ */
+public class LazyBranchNode implements BranchNode {
+
+  private final Function<Bytes, TreeNode> deserializer;
+  private volatile Bytes ssz;
+  private volatile BranchNode expanded;
+
+  /**
+   * @param ssz SSZ bytes of the subtree
+   * @param deserializer creates the subtree from <code>ssz</code>. The resulting subtree root must
+   *     be a {@link BranchNode}
+   */
+  public LazyBranchNode(Bytes ssz, Function<Bytes, TreeNode> deserializer) {
+    this.ssz = checkNotNull(ssz);
+    this.deserializer = checkNotNull(deserializer);
+  }
+
+  /** Returns the SSZ bytes of this subtree if the node was not expanded yet */
+  public Optional<Bytes> getSsz() {
+    return Optional.ofNullable(ssz);
+  }
+
+  public boolean isExpanded() {
+    return expanded != null;
+  }
+
+  private BranchNode expand() {
+    BranchNode node = expanded;
+    if (node == null) {
+      synchronized (this) {
+        node = expanded;
+        if (node == null) {
+          TreeNode subtree = deserializer.apply(ssz);
+          if (!(subtree instanceof BranchNode)) {
+            throw new IllegalStateException(
+                "Lazy subtree root is not a branch node: " + subtree.getClass().getSimpleName());
+          }
+          node = (BranchNode) subtree;
+          expanded = node;
+          // the bytes are not needed anymore, release them to not retain the original array
+          ssz = null;
+        }
+      }
+    }
+    return node;
+  }
+
+  @NotNull
+  @Override
+  public TreeNode left() {
+    return expand().left();
+  }
+
+  @NotNull
+  @Override
+  public TreeNode right() {
+    return expand().right();
+  }
+
+  @Override
+  public BranchNode rebind(boolean left, TreeNode newNode) {
+    return expand().rebind(left, newNode);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    return expand().hashTreeRoot();
+  }
+
+  @NotNull
+  @Override
+  public TreeNode get(long target) {
+    return GIndexUtil.gIdxIsSelf(target) ? this : expand().get(target);
+  }
+
+  @Override
+  public boolean iterate(
+      long thisGeneralizedIndex, long startGeneralizedIndex, TreeVisitor visitor) {
+    return expand().iterate(thisGeneralizedIndex, startGeneralizedIndex, visitor);
+  }
+
+  @Override
+  public TreeNode updated(long target, Function<TreeNode, TreeNode> nodeUpdater) {
+    return GIndexUtil.gIdxIsSelf(target)
+        ? nodeUpdater.apply(this)
+        : expand().updated(target, nodeUpdater);
+  }
+
+  @Override
+  public TreeNode updated(TreeUpdates newNodes) {
+    return newNodes.isEmpty() ? this : expand().updated(newNodes);
+  }
+
+  @Override
+  public String toString() {
+    Bytes bytes = ssz;
+    return bytes != null ? "(lazy " + bytes.size() + " bytes)" : expanded.toString();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Estimates the heap memory retained by trees.
+ *
+ * <p>Trees share their unchanged subtrees so the memory retained by several trees is usually much
+ * less than the sum of their individual sizes. This estimator remembers (by identity) every node it
+ * has counted and {@link #add(TreeNode)} only counts nodes which were not reachable from any tree
+ * added before. I.e. the returned size is the memory the tree retains in addition to the previously
+ * added trees.
+ *
+ * <p>Sizes are approximations based on the object layout of a 64-bit JVM with compressed
+ * references. This class is not thread safe.
+ */
+public class TreeNodeSizeEstimator {
+  // object header, two child references, hash reference and the cached hash with its array
+  static final long BRANCH_NODE_SIZE = 96;
+  // object header, data reference and the Bytes wrapper with its array header
+  static final long LEAF_NODE_OVERHEAD = 56;
+  // object header, fields and the Bytes wrapper of nodes storing SSZ bytes of a whole subtree
+  static final long SSZ_NODE_OVERHEAD = 96;
+
+  private final Set<TreeNode> countedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+  private long totalSize = 0;
+
+  /** Returns the estimated size of the nodes of the tree which were not counted before */
+  public long add(TreeNode root) {
+    long size = 0;
+    Deque<TreeNode> nodes = new ArrayDeque<>();
+    nodes.push(root);
+    while (!nodes.isEmpty()) {
+      TreeNode node = nodes.pop();
+      if (!countedNodes.add(node)) {
+        // the whole subtree has already been counted
+        continue;
+      }
+      size += countNode(node, nodes);
+    }
+    totalSize += size;
+    return size;
+  }
+
+  /**
+   * Returns the estimated size of the nodes of the tree which are not shared with the base tree at
+   * the same position. Only the paths which differ are walked and no nodes are remembered, so for
+   * trees derived from one another this is much cheaper than {@link #add(TreeNode)}.
+   *
+   * @param root the tree to estimate
+   * @param base the tree it is compared with, or null to estimate the whole tree
+   */
+  public static long estimateAdditionalSize(TreeNode root, TreeNode base) {
+    long size = 0;
+    Deque<TreeNode> children = new ArrayDeque<>(2);
+    Deque<NodePair> pairs = new ArrayDeque<>();
+    pairs.push(new NodePair(root, base));
+    while (!pairs.isEmpty()) {
+      NodePair pair = pairs.pop();
+      if (pair.node == pair.base) {
+        // the whole subtree is shared with the base tree
+        continue;
+      }
+      size += countNode(pair.node, children);
+      if (children.isEmpty()) {
+        continue;
+      }
+      TreeNode right = children.pop();
+      TreeNode left = children.pop();
+      if (pair.base != null && isExpanded(pair.base)) {
+        BranchNode baseBranch = (BranchNode) pair.base;
+        pairs.push(new NodePair(left, baseBranch.left()));
+        pairs.push(new NodePair(right, baseBranch.right()));
+      } else {
+        pairs.push(new NodePair(left, null));
+        pairs.push(new NodePair(right, null));
+      }
+    }
+    return size;
+  }
+
+  /** Returns the size of the node itself, pushing the children which need to be counted as well */
+  private static long countNode(TreeNode node, Deque<TreeNode> children) {
+    if (node instanceof LazyBranchNode) {
+      LazyBranchNode lazyNode = (LazyBranchNode) node;
+      Optional<Bytes> ssz = lazyNode.getSsz();
+      if (ssz.isPresent()) {
+        // don't expand the node just to estimate its size
+        return SSZ_NODE_OVERHEAD + ssz.get().size();
+      }
+      children.push(lazyNode.left());
+      children.push(lazyNode.right());
+      return SSZ_NODE_OVERHEAD + BRANCH_NODE_SIZE;
+    } else if (node instanceof SszSuperNode) {
+      return SSZ_NODE_OVERHEAD + ((SszSuperNode) node).getData().size();
+    } else if (node instanceof LeafDataNode) {
+      return LEAF_NODE_OVERHEAD + ((LeafDataNode) node).getData().size();
+    } else if (node instanceof BranchNode) {
+      BranchNode branchNode = (BranchNode) node;
+      children.push(branchNode.left());
+      children.push(branchNode.right());
+      return BRANCH_NODE_SIZE;
+    }
+    return 0;
+  }
+
+  /** Returns true if {@link #countNode} would walk the children of the node */
+  private static boolean isExpanded(TreeNode node) {
+    if (node instanceof LazyBranchNode) {
+      return ((LazyBranchNode) node).getSsz().isEmpty();
+    }
+    return node instanceof BranchNode;
+  }
+
+  /** Returns the estimated size of all the trees added so far */
+  public long getTotalSize() {
+    return totalSize;
+  }
+
+  private static class NodePair {
+    private final TreeNode node;
+    private final TreeNode base;
+
+    private NodePair(TreeNode node, TreeNode base) {
+      this.node = node;
+      this.base = base;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.ssz.SszContainer;
+import tech.pegasys.teku.ssz.impl.SszContainerImpl;
+import tech.pegasys.teku.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.ssz.schema.SszListSchema;
+import tech.pegasys.teku.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.ssz.schema.SszVectorSchema;
+import tech.pegasys.teku.ssz.sos.SszDeserializeException;
+
+public class LazyBranchNodeTest {
+
+  private static final int SMALL_LIST_FIELD = 1;
+  private static final int LARGE_LIST_FIELD = 2;
+  private static final int LARGE_VECTOR_FIELD = 3;
+
+  private static final SszListSchema<SszUInt64, ?> SMALL_LIST_SCHEMA =
+      SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 10);
+  private static final SszListSchema<SszUInt64, ?> LARGE_LIST_SCHEMA =
+      SszListSchema.create(SszPrimitiveSchemas.UINT64_SCHEMA, 1024);
+  private static final SszVectorSchema<SszBytes32, ?> LARGE_VECTOR_SCHEMA =
+      SszVectorSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, 64);
+
+  private static final SszContainerSchema<SszContainer> SCHEMA =
+      SszContainerSchema.create(
+          List.of(
+              SszPrimitiveSchemas.UINT64_SCHEMA,
+              SMALL_LIST_SCHEMA,
+              LARGE_LIST_SCHEMA,
+              LARGE_VECTOR_SCHEMA),
+          SszContainerImpl::new);
+
+  private final SszContainer container =
+      SCHEMA.createFromFieldValues(
+          List.of(
+              SszUInt64.of(UInt64.valueOf(42)),
+              SMALL_LIST_SCHEMA.createFromElements(uint64s(5)),
+              LARGE_LIST_SCHEMA.createFromElements(uint64s(500)),
+              LARGE_VECTOR_SCHEMA.createFromElements(
+                  IntStream.range(0, 64)
+                      .mapToObj(i -> SszBytes32.of(Bytes32.fromHexStringLenient("0x" + (i + 1))))
+                      .collect(Collectors.toList()))));
+  private final Bytes ssz = container.sszSerialize();
+
+  @Test
+  void shouldOnlyDeserializeLargeCollectionsLazily() {
+    final SszContainer lazyContainer = SCHEMA.sszDeserializeLazily(ssz);
+
+    assertThat(getField(lazyContainer, SMALL_LIST_FIELD)).isNotInstanceOf(LazyBranchNode.class);
+    assertThat(getField(lazyContainer, LARGE_LIST_FIELD)).isInstanceOf(LazyBranchNode.class);
+    assertThat(getField(lazyContainer, LARGE_VECTOR_FIELD)).isInstanceOf(LazyBranchNode.class);
+    assertThat(getField(SCHEMA.sszDeserialize(ssz), LARGE_LIST_FIELD))
+        .isNotInstanceOf(LazyBranchNode.class);
+  }
+
+  @Test
+  void shouldNotExpandFieldsUntilAccessed() {
+    final SszContainer lazyContainer = SCHEMA.sszDeserializeLazily(ssz);
+    final LazyBranchNode listNode = (LazyBranchNode) getField(lazyContainer, LARGE_LIST_FIELD);
+    final LazyBranchNode vectorNode = (LazyBranchNode) getField(lazyContainer, LARGE_VECTOR_FIELD);
+
+    assertThat(lazyContainer.get(0)).isEqualTo(container.get(0));
+    assertThat(lazyContainer.get(SMALL_LIST_FIELD)).isEqualTo(container.get(SMALL_LIST_FIELD));
+    assertThat(listNode.isExpanded()).isFalse();
+    assertThat(vectorNode.isExpanded()).isFalse();
+
+    assertThat(lazyContainer.get(LARGE_LIST_FIELD)).isEqualTo(container.get(LARGE_LIST_FIELD));
+    assertThat(listNode.isExpanded()).isTrue();
+    assertThat(listNode.getSsz()).isEmpty();
+    assertThat(vectorNode.isExpanded()).isFalse();
+  }
+
+  @Test
+  void shouldMatchEagerlyDeserializedContainer() {
+    final SszContainer lazyContainer = SCHEMA.sszDeserializeLazily(ssz);
+
+    assertThat(lazyContainer.hashTreeRoot()).isEqualTo(container.hashTreeRoot());
+    assertThat(lazyContainer).isEqualTo(container);
+    assertThat(lazyContainer.sszSerialize()).isEqualTo(ssz);
+  }
+
+  @Test
+  void shouldSerializeWithoutExpanding() {
+    final SszContainer lazyContainer = SCHEMA.sszDeserializeLazily(ssz);
+
+    assertThat(lazyContainer.sszSerialize()).isEqualTo(ssz);
+    assertThat(((LazyBranchNode) getField(lazyContainer, LARGE_LIST_FIELD)).isExpanded())
+        .isFalse();
+    assertThat(((LazyBranchNode) getField(lazyContainer, LARGE_VECTOR_FIELD)).isExpanded())
+        .isFalse();
+  }
+
+  @Test
+  void shouldUpdateLazyFields() {
+    final TreeNode lazyTree = SCHEMA.sszDeserializeLazily(ssz).getBackingNode();
+    final long vectorGIndex = SCHEMA.getChildGeneralizedIndex(LARGE_VECTOR_FIELD);
+    final long elementGIndex =
+        GIndexUtil.gIdxCompose(vectorGIndex, LARGE_VECTOR_SCHEMA.getChildGeneralizedIndex(3));
+    final TreeNode newLeaf = LeafNode.create(Bytes32.fromHexStringLenient("0xabcdef"));
+
+    final TreeNode updatedLazyTree = lazyTree.updated(elementGIndex, newLeaf);
+    final TreeNode updatedTree = container.getBackingNode().updated(elementGIndex, newLeaf);
+
+    assertThat(updatedLazyTree.get(elementGIndex)).isEqualTo(newLeaf);
+    assertThat(updatedLazyTree.get(vectorGIndex)).isNotInstanceOf(LazyBranchNode.class);
+    assertThat(updatedLazyTree.hashTreeRoot()).isEqualTo(updatedTree.hashTreeRoot());
+    assertThat(SCHEMA.createFromBackingNode(updatedLazyTree).sszSerialize())
+        .isEqualTo(SCHEMA.createFromBackingNode(updatedTree).sszSerialize());
+  }
+
+  @Test
+  void shouldFailOnFirstAccessWhenLazyFieldIsInvalid() {
+    // The large list is the last variable size field: truncating the container SSZ by a byte
+    // leaves a partial list element
+    final Bytes invalidSsz = ssz.slice(0, ssz.size() - 1);
+
+    final SszContainer lazyContainer = SCHEMA.sszDeserializeLazily(invalidSsz);
+
+    assertThatThrownBy(() -> lazyContainer.get(LARGE_LIST_FIELD))
+        .isInstanceOf(SszDeserializeException.class);
+    assertThatThrownBy(() -> SCHEMA.sszDeserialize(invalidSsz))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  private static TreeNode getField(final SszContainer container, final int fieldIndex) {
+    return container.getBackingNode().get(SCHEMA.getChildGeneralizedIndex(fieldIndex));
+  }
+
+  private static List<SszUInt64> uint64s(final int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> SszUInt64.of(UInt64.valueOf(i)))
+        .collect(Collectors.toList());
+  }
+}
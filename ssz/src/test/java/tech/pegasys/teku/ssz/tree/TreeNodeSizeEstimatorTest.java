@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+public class TreeNodeSizeEstimatorTest {
+
+  @Test
+  void add_shouldCountBranchAndLeafNodes() {
+    final TreeNode tree = createTree();
+    final TreeNodeSizeEstimator estimator = new TreeNodeSizeEstimator();
+
+    // 8 leaves of 32 bytes and 7 branch nodes
+    final long expectedSize =
+        8 * (TreeNodeSizeEstimator.LEAF_NODE_OVERHEAD + 32)
+            + 7 * TreeNodeSizeEstimator.BRANCH_NODE_SIZE;
+    assertThat(estimator.add(tree)).isEqualTo(expectedSize);
+    assertThat(estimator.getTotalSize()).isEqualTo(expectedSize);
+  }
+
+  @Test
+  void add_shouldNotCountSameTreeTwice() {
+    final TreeNode tree = createTree();
+    final TreeNodeSizeEstimator estimator = new TreeNodeSizeEstimator();
+    final long size = estimator.add(tree);
+
+    assertThat(estimator.add(tree)).isZero();
+    assertThat(estimator.getTotalSize()).isEqualTo(size);
+  }
+
+  @Test
+  void add_shouldOnlyCountNodesNotSharedWithPreviousTrees() {
+    final TreeNode tree = createTree();
+    final TreeNode updatedTree = tree.updated(8, LeafNode.create(Bytes32.fromHexString("0xff")));
+    final TreeNodeSizeEstimator estimator = new TreeNodeSizeEstimator();
+    estimator.add(tree);
+
+    // The new leaf and the 3 branch nodes on its path to the root
+    assertThat(estimator.add(updatedTree))
+        .isEqualTo(
+            TreeNodeSizeEstimator.LEAF_NODE_OVERHEAD
+                + 32
+                + 3 * TreeNodeSizeEstimator.BRANCH_NODE_SIZE);
+  }
+
+  @Test
+  void add_shouldNotExpandLazyNodes() {
+    final TreeNode tree = createTree();
+    final Bytes32 ssz = Bytes32.ZERO;
+    final LazyBranchNode lazyNode = new LazyBranchNode(ssz, __ -> tree);
+    final TreeNodeSizeEstimator estimator = new TreeNodeSizeEstimator();
+
+    assertThat(estimator.add(lazyNode))
+        .isEqualTo(TreeNodeSizeEstimator.SSZ_NODE_OVERHEAD + ssz.size());
+    assertThat(lazyNode.isExpanded()).isFalse();
+  }
+
+  @Test
+  void estimateAdditionalSize_shouldOnlyCountNodesNotSharedWithBase() {
+    final TreeNode tree = createTree();
+    final TreeNode updatedTree = tree.updated(8, LeafNode.create(Bytes32.fromHexString("0xff")));
+
+    assertThat(TreeNodeSizeEstimator.estimateAdditionalSize(updatedTree, tree))
+        .isEqualTo(
+            TreeNodeSizeEstimator.LEAF_NODE_OVERHEAD
+                + 32
+                + 3 * TreeNodeSizeEstimator.BRANCH_NODE_SIZE);
+    assertThat(TreeNodeSizeEstimator.estimateAdditionalSize(tree, tree)).isZero();
+  }
+
+  @Test
+  void estimateAdditionalSize_shouldCountWholeTreeWithoutBase() {
+    final TreeNode tree = createTree();
+
+    assertThat(TreeNodeSizeEstimator.estimateAdditionalSize(tree, null))
+        .isEqualTo(new TreeNodeSizeEstimator().add(tree));
+  }
+
+  private TreeNode createTree() {
+    final List<TreeNode> leaves =
+        IntStream.range(0, 8)
+            .mapToObj(i -> LeafNode.create(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1))))
+            .collect(Collectors.toList());
+    return TreeUtil.createTree(leaves);
+  }
+}
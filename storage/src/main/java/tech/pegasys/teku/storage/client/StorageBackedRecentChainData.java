@@ -22,6 +22,7 @@ import java.util.concurrent.TimeoutException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -44,6 +45,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
   private final StateAndBlockSummaryProvider stateProvider;
   private final StorageQueryChannel storageQueryChannel;
   private final StoreConfig storeConfig;
+  private final StateCacheMemoryManager stateCacheMemoryManager;
 
   public StorageBackedRecentChainData(
       final AsyncRunner asyncRunner,
@@ -55,7 +57,8 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ChainHeadChannel chainHeadChannel,
-      final Spec spec) {
+      final Spec spec,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     super(
         asyncRunner,
         metricsSystem,
@@ -69,6 +72,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
         chainHeadChannel,
         spec);
     this.storeConfig = storeConfig;
+    this.stateCacheMemoryManager = stateCacheMemoryManager;
     this.storageQueryChannel = storageQueryChannel;
     this.blockProvider = storageQueryChannel::getHotBlocksByRoot;
     this.stateProvider = storageQueryChannel::getHotStateAndBlockSummaryByBlockRoot;
@@ -84,7 +88,8 @@ public class StorageBackedRecentChainData extends RecentChainData {
       final ProtoArrayStorageChannel protoArrayStorageChannel,
       final FinalizedCheckpointChannel finalizedCheckpointChannel,
       final ChainHeadChannel chainHeadChannel,
-      final Spec spec) {
+      final Spec spec,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     StorageBackedRecentChainData client =
         new StorageBackedRecentChainData(
             asyncRunner,
@@ -96,7 +101,8 @@ public class StorageBackedRecentChainData extends RecentChainData {
             protoArrayStorageChannel,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            stateCacheMemoryManager);
 
     return client.initializeFromStorageWithRetry(asyncRunner);
   }
@@ -124,7 +130,8 @@ public class StorageBackedRecentChainData extends RecentChainData {
             protoArrayStorageChannel,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     return client.initializeFromStorage().join();
   }
@@ -157,6 +164,7 @@ public class StorageBackedRecentChainData extends RecentChainData {
                   .stateProvider(stateProvider)
                   .storeConfig(storeConfig)
                   .protoArrayStorageChannel(protoArrayStorageChannel)
+                  .stateCacheMemoryManager(stateCacheMemoryManager)
                   .build();
           setStore(store);
           STATUS_LOG.finishInitializingChainData();
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -52,9 +53,18 @@ public class ChainStorage implements StorageUpdateChannel, StorageQueryChannel,
   }
 
   public static ChainStorage create(final Database database, final Spec spec) {
+    return create(database, spec, StateCacheMemoryManager.DISABLED);
+  }
+
+  public static ChainStorage create(
+      final Database database,
+      final Spec spec,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     final int finalizedStateCacheSize = spec.getSlotsPerEpoch(SpecConfig.GENESIS_EPOCH) * 3;
     return new ChainStorage(
-        database, new FinalizedStateCache(spec, database, finalizedStateCacheSize, true));
+        database,
+        new FinalizedStateCache(
+            spec, database, finalizedStateCacheSize, true, stateCacheMemoryManager));
   }
 
   private synchronized Optional<StoreBuilder> getStore() {
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -118,12 +119,19 @@ public interface Database extends AutoCloseable {
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
   Optional<ProtoArraySnapshot> getProtoArraySnapshot();
 
   void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event);
 
   void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+  /**
+   * Stores the snapshot and removes the deposits it covers, which no longer need to be replayed.
+   */
+  void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
   void putProtoArraySnapshot(final ProtoArraySnapshot protoArray);
 
   void storeVotes(Map<UInt64, VoteTracker> votes);
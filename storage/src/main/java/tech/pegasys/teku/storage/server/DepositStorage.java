@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
@@ -54,9 +55,15 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
     return replayResult.get();
   }
 
+  @Override
+  public SafeFuture<Void> storeFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    return SafeFuture.fromRunnable(() -> database.setFinalizedDepositSnapshot(snapshot));
+  }
+
   private ReplayDepositsResult replayDeposits() {
     final DepositSequencer depositSequencer =
         new DepositSequencer(eth1EventsChannel, database.getMinGenesisTimeBlock());
+    database.getFinalizedDepositSnapshot().ifPresent(depositSequencer::depositTreeSnapshot);
     try (Stream<DepositsFromBlockEvent> eventStream = database.streamDepositsFromBlocks()) {
       eventStream.forEach(depositSequencer::depositEvent);
     }
@@ -96,6 +103,20 @@ public class DepositStorage implements Eth1DepositStorageChannel, Eth1EventsChan
       this.genesis = genesis;
     }
 
+    public void depositTreeSnapshot(final DepositTreeSnapshot snapshot) {
+      LOG.trace("Restore {} finalized deposits from snapshot", snapshot.getDepositCount());
+      eth1EventsChannel.onDepositTreeSnapshot(snapshot);
+      if (genesis.isPresent()
+          && genesis.get().getBlockNumber().compareTo(snapshot.getExecutionBlockHeight()) <= 0) {
+        this.eth1EventsChannel.onMinGenesisTimeBlock(genesis.get());
+        isGenesisDone = true;
+      }
+      if (!snapshot.getDepositCount().isZero()) {
+        lastDepositIndex = Optional.of(snapshot.getDepositCount().decrement());
+      }
+      lastDepositBlockNumber = snapshot.getExecutionBlockHeight().bigIntegerValue();
+    }
+
     public void depositEvent(final DepositsFromBlockEvent event) {
       LOG.trace(
           "Process deposits {} - {}", event.getFirstDepositIndex(), event.getLastDepositIndex());
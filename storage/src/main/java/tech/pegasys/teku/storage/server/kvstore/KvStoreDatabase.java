@@ -45,6 +45,7 @@ import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -515,6 +516,11 @@ public class KvStoreDatabase implements Database {
     return eth1Dao.streamDepositsFromBlocks();
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return eth1Dao.getFinalizedDepositSnapshot();
+  }
+
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
     return protoArrayDao.getProtoArraySnapshot();
@@ -536,6 +542,14 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+    try (final Eth1Updater updater = eth1Dao.eth1Updater()) {
+      updater.setFinalizedDepositSnapshot(snapshot);
+      updater.commit();
+    }
+  }
+
   @Override
   public void putProtoArraySnapshot(final ProtoArraySnapshot protoArraySnapshot) {
     try (final KvStoreHotDao.HotUpdater hotUpdater = hotDao.hotUpdater()) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.ssz.SszCollection;
+import tech.pegasys.teku.ssz.SszComposite;
+import tech.pegasys.teku.ssz.SszData;
+import tech.pegasys.teku.ssz.SszMutableComposite;
+import tech.pegasys.teku.ssz.schema.SszCollectionSchema;
+import tech.pegasys.teku.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.ssz.schema.SszSchema;
+
+/**
+ * Encodes a state as the difference from an earlier base state of the same fork.
+ *
+ * <p>Only top level fields whose hash tree root differs from the base are written. Large lists and
+ * vectors such as validators, balances and the root vectors record just the changed or appended
+ * elements, falling back to the full field when most of it changed:
+ *
+ * <pre>
+ *   uint8 formatVersion
+ *   bytes32 baseStateRoot
+ *   uint32 fieldCount
+ *   (uint32 fieldIndex, uint8 FULL, uint32 length, bytes[length] ssz)
+ *   | (uint32 fieldIndex, uint8 ELEMENTS, uint32 size, uint32 elementCount,
+ *      (uint32 elementIndex, [uint32 length if variable size], bytes ssz)[elementCount])
+ * </pre>
+ *
+ * <p>Applying a diff starts from the base state's tree, so unchanged fields and elements share
+ * their backing nodes with the base rather than being deserialized again.
+ */
+public class BeaconStateDiff {
+  // Written first so the encoding can be changed without misreading existing diffs
+  static final byte FORMAT_VERSION = 1;
+  private static final int BASE_STATE_ROOT_OFFSET = 1;
+  private static final byte FULL_FIELD = 0;
+  private static final byte CHANGED_ELEMENTS = 1;
+  // Fields smaller than this are always written in full
+  private static final int MIN_ELEMENT_DIFF_FIELD_SIZE = 1024;
+
+  /**
+   * Creates a diff of {@code state} against {@code base}, or empty if the states belong to
+   * different forks and can't be diffed.
+   */
+  public static Optional<Bytes> create(final BeaconState base, final BeaconState state) {
+    if (!base.getSchema().equals(state.getSchema())) {
+      return Optional.empty();
+    }
+    final List<Bytes> fieldDiffs = new ArrayList<>();
+    int fieldCount = 0;
+    for (int fieldIndex = 0; fieldIndex < state.size(); fieldIndex++) {
+      final SszData baseField = base.get(fieldIndex);
+      final SszData field = state.get(fieldIndex);
+      if (baseField.hashTreeRoot().equals(field.hashTreeRoot())) {
+        continue;
+      }
+      fieldCount++;
+      fieldDiffs.add(uint32(fieldIndex));
+      // Only the encoding which is kept is serialized
+      final int fullFieldSize = field.getSchema().getSszSize(field.getBackingNode());
+      final Optional<Bytes> elementDiff =
+          field instanceof SszCollection && fullFieldSize >= MIN_ELEMENT_DIFF_FIELD_SIZE
+              ? createElementDiff(
+                  (SszCollection<?>) baseField, (SszCollection<?>) field, fullFieldSize / 2)
+              : Optional.empty();
+      if (elementDiff.isPresent()) {
+        fieldDiffs.add(Bytes.of(CHANGED_ELEMENTS));
+        fieldDiffs.add(elementDiff.get());
+      } else {
+        fieldDiffs.add(Bytes.of(FULL_FIELD));
+        fieldDiffs.add(uint32(fullFieldSize));
+        fieldDiffs.add(field.sszSerialize());
+      }
+    }
+
+    final List<Bytes> diff = new ArrayList<>(fieldDiffs.size() + 3);
+    diff.add(Bytes.of(FORMAT_VERSION));
+    diff.add(base.hashTreeRoot());
+    diff.add(uint32(fieldCount));
+    diff.addAll(fieldDiffs);
+    return Optional.of(Bytes.wrap(diff.toArray(new Bytes[0])).copy());
+  }
+
+  private static Optional<Bytes> createElementDiff(
+      final SszCollection<?> baseField, final SszCollection<?> field, final int maxDiffSize) {
+    final int baseSize = baseField.size();
+    final int size = field.size();
+    if (size < baseSize) {
+      return Optional.empty();
+    }
+    final boolean fixedSizeElements = field.getSchema().getElementSchema().isFixedSize();
+    final List<Bytes> elements = new ArrayList<>();
+    int elementCount = 0;
+    int diffSize = 2 * Integer.BYTES;
+    for (int i = 0; i < size; i++) {
+      final SszData element = field.get(i);
+      if (i < baseSize && element.equals(baseField.get(i))) {
+        continue;
+      }
+      final Bytes elementSsz = element.sszSerialize();
+      elements.add(uint32(i));
+      if (!fixedSizeElements) {
+        elements.add(uint32(elementSsz.size()));
+      }
+      elements.add(elementSsz);
+      elementCount++;
+      diffSize += Integer.BYTES + (fixedSizeElements ? 0 : Integer.BYTES) + elementSsz.size();
+      if (diffSize > maxDiffSize) {
+        return Optional.empty();
+      }
+    }
+
+    final List<Bytes> diff = new ArrayList<>(elements.size() + 2);
+    diff.add(uint32(size));
+    diff.add(uint32(elementCount));
+    diff.addAll(elements);
+    return Optional.of(Bytes.wrap(diff.toArray(new Bytes[0])));
+  }
+
+  /** Returns the hash tree root of the base state the diff was created against. */
+  public static Bytes32 getBaseStateRoot(final Bytes diff) {
+    checkFormatVersion(diff);
+    return Bytes32.wrap(diff.slice(BASE_STATE_ROOT_OFFSET, Bytes32.SIZE));
+  }
+
+  /**
+   * Rebuilds the state a diff was created from.
+   *
+   * @throws IllegalArgumentException if the diff was not created against {@code base}
+   */
+  public static BeaconState apply(final BeaconState base, final Bytes diff) {
+    checkArgument(
+        getBaseStateRoot(diff).equals(base.hashTreeRoot()),
+        "State diff was created against base state %s not %s",
+        getBaseStateRoot(diff),
+        base.hashTreeRoot());
+    final SszContainerSchema<?> schema = base.getSchema();
+    final List<SszData> fields = new ArrayList<>(base.size());
+    for (int fieldIndex = 0; fieldIndex < base.size(); fieldIndex++) {
+      fields.add(base.get(fieldIndex));
+    }
+
+    final ByteBuffer buffer =
+        ByteBuffer.wrap(diff.toArrayUnsafe())
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .position(BASE_STATE_ROOT_OFFSET + Bytes32.SIZE);
+    final int fieldCount = buffer.getInt();
+    for (int i = 0; i < fieldCount; i++) {
+      final int fieldIndex = buffer.getInt();
+      final SszSchema<?> fieldSchema = schema.getChildSchema(fieldIndex);
+      final byte kind = buffer.get();
+      if (kind == FULL_FIELD) {
+        fields.set(fieldIndex, fieldSchema.sszDeserialize(readBytes(buffer, buffer.getInt())));
+      } else if (kind == CHANGED_ELEMENTS) {
+        fields.set(
+            fieldIndex,
+            applyElementDiff(
+                (SszComposite<?>) fields.get(fieldIndex),
+                ((SszCollectionSchema<?, ?>) fieldSchema).getElementSchema(),
+                buffer));
+      } else {
+        throw new IllegalArgumentException("Unknown state diff field kind " + kind);
+      }
+    }
+    return (BeaconState) schema.createFromFieldValues(fields);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SszData applyElementDiff(
+      final SszComposite<?> baseField, final SszSchema<?> elementSchema, final ByteBuffer buffer) {
+    final int size = buffer.getInt();
+    final int elementCount = buffer.getInt();
+    final SszMutableComposite<SszData> field =
+        (SszMutableComposite<SszData>) baseField.createWritableCopy();
+    for (int i = 0; i < elementCount; i++) {
+      final int elementIndex = buffer.getInt();
+      final int length =
+          elementSchema.isFixedSize() ? elementSchema.getSszFixedPartSize() : buffer.getInt();
+      // Appended elements are written in index order so each one extends a list by one
+      field.set(elementIndex, elementSchema.sszDeserialize(readBytes(buffer, length)));
+    }
+    checkArgument(
+        field.size() == size, "State diff expected %s elements but got %s", size, field.size());
+    return field.commitChanges();
+  }
+
+  private static void checkFormatVersion(final Bytes diff) {
+    checkArgument(
+        diff.get(0) == FORMAT_VERSION,
+        "Unsupported state diff format version %s",
+        Byte.toUnsignedInt(diff.get(0)));
+  }
+
+  private static Bytes readBytes(final ByteBuffer buffer, final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return Bytes.wrap(bytes);
+  }
+
+  private static Bytes uint32(final int value) {
+    return Bytes.ofUnsignedInt(value, ByteOrder.LITTLE_ENDIAN);
+  }
+}
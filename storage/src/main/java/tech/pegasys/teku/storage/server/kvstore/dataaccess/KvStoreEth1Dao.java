@@ -16,6 +16,7 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import com.google.errorprone.annotations.MustBeClosed;
 import java.util.Optional;
 import java.util.stream.Stream;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 
@@ -30,6 +31,8 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
   Optional<MinGenesisTimeBlockEvent> getMinGenesisTimeBlock();
 
+  Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot();
+
   Eth1Updater eth1Updater();
 
   interface Eth1Updater extends AutoCloseable {
@@ -37,6 +40,8 @@ public interface KvStoreEth1Dao extends AutoCloseable {
 
     void addDepositsFromBlockEvent(final DepositsFromBlockEvent event);
 
+    void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot);
+
     void commit();
 
     void cancel();
@@ -14,15 +14,30 @@
 package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -42,9 +57,24 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHot;
 
 public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStoreProtoArrayDao {
+  // Number of vote journal segments to accumulate before they are compacted into a single segment
+  static final int VOTE_JOURNAL_COMPACTION_THRESHOLD = 64;
+
+  private static final Logger LOG = LogManager.getLogger();
+
   // Persistent data
   private final KvStoreAccessor db;
   private final SchemaHot schema;
+  // Base state hot state diffs are applied to, loaded from the latest finalized state on demand
+  private final AtomicReference<BeaconState> hotStateDiffBase = new AtomicReference<>();
+  // Previous finalized states that stored diffs may still be based on until they are rebased
+  private final Map<Bytes32, BeaconState> retiredHotStateDiffBases = new ConcurrentHashMap<>();
+  // Rebases hot state diffs after the finalized state changes, off the commit path
+  private final ExecutorService hotStateDiffRebaser =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("hot-state-rebase-%d").setDaemon(true).build());
+  // Orders rebased diff writes with commits so a rebase never restores a replaced state
+  private final Object hotStateDiffLock = new Object();
 
   public V4HotKvStoreDao(final KvStoreAccessor db, final SchemaHot schema) {
     this.db = db;
@@ -88,7 +118,89 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
 
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
-    return db.get(schema.getColumnHotStatesByRoot(), root);
+    return db.get(schema.getColumnHotStateDiffsByRoot(), root)
+        .flatMap(this::applyHotStateDiff)
+        .or(() -> db.get(schema.getColumnHotStatesByRoot(), root));
+  }
+
+  private Optional<BeaconState> applyHotStateDiff(final Bytes diff) {
+    final Bytes32 baseStateRoot = BeaconStateDiff.getBaseStateRoot(diff);
+    return getHotStateDiffBase()
+        .filter(base -> base.hashTreeRoot().equals(baseStateRoot))
+        .or(() -> Optional.ofNullable(retiredHotStateDiffBases.get(baseStateRoot)))
+        .map(base -> BeaconStateDiff.apply(base, diff));
+  }
+
+  private Optional<BeaconState> getHotStateDiffBase() {
+    final BeaconState cachedBase = hotStateDiffBase.get();
+    if (cachedBase != null) {
+      return Optional.of(cachedBase);
+    }
+    final Optional<BeaconState> base = getLatestFinalizedState();
+    base.ifPresent(state -> hotStateDiffBase.compareAndSet(null, state));
+    return base;
+  }
+
+  private void onHotStateDiffBaseChanged(
+      final Optional<BeaconState> previousBase, final BeaconState newBase) {
+    previousBase.ifPresent(base -> retiredHotStateDiffBases.put(base.hashTreeRoot(), base));
+    hotStateDiffBase.set(newBase);
+    if (!retiredHotStateDiffBases.isEmpty()) {
+      hotStateDiffRebaser.execute(this::rebaseHotStateDiffs);
+    }
+  }
+
+  /**
+   * Re-encodes the stored hot state diffs based on retired finalized states against the latest
+   * one, after which the retired states are released. Until then they are still used to read the
+   * diffs. Diffs which can't be rebased before shutdown are dropped on restart as their base is
+   * unknown, the states can still be regenerated from the hot blocks.
+   */
+  private void rebaseHotStateDiffs() {
+    final BeaconState newBase = hotStateDiffBase.get();
+    final Set<Bytes32> rebasedBaseRoots = new HashSet<>(retiredHotStateDiffBases.keySet());
+    rebasedBaseRoots.remove(newBase.hashTreeRoot());
+    try {
+      for (Map.Entry<Bytes32, Bytes> entry :
+          db.getAll(schema.getColumnHotStateDiffsByRoot()).entrySet()) {
+        if (Thread.currentThread().isInterrupted()) {
+          // Shutting down
+          return;
+        }
+        rebaseHotStateDiff(newBase, entry.getKey(), entry.getValue());
+      }
+      retiredHotStateDiffBases.keySet().removeAll(rebasedBaseRoots);
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to rebase hot state diffs", e);
+    }
+  }
+
+  private void rebaseHotStateDiff(
+      final BeaconState newBase, final Bytes32 blockRoot, final Bytes diff) {
+    final BeaconState base =
+        retiredHotStateDiffBases.get(BeaconStateDiff.getBaseStateRoot(diff));
+    if (base == null) {
+      // Already based on the latest finalized state or on an unknown state
+      return;
+    }
+    final BeaconState state = BeaconStateDiff.apply(base, diff);
+    final Optional<Bytes> rebasedDiff = BeaconStateDiff.create(newBase, state);
+    synchronized (hotStateDiffLock) {
+      if (!db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot).equals(Optional.of(diff))) {
+        // Replaced or deleted since it was read
+        return;
+      }
+      try (final KvStoreTransaction transaction = db.startTransaction()) {
+        if (rebasedDiff.isPresent()) {
+          transaction.put(schema.getColumnHotStateDiffsByRoot(), blockRoot, rebasedDiff.get());
+        } else {
+          // The finalized state is from a later fork, so store the full state
+          transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+          transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+        }
+        transaction.commit();
+      }
+    }
   }
 
   @Override
@@ -125,7 +237,18 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
 
   @Override
   public Map<UInt64, VoteTracker> getVotes() {
-    return db.getAll(schema.getColumnVotes());
+    return loadVotes(db, schema);
+  }
+
+  private static Map<UInt64, VoteTracker> loadVotes(
+      final KvStoreAccessor db, final SchemaHot schema) {
+    // Votes stored individually by older versions are overridden by any journal segments
+    final Map<UInt64, VoteTracker> votes = new HashMap<>(db.getAll(schema.getColumnVotes()));
+    try (Stream<ColumnEntry<UInt64, Map<UInt64, VoteTracker>>> segments =
+        db.stream(schema.getColumnVoteJournal())) {
+      segments.forEach(segment -> votes.putAll(segment.getValue()));
+    }
+    return votes;
   }
 
   @Override
@@ -139,6 +262,11 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
     return db.get(schema.getVariableMinGenesisTimeBlock());
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return db.get(schema.getVariableFinalizedDepositSnapshot());
+  }
+
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
     return db.get(schema.getVariableProtoArraySnapshot());
@@ -147,7 +275,7 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
   @Override
   @MustBeClosed
   public HotUpdater hotUpdater() {
-    return new V4HotUpdater(db, schema);
+    return new V4HotUpdater(this);
   }
 
   @Override
@@ -201,32 +329,48 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
   @Override
   @MustBeClosed
   public Eth1Updater eth1Updater() {
-    return new V4HotUpdater(db, schema);
+    return new V4HotUpdater(this);
   }
 
   @Override
   @MustBeClosed
   public ProtoArrayUpdater protoArrayUpdater() {
-    return new V4HotUpdater(db, schema);
+    return new V4HotUpdater(this);
   }
 
   @Override
   public void close() throws Exception {
-    db.close();
+    hotStateDiffRebaser.shutdownNow();
+    synchronized (hotStateDiffLock) {
+      db.close();
+    }
   }
 
   static class V4HotUpdater implements HotUpdater, Eth1Updater, ProtoArrayUpdater {
 
+    private final V4HotKvStoreDao dao;
+    private final KvStoreAccessor db;
     private final KvStoreTransaction transaction;
     private final SchemaHot schema;
+    // Loaded on first use as it is only needed when hot states or the finalized state change
+    private Supplier<Optional<BeaconState>> hotStateDiffBase;
+    // Set when the finalized state changes, the stored diffs are rebased after committing
+    private Optional<Supplier<Optional<BeaconState>>> previousHotStateDiffBase = Optional.empty();
+    // Vote journal changes made in this transaction which aren't yet visible through db
+    private Optional<UInt64> pendingVoteJournalBaseSegment = Optional.empty();
+    private final NavigableMap<UInt64, Map<UInt64, VoteTracker>> pendingVoteJournalSegments =
+        new TreeMap<>();
 
     KvStoreTransaction getTransaction() {
       return transaction;
     }
 
-    V4HotUpdater(final KvStoreAccessor db, final SchemaHot schema) {
+    V4HotUpdater(final V4HotKvStoreDao dao) {
+      this.dao = dao;
+      this.db = dao.db;
       this.transaction = db.startTransaction();
-      this.schema = schema;
+      this.schema = dao.schema;
+      this.hotStateDiffBase = Suppliers.memoize(dao::getHotStateDiffBase);
     }
 
     @Override
@@ -267,6 +411,10 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
+      if (previousHotStateDiffBase.isEmpty()) {
+        previousHotStateDiffBase = Optional.of(hotStateDiffBase);
+      }
+      hotStateDiffBase = Suppliers.ofInstance(Optional.of(state));
     }
 
     @Override
@@ -285,7 +433,16 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
 
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
-      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+      final Optional<Bytes> diff =
+          hotStateDiffBase.get().flatMap(base -> BeaconStateDiff.create(base, state));
+      if (diff.isPresent()) {
+        transaction.put(schema.getColumnHotStateDiffsByRoot(), blockRoot, diff.get());
+        transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      } else {
+        // No finalized state yet or it is from an earlier fork, so store the full state
+        transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+        transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+      }
     }
 
     @Override
@@ -305,8 +462,44 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
 
     @Override
     public void addVotes(final Map<UInt64, VoteTracker> votes) {
-      votes.forEach(
-          (validatorIndex, vote) -> transaction.put(schema.getColumnVotes(), validatorIndex, vote));
+      if (votes.isEmpty()) {
+        return;
+      }
+      final UInt64 baseSegment =
+          pendingVoteJournalBaseSegment
+              .or(() -> db.get(schema.getVariableVoteJournalBaseSegment()))
+              .orElse(UInt64.ZERO);
+      final UInt64 nextSegment =
+          Optional.ofNullable(pendingVoteJournalSegments.lastEntry())
+              .map(Map.Entry::getKey)
+              .or(() -> db.getLastKey(schema.getColumnVoteJournal()))
+              .map(UInt64::increment)
+              .orElse(baseSegment);
+      if (nextSegment.minusMinZero(baseSegment).isLessThan(VOTE_JOURNAL_COMPACTION_THRESHOLD)) {
+        transaction.put(schema.getColumnVoteJournal(), nextSegment, votes);
+        pendingVoteJournalSegments.put(nextSegment, votes);
+      } else {
+        compactVoteJournal(baseSegment, nextSegment, votes);
+      }
+    }
+
+    private void compactVoteJournal(
+        final UInt64 baseSegment, final UInt64 nextSegment, final Map<UInt64, VoteTracker> votes) {
+      final Map<UInt64, VoteTracker> allVotes = loadVotes(db, schema);
+      // Segments written earlier in this transaction all come after those already committed
+      pendingVoteJournalSegments.values().forEach(allVotes::putAll);
+      allVotes.putAll(votes);
+      transaction.put(schema.getColumnVoteJournal(), nextSegment, allVotes);
+      transaction.put(schema.getVariableVoteJournalBaseSegment(), nextSegment);
+      UInt64.range(baseSegment, nextSegment)
+          .forEach(segment -> transaction.delete(schema.getColumnVoteJournal(), segment));
+      pendingVoteJournalBaseSegment = Optional.of(nextSegment);
+      pendingVoteJournalSegments.clear();
+      pendingVoteJournalSegments.put(nextSegment, allVotes);
+      // Remove any votes stored individually by older versions now they're in the journal
+      db.getAll(schema.getColumnVotes())
+          .keySet()
+          .forEach(validatorIndex -> transaction.delete(schema.getColumnVotes(), validatorIndex));
     }
 
     @Override
@@ -319,6 +512,7 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
     @Override
     public void deleteHotState(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
     }
 
     @Override
@@ -331,6 +525,19 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
       transaction.put(schema.getColumnDepositsFromBlockEvents(), event.getBlockNumber(), event);
     }
 
+    @Override
+    public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {
+      transaction.put(schema.getVariableFinalizedDepositSnapshot(), snapshot);
+      try (final Stream<ColumnEntry<UInt64, DepositsFromBlockEvent>> finalizedEvents =
+          db.stream(
+              schema.getColumnDepositsFromBlockEvents(),
+              UInt64.ZERO,
+              snapshot.getExecutionBlockHeight())) {
+        finalizedEvents.forEach(
+            entry -> transaction.delete(schema.getColumnDepositsFromBlockEvents(), entry.getKey()));
+      }
+    }
+
     @Override
     public void deleteProtoArraySnapshot() {
       transaction.delete(schema.getVariableProtoArraySnapshot());
@@ -338,8 +545,20 @@ public class V4HotKvStoreDao implements KvStoreHotDao, KvStoreEth1Dao, KvStorePr
 
     @Override
     public void commit() {
+      // Stored diffs may be based on the previous finalized state so keep it until rebased
+      final Optional<BeaconState> previousBase =
+          previousHotStateDiffBase.flatMap(
+              previousBaseSupplier ->
+                  db.getFirstEntry(schema.getColumnHotStateDiffsByRoot()).isPresent()
+                      ? previousBaseSupplier.get()
+                      : Optional.empty());
       // Commit db updates
-      transaction.commit();
+      synchronized (dao.hotStateDiffLock) {
+        transaction.commit();
+      }
+      if (previousHotStateDiffBase.isPresent()) {
+        dao.onHotStateDiffBaseChanged(previousBase, hotStateDiffBase.get().orElseThrow());
+      }
       close();
     }
 
@@ -15,7 +15,9 @@ package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import java.util.Collection;
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -35,14 +37,19 @@ public interface SchemaHot extends Schema {
   // Checkpoint states are no longer stored, keeping only for backwards compatibility.
   KvStoreColumn<Checkpoint, BeaconState> getColumnCheckpointStates();
 
+  // Individual votes are no longer stored, keeping only for backwards compatibility.
   KvStoreColumn<UInt64, VoteTracker> getColumnVotes();
 
+  KvStoreColumn<UInt64, Map<UInt64, VoteTracker>> getColumnVoteJournal();
+
   KvStoreColumn<UInt64, DepositsFromBlockEvent> getColumnDepositsFromBlockEvents();
 
   KvStoreColumn<Bytes32, SlotAndBlockRoot> getColumnStateRootToSlotAndBlockRoot();
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  KvStoreColumn<Bytes32, Bytes> getColumnHotStateDiffsByRoot();
+
   @Override
   default Collection<KvStoreColumn<?, ?>> getAllColumns() {
     return getColumnMap().values();
@@ -56,7 +63,9 @@ public interface SchemaHot extends Schema {
         "DEPOSITS_FROM_BLOCK_EVENTS", getColumnDepositsFromBlockEvents(),
         "STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot(),
         "HOT_STATES_BY_ROOT", getColumnHotStatesByRoot(),
-        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot());
+        "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot(),
+        "VOTE_JOURNAL", getColumnVoteJournal(),
+        "HOT_STATE_DIFFS_BY_ROOT", getColumnHotStateDiffsByRoot());
   }
 
   // Variables
@@ -78,21 +87,27 @@ public interface SchemaHot extends Schema {
 
   KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint();
 
+  KvStoreVariable<UInt64> getVariableVoteJournalBaseSegment();
+
+  KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
+
   @Override
   default Collection<KvStoreVariable<?>> getAllVariables() {
     return getVariableMap().values();
   }
 
   default Map<String, KvStoreVariable<?>> getVariableMap() {
-    return Map.of(
-        "GENESIS_TIME", getVariableGenesisTime(),
-        "JUSTIFIED_CHECKPOINT", getVariableJustifiedCheckpoint(),
-        "BEST_JUSTIFIED_CHECKPOINT", getVariableBestJustifiedCheckpoint(),
-        "FINALIZED_CHECKPOINT", getVariableFinalizedCheckpoint(),
-        "LATEST_FINALIZED_STATE", getVariableLatestFinalizedState(),
-        "MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock(),
-        "PROTO_ARRAY_SNAPSHOT", getVariableProtoArraySnapshot(),
-        "WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint(),
-        "ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint());
+    return Map.ofEntries(
+        Map.entry("GENESIS_TIME", getVariableGenesisTime()),
+        Map.entry("JUSTIFIED_CHECKPOINT", getVariableJustifiedCheckpoint()),
+        Map.entry("BEST_JUSTIFIED_CHECKPOINT", getVariableBestJustifiedCheckpoint()),
+        Map.entry("FINALIZED_CHECKPOINT", getVariableFinalizedCheckpoint()),
+        Map.entry("LATEST_FINALIZED_STATE", getVariableLatestFinalizedState()),
+        Map.entry("MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock()),
+        Map.entry("PROTO_ARRAY_SNAPSHOT", getVariableProtoArraySnapshot()),
+        Map.entry("WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint()),
+        Map.entry("ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint()),
+        Map.entry("VOTE_JOURNAL_BASE_SEGMENT", getVariableVoteJournalBaseSegment()),
+        Map.entry("FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot()));
   }
 }
@@ -14,16 +14,22 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSIT_TREE_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.PROTO_ARRAY_SNAPSHOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.VOTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.VOTE_JOURNAL_SEGMENT_SERIALIZER;
 
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -41,6 +47,7 @@ public class V4SchemaHot implements SchemaHot {
   private final KvStoreColumn<Bytes32, SignedBeaconBlock> hotBlocksByRoot;
   // Checkpoint states are no longer stored, keeping only for backwards compatibility.
   private final KvStoreColumn<Checkpoint, BeaconState> checkpointStates;
+  // Individual votes are no longer stored, keeping only for backwards compatibility.
   private static final KvStoreColumn<UInt64, VoteTracker> VOTES =
       KvStoreColumn.create(3, UINT64_SERIALIZER, VOTES_SERIALIZER);
   private static final KvStoreColumn<UInt64, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
@@ -51,6 +58,10 @@ public class V4SchemaHot implements SchemaHot {
   private static final KvStoreColumn<Bytes32, CheckpointEpochs>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
           KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+  private static final KvStoreColumn<UInt64, Map<UInt64, VoteTracker>> VOTE_JOURNAL =
+      KvStoreColumn.create(8, UINT64_SERIALIZER, VOTE_JOURNAL_SEGMENT_SERIALIZER);
+  private static final KvStoreColumn<Bytes32, Bytes> HOT_STATE_DIFFS_BY_ROOT =
+      KvStoreColumn.create(9, BYTES32_SERIALIZER, BYTES_SERIALIZER);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -70,6 +81,10 @@ public class V4SchemaHot implements SchemaHot {
       KvStoreVariable.create(8, CHECKPOINT_SERIALIZER);
   private static final KvStoreVariable<Checkpoint> ANCHOR_CHECKPOINT =
       KvStoreVariable.create(9, CHECKPOINT_SERIALIZER);
+  private static final KvStoreVariable<UInt64> VOTE_JOURNAL_BASE_SEGMENT =
+      KvStoreVariable.create(10, UINT64_SERIALIZER);
+  private static final KvStoreVariable<DepositTreeSnapshot> FINALIZED_DEPOSIT_SNAPSHOT =
+      KvStoreVariable.create(11, DEPOSIT_TREE_SNAPSHOT_SERIALIZER);
 
   private V4SchemaHot(final Spec spec) {
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
@@ -107,6 +122,11 @@ public class V4SchemaHot implements SchemaHot {
     return VOTES;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Map<UInt64, VoteTracker>> getColumnVoteJournal() {
+    return VOTE_JOURNAL;
+  }
+
   @Override
   public KvStoreColumn<UInt64, DepositsFromBlockEvent> getColumnDepositsFromBlockEvents() {
     return DEPOSITS_FROM_BLOCK_EVENTS;
@@ -122,6 +142,11 @@ public class V4SchemaHot implements SchemaHot {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<Bytes32, Bytes> getColumnHotStateDiffsByRoot() {
+    return HOT_STATE_DIFFS_BY_ROOT;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -166,4 +191,14 @@ public class V4SchemaHot implements SchemaHot {
   public KvStoreVariable<Checkpoint> getVariableAnchorCheckpoint() {
     return ANCHOR_CHECKPOINT;
   }
+
+  @Override
+  public KvStoreVariable<UInt64> getVariableVoteJournalBaseSegment() {
+    return VOTE_JOURNAL_BASE_SEGMENT;
+  }
+
+  @Override
+  public KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot() {
+    return FINALIZED_DEPOSIT_SNAPSHOT;
+  }
 }
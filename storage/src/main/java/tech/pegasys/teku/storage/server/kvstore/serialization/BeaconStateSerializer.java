@@ -28,7 +28,8 @@ class BeaconStateSerializer implements KvStoreSerializer<BeaconState> {
 
   @Override
   public BeaconState deserialize(final byte[] data) {
-    return spec.deserializeBeaconState(Bytes.wrap(data));
+    // States are only read back from our own database so can be deserialized lazily
+    return spec.deserializeBeaconStateLazily(Bytes.wrap(data));
   }
 
   @Override
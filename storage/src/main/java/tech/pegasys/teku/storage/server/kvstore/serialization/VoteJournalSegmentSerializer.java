@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+
+/**
+ * Serializes a segment of the vote journal.
+ *
+ * <p>Block roots are deduplicated into a root table at the start of the segment and votes are
+ * written as fixed width records ordered by validator index which reference the root table:
+ *
+ * <pre>
+ *   uint32 rootCount
+ *   bytes32[rootCount] roots
+ *   uint32 recordCount
+ *   (uint64 validatorIndex, uint32 currentRootIndex, uint32 nextRootIndex, uint64 nextEpoch)[recordCount]
+ * </pre>
+ */
+class VoteJournalSegmentSerializer implements KvStoreSerializer<Map<UInt64, VoteTracker>> {
+  private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+  @Override
+  public Map<UInt64, VoteTracker> deserialize(final byte[] data) {
+    final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    final int rootCount = buffer.getInt();
+    final Bytes32[] roots = new Bytes32[rootCount];
+    final byte[] root = new byte[Bytes32.SIZE];
+    for (int i = 0; i < rootCount; i++) {
+      buffer.get(root);
+      roots[i] = Bytes32.wrap(root.clone());
+    }
+
+    final int recordCount = buffer.getInt();
+    final Map<UInt64, VoteTracker> votes = new TreeMap<>();
+    for (int i = 0; i < recordCount; i++) {
+      final UInt64 validatorIndex = UInt64.fromLongBits(buffer.getLong());
+      final Bytes32 currentRoot = roots[buffer.getInt()];
+      final Bytes32 nextRoot = roots[buffer.getInt()];
+      final UInt64 nextEpoch = UInt64.fromLongBits(buffer.getLong());
+      votes.put(validatorIndex, new VoteTracker(currentRoot, nextRoot, nextEpoch));
+    }
+    return votes;
+  }
+
+  @Override
+  public byte[] serialize(final Map<UInt64, VoteTracker> value) {
+    final Map<UInt64, VoteTracker> sortedVotes =
+        value instanceof TreeMap ? value : new TreeMap<>(value);
+    final Map<Bytes32, Integer> rootIndices = new HashMap<>();
+    final List<Bytes32> roots = new ArrayList<>();
+    sortedVotes
+        .values()
+        .forEach(
+            vote -> {
+              indexRoot(vote.getCurrentRoot(), rootIndices, roots);
+              indexRoot(vote.getNextRoot(), rootIndices, roots);
+            });
+
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(
+                Integer.BYTES
+                    + roots.size() * Bytes32.SIZE
+                    + Integer.BYTES
+                    + sortedVotes.size() * RECORD_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(roots.size());
+    roots.forEach(root -> buffer.put(root.toArrayUnsafe()));
+    buffer.putInt(sortedVotes.size());
+    sortedVotes.forEach(
+        (validatorIndex, vote) -> {
+          buffer.putLong(validatorIndex.longValue());
+          buffer.putInt(rootIndices.get(vote.getCurrentRoot()));
+          buffer.putInt(rootIndices.get(vote.getNextRoot()));
+          buffer.putLong(vote.getNextEpoch().longValue());
+        });
+    return buffer.array();
+  }
+
+  private static void indexRoot(
+      final Bytes32 root, final Map<Bytes32, Integer> rootIndices, final List<Bytes32> roots) {
+    rootIndices.computeIfAbsent(
+        root,
+        __ -> {
+          roots.add(root);
+          return roots.size() - 1;
+        });
+  }
+}
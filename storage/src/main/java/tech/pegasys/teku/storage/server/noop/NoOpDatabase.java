@@ -22,6 +22,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -159,6 +160,11 @@ public class NoOpDatabase implements Database {
     return Stream.empty();
   }
 
+  @Override
+  public Optional<DepositTreeSnapshot> getFinalizedDepositSnapshot() {
+    return Optional.empty();
+  }
+
   @Override
   public Optional<ProtoArraySnapshot> getProtoArraySnapshot() {
     return Optional.empty();
@@ -170,6 +176,9 @@ public class NoOpDatabase implements Database {
   @Override
   public void addDepositsFromBlockEvent(final DepositsFromBlockEvent event) {}
 
+  @Override
+  public void setFinalizedDepositSnapshot(final DepositTreeSnapshot snapshot) {}
+
   @Override
   public void putProtoArraySnapshot(final ProtoArraySnapshot protoArray) {}
 
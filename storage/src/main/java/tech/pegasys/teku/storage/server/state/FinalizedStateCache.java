@@ -26,6 +26,8 @@ import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Stream;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager.TrackedStateCache;
 import tech.pegasys.teku.dataproviders.generators.StreamingStateRegenerator;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -42,6 +44,7 @@ public class FinalizedStateCache {
   private final NavigableSet<UInt64> availableSlots = new ConcurrentSkipListSet<>();
 
   private final LoadingCache<UInt64, BeaconState> stateCache;
+  private final TrackedStateCache<UInt64, BeaconState> memoryTracker;
   private final Spec spec;
   private final Database database;
 
@@ -50,6 +53,15 @@ public class FinalizedStateCache {
       final Database database,
       final int maximumCacheSize,
       final boolean useSoftReferences) {
+    this(spec, database, maximumCacheSize, useSoftReferences, StateCacheMemoryManager.DISABLED);
+  }
+
+  public FinalizedStateCache(
+      final Spec spec,
+      final Database database,
+      final int maximumCacheSize,
+      final boolean useSoftReferences,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
     this.spec = spec;
     this.database = database;
     final CacheBuilder<UInt64, BeaconState> cacheBuilder =
@@ -60,6 +72,12 @@ public class FinalizedStateCache {
       cacheBuilder.softValues();
     }
     this.stateCache = cacheBuilder.build(new StateCacheLoader());
+    this.memoryTracker =
+        stateCacheMemoryManager.registerCache(
+            "finalized_states",
+            BeaconState::getBackingNode,
+            slot -> stateCache.asMap().containsKey(slot),
+            stateCache::invalidate);
   }
 
   private void onRemovedFromCache(
@@ -70,8 +88,16 @@ public class FinalizedStateCache {
   }
 
   public Optional<BeaconState> getFinalizedState(final UInt64 slot) {
+    final BeaconState cachedState = stateCache.getIfPresent(slot);
+    if (cachedState != null) {
+      memoryTracker.onHit(slot);
+      return Optional.of(cachedState);
+    }
+    memoryTracker.onMiss();
     try {
-      return Optional.of(stateCache.getUnchecked(slot));
+      final BeaconState state = stateCache.getUnchecked(slot);
+      memoryTracker.onCached(slot, state);
+      return Optional.of(state);
     } catch (final UncheckedExecutionException e) {
       if (Throwables.getRootCause(e) instanceof StateUnavailableException) {
         return Optional.empty();
@@ -39,6 +39,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue;
 import tech.pegasys.teku.dataproviders.generators.StateAtSlotTask;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.dataproviders.generators.StateGenerationTask;
 import tech.pegasys.teku.dataproviders.generators.StateRegenerationBaseSelector;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
@@ -86,12 +87,8 @@ class Store implements UpdatableStore {
   private final BlockProvider blockProvider;
 
   private final Optional<Checkpoint> initialCheckpoint;
-  BlockMetadataStore blockMetadata;
-  UInt64 time;
-  UInt64 genesis_time;
-  AnchorPoint finalizedAnchor;
-  Checkpoint justified_checkpoint;
-  Checkpoint best_justified_checkpoint;
+  // Replaced with a new snapshot while holding the write lock, read without locking
+  volatile StoreSnapshot snapshot;
   final CachingTaskQueue<Bytes32, StateAndBlockSummary> states;
   final Map<Bytes32, SignedBeaconBlock> blocks;
   final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
@@ -132,16 +129,18 @@ class Store implements UpdatableStore {
     // Store instance variables
     this.initialCheckpoint = initialCheckpoint;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
-    this.time = time;
-    this.genesis_time = genesis_time;
-    this.justified_checkpoint = justified_checkpoint;
-    this.best_justified_checkpoint = best_justified_checkpoint;
     this.blocks = blocks;
     this.votes = new HashMap<>(votes);
-    this.blockMetadata = blockMetadata;
+    this.snapshot =
+        new StoreSnapshot(
+            time,
+            genesis_time,
+            finalizedAnchor,
+            justified_checkpoint,
+            best_justified_checkpoint,
+            blockMetadata);
 
     // Track latest finalized block
-    this.finalizedAnchor = finalizedAnchor;
     states.cache(finalizedAnchor.getRoot(), finalizedAnchor);
 
     // Set up block provider to draw from in-memory blocks
@@ -172,7 +171,8 @@ class Store implements UpdatableStore {
       final Map<Bytes32, StoredBlockMetadata> blockInfoByRoot,
       final Map<UInt64, VoteTracker> votes,
       final StoreConfig config,
-      final ProtoArrayStorageChannel protoArrayStorageChannel) {
+      final ProtoArrayStorageChannel protoArrayStorageChannel,
+      final StateCacheMemoryManager stateCacheMemoryManager) {
 
     // Create limited collections for non-final data
     final Map<Bytes32, SignedBeaconBlock> blocks = LimitedMap.create(config.getBlockCacheSize());
@@ -181,10 +181,17 @@ class Store implements UpdatableStore {
             asyncRunner,
             metricsSystem,
             "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
+            config.getCheckpointStateCacheSize(),
+            stateCacheMemoryManager,
+            BeaconState::getBackingNode);
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
         CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+            asyncRunner,
+            metricsSystem,
+            "memory_states",
+            config.getStateCacheSize(),
+            stateCacheMemoryManager,
+            stateAndBlock -> stateAndBlock.getState().getBackingNode());
 
     final Optional<ForkChoiceStrategy> maybeForkChoiceStrategy =
         buildProtoArray(blockInfoByRoot, initialCheckpoint, justifiedCheckpoint, finalizedAnchor)
@@ -234,7 +241,7 @@ class Store implements UpdatableStore {
     if (maybeForkChoiceStrategy.isEmpty()) {
       final ForkChoiceStrategy forkChoiceStrategy =
           ForkChoiceStrategy.initializeAndMigrateStorage(store, protoArrayStorageChannel).join();
-      store.blockMetadata = forkChoiceStrategy;
+      store.snapshot = store.snapshot.withBlockMetadata(forkChoiceStrategy);
       store.forkChoiceStrategy = forkChoiceStrategy;
     } else {
       store.forkChoiceStrategy = maybeForkChoiceStrategy.get();
@@ -319,22 +326,12 @@ class Store implements UpdatableStore {
 
   @Override
   public UInt64 getTime() {
-    readLock.lock();
-    try {
-      return time;
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getTime();
   }
 
   @Override
   public UInt64 getGenesisTime() {
-    readLock.lock();
-    try {
-      return genesis_time;
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getGenesisTime();
   }
 
   @Override
@@ -344,74 +341,39 @@ class Store implements UpdatableStore {
 
   @Override
   public Checkpoint getJustifiedCheckpoint() {
-    readLock.lock();
-    try {
-      return justified_checkpoint;
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getJustifiedCheckpoint();
   }
 
   @Override
   public Checkpoint getFinalizedCheckpoint() {
-    readLock.lock();
-    try {
-      return finalizedAnchor.getCheckpoint();
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getFinalizedAnchor().getCheckpoint();
   }
 
   @Override
   public AnchorPoint getLatestFinalized() {
-    readLock.lock();
-    try {
-      return finalizedAnchor;
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getFinalizedAnchor();
   }
 
   @Override
   public UInt64 getLatestFinalizedBlockSlot() {
-    readLock.lock();
-    try {
-      return finalizedAnchor.getBlockSlot();
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getFinalizedAnchor().getBlockSlot();
   }
 
   @Override
   public Checkpoint getBestJustifiedCheckpoint() {
-    readLock.lock();
-    try {
-      return best_justified_checkpoint;
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getBestJustifiedCheckpoint();
   }
 
   @Override
   public boolean containsBlock(Bytes32 blockRoot) {
-    readLock.lock();
-    try {
-      return blockMetadata.contains(blockRoot);
-    } finally {
-      readLock.unlock();
-    }
+    return snapshot.getBlockMetadata().contains(blockRoot);
   }
 
   @Override
   public Collection<Bytes32> getOrderedBlockRoots() {
-    readLock.lock();
-    try {
-      final List<Bytes32> blockRoots = new ArrayList<>();
-      blockMetadata.processAllInOrder((root, slot, parent) -> blockRoots.add(root));
-      return blockRoots;
-    } finally {
-      readLock.unlock();
-    }
+    final List<Bytes32> blockRoots = new ArrayList<>();
+    snapshot.getBlockMetadata().processAllInOrder((root, slot, parent) -> blockRoots.add(root));
+    return blockRoots;
   }
 
   @Override
@@ -421,12 +383,7 @@ class Store implements UpdatableStore {
 
   @Override
   public Optional<SignedBeaconBlock> getBlockIfAvailable(final Bytes32 blockRoot) {
-    readLock.lock();
-    try {
-      return Optional.ofNullable(blocks.get(blockRoot));
-    } finally {
-      readLock.unlock();
-    }
+    return Optional.ofNullable(blocks.get(blockRoot));
   }
 
   @Override
@@ -479,15 +436,7 @@ class Store implements UpdatableStore {
 
   @Override
   public SafeFuture<CheckpointState> retrieveFinalizedCheckpointAndState() {
-    final AnchorPoint finalized;
-
-    readLock.lock();
-    try {
-      finalized = this.finalizedAnchor;
-    } finally {
-      readLock.unlock();
-    }
-
+    final AnchorPoint finalized = snapshot.getFinalizedAnchor();
     return checkpointStates
         .perform(
             new StateAtSlotTask(
@@ -511,6 +460,10 @@ class Store implements UpdatableStore {
             blockRoot -> SafeFuture.completedFuture(Optional.of(latestStateAtEpoch))));
   }
 
+  BlockMetadataStore getBlockMetadata() {
+    return snapshot.getBlockMetadata();
+  }
+
   Set<UInt64> getVotedValidatorIndices() {
     readLock.lock();
     try {
@@ -584,17 +537,22 @@ class Store implements UpdatableStore {
     // Capture the latest epoch boundary root along the way
     final HashTree.Builder treeBuilder = HashTree.builder();
     final AtomicReference<SlotAndBlockRoot> latestEpochBoundary = new AtomicReference<>();
+    // Fork choice updates the block metadata in place so lock to keep it consistent with the
+    // finalized anchor while walking the chain
     readLock.lock();
     try {
-      blockMetadata.processHashesInChain(
-          blockRoot,
-          (root, slot, parent) -> {
-            treeBuilder.childAndParentRoots(root, parent);
-            if (shouldPersistState(slot, parent)) {
-              latestEpochBoundary.compareAndExchange(null, new SlotAndBlockRoot(slot, root));
-            }
-          });
-      treeBuilder.rootHash(finalizedAnchor.getRoot());
+      final StoreSnapshot snapshot = this.snapshot;
+      snapshot
+          .getBlockMetadata()
+          .processHashesInChain(
+              blockRoot,
+              (root, slot, parent) -> {
+                treeBuilder.childAndParentRoots(root, parent);
+                if (shouldPersistState(slot, parent)) {
+                  latestEpochBoundary.compareAndExchange(null, new SlotAndBlockRoot(slot, root));
+                }
+              });
+      treeBuilder.rootHash(snapshot.getFinalizedAnchor().getRoot());
     } finally {
       readLock.unlock();
     }
@@ -628,20 +586,22 @@ class Store implements UpdatableStore {
     final AtomicReference<BeaconState> baseState = new AtomicReference<>();
     readLock.lock();
     try {
-      blockMetadata.processHashesInChainWhile(
-          blockRoot,
-          (root, slot, parent) -> {
-            treeBuilder.childAndParentRoots(root, parent);
-            final Optional<BeaconState> blockState = getBlockStateIfAvailable(root);
-            blockState.ifPresent(
-                (state) -> {
-                  // We found a base state
-                  treeBuilder.rootHash(root);
-                  baseBlockRoot.set(root);
-                  baseState.set(state);
-                });
-            return blockState.isEmpty();
-          });
+      snapshot
+          .getBlockMetadata()
+          .processHashesInChainWhile(
+              blockRoot,
+              (root, slot, parent) -> {
+                treeBuilder.childAndParentRoots(root, parent);
+                final Optional<BeaconState> blockState = getBlockStateIfAvailable(root);
+                blockState.ifPresent(
+                    (state) -> {
+                      // We found a base state
+                      treeBuilder.rootHash(root);
+                      baseBlockRoot.set(root);
+                      baseState.set(state);
+                    });
+                return blockState.isEmpty();
+              });
     } finally {
       readLock.unlock();
     }
@@ -681,7 +641,8 @@ class Store implements UpdatableStore {
 
   private boolean isSlotAtNthEpochBoundary(
       final UInt64 blockSlot, final Bytes32 parentRoot, final int n) {
-    return blockMetadata
+    return snapshot
+        .getBlockMetadata()
         .blockSlot(parentRoot)
         .map(
             parentSlot ->
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -50,6 +51,7 @@ public class StoreBuilder {
   private Checkpoint bestJustifiedCheckpoint;
   private Map<UInt64, VoteTracker> votes;
   private ProtoArrayStorageChannel protoArrayStorageChannel = ProtoArrayStorageChannel.NO_OP;
+  private StateCacheMemoryManager stateCacheMemoryManager = StateCacheMemoryManager.DISABLED;
 
   private StoreBuilder() {}
 
@@ -115,7 +117,8 @@ public class StoreBuilder {
         blockInfoByRoot,
         votes,
         storeConfig,
-        protoArrayStorageChannel);
+        protoArrayStorageChannel,
+        stateCacheMemoryManager);
   }
 
   private void assertValid() {
@@ -225,4 +228,11 @@ public class StoreBuilder {
     this.protoArrayStorageChannel = protoArrayStorageChannel;
     return this;
   }
+
+  public StoreBuilder stateCacheMemoryManager(
+      final StateCacheMemoryManager stateCacheMemoryManager) {
+    checkNotNull(stateCacheMemoryManager);
+    this.stateCacheMemoryManager = stateCacheMemoryManager;
+    return this;
+  }
 }
@@ -31,18 +31,24 @@ public class StoreConfig {
   private final int checkpointStateCacheSize;
   private final int hotStatePersistenceFrequencyInEpochs;
   private final boolean updateHeadForEmptySlots;
+  private final boolean persistentPubKeyCacheEnabled;
+  private final long maxStateCacheMemoryBytes;
 
   private StoreConfig(
       final int stateCacheSize,
       final int blockCacheSize,
       final int checkpointStateCacheSize,
       final int hotStatePersistenceFrequencyInEpochs,
-      final boolean updateHeadForEmptySlots) {
+      final boolean updateHeadForEmptySlots,
+      final boolean persistentPubKeyCacheEnabled,
+      final long maxStateCacheMemoryBytes) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
     this.hotStatePersistenceFrequencyInEpochs = hotStatePersistenceFrequencyInEpochs;
     this.updateHeadForEmptySlots = updateHeadForEmptySlots;
+    this.persistentPubKeyCacheEnabled = persistentPubKeyCacheEnabled;
+    this.maxStateCacheMemoryBytes = maxStateCacheMemoryBytes;
   }
 
   public static Builder builder() {
@@ -73,6 +79,18 @@ public class StoreConfig {
     return updateHeadForEmptySlots;
   }
 
+  public boolean isPersistentPubKeyCacheEnabled() {
+    return persistentPubKeyCacheEnabled;
+  }
+
+  /**
+   * Returns the memory all state caches of the node may retain together, or zero if the caches are
+   * only bounded by their number of entries.
+   */
+  public long getMaxStateCacheMemoryBytes() {
+    return maxStateCacheMemoryBytes;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -86,7 +104,9 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
-        && updateHeadForEmptySlots == that.updateHeadForEmptySlots;
+        && updateHeadForEmptySlots == that.updateHeadForEmptySlots
+        && persistentPubKeyCacheEnabled == that.persistentPubKeyCacheEnabled
+        && maxStateCacheMemoryBytes == that.maxStateCacheMemoryBytes;
   }
 
   @Override
@@ -96,7 +116,9 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        updateHeadForEmptySlots);
+        updateHeadForEmptySlots,
+        persistentPubKeyCacheEnabled,
+        maxStateCacheMemoryBytes);
   }
 
   public static class Builder {
@@ -106,6 +128,8 @@ public class StoreConfig {
     private int hotStatePersistenceFrequencyInEpochs =
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private boolean updateHeadForEmptySlots = true;
+    private boolean persistentPubKeyCacheEnabled = false;
+    private long maxStateCacheMemoryBytes = 0;
 
     private Builder() {}
 
@@ -115,7 +139,9 @@ public class StoreConfig {
           blockCacheSize,
           checkpointStateCacheSize,
           hotStatePersistenceFrequencyInEpochs,
-          updateHeadForEmptySlots);
+          updateHeadForEmptySlots,
+          persistentPubKeyCacheEnabled,
+          maxStateCacheMemoryBytes);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -147,6 +173,17 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder persistentPubKeyCacheEnabled(final boolean persistentPubKeyCacheEnabled) {
+      this.persistentPubKeyCacheEnabled = persistentPubKeyCacheEnabled;
+      return this;
+    }
+
+    public Builder maxStateCacheMemoryBytes(final long maxStateCacheMemoryBytes) {
+      checkArgument(maxStateCacheMemoryBytes >= 0, "State cache memory limit cannot be negative");
+      this.maxStateCacheMemoryBytes = maxStateCacheMemoryBytes;
+      return this;
+    }
+
     private void validateCacheSize(final int cacheSize) {
       checkArgument(cacheSize >= 0, "Cache size cannot be negative");
       checkArgument(
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.protoarray.BlockMetadataStore;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Immutable view of the {@link Store} values that change together when a transaction commits.
+ *
+ * <p>A new snapshot is published to the store as a single volatile write at the end of each commit
+ * so readers see a consistent set of values without taking the store lock. The {@link
+ * BlockMetadataStore} reference is included so it always matches the finalized anchor, but when
+ * it is backed by fork choice it is updated in place and is only consistent under the store lock.
+ */
+final class StoreSnapshot {
+  private final UInt64 time;
+  private final UInt64 genesisTime;
+  private final AnchorPoint finalizedAnchor;
+  private final Checkpoint justifiedCheckpoint;
+  private final Checkpoint bestJustifiedCheckpoint;
+  private final BlockMetadataStore blockMetadata;
+
+  StoreSnapshot(
+      final UInt64 time,
+      final UInt64 genesisTime,
+      final AnchorPoint finalizedAnchor,
+      final Checkpoint justifiedCheckpoint,
+      final Checkpoint bestJustifiedCheckpoint,
+      final BlockMetadataStore blockMetadata) {
+    this.time = time;
+    this.genesisTime = genesisTime;
+    this.finalizedAnchor = finalizedAnchor;
+    this.justifiedCheckpoint = justifiedCheckpoint;
+    this.bestJustifiedCheckpoint = bestJustifiedCheckpoint;
+    this.blockMetadata = blockMetadata;
+  }
+
+  UInt64 getTime() {
+    return time;
+  }
+
+  UInt64 getGenesisTime() {
+    return genesisTime;
+  }
+
+  AnchorPoint getFinalizedAnchor() {
+    return finalizedAnchor;
+  }
+
+  Checkpoint getJustifiedCheckpoint() {
+    return justifiedCheckpoint;
+  }
+
+  Checkpoint getBestJustifiedCheckpoint() {
+    return bestJustifiedCheckpoint;
+  }
+
+  BlockMetadataStore getBlockMetadata() {
+    return blockMetadata;
+  }
+
+  StoreSnapshot withBlockMetadata(final BlockMetadataStore blockMetadata) {
+    return new StoreSnapshot(
+        time,
+        genesisTime,
+        finalizedAnchor,
+        justifiedCheckpoint,
+        bestJustifiedCheckpoint,
+        blockMetadata);
+  }
+}
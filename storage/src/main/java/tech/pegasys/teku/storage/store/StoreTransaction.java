@@ -245,8 +245,9 @@ class StoreTransaction implements UpdatableStore.StoreTransaction {
     lock.readLock().lock();
     try {
       final NavigableMap<UInt64, Bytes32> blockRootsBySlot = new TreeMap<>();
-      store.blockMetadata.processAllInOrder(
-          (root, slot, parent) -> blockRootsBySlot.put(slot, root));
+      store
+          .getBlockMetadata()
+          .processAllInOrder((root, slot, parent) -> blockRootsBySlot.put(slot, root));
       this.blockAndStates
           .values()
           .forEach(
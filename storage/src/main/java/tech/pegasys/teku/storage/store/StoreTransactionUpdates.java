@@ -20,10 +20,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.protoarray.BlockMetadataStore;
 import tech.pegasys.teku.spec.datastructures.blocks.BlockAndCheckpointEpochs;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.storage.events.FinalizedChainData;
 import tech.pegasys.teku.storage.events.StorageUpdate;
@@ -78,18 +80,28 @@ class StoreTransactionUpdates {
 
   public void applyToStore(final Store store) {
     // Add new data
-    tx.time.filter(t -> t.isGreaterThan(store.getTime())).ifPresent(value -> store.time = value);
-    tx.genesis_time.ifPresent(value -> store.genesis_time = value);
-    tx.justified_checkpoint.ifPresent(value -> store.justified_checkpoint = value);
-    tx.best_justified_checkpoint.ifPresent(value -> store.best_justified_checkpoint = value);
     hotBlocks.forEach((root, value) -> store.blocks.put(root, value.getBlock()));
     store.states.cacheAll(Maps.transformValues(hotBlockAndStates, this::blockAndStateAsSummary));
 
-    // Update finalized data
-    finalizedChainData.ifPresent(
-        finalizedData -> {
-          store.finalizedAnchor = finalizedData.getLatestFinalized();
-        });
+    // Publish the new snapshot only once the new blocks and states are cached so readers that see
+    // a new block root can always find it.
+    final StoreSnapshot current = store.snapshot;
+    final AnchorPoint finalizedAnchor =
+        finalizedChainData
+            .map(FinalizedChainData::getLatestFinalized)
+            .orElse(current.getFinalizedAnchor());
+    final BlockMetadataStore blockMetadata =
+        current
+            .getBlockMetadata()
+            .applyUpdate(hotBlocks.values(), prunedHotBlockRoots, finalizedAnchor.getCheckpoint());
+    store.snapshot =
+        new StoreSnapshot(
+            tx.time.filter(t -> t.isGreaterThan(current.getTime())).orElse(current.getTime()),
+            tx.genesis_time.orElse(current.getGenesisTime()),
+            finalizedAnchor,
+            tx.justified_checkpoint.orElse(current.getJustifiedCheckpoint()),
+            tx.best_justified_checkpoint.orElse(current.getBestJustifiedCheckpoint()),
+            blockMetadata);
 
     // Prune blocks and states
     prunedHotBlockRoots.forEach(
@@ -99,10 +111,6 @@ class StoreTransactionUpdates {
           store.checkpointStates.removeIf(
               slotAndBlockRoot -> slotAndBlockRoot.getBlockRoot().equals(root));
         });
-
-    store.blockMetadata =
-        store.blockMetadata.applyUpdate(
-            hotBlocks.values(), prunedHotBlockRoots, store.getFinalizedCheckpoint());
   }
 
   private StateAndBlockSummary blockAndStateAsSummary(final SignedBlockAndState blockAndState) {
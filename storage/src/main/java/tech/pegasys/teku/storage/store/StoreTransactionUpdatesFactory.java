@@ -126,7 +126,7 @@ class StoreTransactionUpdatesFactory {
   private Optional<UInt64> blockSlot(final Bytes32 root) {
     return Optional.ofNullable(hotBlockAndStates.get(root))
         .map(SignedBlockAndState::getSlot)
-        .or(() -> baseStore.blockMetadata.blockSlot(root));
+        .or(() -> baseStore.getBlockMetadata().blockSlot(root));
   }
 
   private Map<Bytes32, Bytes32> collectFinalizedRoots(
@@ -142,10 +142,12 @@ class StoreTransactionUpdatesFactory {
     }
 
     // Add existing hot blocks that are now finalized
-    if (baseStore.blockMetadata.contains(finalizedChainHeadRoot)) {
-      baseStore.blockMetadata.processHashesInChain(
-          finalizedChainHeadRoot,
-          (blockRoot, slot, parentRoot) -> childToParent.put(blockRoot, parentRoot));
+    if (baseStore.getBlockMetadata().contains(finalizedChainHeadRoot)) {
+      baseStore
+          .getBlockMetadata()
+          .processHashesInChain(
+              finalizedChainHeadRoot,
+              (blockRoot, slot, parentRoot) -> childToParent.put(blockRoot, parentRoot));
     }
     return childToParent;
   }
@@ -180,12 +182,14 @@ class StoreTransactionUpdatesFactory {
 
   private void calculatePrunedHotBlockRoots() {
     final BeaconBlockSummary finalizedBlock = tx.getLatestFinalized().getBlockSummary();
-    baseStore.blockMetadata.processAllInOrder(
-        (blockRoot, slot, parentRoot) -> {
-          if (shouldPrune(finalizedBlock, blockRoot, slot, parentRoot)) {
-            prunedHotBlockRoots.add(blockRoot);
-          }
-        });
+    baseStore
+        .getBlockMetadata()
+        .processAllInOrder(
+            (blockRoot, slot, parentRoot) -> {
+              if (shouldPrune(finalizedBlock, blockRoot, slot, parentRoot)) {
+                prunedHotBlockRoots.add(blockRoot);
+              }
+            });
 
     tx.blockAndStates.values().stream()
         // Iterate new blocks in slot order to guarantee we see parents first
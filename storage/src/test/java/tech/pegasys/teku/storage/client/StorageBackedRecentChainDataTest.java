@@ -28,6 +28,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.dataproviders.lookup.BlockProvider;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -87,7 +88,8 @@ public class StorageBackedRecentChainDataTest {
             ProtoArrayStorageChannel.NO_OP,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -139,7 +141,8 @@ public class StorageBackedRecentChainDataTest {
             protoArrayStorageChannel,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -201,7 +204,8 @@ public class StorageBackedRecentChainDataTest {
             ProtoArrayStorageChannel.NO_OP,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -251,7 +255,8 @@ public class StorageBackedRecentChainDataTest {
             ProtoArrayStorageChannel.NO_OP,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -296,7 +301,8 @@ public class StorageBackedRecentChainDataTest {
             ProtoArrayStorageChannel.NO_OP,
             finalizedCheckpointChannel,
             chainHeadChannel,
-            spec);
+            spec,
+            StateCacheMemoryManager.DISABLED);
 
     // We should have posted a request to get the store from storage
     verify(storageQueryChannel).onStoreRequest();
@@ -847,6 +847,25 @@ public abstract class AbstractDatabaseTest {
     assertThat(database.getVotes()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldRetrieveVotesAfterManyIncrementalUpdates() {
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    createStorage(StateStorageMode.PRUNE);
+
+    // Enough updates to trigger the vote journal to be compacted
+    final Map<UInt64, VoteTracker> expected = new HashMap<>();
+    for (int i = 0; i < 150; i++) {
+      final Map<UInt64, VoteTracker> voteBatch =
+          Map.of(
+              UInt64.valueOf(i % 7), dataStructureUtil.randomVoteTracker(),
+              UInt64.valueOf(100 + i), dataStructureUtil.randomVoteTracker());
+      database.storeVotes(voteBatch);
+      expected.putAll(voteBatch);
+    }
+
+    assertThat(database.getVotes()).isEqualTo(expected);
+  }
+
   public void testStartupFromNonGenesisStateAndFinalizeNewCheckpoint(
       final StateStorageMode storageMode) {
     createStorage(storageMode);
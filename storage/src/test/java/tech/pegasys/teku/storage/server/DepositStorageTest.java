@@ -29,6 +29,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.ethereum.pow.api.Deposit;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.InvalidDepositEventsException;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
@@ -345,6 +346,72 @@ public class DepositStorageTest {
     assertThat(future.get().isPastMinGenesisBlock()).isTrue();
   }
 
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldReplayDepositsAfterFinalizedSnapshot(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block_99);
+    database.addDepositsFromBlockEvent(block_100);
+    database.addMinGenesisTimeBlock(genesis_100);
+    database.addDepositsFromBlockEvent(block_101);
+    final DepositTreeSnapshot snapshot = createSnapshot(block_100);
+    depositStorage.storeFinalizedDepositSnapshot(snapshot).join();
+
+    assertThat(database.getFinalizedDepositSnapshot()).contains(snapshot);
+    try (Stream<DepositsFromBlockEvent> deposits = database.streamDepositsFromBlocks()) {
+      assertThat(deposits).containsExactly(block_101);
+    }
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(snapshot, genesis_100, block_101);
+    assertThat(future.get().getLastProcessedBlockNumber())
+        .isEqualTo(block_101.getBlockNumber().bigIntegerValue());
+    assertThat(future.get().getLastProcessedDepositIndex())
+        .hasValue(block_101.getLastDepositIndex().bigIntegerValue());
+    assertThat(future.get().isPastMinGenesisBlock()).isTrue();
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @ArgumentsSource(StorageSystemArgumentsProvider.class)
+  public void shouldResumeFromSnapshotWhenAllDepositsAreFinalized(
+      final String storageType,
+      final StorageSystemArgumentsProvider.StorageSystemSupplier storageSystemSupplier)
+      throws ExecutionException, InterruptedException {
+    setup(storageSystemSupplier);
+    database.addDepositsFromBlockEvent(block_99);
+    database.addDepositsFromBlockEvent(block_100);
+    final DepositTreeSnapshot snapshot = createSnapshot(block_100);
+    depositStorage.storeFinalizedDepositSnapshot(snapshot).join();
+
+    SafeFuture<ReplayDepositsResult> future = depositStorage.replayDepositEvents();
+    assertThat(future).isCompleted();
+    assertThat(eventsChannel.getOrderedList()).containsExactly(snapshot);
+    assertThat(future.get().getLastProcessedBlockNumber())
+        .isEqualTo(block_100.getBlockNumber().bigIntegerValue());
+    assertThat(future.get().getLastProcessedDepositIndex())
+        .hasValue(block_100.getLastDepositIndex().bigIntegerValue());
+
+    depositStorage.onDepositsFromBlock(block_100); // Should ignore
+    depositStorage.onDepositsFromBlock(block_101); // Should store
+    try (Stream<DepositsFromBlockEvent> deposits = database.streamDepositsFromBlocks()) {
+      assertThat(deposits).containsExactly(block_101);
+    }
+  }
+
+  private DepositTreeSnapshot createSnapshot(final DepositsFromBlockEvent lastFinalizedBlock) {
+    final UInt64 depositCount = lastFinalizedBlock.getLastDepositIndex().increment();
+    return new DepositTreeSnapshot(
+        List.of(dataStructureUtil.randomBytes32(), dataStructureUtil.randomBytes32()),
+        depositCount,
+        dataStructureUtil.randomBytes32(),
+        lastFinalizedBlock.getBlockNumber(),
+        lastFinalizedBlock.getBlockHash());
+  }
+
   private static class UnsafeDepositsFromBlockEvent extends DepositsFromBlockEvent {
 
     protected UnsafeDepositsFromBlockEvent(
@@ -137,6 +137,54 @@ public abstract class AbstractKvStoreDatabaseWithHotStatesTest extends AbstractK
     }
   }
 
+  @Test
+  public void shouldRetainHotStatesAfterFinalizedStateChanges() {
+    final int storageFrequency = 1;
+    StoreConfig storeConfig =
+        StoreConfig.builder().hotStatePersistenceFrequencyInEpochs(storageFrequency).build();
+    createStorage(StateStorageMode.PRUNE, storeConfig, false);
+    initGenesis();
+
+    final int latestEpoch = 5;
+    chainBuilder.generateBlocksUpToSlot(compute_start_slot_at_epoch(UInt64.valueOf(latestEpoch)));
+    addBlocks(chainBuilder.streamBlocksAndStates().collect(toList()));
+
+    // Hot states are stored relative to the finalized state so must survive it changing
+    final int finalizedEpoch = 2;
+    justifyAndFinalizeEpoch(
+        UInt64.valueOf(finalizedEpoch),
+        chainBuilder.getBlockAndStateAtSlot(
+            compute_start_slot_at_epoch(UInt64.valueOf(finalizedEpoch))));
+
+    for (int epoch = finalizedEpoch + 1; epoch <= latestEpoch; epoch++) {
+      final SignedBlockAndState blockAndState =
+          chainBuilder.getBlockAndStateAtSlot(compute_start_slot_at_epoch(UInt64.valueOf(epoch)));
+      assertThat(database.getHotState(blockAndState.getRoot()))
+          .contains(blockAndState.getState());
+    }
+  }
+
+  @Test
+  public void shouldDeleteFinalizedHotStateWhenFinalizedStateChanges() {
+    final int storageFrequency = 1;
+    StoreConfig storeConfig =
+        StoreConfig.builder().hotStatePersistenceFrequencyInEpochs(storageFrequency).build();
+    createStorage(StateStorageMode.PRUNE, storeConfig, false);
+    initGenesis();
+
+    chainBuilder.generateBlocksUpToSlot(compute_start_slot_at_epoch(UInt64.valueOf(4)));
+    addBlocks(chainBuilder.streamBlocksAndStates().collect(toList()));
+
+    final SignedBlockAndState finalizedBlockAndState =
+        chainBuilder.getBlockAndStateAtSlot(compute_start_slot_at_epoch(UInt64.valueOf(2)));
+    assertThat(database.getHotState(finalizedBlockAndState.getRoot())).isPresent();
+
+    justifyAndFinalizeEpoch(UInt64.valueOf(2), finalizedBlockAndState);
+
+    // The rebase of remaining hot states must not restore the state deleted on finalization
+    assertThat(database.getHotState(finalizedBlockAndState.getRoot())).isEmpty();
+  }
+
   private Set<UInt64> getEpochBoundarySlots(final int fromEpoch, final int toEpoch) {
     final Set<UInt64> epochBoundarySlots = new HashSet<>();
     for (int i = fromEpoch; i <= toEpoch; i++) {
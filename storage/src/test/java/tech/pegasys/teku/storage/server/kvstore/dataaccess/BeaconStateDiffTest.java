@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class BeaconStateDiffTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState base = dataStructureUtil.randomBeaconState(1000);
+
+  @Test
+  void shouldRecreateStateWithChangedAndAppendedElements() {
+    final BeaconState state =
+        base.updated(
+            mutable -> {
+              mutable.setSlot(base.getSlot().plus(64));
+              mutable.getBalances().setElement(5, UInt64.valueOf(1234));
+              mutable.getValidators().append(dataStructureUtil.randomValidator());
+              mutable.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+              mutable.getBlock_roots().setElement(3, dataStructureUtil.randomBytes32());
+            });
+
+    final Bytes diff = BeaconStateDiff.create(base, state).orElseThrow();
+
+    assertThat(BeaconStateDiff.apply(base, diff)).isEqualTo(state);
+    assertThat(diff.size()).isLessThan(state.sszSerialize().size() / 10);
+  }
+
+  @Test
+  void shouldRecreateStateWithTruncatedList() {
+    final BeaconState state = base.updated(mutable -> mutable.getEth1_data_votes().clear());
+
+    final Bytes diff = BeaconStateDiff.create(base, state).orElseThrow();
+
+    assertThat(BeaconStateDiff.apply(base, diff)).isEqualTo(state);
+  }
+
+  @Test
+  void shouldRecreateUnchangedState() {
+    final Bytes diff = BeaconStateDiff.create(base, base).orElseThrow();
+
+    // Version, base state root and field count
+    assertThat(diff.size()).isEqualTo(37);
+    assertThat(BeaconStateDiff.apply(base, diff)).isEqualTo(base);
+  }
+
+  @Test
+  void shouldNotDiffStatesFromDifferentForks() {
+    final BeaconState altairState =
+        new DataStructureUtil(TestSpecFactory.createMinimalAltair()).randomBeaconState();
+
+    assertThat(BeaconStateDiff.create(base, altairState)).isEmpty();
+  }
+
+  @Test
+  void shouldRejectDiffAgainstDifferentBaseState() {
+    final BeaconState state = base.updated(mutable -> mutable.setSlot(base.getSlot().plus(1)));
+    final Bytes diff = BeaconStateDiff.create(base, state).orElseThrow();
+
+    assertThat(BeaconStateDiff.getBaseStateRoot(diff)).isEqualTo(base.hashTreeRoot());
+    assertThatThrownBy(() -> BeaconStateDiff.apply(state, diff))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectUnknownFormatVersion() {
+    final BeaconState state = base.updated(mutable -> mutable.setSlot(base.getSlot().plus(1)));
+    final MutableBytes diff = BeaconStateDiff.create(base, state).orElseThrow().mutableCopy();
+    diff.set(0, (byte) (BeaconStateDiff.FORMAT_VERSION + 1));
+
+    assertThatThrownBy(() -> BeaconStateDiff.apply(base, diff))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("format version");
+  }
+}
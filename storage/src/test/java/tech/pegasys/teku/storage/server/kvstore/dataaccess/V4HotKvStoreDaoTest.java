@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreHotDao.HotUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.V4SchemaHot;
+
+class V4HotKvStoreDaoTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V4SchemaHot schema = V4SchemaHot.create(spec);
+  private final MockKvStoreInstance db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+  private final V4HotKvStoreDao dao = new V4HotKvStoreDao(db, schema);
+
+  @AfterEach
+  void tearDown() throws Exception {
+    dao.close();
+  }
+
+  @Test
+  void addVotes_shouldSeeVotesAddedEarlierInSameTransaction() {
+    final Map<UInt64, VoteTracker> expected = new HashMap<>();
+    storeVotes(expected, 10);
+    try (final HotUpdater updater = dao.hotUpdater()) {
+      // Enough batches to compact the journal part way through the transaction
+      for (int i = 0; i < V4HotKvStoreDao.VOTE_JOURNAL_COMPACTION_THRESHOLD + 10; i++) {
+        final Map<UInt64, VoteTracker> votes = randomVotes(i);
+        updater.addVotes(votes);
+        expected.putAll(votes);
+      }
+      updater.commit();
+    }
+
+    assertThat(dao.getVotes()).isEqualTo(expected);
+    try (final Stream<ColumnEntry<UInt64, Map<UInt64, VoteTracker>>> segments =
+        db.stream(schema.getColumnVoteJournal())) {
+      assertThat(segments.count())
+          .isLessThanOrEqualTo(V4HotKvStoreDao.VOTE_JOURNAL_COMPACTION_THRESHOLD);
+    }
+  }
+
+  private void storeVotes(final Map<UInt64, VoteTracker> expected, final int count) {
+    for (int i = 0; i < count; i++) {
+      try (final HotUpdater updater = dao.hotUpdater()) {
+        final Map<UInt64, VoteTracker> votes = randomVotes(i);
+        updater.addVotes(votes);
+        expected.putAll(votes);
+        updater.commit();
+      }
+    }
+  }
+
+  private Map<UInt64, VoteTracker> randomVotes(final int batch) {
+    return Map.of(
+        UInt64.valueOf(batch % 7), dataStructureUtil.randomVoteTracker(),
+        UInt64.valueOf(100 + batch), dataStructureUtil.randomVoteTracker());
+  }
+}
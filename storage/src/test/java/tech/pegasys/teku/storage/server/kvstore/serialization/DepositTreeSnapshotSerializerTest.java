@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class DepositTreeSnapshotSerializerTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final DepositTreeSnapshotSerializer serializer = new DepositTreeSnapshotSerializer();
+
+  @Test
+  void shouldSurviveSerialization() {
+    final DepositTreeSnapshot original =
+        new DepositTreeSnapshot(
+            List.of(
+                dataStructureUtil.randomBytes32(),
+                dataStructureUtil.randomBytes32(),
+                dataStructureUtil.randomBytes32()),
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32());
+    final byte[] serialized = serializer.serialize(original);
+    final DepositTreeSnapshot deserialized = serializer.deserialize(serialized);
+
+    assertThat(deserialized).isEqualTo(original);
+  }
+}
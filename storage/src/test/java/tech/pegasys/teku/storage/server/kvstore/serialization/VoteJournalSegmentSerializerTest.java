@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class VoteJournalSegmentSerializerTest {
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
+  private final VoteJournalSegmentSerializer serializer = new VoteJournalSegmentSerializer();
+
+  @Test
+  public void shouldRoundTripEmptySegment() {
+    final byte[] serialized = serializer.serialize(Map.of());
+    assertThat(serializer.deserialize(serialized)).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripVotes() {
+    final Map<UInt64, VoteTracker> votes = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      votes.put(dataStructureUtil.randomUInt64(), dataStructureUtil.randomVoteTracker());
+    }
+    assertThat(serializer.deserialize(serializer.serialize(votes))).isEqualTo(votes);
+  }
+
+  @Test
+  public void shouldStoreSharedRootsOnce() {
+    final Bytes32 currentRoot = dataStructureUtil.randomBytes32();
+    final Bytes32 nextRoot = dataStructureUtil.randomBytes32();
+    final Map<UInt64, VoteTracker> votes = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      votes.put(UInt64.valueOf(i), new VoteTracker(currentRoot, nextRoot, UInt64.valueOf(i)));
+    }
+
+    final byte[] serialized = serializer.serialize(votes);
+
+    // root count + 2 roots + record count + 100 * (index + 2 root references + epoch)
+    assertThat(serialized).hasSize(4 + 2 * Bytes32.SIZE + 4 + 100 * 24);
+    assertThat(serializer.deserialize(serialized)).isEqualTo(votes);
+  }
+}
@@ -22,9 +22,15 @@ import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.dataproviders.lookup.StateAndBlockSummaryProvider;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -67,7 +73,8 @@ class StoreTest extends AbstractStoreTest {
                     Collections.emptyMap(),
                     Collections.emptyMap(),
                     StoreConfig.createDefault(),
-                    mock(ProtoArrayStorageChannel.class)))
+                    mock(ProtoArrayStorageChannel.class),
+                    StateCacheMemoryManager.DISABLED))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Time must be greater than or equal to genesisTime");
   }
@@ -245,6 +252,72 @@ class StoreTest extends AbstractStoreTest {
     assertThatThrownBy(result::get).hasCauseInstanceOf(InvalidCheckpointException.class);
   }
 
+  @Test
+  public void shouldPublishConsistentSnapshotToReadersDuringCommit() throws Exception {
+    final Store store = (Store) createGenesisStore();
+    chainBuilder.generateBlocksUpToSlot(spec.computeStartSlotAtEpoch(UInt64.valueOf(4)));
+    final StoreSnapshot initialSnapshot = store.snapshot;
+
+    final Checkpoint checkpoint1 = chainBuilder.getCurrentCheckpointForEpoch(UInt64.valueOf(1));
+    final Checkpoint checkpoint2 = chainBuilder.getCurrentCheckpointForEpoch(UInt64.valueOf(2));
+    final Checkpoint checkpoint3 = chainBuilder.getCurrentCheckpointForEpoch(UInt64.valueOf(3));
+    final UInt64 newTime = initialSnapshot.getTime().plus(UInt64.ONE);
+    final UInt64 newGenesisTime = initialSnapshot.getGenesisTime().plus(UInt64.ONE);
+    final Bytes32 headRoot = chainBuilder.getLatestBlockAndState().getRoot();
+
+    final StubStorageUpdateChannelWithDelays updateChannel =
+        new StubStorageUpdateChannelWithDelays();
+    final StoreTransaction tx = store.startTransaction(updateChannel);
+    chainBuilder.streamBlocksAndStates().forEach(tx::putBlockAndState);
+    tx.setFinalizedCheckpoint(checkpoint1);
+    tx.setJustifiedCheckpoint(checkpoint2);
+    tx.setBestJustifiedCheckpoint(checkpoint3);
+    tx.setTime(newTime);
+    tx.setGenesis_time(newGenesisTime);
+    final SafeFuture<Void> txResult = tx.commit();
+
+    // Spin on the published snapshot while the transaction is applied on this thread
+    final CountDownLatch readerStarted = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<StoreSnapshot> reader =
+          executor.submit(
+              () -> {
+                readerStarted.countDown();
+                StoreSnapshot snapshot = store.snapshot;
+                while (snapshot == initialSnapshot) {
+                  Thread.onSpinWait();
+                  snapshot = store.snapshot;
+                }
+                // The new head must already be cached when it becomes visible
+                assertThat(snapshot.getBlockMetadata().contains(headRoot)).isTrue();
+                assertThat(store.getBlockIfAvailable(headRoot)).isPresent();
+                return snapshot;
+              });
+      assertThat(readerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // Reads before the commit is applied see only the old values
+      assertThat(store.getTime()).isEqualTo(initialSnapshot.getTime());
+      assertThat(store.getFinalizedCheckpoint())
+          .isEqualTo(initialSnapshot.getFinalizedAnchor().getCheckpoint());
+      assertThat(store.containsBlock(headRoot)).isFalse();
+
+      updateChannel.getAsyncRunner().executeUntilDone();
+      assertThat(txResult).isCompleted();
+
+      // The first new snapshot the reader sees has every value from the transaction
+      final StoreSnapshot observed = reader.get(10, TimeUnit.SECONDS);
+      assertThat(observed.getTime()).isEqualTo(newTime);
+      assertThat(observed.getGenesisTime()).isEqualTo(newGenesisTime);
+      assertThat(observed.getFinalizedAnchor().getCheckpoint()).isEqualTo(checkpoint1);
+      assertThat(observed.getJustifiedCheckpoint()).isEqualTo(checkpoint2);
+      assertThat(observed.getBestJustifiedCheckpoint()).isEqualTo(checkpoint3);
+      assertThat(observed).isSameAs(store.snapshot);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   public void testApplyChangesWhenTransactionCommits(final boolean withInterleavedTransaction) {
     final UpdatableStore store = createGenesisStore();
     final UInt64 epoch3 = UInt64.valueOf(4);
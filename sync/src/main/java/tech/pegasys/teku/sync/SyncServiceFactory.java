@@ -117,7 +117,8 @@ public class SyncServiceFactory {
 
     final ForwardSyncService forwardSyncService = createForwardSyncService();
     final FetchRecentBlocksService recentBlockFetcher =
-        FetchRecentBlocksService.create(asyncRunner, p2pNetwork, pendingBlocks, forwardSyncService);
+        FetchRecentBlocksService.create(
+            asyncRunner, metrics, timeProvider, p2pNetwork, pendingBlocks, forwardSyncService);
     final SyncStateTracker syncStateTracker = createSyncStateTracker(forwardSyncService);
     final HistoricalBlockSyncService historicalBlockSyncService =
         createHistoricalSyncService(syncStateTracker);
@@ -152,6 +153,7 @@ public class SyncServiceFactory {
           MultipeerSyncService.create(
               asyncRunnerFactory,
               asyncRunner,
+              metrics,
               timeProvider,
               recentChainData,
               pendingBlocks,
@@ -28,14 +28,15 @@ import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChain;
 /**
  * Attempts to create a {@link BatchChain} and download the blocks for each batch.
  *
- * <p>Applies limits to the number of batches awaiting import to avoid excessive memory usage.
+ * <p>Applies limits to the number of batches awaiting import to avoid excessive memory usage. The
+ * limit may be adjusted while syncing to keep enough batches downloaded to match the import rate.
  */
 public class BatchDataRequester {
   private final EventThread eventThread;
   private final BatchChain activeBatches;
   private final BatchFactory batchFactory;
   private final UInt64 batchSize;
-  private final int maxPendingBatches;
+  private int maxPendingBatches;
 
   public BatchDataRequester(
       final EventThread eventThread,
@@ -50,6 +51,16 @@ public class BatchDataRequester {
     this.maxPendingBatches = maxPendingBatches;
   }
 
+  public int getMaxPendingBatches() {
+    eventThread.checkOnEventThread();
+    return maxPendingBatches;
+  }
+
+  public void setMaxPendingBatches(final int maxPendingBatches) {
+    eventThread.checkOnEventThread();
+    this.maxPendingBatches = maxPendingBatches;
+  }
+
   public void fillRetrievingQueue(
       final TargetChain targetChain,
       final UInt64 commonAncestorSlot,
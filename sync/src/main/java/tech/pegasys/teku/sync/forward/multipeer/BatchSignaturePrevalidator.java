@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.forward.multipeer;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.statetransition.blockvalidator.BatchSignatureVerifier;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Checks the proposer signatures of a downloaded batch before it reaches the front of the import
+ * queue.
+ *
+ * <p>Batches are imported one at a time, so an invalid batch would otherwise only be found after
+ * every batch before it has been imported. Checking signatures as soon as the blocks arrive lets a
+ * bad batch be downloaded again from a different peer while earlier batches are still importing.
+ *
+ * <p>Only checks that each block is signed by the validator it names as proposer. Whether that
+ * validator was the expected proposer is still checked when the block is imported. Blocks from
+ * validators that aren't yet in our head state are skipped.
+ */
+public class BatchSignaturePrevalidator {
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final AsyncRunner asyncRunner;
+
+  public BatchSignaturePrevalidator(
+      final Spec spec, final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.asyncRunner = asyncRunner;
+  }
+
+  /**
+   * Verify the proposer signatures of the given blocks.
+   *
+   * <p>Guaranteed to return immediately and perform the verification on worker threads.
+   *
+   * @param blocks the blocks to verify
+   * @return a future which completes with true if all checked signatures are valid
+   */
+  public SafeFuture<Boolean> verifyProposerSignatures(final List<SignedBeaconBlock> blocks) {
+    return asyncRunner.runAsync(
+        () -> {
+          final Optional<BeaconState> maybeHeadState = recentChainData.getBestState();
+          if (maybeHeadState.isEmpty()) {
+            return SafeFuture.completedFuture(true);
+          }
+          final BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier();
+          for (SignedBeaconBlock block : blocks) {
+            addProposerSignature(signatureVerifier, maybeHeadState.get(), block);
+          }
+          return signatureVerifier.batchVerifyAsync();
+        });
+  }
+
+  private void addProposerSignature(
+      final BatchSignatureVerifier signatureVerifier,
+      final BeaconState headState,
+      final SignedBeaconBlock block) {
+    final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot());
+    final Optional<BLSPublicKey> proposerPublicKey =
+        spec.getValidatorPubKey(headState, block.getMessage().getProposerIndex());
+    final Optional<ForkInfo> forkInfo = recentChainData.getForkInfo(epoch);
+    if (proposerPublicKey.isEmpty() || forkInfo.isEmpty()) {
+      return;
+    }
+    final Bytes32 domain =
+        spec.getDomain(
+            Domain.BEACON_PROPOSER,
+            epoch,
+            forkInfo.get().getFork(),
+            forkInfo.get().getGenesisValidatorsRoot());
+    signatureVerifier.verify(
+        proposerPublicKey.get(),
+        spec.computeSigningRoot(block.getMessage(), domain),
+        block.getSignature());
+  }
+}
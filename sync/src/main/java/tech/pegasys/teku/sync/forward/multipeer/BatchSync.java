@@ -19,14 +19,22 @@ import static tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil.exceptio
 import static tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil.exceptionHandlingRunnable;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.eventthread.EventThread;
 import tech.pegasys.teku.infrastructure.logging.LogFormatter;
+import tech.pegasys.teku.infrastructure.metrics.SettableGauge;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
@@ -41,7 +49,12 @@ import tech.pegasys.teku.sync.forward.multipeer.chains.TargetChain;
 /** Manages the sync process to reach a finalized chain. */
 public class BatchSync implements Sync {
   private static final Logger LOG = LogManager.getLogger();
-  private static final int MAX_PENDING_BATCHES = 5;
+  private static final int INITIAL_PENDING_BATCHES = 5;
+  private static final int MIN_PENDING_BATCHES = 2;
+  private static final int MAX_PENDING_BATCHES = 10;
+  // Aim to have enough blocks downloaded to keep the importer busy for this long
+  private static final double TARGET_BUFFERED_IMPORT_SECONDS = 10;
+  private static final double IMPORT_RATE_WEIGHT = 0.25;
 
   private final EventThread eventThread;
   private final RecentChainData recentChainData;
@@ -49,8 +62,15 @@ public class BatchSync implements Sync {
   private final BatchDataRequester batchDataRequester;
   private final MultipeerCommonAncestorFinder commonAncestorFinder;
   private final TimeProvider timeProvider;
+  private final BatchSignaturePrevalidator signaturePrevalidator;
+  private final UInt64 batchSize;
+  private final SettableGauge importRateGauge;
+  private final SettableGauge maxPendingBatchesGauge;
+  private final Counter prevalidationRejectedBatchesCounter;
 
   private final BatchChain activeBatches;
+  // Last block in each active batch whose proposer signature has already been pre-validated
+  private final Map<Batch, SignedBeaconBlock> lastPrevalidatedBlocks = new HashMap<>();
 
   private Optional<Batch> importingBatch = Optional.empty();
   private boolean switchingBranches = false;
@@ -67,6 +87,9 @@ public class BatchSync implements Sync {
    */
   private UInt64 lastImportTimerStartPointSeconds;
 
+  private UInt64 importStartTimeMillis = UInt64.ZERO;
+  private Optional<Double> averageImportRate = Optional.empty();
+
   private BatchSync(
       final EventThread eventThread,
       final RecentChainData recentChainData,
@@ -74,7 +97,10 @@ public class BatchSync implements Sync {
       final BatchImporter batchImporter,
       final BatchDataRequester batchDataRequester,
       final MultipeerCommonAncestorFinder commonAncestorFinder,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final BatchSignaturePrevalidator signaturePrevalidator,
+      final UInt64 batchSize,
+      final MetricsSystem metricsSystem) {
     this.eventThread = eventThread;
     this.recentChainData = recentChainData;
     this.activeBatches = activeBatches;
@@ -82,7 +108,27 @@ public class BatchSync implements Sync {
     this.batchDataRequester = batchDataRequester;
     this.commonAncestorFinder = commonAncestorFinder;
     this.timeProvider = timeProvider;
+    this.signaturePrevalidator = signaturePrevalidator;
+    this.batchSize = batchSize;
     this.lastImportTimerStartPointSeconds = timeProvider.getTimeInSeconds();
+    this.importRateGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "sync_import_rate",
+            "Average number of blocks imported per second by forward sync");
+    this.maxPendingBatchesGauge =
+        SettableGauge.create(
+            metricsSystem,
+            TekuMetricCategory.BEACON,
+            "sync_max_pending_batches",
+            "Maximum number of batches forward sync will download ahead of import");
+    this.prevalidationRejectedBatchesCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "sync_prevalidation_rejected_batches_total",
+            "Number of downloaded batches rejected before import due to invalid signatures");
+    maxPendingBatchesGauge.set(INITIAL_PENDING_BATCHES);
   }
 
   public static BatchSync create(
@@ -92,11 +138,13 @@ public class BatchSync implements Sync {
       final BatchFactory batchFactory,
       final UInt64 batchSize,
       final MultipeerCommonAncestorFinder commonAncestorFinder,
-      final TimeProvider timeProvider) {
+      final TimeProvider timeProvider,
+      final BatchSignaturePrevalidator signaturePrevalidator,
+      final MetricsSystem metricsSystem) {
     final BatchChain activeBatches = new BatchChain();
     final BatchDataRequester batchDataRequester =
         new BatchDataRequester(
-            eventThread, activeBatches, batchFactory, batchSize, MAX_PENDING_BATCHES);
+            eventThread, activeBatches, batchFactory, batchSize, INITIAL_PENDING_BATCHES);
     return new BatchSync(
         eventThread,
         recentChainData,
@@ -104,7 +152,10 @@ public class BatchSync implements Sync {
         batchImporter,
         batchDataRequester,
         commonAncestorFinder,
-        timeProvider);
+        timeProvider,
+        signaturePrevalidator,
+        batchSize,
+        metricsSystem);
   }
 
   /**
@@ -188,9 +239,70 @@ public class BatchSync implements Sync {
             followingBatch -> checkBatchesFormChain(batch, followingBatch),
             () -> checkAgainstTargetHead(batch));
 
+    prevalidateSignatures(batch);
+    progressSync();
+  }
+
+  /**
+   * Check the proposer signatures of the blocks received since the last check while earlier
+   * batches import. If any are invalid the batch is rejected before it reaches the front of the
+   * import queue.
+   */
+  private void prevalidateSignatures(final Batch batch) {
+    lastPrevalidatedBlocks.keySet().removeIf(previousBatch -> !isActiveBatch(previousBatch));
+    final List<SignedBeaconBlock> blocks = batch.getBlocks();
+    final int firstNewBlockIndex = getPrevalidatedBlockCount(batch, blocks);
+    if (firstNewBlockIndex == blocks.size()) {
+      return;
+    }
+    final List<SignedBeaconBlock> newBlocks =
+        new ArrayList<>(blocks.subList(firstNewBlockIndex, blocks.size()));
+    lastPrevalidatedBlocks.put(batch, newBlocks.get(newBlocks.size() - 1));
+    signaturePrevalidator
+        .verifyProposerSignatures(newBlocks)
+        .thenAcceptAsync(
+            valid -> onSignaturesPrevalidated(batch, firstNewBlockIndex, newBlocks, valid),
+            eventThread)
+        .finish(error -> LOG.error("Failed to pre-validate signatures for {}", batch, error));
+  }
+
+  private int getPrevalidatedBlockCount(final Batch batch, final List<SignedBeaconBlock> blocks) {
+    final SignedBeaconBlock lastPrevalidatedBlock = lastPrevalidatedBlocks.get(batch);
+    if (lastPrevalidatedBlock == null) {
+      return 0;
+    }
+    // Blocks are only appended to a batch unless it is reset, in which case none will match
+    return blocks.lastIndexOf(lastPrevalidatedBlock) + 1;
+  }
+
+  private void onSignaturesPrevalidated(
+      final Batch batch,
+      final int firstVerifiedIndex,
+      final List<SignedBeaconBlock> verifiedBlocks,
+      final boolean valid) {
+    if (valid
+        || !isActiveBatch(batch)
+        || isCurrentlyImportingBatch(batch)
+        || !blocksUnchanged(batch, firstVerifiedIndex, verifiedBlocks)) {
+      // Either valid, or the batch has moved on and import will check the blocks again anyway
+      return;
+    }
+    LOG.debug("Marking batch {} as invalid because it contains invalid block signatures", batch);
+    prevalidationRejectedBatchesCounter.inc();
+    batch.markAsInvalid();
     progressSync();
   }
 
+  private boolean blocksUnchanged(
+      final Batch batch,
+      final int firstVerifiedIndex,
+      final List<SignedBeaconBlock> verifiedBlocks) {
+    final List<SignedBeaconBlock> currentBlocks = batch.getBlocks();
+    final int endIndex = firstVerifiedIndex + verifiedBlocks.size();
+    return currentBlocks.size() >= endIndex
+        && currentBlocks.subList(firstVerifiedIndex, endIndex).equals(verifiedBlocks);
+  }
+
   private void checkAgainstTargetHead(final Batch batch) {
     if (batchEndsChain(batch)) {
       batch.markComplete();
@@ -337,6 +449,7 @@ public class BatchSync implements Sync {
         .ifPresent(
             batch -> {
               lastImportTimerStartPointSeconds = timeProvider.getTimeInSeconds();
+              importStartTimeMillis = timeProvider.getTimeInMillis();
               importingBatch = Optional.of(batch);
               batchImporter
                   .importBatch(batch)
@@ -393,6 +506,7 @@ public class BatchSync implements Sync {
         batch.markAsInvalid();
       }
     } else {
+      updateImportRate(importedBatch);
       // Everything prior to this batch must already exist on our chain so we can drop them all
       activeBatches.removeUpToIncluding(importedBatch);
       commonAncestorSlot = SafeFuture.completedFuture(importedBatch.getLastSlot());
@@ -404,6 +518,32 @@ public class BatchSync implements Sync {
     }
   }
 
+  /**
+   * Tracks how quickly blocks are being imported and adjusts how many batches are downloaded ahead
+   * so that downloads keep up with import without holding more blocks in memory than needed.
+   */
+  private void updateImportRate(final Batch importedBatch) {
+    final UInt64 durationMillis =
+        timeProvider.getTimeInMillis().minusMinZero(importStartTimeMillis);
+    if (durationMillis.isZero() || importedBatch.isEmpty()) {
+      return;
+    }
+    final double batchRate = importedBatch.getBlocks().size() * 1000d / durationMillis.longValue();
+    final double importRate =
+        averageImportRate
+            .map(average -> average + IMPORT_RATE_WEIGHT * (batchRate - average))
+            .orElse(batchRate);
+    averageImportRate = Optional.of(importRate);
+    importRateGauge.set(importRate);
+
+    final int batchesToBuffer =
+        (int) Math.ceil(importRate * TARGET_BUFFERED_IMPORT_SECONDS / batchSize.longValue());
+    final int maxPendingBatches =
+        Math.max(MIN_PENDING_BATCHES, Math.min(MAX_PENDING_BATCHES, batchesToBuffer));
+    batchDataRequester.setMaxPendingBatches(maxPendingBatches);
+    maxPendingBatchesGauge.set(maxPendingBatches);
+  }
+
   private Boolean isCurrentlyImportingBatch(final Batch importedBatch) {
     return importingBatch
         .map(currentImportingBatch -> currentImportingBatch.equals(importedBatch))
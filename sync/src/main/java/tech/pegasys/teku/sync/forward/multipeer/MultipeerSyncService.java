@@ -15,6 +15,7 @@ package tech.pegasys.teku.sync.forward.multipeer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.OrderedAsyncRunner;
@@ -62,6 +63,7 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
   public static MultipeerSyncService create(
       final AsyncRunnerFactory asyncRunnerFactory,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
       final TimeProvider timeProvider,
       final RecentChainData recentChainData,
       final PendingPool<SignedBeaconBlock> pendingBlocks,
@@ -80,7 +82,9 @@ public class MultipeerSyncService extends Service implements ForwardSyncService
             new BatchFactory(eventThread, new PeerScoringConflictResolutionStrategy()),
             Constants.SYNC_BATCH_SIZE,
             MultipeerCommonAncestorFinder.create(recentChainData, eventThread),
-            timeProvider);
+            timeProvider,
+            new BatchSignaturePrevalidator(recentChainData.getSpec(), recentChainData, asyncRunner),
+            metricsSystem);
     final SyncController syncController =
         new SyncController(
             eventThread,
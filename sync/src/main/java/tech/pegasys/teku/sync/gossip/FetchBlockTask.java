@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.sync.gossip;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
@@ -25,27 +28,42 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.sync.gossip.FetchBlockTask.FetchBlockResult.Status;
 
+/**
+ * Fetches a single block by root.
+ *
+ * <p>Each run requests the block from up to {@link #MAX_PEERS_PER_RUN} peers at once, preferring
+ * peers with the lowest measured round-trip time, and completes with the first block returned.
+ */
 class FetchBlockTask {
   private static final Logger LOG = LogManager.getLogger();
-  private static final Comparator<Eth2Peer> SHUFFLING_COMPARATOR =
-      Comparator.comparing(p -> Math.random());
+  static final int MAX_PEERS_PER_RUN = 2;
 
   private final P2PNetwork<Eth2Peer> eth2Network;
   private final Bytes32 blockRoot;
+  private final PeerLatencyTracker peerLatencyTracker;
+  private final TimeProvider timeProvider;
   private final Set<NodeId> queriedPeers = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
   private final AtomicInteger numberOfRuns = new AtomicInteger(0);
   private final AtomicBoolean cancelled = new AtomicBoolean(false);
 
-  FetchBlockTask(final P2PNetwork<Eth2Peer> eth2Network, final Bytes32 blockRoot) {
+  FetchBlockTask(
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final Bytes32 blockRoot,
+      final PeerLatencyTracker peerLatencyTracker,
+      final TimeProvider timeProvider) {
     this.eth2Network = eth2Network;
     this.blockRoot = blockRoot;
+    this.peerLatencyTracker = peerLatencyTracker;
+    this.timeProvider = timeProvider;
   }
 
   public void cancel() {
@@ -53,8 +71,11 @@ class FetchBlockTask {
   }
 
   public static FetchBlockTask create(
-      final P2PNetwork<Eth2Peer> eth2Network, final Bytes32 blockRoot) {
-    return new FetchBlockTask(eth2Network, blockRoot);
+      final P2PNetwork<Eth2Peer> eth2Network,
+      final Bytes32 blockRoot,
+      final PeerLatencyTracker peerLatencyTracker,
+      final TimeProvider timeProvider) {
+    return new FetchBlockTask(eth2Network, blockRoot, peerLatencyTracker, timeProvider);
   }
 
   public Bytes32 getBlockRoot() {
@@ -70,34 +91,103 @@ class FetchBlockTask {
       return SafeFuture.completedFuture(FetchBlockResult.createFailed(Status.CANCELLED));
     }
 
-    final Optional<Eth2Peer> maybePeer =
-        eth2Network
-            .streamPeers()
-            .filter(p -> !queriedPeers.contains(p.getId()))
-            .min(
-                Comparator.comparing(Eth2Peer::getOutstandingRequests)
-                    .thenComparing(SHUFFLING_COMPARATOR));
-
-    if (maybePeer.isEmpty()) {
+    final List<Eth2Peer> peers = selectPeers();
+    if (peers.isEmpty()) {
       return SafeFuture.completedFuture(FetchBlockResult.createFailed(Status.NO_AVAILABLE_PEERS));
     }
-    final Eth2Peer peer = maybePeer.get();
 
     numberOfRuns.incrementAndGet();
-    queriedPeers.add(peer.getId());
+    final SafeFuture<FetchBlockResult> result = new SafeFuture<>();
+    final AtomicInteger remainingRequests = new AtomicInteger(peers.size());
+    for (Eth2Peer peer : peers) {
+      queriedPeers.add(peer.getId());
+      requestBlock(peer)
+          .thenAccept(
+              maybeBlock -> {
+                if (maybeBlock.isPresent()) {
+                  // Fastest response wins, any later responses are ignored
+                  result.complete(FetchBlockResult.createSuccessful(maybeBlock.get()));
+                } else if (remainingRequests.decrementAndGet() == 0) {
+                  result.complete(FetchBlockResult.createFailed(Status.FETCH_FAILED));
+                }
+              })
+          .reportExceptions();
+    }
+    return result;
+  }
+
+  private List<Eth2Peer> selectPeers() {
+    final List<Eth2Peer> candidates =
+        eth2Network.streamPeers().filter(p -> !queriedPeers.contains(p.getId())).collect(toList());
+    // Shuffle first so that ties are broken randomly by the stable sort
+    Collections.shuffle(candidates);
+    // Latencies and outstanding requests change on network threads, so each peer's values are
+    // captured once and the sort compares those snapshots
+    final double unmeasuredLatencyMillis = peerLatencyTracker.getMedianLatencyMillis();
+    return candidates.stream()
+        .map(
+            peer ->
+                new PeerCandidate(
+                    peer,
+                    peerLatencyTracker
+                        .getAverageLatencyMillis(peer.getId())
+                        .orElse(unmeasuredLatencyMillis),
+                    peer.getOutstandingRequests()))
+        .sorted(
+            Comparator.comparingDouble(PeerCandidate::getAverageLatencyMillis)
+                .thenComparingInt(PeerCandidate::getOutstandingRequests))
+        .limit(MAX_PEERS_PER_RUN)
+        .map(PeerCandidate::getPeer)
+        .collect(toList());
+  }
+
+  private SafeFuture<Optional<SignedBeaconBlock>> requestBlock(final Eth2Peer peer) {
+    final UInt64 startTime = timeProvider.getTimeInMillis();
     return peer.requestBlockByRoot(blockRoot)
         .thenApply(
-            maybeBlock ->
-                maybeBlock
-                    .map(FetchBlockResult::createSuccessful)
-                    .orElseGet(() -> FetchBlockResult.createFailed(Status.FETCH_FAILED)))
+            maybeBlock -> {
+              final long latencyMillis =
+                  timeProvider.getTimeInMillis().minusMinZero(startTime).longValue();
+              if (maybeBlock.isPresent()) {
+                peerLatencyTracker.recordResponse(peer.getId(), latencyMillis);
+              } else {
+                peerLatencyTracker.recordEmptyResponse(peer.getId(), latencyMillis);
+              }
+              return maybeBlock;
+            })
         .exceptionally(
             err -> {
               LOG.debug("Failed to fetch block " + blockRoot, err);
-              return FetchBlockResult.createFailed(Status.FETCH_FAILED);
+              peerLatencyTracker.recordFailure(peer.getId());
+              return Optional.empty();
             });
   }
 
+  private static class PeerCandidate {
+    private final Eth2Peer peer;
+    private final double averageLatencyMillis;
+    private final int outstandingRequests;
+
+    private PeerCandidate(
+        final Eth2Peer peer, final double averageLatencyMillis, final int outstandingRequests) {
+      this.peer = peer;
+      this.averageLatencyMillis = averageLatencyMillis;
+      this.outstandingRequests = outstandingRequests;
+    }
+
+    public Eth2Peer getPeer() {
+      return peer;
+    }
+
+    public double getAverageLatencyMillis() {
+      return averageLatencyMillis;
+    }
+
+    public int getOutstandingRequests() {
+      return outstandingRequests;
+    }
+  }
+
   static final class FetchBlockResult {
     public enum Status {
       SUCCESSFUL,
@@ -23,9 +23,14 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.subscribers.Subscribers;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.network.P2PNetwork;
 import tech.pegasys.teku.service.serviceutils.Service;
@@ -49,21 +54,28 @@ public class FetchRecentBlocksService extends Service implements RecentBlockFetc
   private final PendingPool<SignedBeaconBlock> pendingBlocksPool;
 
   private final Map<Bytes32, FetchBlockTask> allTasks = new ConcurrentHashMap<>();
+  private final Map<Bytes32, UInt64> requestTimes = new ConcurrentHashMap<>();
   private final Queue<FetchBlockTask> pendingTasks = new ConcurrentLinkedQueue<>();
   private final Collection<FetchBlockTask> activeTasks = new ConcurrentLinkedQueue<>();
 
   private final FetchBlockTaskFactory fetchBlockTaskFactory;
   private final Subscribers<BlockSubscriber> blockSubscribers = Subscribers.create(true);
   private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final MetricsHistogram fetchTimeHistogram;
 
   FetchRecentBlocksService(
       final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final MetricsHistogram fetchTimeHistogram,
       final P2PNetwork<Eth2Peer> eth2Network,
       final PendingPool<SignedBeaconBlock> pendingBlocksPool,
       final ForwardSync forwardSync,
       final FetchBlockTaskFactory fetchBlockTaskFactory,
       final int maxConcurrentRequests) {
     this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.fetchTimeHistogram = fetchTimeHistogram;
     this.forwardSync = forwardSync;
     this.maxConcurrentRequests = maxConcurrentRequests;
     this.eth2Network = eth2Network;
@@ -73,15 +85,28 @@ public class FetchRecentBlocksService extends Service implements RecentBlockFetc
 
   public static FetchRecentBlocksService create(
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
       final P2PNetwork<Eth2Peer> eth2Network,
       final PendingPool<SignedBeaconBlock> pendingBlocksPool,
       final ForwardSync forwardSync) {
+    final MetricsHistogram fetchTimeHistogram =
+        MetricsHistogram.create(
+            TekuMetricCategory.BEACON,
+            metricsSystem,
+            "recent_block_fetch_time",
+            "Histogram recording the time in milliseconds taken to fetch a missing block",
+            1);
+    final PeerLatencyTracker peerLatencyTracker = new PeerLatencyTracker();
     return new FetchRecentBlocksService(
         asyncRunner,
+        timeProvider,
+        fetchTimeHistogram,
         eth2Network,
         pendingBlocksPool,
         forwardSync,
-        FetchBlockTask::create,
+        (network, blockRoot) ->
+            FetchBlockTask.create(network, blockRoot, peerLatencyTracker, timeProvider),
         MAX_CONCURRENT_REQUESTS);
   }
 
@@ -137,6 +162,7 @@ public class FetchRecentBlocksService extends Service implements RecentBlockFetc
       return;
     }
     LOG.trace("Queue block to be fetched: {}", blockRoot);
+    requestTimes.put(blockRoot, timeProvider.getTimeInMillis());
     queueTask(task);
   }
 
@@ -204,7 +230,9 @@ public class FetchRecentBlocksService extends Service implements RecentBlockFetc
   private void removeTask(FetchBlockTask task) {
     // Stop tracking task
     task.cancel();
-    allTasks.remove(task.getBlockRoot(), task);
+    if (allTasks.remove(task.getBlockRoot(), task)) {
+      requestTimes.remove(task.getBlockRoot());
+    }
   }
 
   private void queueTask(FetchBlockTask task) {
@@ -233,6 +261,11 @@ public class FetchRecentBlocksService extends Service implements RecentBlockFetc
 
   private void handleFetchedBlock(FetchBlockTask task, final SignedBeaconBlock block) {
     LOG.trace("Successfully fetched block: {}", block);
+    final UInt64 requestTime = requestTimes.get(task.getBlockRoot());
+    if (requestTime != null) {
+      fetchTimeHistogram.recordValue(
+          timeProvider.getTimeInMillis().minusMinZero(requestTime).longValue());
+    }
     blockSubscribers.forEach(s -> s.onBlock(block));
     // After retrieved block has been processed, stop tracking it
     removeTask(task);
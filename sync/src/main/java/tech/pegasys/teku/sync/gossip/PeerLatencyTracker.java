@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.gossip;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalDouble;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.networking.p2p.peer.NodeId;
+
+/**
+ * Tracks a smoothed round-trip time of block by root requests to each peer so requests for missing
+ * blocks can be sent to the peers that have been responding fastest.
+ *
+ * <p>Peers that haven't been measured yet should be ranked at the {@link #getMedianLatencyMillis()
+ * median latency} so they are neither always preferred nor never tried. Failed requests are
+ * recorded as a slow response. Empty responses only mean the peer didn't have the block so their
+ * actual round-trip time is recorded.
+ */
+class PeerLatencyTracker {
+  static final long FAILED_REQUEST_LATENCY_MILLIS = 10_000;
+  private static final int MAX_TRACKED_PEERS = 500;
+  // Weight given to each new sample in the exponential moving average
+  private static final double SAMPLE_WEIGHT = 0.25;
+
+  private final LimitedMap<NodeId, Double> averageLatencyMillis =
+      LimitedMap.create(MAX_TRACKED_PEERS);
+
+  public void recordResponse(final NodeId peerId, final long latencyMillis) {
+    averageLatencyMillis.merge(
+        peerId,
+        (double) latencyMillis,
+        (average, sample) -> average + SAMPLE_WEIGHT * (sample - average));
+  }
+
+  public void recordEmptyResponse(final NodeId peerId, final long latencyMillis) {
+    recordResponse(peerId, latencyMillis);
+  }
+
+  public void recordFailure(final NodeId peerId) {
+    recordResponse(peerId, FAILED_REQUEST_LATENCY_MILLIS);
+  }
+
+  public OptionalDouble getAverageLatencyMillis(final NodeId peerId) {
+    final Double average = averageLatencyMillis.get(peerId);
+    return average != null ? OptionalDouble.of(average) : OptionalDouble.empty();
+  }
+
+  /** Returns the median average latency of the tracked peers, or zero if there are none. */
+  public double getMedianLatencyMillis() {
+    final List<Double> averages = new ArrayList<>(averageLatencyMillis.copy().values());
+    if (averages.isEmpty()) {
+      return 0;
+    }
+    Collections.sort(averages);
+    return averages.get(averages.size() / 2);
+  }
+}
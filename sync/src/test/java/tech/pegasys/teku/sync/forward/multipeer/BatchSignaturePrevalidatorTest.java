@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.sync.forward.multipeer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.core.ChainBuilder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+class BatchSignaturePrevalidatorTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+  private final ChainBuilder chainBuilder = storageSystem.chainBuilder();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  private final BatchSignaturePrevalidator prevalidator =
+      new BatchSignaturePrevalidator(spec, storageSystem.recentChainData(), asyncRunner);
+
+  @BeforeEach
+  void setUp() {
+    storageSystem.chainUpdater().initializeGenesis();
+  }
+
+  @Test
+  void shouldAcceptBlocksWithValidProposerSignatures() {
+    final List<SignedBeaconBlock> blocks =
+        List.of(
+            chainBuilder.generateBlockAtSlot(1).getBlock(),
+            chainBuilder.generateBlockAtSlot(2).getBlock());
+
+    final SafeFuture<Boolean> result = prevalidator.verifyProposerSignatures(blocks);
+    assertThat(result).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result.join()).isTrue();
+  }
+
+  @Test
+  void shouldRejectBlocksWhenAnyProposerSignatureIsInvalid() {
+    final SignedBeaconBlock validBlock = chainBuilder.generateBlockAtSlot(1).getBlock();
+    final SignedBeaconBlock invalidBlock =
+        SignedBeaconBlock.create(
+            spec,
+            chainBuilder.generateBlockAtSlot(2).getBlock().getMessage(),
+            dataStructureUtil.randomSignature());
+
+    final SafeFuture<Boolean> result =
+        prevalidator.verifyProposerSignatures(List.of(validBlock, invalidBlock));
+
+    asyncRunner.executeQueuedActions();
+    assertThat(result.join()).isFalse();
+  }
+}
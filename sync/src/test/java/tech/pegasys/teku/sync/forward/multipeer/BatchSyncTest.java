@@ -30,6 +30,7 @@ import static tech.pegasys.teku.sync.forward.multipeer.batches.BatchAssert.asser
 import static tech.pegasys.teku.sync.forward.multipeer.chains.TargetChainTestUtil.chainWith;
 
 import java.util.List;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.core.ChainBuilder;
@@ -72,6 +73,8 @@ class BatchSyncTest {
           syncSource);
   private final MultipeerCommonAncestorFinder commonAncestor =
       mock(MultipeerCommonAncestorFinder.class);
+  private final BatchSignaturePrevalidator signaturePrevalidator =
+      mock(BatchSignaturePrevalidator.class);
 
   private final BatchSync sync =
       BatchSync.create(
@@ -81,7 +84,9 @@ class BatchSyncTest {
           batches,
           BATCH_SIZE,
           commonAncestor,
-          timeProvider);
+          timeProvider,
+          signaturePrevalidator,
+          new NoOpMetricsSystem());
 
   @BeforeEach
   void setUp() {
@@ -92,6 +97,7 @@ class BatchSyncTest {
         .thenAnswer(
             invocation ->
                 completedFuture(compute_start_slot_at_epoch(recentChainData.getFinalizedEpoch())));
+    when(signaturePrevalidator.verifyProposerSignatures(any())).thenReturn(completedFuture(true));
   }
 
   @Test
@@ -646,6 +652,73 @@ class BatchSyncTest {
     assertBatchNotActive(batch0);
   }
 
+  @Test
+  void shouldMarkBatchInvalidWhenProposerSignaturesAreInvalid() {
+    when(signaturePrevalidator.verifyProposerSignatures(any())).thenReturn(completedFuture(false));
+    assertThat(sync.syncToChain(targetChain)).isNotDone();
+
+    final Batch batch0 = batches.get(0);
+    batches.receiveBlocks(batch0, chainBuilder.generateBlockAtSlot(1).getBlock());
+
+    batches.assertMarkedInvalid(batch0);
+    verifyNoInteractions(batchImporter);
+  }
+
+  @Test
+  void shouldOnlyPrevalidateSignaturesOfNewlyReceivedBlocks() {
+    assertThat(sync.syncToChain(targetChain)).isNotDone();
+
+    final Batch batch0 = batches.get(0);
+    final SignedBeaconBlock block1 = chainBuilder.generateBlockAtSlot(1).getBlock();
+    final SignedBeaconBlock block2 = chainBuilder.generateBlockAtSlot(2).getBlock();
+
+    batches.receiveBlocks(batch0, block1);
+    verify(signaturePrevalidator).verifyProposerSignatures(List.of(block1));
+
+    // Batch is incomplete so more blocks are requested
+    batches.receiveBlocks(batch0, block2);
+    verify(signaturePrevalidator).verifyProposerSignatures(List.of(block2));
+    verifyNoMoreInteractions(signaturePrevalidator);
+  }
+
+  @Test
+  void shouldRequestMoreBatchesWhenImportIsFast() {
+    assertThat(sync.syncToChain(targetChain)).isNotDone();
+    assertThat(batches).hasSize(5);
+
+    final Batch batch0 = batches.get(0);
+    final Batch batch1 = batches.get(1);
+    batches.receiveBlocks(batch0, chainBuilder.generateBlockAtSlot(1).getBlock());
+    batches.receiveBlocks(
+        batch1, chainBuilder.generateBlockAtSlot(batch1.getFirstSlot()).getBlock());
+    assertBatchImported(batch0);
+
+    timeProvider.advanceTimeByMillis(1);
+    batches.getImportResult(batch0).complete(IMPORTED_ALL_BLOCKS);
+
+    // Import rate is high so allow the maximum 10 pending batches
+    assertThat(batches).hasSize(11);
+  }
+
+  @Test
+  void shouldNotRequestMoreBatchesWhenImportIsSlow() {
+    assertThat(sync.syncToChain(targetChain)).isNotDone();
+    assertThat(batches).hasSize(5);
+
+    final Batch batch0 = batches.get(0);
+    final Batch batch1 = batches.get(1);
+    batches.receiveBlocks(batch0, chainBuilder.generateBlockAtSlot(1).getBlock());
+    batches.receiveBlocks(
+        batch1, chainBuilder.generateBlockAtSlot(batch1.getFirstSlot()).getBlock());
+    assertBatchImported(batch0);
+
+    timeProvider.advanceTimeBySeconds(10);
+    batches.getImportResult(batch0).complete(IMPORTED_ALL_BLOCKS);
+
+    // Import rate is low so the 4 remaining batches are already more than enough
+    assertThat(batches).hasSize(5);
+  }
+
   @Test
   void shouldSwitchChains() {
     // Start sync to first chain
@@ -14,7 +14,10 @@
 package tech.pegasys.teku.sync.gossip;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -24,6 +27,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.p2p.mock.MockNodeId;
@@ -37,6 +41,8 @@ public class FetchBlockTaskTest {
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil();
   final Eth2P2PNetwork eth2P2PNetwork = mock(Eth2P2PNetwork.class);
   final List<Eth2Peer> peers = new ArrayList<>();
+  final PeerLatencyTracker peerLatencyTracker = new PeerLatencyTracker();
+  final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
 
   @BeforeEach
   public void setup() {
@@ -47,7 +53,7 @@ public class FetchBlockTaskTest {
   public void run_successful() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
     assertThat(task.getBlockRoot()).isEqualTo(blockRoot);
 
     final Eth2Peer peer = registerNewPeer(1);
@@ -65,7 +71,7 @@ public class FetchBlockTaskTest {
   public void run_noPeers() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
 
     final SafeFuture<FetchBlockResult> result = task.run();
     assertThat(result).isDone();
@@ -78,7 +84,7 @@ public class FetchBlockTaskTest {
   public void run_failAndRetryWithNoNewPeers() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
 
     final Eth2Peer peer = registerNewPeer(1);
     when(peer.requestBlockByRoot(blockRoot))
@@ -104,7 +110,7 @@ public class FetchBlockTaskTest {
   public void run_failAndRetryWithNewPeer() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
 
     final Eth2Peer peer = registerNewPeer(1);
     when(peer.requestBlockByRoot(blockRoot))
@@ -135,7 +141,7 @@ public class FetchBlockTaskTest {
   public void run_withMultiplesPeersAvailable() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
 
     final Eth2Peer peer = registerNewPeer(1);
     when(peer.requestBlockByRoot(blockRoot))
@@ -159,7 +165,7 @@ public class FetchBlockTaskTest {
   public void cancel() {
     final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
     final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
-    FetchBlockTask task = FetchBlockTask.create(eth2P2PNetwork, blockRoot);
+    FetchBlockTask task = createTask(blockRoot);
 
     final Eth2Peer peer = registerNewPeer(1);
     when(peer.requestBlockByRoot(blockRoot))
@@ -173,6 +179,117 @@ public class FetchBlockTaskTest {
     assertThat(fetchBlockResult.getStatus()).isEqualTo(Status.CANCELLED);
   }
 
+  @Test
+  public void run_requestsBlockFromMultiplePeersAndUsesFirstResponse() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
+    FetchBlockTask task = createTask(blockRoot);
+
+    final List<Eth2Peer> queriedPeers = new ArrayList<>();
+    final List<SafeFuture<Optional<SignedBeaconBlock>>> responses = new ArrayList<>();
+    for (int i = 0; i < FetchBlockTask.MAX_PEERS_PER_RUN + 1; i++) {
+      final Eth2Peer peer = registerNewPeer(i);
+      when(peer.requestBlockByRoot(blockRoot))
+          .thenAnswer(
+              invocation -> {
+                final SafeFuture<Optional<SignedBeaconBlock>> response = new SafeFuture<>();
+                queriedPeers.add(peer);
+                responses.add(response);
+                return response;
+              });
+    }
+
+    final SafeFuture<FetchBlockResult> result = task.run();
+    assertThat(queriedPeers).hasSize(FetchBlockTask.MAX_PEERS_PER_RUN);
+    assertThat(result).isNotDone();
+
+    timeProvider.advanceTimeByMillis(200);
+    responses.get(1).complete(Optional.of(block));
+
+    assertThat(result).isDone();
+    assertThat(result.getNow(null).getBlock()).isEqualTo(block);
+    assertThat(task.getNumberOfRetries()).isEqualTo(0);
+    assertThat(peerLatencyTracker.getAverageLatencyMillis(queriedPeers.get(1).getId()))
+        .hasValue(200);
+  }
+
+  @Test
+  public void run_failsWhenAllRequestedPeersFail() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
+    FetchBlockTask task = createTask(blockRoot);
+
+    final Eth2Peer peer1 = registerNewPeer(1);
+    final SafeFuture<Optional<SignedBeaconBlock>> response1 = new SafeFuture<>();
+    when(peer1.requestBlockByRoot(blockRoot)).thenReturn(response1);
+    final Eth2Peer peer2 = registerNewPeer(2);
+    final SafeFuture<Optional<SignedBeaconBlock>> response2 = new SafeFuture<>();
+    when(peer2.requestBlockByRoot(blockRoot)).thenReturn(response2);
+
+    final SafeFuture<FetchBlockResult> result = task.run();
+
+    timeProvider.advanceTimeByMillis(30);
+    response1.complete(Optional.empty());
+    assertThat(result).isNotDone();
+
+    response2.completeExceptionally(new RuntimeException("whoops"));
+    assertThat(result).isDone();
+    assertThat(result.getNow(null).getStatus()).isEqualTo(Status.FETCH_FAILED);
+    // The empty response is a real round trip, only the failed request is penalised
+    assertThat(peerLatencyTracker.getAverageLatencyMillis(peer1.getId())).hasValue(30);
+    assertThat(peerLatencyTracker.getAverageLatencyMillis(peer2.getId()))
+        .hasValue(PeerLatencyTracker.FAILED_REQUEST_LATENCY_MILLIS);
+  }
+
+  @Test
+  public void run_prefersPeersWithLowestLatency() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
+    FetchBlockTask task = createTask(blockRoot);
+
+    final Eth2Peer slowPeer = registerNewPeer(1);
+    final Eth2Peer fastPeer = registerNewPeer(2);
+    final Eth2Peer mediumPeer = registerNewPeer(3);
+    peerLatencyTracker.recordResponse(slowPeer.getId(), 500);
+    peerLatencyTracker.recordResponse(fastPeer.getId(), 50);
+    peerLatencyTracker.recordResponse(mediumPeer.getId(), 100);
+    peers.forEach(peer -> when(peer.requestBlockByRoot(blockRoot)).thenReturn(new SafeFuture<>()));
+
+    task.run();
+
+    verify(fastPeer).requestBlockByRoot(blockRoot);
+    verify(mediumPeer).requestBlockByRoot(blockRoot);
+    verify(slowPeer, never()).requestBlockByRoot(any());
+  }
+
+  @Test
+  public void run_ranksUnmeasuredPeersAtMedianLatency() {
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(10);
+    final Bytes32 blockRoot = block.getMessage().hashTreeRoot();
+    FetchBlockTask task = createTask(blockRoot);
+
+    final Eth2Peer fastPeer = registerNewPeer(1);
+    final Eth2Peer quickPeer = registerNewPeer(2);
+    final Eth2Peer mediumPeer = registerNewPeer(3);
+    final Eth2Peer slowPeer = registerNewPeer(4);
+    final Eth2Peer unmeasuredPeer = registerNewPeer(5);
+    peerLatencyTracker.recordResponse(fastPeer.getId(), 50);
+    peerLatencyTracker.recordResponse(quickPeer.getId(), 80);
+    peerLatencyTracker.recordResponse(mediumPeer.getId(), 100);
+    peerLatencyTracker.recordResponse(slowPeer.getId(), 500);
+    peers.forEach(peer -> when(peer.requestBlockByRoot(blockRoot)).thenReturn(new SafeFuture<>()));
+
+    task.run();
+
+    verify(fastPeer).requestBlockByRoot(blockRoot);
+    verify(quickPeer).requestBlockByRoot(blockRoot);
+    verify(unmeasuredPeer, never()).requestBlockByRoot(any());
+  }
+
+  private FetchBlockTask createTask(final Bytes32 blockRoot) {
+    return FetchBlockTask.create(eth2P2PNetwork, blockRoot, peerLatencyTracker, timeProvider);
+  }
+
   private Eth2Peer registerNewPeer(final int id) {
     final Eth2Peer peer = mock(Eth2Peer.class);
     when(peer.getOutstandingRequests()).thenReturn(0);
@@ -32,6 +32,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.MetricsHistogram;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
@@ -56,6 +58,8 @@ public class FetchRecentBlocksServiceTest {
 
   private final int maxConcurrentRequests = 2;
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final MetricsHistogram fetchTimeHistogram = mock(MetricsHistogram.class);
 
   private final List<FetchBlockTask> tasks = new ArrayList<>();
   private final List<SafeFuture<FetchBlockResult>> taskFutures = new ArrayList<>();
@@ -68,6 +72,8 @@ public class FetchRecentBlocksServiceTest {
     recentBlockFetcher =
         new FetchRecentBlocksService(
             asyncRunner,
+            timeProvider,
+            fetchTimeHistogram,
             eth2P2PNetwork,
             pendingBlocksPool,
             forwardSync,
@@ -109,6 +115,18 @@ public class FetchRecentBlocksServiceTest {
     assertTaskCounts(0, 0, 0);
   }
 
+  @Test
+  public void fetchSingleBlockSuccessfully_shouldRecordFetchTime() {
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    recentBlockFetcher.requestRecentBlock(root);
+
+    timeProvider.advanceTimeByMillis(350);
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+    taskFutures.get(0).complete(FetchBlockResult.createSuccessful(block));
+
+    verify(fetchTimeHistogram).recordValue(350);
+  }
+
   @Test
   public void handleDuplicateRequiredBlocks() {
     final Bytes32 root = dataStructureUtil.randomBytes32();
@@ -23,6 +23,7 @@ public class BeaconRestApiOptions {
 
   public static final int DEFAULT_REST_API_PORT = 5051;
   public static final int DEFAULT_MAX_EVENT_QUEUE_SIZE = 250;
+  public static final int DEFAULT_RECENT_STATE_VIEW_EPOCHS = 4;
 
   @Option(
       names = {"--rest-api-port"},
@@ -76,6 +77,13 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xrest-api-recent-state-view-epochs"},
+      paramLabel = "<INTEGER>",
+      description = "Number of recent epoch boundary states kept available for REST API queries",
+      hidden = true)
+  private int recentStateViewEpochs = DEFAULT_RECENT_STATE_VIEW_EPOCHS;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.restApi(
         restApiBuilder ->
@@ -86,6 +94,7 @@ public class BeaconRestApiOptions {
                 .restApiInterface(restApiInterface)
                 .restApiHostAllowlist(restApiHostAllowlist)
                 .restApiCorsAllowedOrigins(restApiCorsAllowedOrigins)
-                .maxPendingEvents(maxPendingEvents));
+                .maxPendingEvents(maxPendingEvents)
+                .recentStateViewEpochs(recentStateViewEpochs));
   }
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 import picocli.CommandLine.Option;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.services.powchain.PowchainConfiguration;
 
 public class DepositOptions {
 
@@ -36,6 +37,16 @@ public class DepositOptions {
       arity = "1")
   private int eth1LogsMaxBlockRange = 10_000;
 
+  @Option(
+      names = {"--Xeth1-deposit-contract-max-concurrent-requests"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum number of deposit contract event log requests to have in flight at once.",
+      hidden = true,
+      arity = "1")
+  private int eth1LogsMaxConcurrentRequests =
+      PowchainConfiguration.DEFAULT_ETH1_LOGS_MAX_CONCURRENT_REQUESTS;
+
   @Option(
       names = {"--Xeth1-time-based-head-tracking-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -50,6 +61,7 @@ public class DepositOptions {
         b ->
             b.eth1Endpoints(eth1Endpoints)
                 .eth1LogsMaxBlockRange(eth1LogsMaxBlockRange)
+                .eth1LogsMaxConcurrentRequests(eth1LogsMaxConcurrentRequests)
                 .useTimeBasedHeadTracking(useTimeBasedHeadTracking));
   }
 }
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.cli.options;
 
+import static tech.pegasys.teku.networking.eth2.P2PConfig.Builder.DEFAULT_GLOBAL_BANDWIDTH_LIMIT;
+import static tech.pegasys.teku.networking.eth2.P2PConfig.Builder.DEFAULT_PEER_BANDWIDTH_LIMIT;
 import static tech.pegasys.teku.networking.eth2.P2PConfig.Builder.DEFAULT_PEER_RATE_LIMIT;
 import static tech.pegasys.teku.networking.eth2.P2PConfig.Builder.DEFAULT_PEER_REQUEST_LIMIT;
 
@@ -89,6 +91,24 @@ public class Eth2NetworkOptions {
       hidden = true)
   private Integer peerRequestLimit = DEFAULT_PEER_REQUEST_LIMIT;
 
+  @Option(
+      names = {"--Xpeer-bandwidth-limit"},
+      paramLabel = "<NUMBER>",
+      description =
+          "The number of bytes per second to send to each peer in response to block requests.",
+      arity = "1",
+      hidden = true)
+  private Integer peerBandwidthLimit = DEFAULT_PEER_BANDWIDTH_LIMIT;
+
+  @Option(
+      names = {"--Xglobal-bandwidth-limit"},
+      paramLabel = "<NUMBER>",
+      description =
+          "The number of bytes per second to send across all peers in response to block requests.",
+      arity = "1",
+      hidden = true)
+  private Integer globalBandwidthLimit = DEFAULT_GLOBAL_BANDWIDTH_LIMIT;
+
   @Option(
       names = {"--Xfork-choice-balance-attack-mitigation-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -115,7 +135,12 @@ public class Eth2NetworkOptions {
             })
         .storageConfiguration(
             b -> b.eth1DepositContract(eth2Config.getEth1DepositContractAddress()))
-        .p2p(b -> b.peerRateLimit(peerRateLimit).peerRequestLimit(peerRequestLimit))
+        .p2p(
+            b ->
+                b.peerRateLimit(peerRateLimit)
+                    .peerRequestLimit(peerRequestLimit)
+                    .peerBandwidthLimit(peerBandwidthLimit)
+                    .globalBandwidthLimit(globalBandwidthLimit))
         .discovery(b -> b.bootnodes(eth2Config.getDiscoveryBootnodes()))
         .restApi(b -> b.eth1DepositContractAddress(eth2Config.getEth1DepositContractAddress()));
   }
@@ -26,8 +26,30 @@ public class StoreOptions {
       arity = "1")
   private int hotStatePersistenceFrequencyInEpochs = 2;
 
+  @Option(
+      hidden = true,
+      names = {"--Xpersistent-pubkey-cache-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Store uncompressed validator public keys on disk so they don't need to be decompressed after a restart.",
+      fallbackValue = "true",
+      arity = "0..1")
+  private boolean persistentPubKeyCacheEnabled = false;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstate-cache-max-memory"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Maximum memory in megabytes retained by cached states across all state caches. The least recently used states are evicted first. A value less than or equal to zero only limits the number of cached states.",
+      arity = "1")
+  private long maxStateCacheMemoryMb = 0;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.store(
-        b -> b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs));
+        b ->
+            b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
+                .persistentPubKeyCacheEnabled(persistentPubKeyCacheEnabled)
+                .maxStateCacheMemoryBytes(Math.max(0, maxStateCacheMemoryMb) * 1024 * 1024));
   }
 }
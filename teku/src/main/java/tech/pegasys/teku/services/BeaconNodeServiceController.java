@@ -15,6 +15,7 @@ package tech.pegasys.teku.services;
 
 import java.util.Optional;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.dataproviders.generators.StateCacheMemoryManager;
 import tech.pegasys.teku.networking.nat.NatService;
 import tech.pegasys.teku.service.serviceutils.ServiceConfig;
 import tech.pegasys.teku.services.beaconchain.BeaconChainService;
@@ -27,9 +28,15 @@ public class BeaconNodeServiceController extends ServiceController {
 
   public BeaconNodeServiceController(
       TekuConfiguration tekuConfig, final ServiceConfig serviceConfig) {
+    // Shared by the storage and beacon chain services so all cached states are bounded together
+    final StateCacheMemoryManager stateCacheMemoryManager =
+        createStateCacheMemoryManager(tekuConfig, serviceConfig);
     // Note services will be started in the order they are added here.
-    services.add(new StorageService(serviceConfig, tekuConfig.storageConfiguration()));
-    services.add(new BeaconChainService(serviceConfig, tekuConfig.beaconChain()));
+    services.add(
+        new StorageService(
+            serviceConfig, tekuConfig.storageConfiguration(), stateCacheMemoryManager));
+    services.add(
+        new BeaconChainService(serviceConfig, tekuConfig.beaconChain(), stateCacheMemoryManager));
     services.add(ValidatorClientService.create(serviceConfig, tekuConfig.validatorClient()));
     services.add(new TimerService(serviceConfig));
     services.add(
@@ -40,7 +47,20 @@ public class BeaconNodeServiceController extends ServiceController {
     powchainService(tekuConfig, serviceConfig).ifPresent(services::add);
   }
 
-  private Optional<PowchainService> powchainService(
+  private StateCacheMemoryManager createStateCacheMemoryManager(
+      final TekuConfiguration tekuConfig, final ServiceConfig serviceConfig) {
+    final long maxStateCacheMemoryBytes =
+        tekuConfig.beaconChain().storeConfig().getMaxStateCacheMemoryBytes();
+    if (maxStateCacheMemoryBytes <= 0) {
+      return StateCacheMemoryManager.DISABLED;
+    }
+    return StateCacheMemoryManager.create(
+        serviceConfig.createAsyncRunner("statecache", 1),
+        serviceConfig.getMetricsSystem(),
+        maxStateCacheMemoryBytes);
+  }
+
+    private Optional<PowchainService> powchainService(
       TekuConfiguration tekuConfig, final ServiceConfig serviceConfig) {
     if (tekuConfig.beaconChain().interopConfig().isInteropEnabled()
         || !tekuConfig.powchain().isEnabled()) {
@@ -444,7 +444,8 @@ public class BeaconNodeCommandTest extends AbstractBeaconNodeCommandTest {
                     .restApiHostAllowlist(List.of("127.0.0.1", "localhost"))
                     .restApiCorsAllowedOrigins(new ArrayList<>())
                     .eth1DepositContractAddress(address)
-                    .maxPendingEvents(BeaconRestApiOptions.DEFAULT_MAX_EVENT_QUEUE_SIZE))
+                    .maxPendingEvents(BeaconRestApiOptions.DEFAULT_MAX_EVENT_QUEUE_SIZE)
+                    .recentStateViewEpochs(BeaconRestApiOptions.DEFAULT_RECENT_STATE_VIEW_EPOCHS))
         .validator(
             b ->
                 b.validatorExternalSignerTimeout(Duration.ofSeconds(5))
@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.cli.AbstractBeaconNodeCommandTest;
 import tech.pegasys.teku.config.TekuConfiguration;
+import tech.pegasys.teku.services.powchain.PowchainConfiguration;
 
 public class DepositOptionsTest extends AbstractBeaconNodeCommandTest {
 
@@ -84,4 +85,18 @@ public class DepositOptionsTest extends AbstractBeaconNodeCommandTest {
             "http://example-3.com:1234/path/");
     assertThat(config.powchain().isEnabled()).isTrue();
   }
+
+  @Test
+  public void shouldSetEth1LogsMaxConcurrentRequests() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments("--Xeth1-deposit-contract-max-concurrent-requests", "8");
+    assertThat(config.powchain().getEth1LogsMaxConcurrentRequests()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldUseDefaultEth1LogsMaxConcurrentRequests() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.powchain().getEth1LogsMaxConcurrentRequests())
+        .isEqualTo(PowchainConfiguration.DEFAULT_ETH1_LOGS_MAX_CONCURRENT_REQUESTS);
+  }
 }
@@ -124,6 +124,24 @@ public class Eth2P2PNetworkOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getPeerRequestLimit()).isEqualTo(10);
   }
 
+  @Test
+  public void setPeerBandwidthLimit() {
+    final P2PConfig config =
+        getTekuConfigurationFromArguments("--Xpeer-bandwidth-limit", "1024")
+            .beaconChain()
+            .p2pConfig();
+    assertThat(config.getPeerBandwidthLimit()).isEqualTo(1024);
+  }
+
+  @Test
+  public void setGlobalBandwidthLimit() {
+    final P2PConfig config =
+        getTekuConfigurationFromArguments("--Xglobal-bandwidth-limit", "1024")
+            .beaconChain()
+            .p2pConfig();
+    assertThat(config.getGlobalBandwidthLimit()).isEqualTo(1024);
+  }
+
   @Test
   public void helpDisplaysDefaultNetwork() {
     beaconNodeCommand.parse(new String[] {"--help"});
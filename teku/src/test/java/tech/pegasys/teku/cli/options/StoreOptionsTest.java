@@ -38,6 +38,38 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(globalConfiguration.getHotStatePersistenceFrequencyInEpochs()).isEqualTo(2);
   }
 
+  @Test
+  public void persistentPubKeyCacheEnabled_shouldRespectCLIArg() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments("--Xpersistent-pubkey-cache-enabled")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.isPersistentPubKeyCacheEnabled()).isTrue();
+  }
+
+  @Test
+  public void persistentPubKeyCacheEnabled_shouldDefaultToFalse() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.isPersistentPubKeyCacheEnabled()).isFalse();
+  }
+
+  @Test
+  public void maxStateCacheMemory_shouldConvertMegabytesToBytes() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments("--Xstate-cache-max-memory", "512")
+            .beaconChain()
+            .storeConfig();
+    assertThat(globalConfiguration.getMaxStateCacheMemoryBytes()).isEqualTo(512L * 1024 * 1024);
+  }
+
+  @Test
+  public void maxStateCacheMemory_shouldDefaultToUnlimited() {
+    final StoreConfig globalConfiguration =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(globalConfiguration.getMaxStateCacheMemoryBytes()).isZero();
+  }
+
   @Test
   public void hotStatePersistenceFrequency_invalidNumber() {
     final String[] args = {
@@ -13,8 +13,11 @@
 
 package tech.pegasys.teku.validator.coordinator;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.ethereum.pow.api.MinGenesisTimeBlockEvent;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -35,11 +39,11 @@ import tech.pegasys.teku.spec.datastructures.operations.DepositWithIndex;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DepositUtil;
-import tech.pegasys.teku.spec.datastructures.util.MerkleTree;
 import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.teku.ssz.SszList;
 import tech.pegasys.teku.ssz.collections.SszBytes32Vector;
 import tech.pegasys.teku.ssz.schema.SszListSchema;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
@@ -49,9 +53,12 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
 
   private final RecentChainData recentChainData;
   private final Eth1DataCache eth1DataCache;
-  private final MerkleTree depositMerkleTree;
+  private final Eth1DepositStorageChannel depositStorageChannel;
+  private OptimizedMerkleTree depositMerkleTree;
 
   private final NavigableMap<UInt64, DepositWithIndex> depositNavigableMap = new TreeMap<>();
+  // Eth1 blocks with deposits that are not yet finalized, keyed by the deposit count after them
+  private final NavigableMap<UInt64, DepositBlock> depositBlocksByDepositCount = new TreeMap<>();
   private final Counter depositCounter;
   private final Spec spec;
   private final DepositsSchemaCache depositsSchemaCache = new DepositsSchemaCache();
@@ -60,9 +67,11 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
       MetricsSystem metricsSystem,
       RecentChainData recentChainData,
       final Eth1DataCache eth1DataCache,
+      final Eth1DepositStorageChannel depositStorageChannel,
       final Spec spec) {
     this.recentChainData = recentChainData;
     this.eth1DataCache = eth1DataCache;
+    this.depositStorageChannel = depositStorageChannel;
     this.spec = spec;
     depositMerkleTree =
         new OptimizedMerkleTree(spec.getGenesisSpecConfig().getDepositContractTreeDepth());
@@ -87,6 +96,9 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
               depositMerkleTree.add(deposit.getData().hashTreeRoot());
             });
     depositCounter.inc(event.getDeposits().size());
+    depositBlocksByDepositCount.put(
+        UInt64.valueOf(depositMerkleTree.getNumberOfLeaves()),
+        new DepositBlock(event.getBlockNumber(), event.getBlockHash()));
     eth1DataCache.onBlockWithDeposit(
         event.getBlockTimestamp(),
         new Eth1Data(
@@ -113,6 +125,41 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
 
   private synchronized void pruneDeposits(final UInt64 fromIndex) {
     depositNavigableMap.headMap(fromIndex, false).clear();
+
+    // Only prune the tree up to the end of an eth1 block so fetching logs can resume after it
+    final Map.Entry<UInt64, DepositBlock> lastFinalizedBlock =
+        depositBlocksByDepositCount.floorEntry(fromIndex);
+    if (lastFinalizedBlock == null) {
+      return;
+    }
+    depositBlocksByDepositCount.headMap(lastFinalizedBlock.getKey(), true).clear();
+    depositMerkleTree.prune(lastFinalizedBlock.getKey().intValue());
+    final DepositTreeSnapshot snapshot =
+        new DepositTreeSnapshot(
+            depositMerkleTree.getFinalizedBranch(),
+            lastFinalizedBlock.getKey(),
+            depositMerkleTree.getFinalizedRoot(),
+            lastFinalizedBlock.getValue().blockNumber,
+            lastFinalizedBlock.getValue().blockHash);
+    LOG.debug("Storing deposit tree snapshot {}", snapshot);
+    depositStorageChannel.storeFinalizedDepositSnapshot(snapshot).reportExceptions();
+  }
+
+  @Override
+  public synchronized void onDepositTreeSnapshot(final DepositTreeSnapshot snapshot) {
+    checkState(
+        depositMerkleTree.getNumberOfLeaves() == 0,
+        "Deposit tree snapshot must be restored before any deposits are added");
+    final OptimizedMerkleTree restoredTree =
+        OptimizedMerkleTree.fromFinalizedBranch(
+            spec.getGenesisSpecConfig().getDepositContractTreeDepth(),
+            snapshot.getFinalized(),
+            snapshot.getDepositCount().intValue());
+    checkArgument(
+        restoredTree.getRoot().equals(snapshot.getDepositRoot()),
+        "Deposit tree snapshot root %s does not match its finalized branch",
+        snapshot.getDepositRoot());
+    depositMerkleTree = restoredTree;
   }
 
   @Override
@@ -197,6 +244,16 @@ public class DepositProvider implements Eth1EventsChannel, FinalizedCheckpointCh
         .collect(depositsSchema.collector());
   }
 
+  private static class DepositBlock {
+    private final UInt64 blockNumber;
+    private final Bytes32 blockHash;
+
+    private DepositBlock(final UInt64 blockNumber, final Bytes32 blockHash) {
+      this.blockNumber = blockNumber;
+      this.blockHash = blockHash;
+    }
+  }
+
   private static class DepositsSchemaCache {
     private SszListSchema<Deposit, ?> cachedSchema;
 
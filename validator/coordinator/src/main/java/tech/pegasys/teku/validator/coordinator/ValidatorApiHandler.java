@@ -711,9 +711,10 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     final UInt64 epochStartSlot = spec.computeStartSlotAtEpoch(epoch);
     final UInt64 startSlot = epochStartSlot.max(GENESIS_SLOT.increment());
     final UInt64 endSlot = epochStartSlot.plus(spec.slotsPerEpoch(epoch));
+    final List<Integer> proposerIndices = spec.getBeaconProposerIndices(state, epoch);
     final List<ProposerDuty> proposerSlots = new ArrayList<>();
     for (UInt64 slot = startSlot; slot.compareTo(endSlot) < 0; slot = slot.plus(UInt64.ONE)) {
-      final int proposerIndex = spec.getBeaconProposerIndex(state, slot);
+      final int proposerIndex = proposerIndices.get(slot.minus(epochStartSlot).intValue());
       final BLSPublicKey publicKey =
           spec.getValidatorPubKey(state, UInt64.valueOf(proposerIndex)).orElseThrow();
       proposerSlots.add(new ProposerDuty(publicKey, proposerIndex, slot));
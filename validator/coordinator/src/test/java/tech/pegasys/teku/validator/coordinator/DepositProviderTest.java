@@ -15,8 +15,10 @@ package tech.pegasys.teku.validator.coordinator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +29,8 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
@@ -48,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.util.OptimizedMerkleTree;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.ssz.SszList;
 import tech.pegasys.teku.ssz.schema.SszListSchema;
+import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class DepositProviderTest {
@@ -57,6 +62,8 @@ public class DepositProviderTest {
   private final RecentChainData recentChainData = mock(RecentChainData.class);
   private final BeaconState state = mock(BeaconState.class);
   private final Eth1DataCache eth1DataCache = mock(Eth1DataCache.class);
+  private final Eth1DepositStorageChannel depositStorageChannel =
+      mock(Eth1DepositStorageChannel.class);
   private List<tech.pegasys.teku.ethereum.pow.api.Deposit> allSeenDepositsList;
   private DepositProvider depositProvider;
   private Eth1Data randomEth1Data;
@@ -65,12 +72,13 @@ public class DepositProviderTest {
 
   void setup(final int maxDeposits) {
     when(state.getSlot()).thenReturn(UInt64.valueOf(1234));
+    when(depositStorageChannel.storeFinalizedDepositSnapshot(any()))
+        .thenReturn(SafeFuture.COMPLETE);
 
     SpecConfig specConfig = TestConfigLoader.loadConfig("minimal", b -> b.maxDeposits(maxDeposits));
     spec = TestSpecFactory.createPhase0(specConfig);
     dataStructureUtil = new DataStructureUtil(spec);
-    depositProvider =
-        new DepositProvider(new StubMetricsSystem(), recentChainData, eth1DataCache, spec);
+    depositProvider = createDepositProvider();
     depositMerkleTree =
         new OptimizedMerkleTree(spec.getGenesisSpecConfig().getDepositContractTreeDepth());
     mockStateEth1DataVotes();
@@ -157,6 +165,89 @@ public class DepositProviderTest {
     assertThat(depositProvider.getDepositMapSize()).isEqualTo(10);
   }
 
+  @Test
+  void shouldStoreSnapshotUpToLastFinalizedDepositBlock() {
+    setup(16);
+    final Bytes32 finalizedBlockRoot = Bytes32.fromHexString("0x01");
+    final DepositsFromBlockEvent block1 = createDepositsFromBlockEvent(1, 0, 6);
+    final DepositsFromBlockEvent block2 = createDepositsFromBlockEvent(2, 6, 13);
+    depositProvider.onDepositsFromBlock(block1);
+    depositProvider.onDepositsFromBlock(block2);
+    mockStateEth1DepositIndex(10);
+    when(recentChainData.retrieveBlockState(eq(finalizedBlockRoot)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, finalizedBlockRoot));
+
+    final DepositTreeSnapshot snapshot = getStoredSnapshot();
+    assertThat(snapshot.getDepositCount()).isEqualTo(UInt64.valueOf(6));
+    assertThat(snapshot.getExecutionBlockHeight()).isEqualTo(block1.getBlockNumber());
+    assertThat(snapshot.getExecutionBlockHash()).isEqualTo(block1.getBlockHash());
+    assertThat(snapshot.getFinalized()).hasSize(2);
+    assertThat(depositProvider.getDepositMapSize()).isEqualTo(3);
+
+    // Deposits which are not yet included can still be proven
+    mockEth1DataDepositCount(13);
+    final SszList<Deposit> deposits = depositProvider.getDeposits(state, randomEth1Data);
+    assertThat(deposits).hasSize(3);
+    checkThatDepositProofIsValid(deposits);
+  }
+
+  @Test
+  void shouldNotStoreSnapshotUntilADepositBlockIsFinalized() {
+    setup(16);
+    final Bytes32 finalizedBlockRoot = Bytes32.fromHexString("0x01");
+    depositProvider.onDepositsFromBlock(createDepositsFromBlockEvent(1, 0, 6));
+    mockStateEth1DepositIndex(5);
+    when(recentChainData.retrieveBlockState(eq(finalizedBlockRoot)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, finalizedBlockRoot));
+
+    verify(depositStorageChannel, never()).storeFinalizedDepositSnapshot(any());
+    assertThat(depositProvider.getDepositMapSize()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldProvideDepositsAfterRestoringFromSnapshot() {
+    setup(16);
+    final Bytes32 finalizedBlockRoot = Bytes32.fromHexString("0x01");
+    final DepositsFromBlockEvent block1 = createDepositsFromBlockEvent(1, 0, 7);
+    final DepositsFromBlockEvent block2 = createDepositsFromBlockEvent(2, 7, 12);
+    final DepositsFromBlockEvent block3 = createDepositsFromBlockEvent(3, 12, 20);
+    depositProvider.onDepositsFromBlock(block1);
+    depositProvider.onDepositsFromBlock(block2);
+    mockStateEth1DepositIndex(7);
+    when(recentChainData.retrieveBlockState(eq(finalizedBlockRoot)))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+    depositProvider.onNewFinalizedCheckpoint(new Checkpoint(UInt64.ONE, finalizedBlockRoot));
+
+    final DepositProvider restoredProvider = createDepositProvider();
+    restoredProvider.onDepositTreeSnapshot(getStoredSnapshot());
+    restoredProvider.onDepositsFromBlock(block2);
+    restoredProvider.onDepositsFromBlock(block3);
+
+    mockEth1DataDepositCount(20);
+    final SszList<Deposit> deposits = restoredProvider.getDeposits(state, randomEth1Data);
+    assertThat(deposits).hasSize(13);
+    checkThatDepositProofIsValid(deposits);
+  }
+
+  @Test
+  void shouldRejectSnapshotWithIncorrectRoot() {
+    setup(16);
+    final DepositTreeSnapshot snapshot =
+        new DepositTreeSnapshot(
+            List.of(dataStructureUtil.randomBytes32()),
+            UInt64.valueOf(4),
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomUInt64(),
+            dataStructureUtil.randomBytes32());
+
+    assertThatThrownBy(() -> depositProvider.onDepositTreeSnapshot(snapshot))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void shouldDelegateOnEth1BlockToEth1DataCache() {
     setup(16);
@@ -248,6 +339,32 @@ public class DepositProviderTest {
         .hasMessageContaining("7 to 9");
   }
 
+  private DepositProvider createDepositProvider() {
+    return new DepositProvider(
+        new StubMetricsSystem(), recentChainData, eth1DataCache, depositStorageChannel, spec);
+  }
+
+  private DepositTreeSnapshot getStoredSnapshot() {
+    final ArgumentCaptor<DepositTreeSnapshot> snapshotCaptor =
+        ArgumentCaptor.forClass(DepositTreeSnapshot.class);
+    verify(depositStorageChannel).storeFinalizedDepositSnapshot(snapshotCaptor.capture());
+    return snapshotCaptor.getValue();
+  }
+
+  private DepositsFromBlockEvent createDepositsFromBlockEvent(
+      final long blockNumber, final int startIndex, final int endIndex) {
+    allSeenDepositsList.subList(startIndex, endIndex).stream()
+        .map(DepositUtil::convertDepositEventToOperationDeposit)
+        .map(Deposit::getData)
+        .map(DepositData::hashTreeRoot)
+        .forEachOrdered(depositMerkleTree::add);
+    return DepositsFromBlockEvent.create(
+        UInt64.valueOf(blockNumber),
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomUInt64(),
+        allSeenDepositsList.subList(startIndex, endIndex).stream());
+  }
+
   private void checkThatDepositProofIsValid(SszList<Deposit> deposits) {
     final SpecVersion genesisSpec = spec.getGenesisSpec();
     deposits.forEach(
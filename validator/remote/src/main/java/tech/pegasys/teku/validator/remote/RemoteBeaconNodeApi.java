@@ -63,7 +63,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
     final OkHttpClient okHttpClient = httpClientBuilder.build();
     final OkHttpValidatorRestApiClient apiClient =
         new OkHttpValidatorRestApiClient(
-            apiEndpoint, okHttpClient, spec.isMilestoneSupported(SpecMilestone.ALTAIR));
+            apiEndpoint, okHttpClient, spec, spec.isMilestoneSupported(SpecMilestone.ALTAIR));
 
     final ValidatorApiChannel validatorApiChannel =
         new MetricRecordingValidatorApiChannel(
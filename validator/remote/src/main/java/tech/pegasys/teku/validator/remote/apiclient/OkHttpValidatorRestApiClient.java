@@ -14,7 +14,10 @@
 package tech.pegasys.teku.validator.remote.apiclient;
 
 import static java.util.Collections.emptyMap;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_AGGREGATE;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DATA;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_ATTESTATION_DUTIES;
@@ -27,6 +30,7 @@ import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GE
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_UNSIGNED_BLOCK;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_UNSIGNED_BLOCK_V2;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_VALIDATORS;
+import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_VERSION;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_CONTRIBUTION_AND_PROOF;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_AGGREGATE_AND_PROOF;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.SEND_SIGNED_ATTESTATION;
@@ -47,6 +51,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import okhttp3.Credentials;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
@@ -54,9 +62,12 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.SchemaObjectProvider;
 import tech.pegasys.teku.api.request.v1.validator.BeaconCommitteeSubscriptionRequest;
 import tech.pegasys.teku.api.response.v1.beacon.GetBlockHeaderResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetGenesisResponse;
@@ -64,6 +75,7 @@ import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.PostSyncCommitteeFailureResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
 import tech.pegasys.teku.api.response.v1.config.GetSpecResponse;
+import tech.pegasys.teku.api.response.v1.node.VersionResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetAggregatedAttestationResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetAttestationDataResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetNewBlockResponse;
@@ -79,6 +91,7 @@ import tech.pegasys.teku.api.schema.BeaconBlock;
 import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
+import tech.pegasys.teku.api.schema.SszRequestSchemas;
 import tech.pegasys.teku.api.schema.SubnetSubscription;
 import tech.pegasys.teku.api.schema.altair.SignedContributionAndProof;
 import tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution;
@@ -86,6 +99,7 @@ import tech.pegasys.teku.api.schema.altair.SyncCommitteeMessage;
 import tech.pegasys.teku.api.schema.altair.SyncCommitteeSubnetSubscription;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 import tech.pegasys.teku.validator.api.SendSignedBlockResult;
 
@@ -95,12 +109,25 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
 
   private static final MediaType APPLICATION_JSON =
       MediaType.parse("application/json; charset=utf-8");
+  private static final MediaType APPLICATION_OCTET_STREAM =
+      MediaType.parse("application/octet-stream");
+  private static final String PREFER_SSZ_ACCEPT_HEADER =
+      "application/octet-stream;q=1.0,application/json;q=0.9";
   private static final Map<String, String> EMPTY_QUERY_PARAMS = emptyMap();
+  private static final String TEKU_VERSION_PREFIX = "teku/";
 
   private final JsonProvider jsonProvider = new JsonProvider();
   private final OkHttpClient httpClient;
   private final HttpUrl baseEndpoint;
   private final boolean useV2CreateBlock;
+  // When a spec is available SSZ is preferred over JSON for the performance critical endpoints
+  private final Optional<Spec> spec;
+  private final Optional<SchemaObjectProvider> schemaObjectProvider;
+  // Set once the beacon node has returned an SSZ response
+  private final AtomicBoolean beaconNodeSupportsSsz = new AtomicBoolean(false);
+  // SSZ request bodies use Teku specific schemas so are only sent to Teku beacon nodes
+  private final AtomicReference<SszRequestSupport> sszRequestSupport =
+      new AtomicReference<>(SszRequestSupport.UNKNOWN);
 
   public OkHttpValidatorRestApiClient(final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
     this(baseEndpoint, okHttpClient, false);
@@ -108,9 +135,27 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
 
   public OkHttpValidatorRestApiClient(
       final HttpUrl baseEndpoint, final OkHttpClient okHttpClient, final boolean useV2CreateBlock) {
+    this(baseEndpoint, okHttpClient, Optional.empty(), useV2CreateBlock);
+  }
+
+  public OkHttpValidatorRestApiClient(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final Spec spec,
+      final boolean useV2CreateBlock) {
+    this(baseEndpoint, okHttpClient, Optional.of(spec), useV2CreateBlock);
+  }
+
+  private OkHttpValidatorRestApiClient(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final Optional<Spec> spec,
+      final boolean useV2CreateBlock) {
     this.baseEndpoint = baseEndpoint;
     this.httpClient = okHttpClient;
     this.useV2CreateBlock = useV2CreateBlock;
+    this.spec = spec;
+    this.schemaObjectProvider = spec.map(SchemaObjectProvider::new);
   }
 
   public Optional<GetSpecResponse> getConfigSpec() {
@@ -169,6 +214,28 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     queryParams.put("randao_reveal", encodeQueryParam(randaoReveal));
     graffiti.ifPresent(bytes32 -> queryParams.put("graffiti", encodeQueryParam(bytes32)));
 
+    if (spec.isPresent()) {
+      final Function<Bytes, BeaconBlock> sszDecoder =
+          ssz ->
+              schemaObjectProvider
+                  .orElseThrow()
+                  .getBeaconBlock(spec.get().deserializeBeaconBlock(ssz));
+      if (useV2CreateBlock) {
+        return getPreferringSsz(
+            GET_UNSIGNED_BLOCK_V2,
+            pathParams,
+            queryParams,
+            createSszOrJsonHandler(
+                GetNewBlockResponseV2.class, response -> (BeaconBlock) response.data, sszDecoder));
+      }
+      return getPreferringSsz(
+          GET_UNSIGNED_BLOCK,
+          pathParams,
+          queryParams,
+          createSszOrJsonHandler(
+              GetNewBlockResponse.class, response -> (BeaconBlock) response.data, sszDecoder));
+    }
+
     if (useV2CreateBlock) {
       return get(
               GET_UNSIGNED_BLOCK_V2,
@@ -184,7 +251,11 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
 
   @Override
   public SendSignedBlockResult sendSignedBlock(final SignedBeaconBlock beaconBlock) {
-    return post(SEND_SIGNED_BLOCK, beaconBlock, createHandler())
+    return postPreferringSsz(
+            SEND_SIGNED_BLOCK,
+            () -> beaconBlock.asInternalSignedBeaconBlock(spec.orElseThrow()).sszSerialize(),
+            beaconBlock,
+            createHandler())
         .map(__ -> SendSignedBlockResult.success(Bytes32.ZERO))
         .orElseGet(() -> SendSignedBlockResult.notImported("UNKNOWN"));
   }
@@ -196,13 +267,33 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     queryParams.put("slot", encodeQueryParam(slot));
     queryParams.put("committee_index", String.valueOf(committeeIndex));
 
+    if (spec.isPresent()) {
+      return getPreferringSsz(
+          GET_ATTESTATION_DATA,
+          emptyMap(),
+          queryParams,
+          createSszOrJsonHandler(
+              GetAttestationDataResponse.class,
+              response -> response.data,
+              ssz ->
+                  new AttestationData(
+                      tech.pegasys.teku.spec.datastructures.operations.AttestationData.SSZ_SCHEMA
+                          .sszDeserialize(ssz))));
+    }
     return get(GET_ATTESTATION_DATA, queryParams, createHandler(GetAttestationDataResponse.class))
         .map(response -> response.data);
   }
 
   @Override
   public void sendSignedAttestation(final Attestation attestation) {
-    post(SEND_SIGNED_ATTESTATION, List.of(attestation), createHandler());
+    postPreferringSsz(
+        SEND_SIGNED_ATTESTATION,
+        () ->
+            SszRequestSchemas.ATTESTATIONS_SCHEMA
+                .createFromElements(List.of(attestation.asInternalAttestation()))
+                .sszSerialize(),
+        List.of(attestation),
+        createHandler());
   }
 
   @Override
@@ -310,6 +401,31 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     return new ResponseHandler<>(jsonProvider, responseClass);
   }
 
+  private <R, T> ResponseHandler<T> createSszOrJsonHandler(
+      final Class<R> jsonResponseClass,
+      final Function<R, T> jsonResponseMapper,
+      final Function<Bytes, T> sszDecoder) {
+    return new ResponseHandler<T>(jsonProvider, null)
+        .withHandler(
+            SC_OK,
+            (request, response) -> {
+              final ResponseBody body = response.body();
+              if (isOctetStream(body.contentType())) {
+                beaconNodeSupportsSsz.set(true);
+                return Optional.of(sszDecoder.apply(Bytes.wrap(body.bytes())));
+              }
+              return Optional.of(
+                  jsonResponseMapper.apply(
+                      jsonProvider.jsonToObject(body.string(), jsonResponseClass)));
+            });
+  }
+
+  private boolean isOctetStream(final MediaType mediaType) {
+    return mediaType != null
+        && mediaType.type().equals(APPLICATION_OCTET_STREAM.type())
+        && mediaType.subtype().equals(APPLICATION_OCTET_STREAM.subtype());
+  }
+
   public <T> Optional<T> get(
       final ValidatorApiMethod apiMethod,
       final Map<String, String> queryParams,
@@ -331,6 +447,86 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     return executeCall(request, responseHandler);
   }
 
+  private <T> Optional<T> getPreferringSsz(
+      final ValidatorApiMethod apiMethod,
+      final Map<String, String> urlParams,
+      final Map<String, String> queryParams,
+      final ResponseHandler<T> responseHandler) {
+    final HttpUrl.Builder httpUrlBuilder = urlBuilder(apiMethod, urlParams);
+    queryParams.forEach(httpUrlBuilder::addQueryParameter);
+
+    final Request request =
+        requestBuilder()
+            .url(httpUrlBuilder.build())
+            .header("Accept", PREFER_SSZ_ACCEPT_HEADER)
+            .build();
+    return executeCall(request, responseHandler);
+  }
+
+  /**
+   * Posts an SSZ request body if the beacon node is known to accept it, otherwise JSON. If the
+   * beacon node rejects the SSZ body the request is retried with JSON.
+   */
+  private <T> Optional<T> postPreferringSsz(
+      final ValidatorApiMethod apiMethod,
+      final Supplier<Bytes> sszRequestBody,
+      final Object jsonRequestBody,
+      final ResponseHandler<T> responseHandler) {
+    if (spec.isEmpty() || !beaconNodeAcceptsSszRequests()) {
+      return post(apiMethod, jsonRequestBody, responseHandler);
+    }
+    final Request request =
+        requestBuilder()
+            .url(urlBuilder(apiMethod, emptyMap()).build())
+            .post(
+                RequestBody.create(
+                    sszRequestBody.get().toArrayUnsafe(), APPLICATION_OCTET_STREAM))
+            .build();
+    final int responseCode;
+    try (final Response response = httpClient.newCall(request).execute()) {
+      LOG.trace("{} {} {}", request.method(), request.url(), response.code());
+      responseCode = response.code();
+      if (responseCode != SC_UNSUPPORTED_MEDIA_TYPE && responseCode != SC_BAD_REQUEST) {
+        return responseHandler.handleResponse(request, response);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Error communicating with Beacon Node API: " + e.getMessage(), e);
+    }
+
+    LOG.debug(
+        "Beacon node rejected SSZ request body with status {}, retrying with JSON", responseCode);
+    if (responseCode == SC_UNSUPPORTED_MEDIA_TYPE) {
+      sszRequestSupport.set(SszRequestSupport.UNSUPPORTED);
+    }
+    final Optional<T> result = post(apiMethod, jsonRequestBody, responseHandler);
+    // The JSON request was accepted so it was the SSZ body the beacon node couldn't handle
+    sszRequestSupport.set(SszRequestSupport.UNSUPPORTED);
+    return result;
+  }
+
+  private boolean beaconNodeAcceptsSszRequests() {
+    if (!beaconNodeSupportsSsz.get()) {
+      return false;
+    }
+    if (sszRequestSupport.get() == SszRequestSupport.UNKNOWN) {
+      try {
+        final boolean isTeku =
+            get(GET_VERSION, EMPTY_QUERY_PARAMS, createHandler(VersionResponse.class))
+                .map(response -> response.data.version.startsWith(TEKU_VERSION_PREFIX))
+                .orElse(false);
+        sszRequestSupport.compareAndSet(
+            SszRequestSupport.UNKNOWN,
+            isTeku ? SszRequestSupport.SUPPORTED : SszRequestSupport.UNSUPPORTED);
+      } catch (final RuntimeException e) {
+        // Try again with the next request
+        LOG.debug("Failed to get beacon node version", e);
+        return false;
+      }
+    }
+    return sszRequestSupport.get() == SszRequestSupport.SUPPORTED;
+  }
+
   private <T> Optional<T> post(
       final ValidatorApiMethod apiMethod,
       final Map<String, String> urlParams,
@@ -395,6 +591,12 @@ public class OkHttpValidatorRestApiClient implements ValidatorRestApiClient {
     }
   }
 
+  private enum SszRequestSupport {
+    UNKNOWN,
+    SUPPORTED,
+    UNSUPPORTED
+  }
+
   private String removeQuotesIfPresent(final String value) {
     if (value.startsWith("\"") && value.endsWith("\"")) {
       return value.substring(1, value.length() - 1);
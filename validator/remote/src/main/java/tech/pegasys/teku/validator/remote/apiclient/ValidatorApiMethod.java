@@ -41,6 +41,7 @@ public enum ValidatorApiMethod {
   GET_PROPOSER_DUTIES("eth/v1/validator/duties/proposer/:epoch"),
   GET_BLOCK_HEADER("eth/v1/beacon/headers/:block_id"),
   GET_CONFIG_SPEC("/eth/v1/config/spec"),
+  GET_VERSION("eth/v1/node/version"),
   EVENTS("eth/v1/events");
 
   private final String path;
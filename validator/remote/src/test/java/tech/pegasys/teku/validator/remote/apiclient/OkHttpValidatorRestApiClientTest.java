@@ -23,6 +23,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NO_CONTENT;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.nio.charset.StandardCharsets;
@@ -35,6 +36,8 @@ import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +46,8 @@ import tech.pegasys.teku.api.request.v1.validator.BeaconCommitteeSubscriptionReq
 import tech.pegasys.teku.api.response.v1.beacon.GetGenesisResponse;
 import tech.pegasys.teku.api.response.v1.beacon.GetStateValidatorsResponse;
 import tech.pegasys.teku.api.response.v1.beacon.ValidatorResponse;
+import tech.pegasys.teku.api.response.v1.node.Version;
+import tech.pegasys.teku.api.response.v1.node.VersionResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetAggregatedAttestationResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetAttestationDataResponse;
 import tech.pegasys.teku.api.response.v1.validator.GetNewBlockResponse;
@@ -55,11 +60,15 @@ import tech.pegasys.teku.api.schema.BeaconBlock;
 import tech.pegasys.teku.api.schema.SignedAggregateAndProof;
 import tech.pegasys.teku.api.schema.SignedBeaconBlock;
 import tech.pegasys.teku.api.schema.SignedVoluntaryExit;
+import tech.pegasys.teku.api.schema.SszRequestSchemas;
 import tech.pegasys.teku.api.schema.SubnetSubscription;
 import tech.pegasys.teku.api.schema.altair.SyncCommitteeContribution;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.provider.JsonProvider;
+import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.CommitteeSubscriptionRequest;
 
 class OkHttpValidatorRestApiClientTest {
@@ -396,6 +405,136 @@ class OkHttpValidatorRestApiClientTest {
         .isEqualTo(asJson(List.of(attestation)));
   }
 
+  @Test
+  public void createAttestationData_WhenSpecAvailable_PrefersSszResponse() throws Exception {
+    final Spec spec = TestSpecFactory.createMinimalPhase0();
+    final tech.pegasys.teku.spec.datastructures.operations.AttestationData attestationData =
+        new DataStructureUtil(spec).randomAttestationData();
+    apiClient = new OkHttpValidatorRestApiClient(mockWebServer.url("/"), okHttpClient, spec, false);
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", "application/octet-stream")
+            .setBody(new Buffer().write(attestationData.sszSerialize().toArrayUnsafe())));
+
+    final Optional<AttestationData> result = apiClient.createAttestationData(UInt64.ONE, 0);
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Accept")).startsWith("application/octet-stream");
+    assertThat(result).contains(new AttestationData(attestationData));
+  }
+
+  @Test
+  public void createAttestationData_WhenSpecAvailableAndJsonReturned_ParsesJson() throws Exception {
+    final Spec spec = TestSpecFactory.createMinimalPhase0();
+    apiClient = new OkHttpValidatorRestApiClient(mockWebServer.url("/"), okHttpClient, spec, false);
+    final AttestationData expectedAttestationData = schemaObjects.attestation().data;
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setBody(asJson(new GetAttestationDataResponse(expectedAttestationData))));
+
+    assertThat(apiClient.createAttestationData(UInt64.ONE, 0))
+        .get()
+        .usingRecursiveComparison()
+        .isEqualTo(expectedAttestationData);
+
+    // JSON responses mean request bodies continue to be sent as JSON
+    final Attestation attestation = schemaObjects.attestation();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    apiClient.sendSignedAttestation(attestation);
+
+    mockWebServer.takeRequest();
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+    assertThat(request.getBody().readString(StandardCharsets.UTF_8))
+        .isEqualTo(asJson(List.of(attestation)));
+  }
+
+  @Test
+  public void sendSignedAttestation_WhenBeaconNodeIsTeku_SendsSszBody() throws Exception {
+    useSszBeaconNode("teku/v21.8.0");
+
+    final Attestation attestation = schemaObjects.attestation();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    apiClient.sendSignedAttestation(attestation);
+
+    mockWebServer.takeRequest();
+    assertThat(mockWebServer.takeRequest().getPath())
+        .contains(ValidatorApiMethod.GET_VERSION.getPath(emptyMap()));
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Content-Type")).startsWith("application/octet-stream");
+    assertThat(Bytes.wrap(request.getBody().readByteArray()))
+        .isEqualTo(
+            SszRequestSchemas.ATTESTATIONS_SCHEMA
+                .createFromElements(List.of(attestation.asInternalAttestation()))
+                .sszSerialize());
+  }
+
+  @Test
+  public void sendSignedAttestation_WhenBeaconNodeIsNotTeku_SendsJsonBody() throws Exception {
+    useSszBeaconNode("other/v1.0.0");
+
+    final Attestation attestation = schemaObjects.attestation();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    apiClient.sendSignedAttestation(attestation);
+    apiClient.sendSignedAttestation(attestation);
+
+    mockWebServer.takeRequest();
+    mockWebServer.takeRequest();
+    for (int i = 0; i < 2; i++) {
+      final RecordedRequest request = mockWebServer.takeRequest();
+      assertThat(request.getHeader("Content-Type")).startsWith("application/json");
+    }
+    // The version is only requested once
+    assertThat(mockWebServer.getRequestCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void sendSignedAttestation_WhenSszBodyUnsupported_RetriesWithJson() throws Exception {
+    useSszBeaconNode("teku/v21.8.0");
+
+    final Attestation attestation = schemaObjects.attestation();
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_UNSUPPORTED_MEDIA_TYPE));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(SC_OK));
+    apiClient.sendSignedAttestation(attestation);
+    apiClient.sendSignedAttestation(attestation);
+
+    mockWebServer.takeRequest();
+    mockWebServer.takeRequest();
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .startsWith("application/octet-stream");
+    final RecordedRequest retry = mockWebServer.takeRequest();
+    assertThat(retry.getHeader("Content-Type")).startsWith("application/json");
+    assertThat(retry.getBody().readString(StandardCharsets.UTF_8))
+        .isEqualTo(asJson(List.of(attestation)));
+    // Later requests go straight to JSON
+    assertThat(mockWebServer.takeRequest().getHeader("Content-Type"))
+        .startsWith("application/json");
+  }
+
+  private void useSszBeaconNode(final String version) {
+    final Spec spec = TestSpecFactory.createMinimalPhase0();
+    final tech.pegasys.teku.spec.datastructures.operations.AttestationData attestationData =
+        new DataStructureUtil(spec).randomAttestationData();
+    apiClient = new OkHttpValidatorRestApiClient(mockWebServer.url("/"), okHttpClient, spec, false);
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", "application/octet-stream")
+            .setBody(new Buffer().write(attestationData.sszSerialize().toArrayUnsafe())));
+    apiClient.createAttestationData(UInt64.ONE, 0);
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setBody(asJson(new VersionResponse(new Version(version)))));
+  }
+
   @Test
   public void sendSignedAttestation_WhenBadParameters_ThrowsIllegalArgumentException() {
     final Attestation attestation = schemaObjects.attestation();